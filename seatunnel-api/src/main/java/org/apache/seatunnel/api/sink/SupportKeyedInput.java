@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Sink Connectors which must receive all changes of the same key on the same writer, in the
+ * order they were produced, should implement this interface. When such a sink runs with a
+ * parallelism greater than one, the engine partitions its input by the hash of the key columns.
+ */
+public interface SupportKeyedInput {
+
+    /**
+     * Whether the input of the sink needs to be partitioned by key.
+     *
+     * @return true if rows of the same key must be written by the same writer
+     */
+    boolean requiresKeyedInput();
+
+    /**
+     * The columns of the input rows the sink is keyed by. An empty list means the primary key of
+     * the {@link CatalogTable} written by the sink.
+     *
+     * @return the key column names
+     */
+    default List<String> getInputKeyColumns() {
+        return Collections.emptyList();
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkCommonOptions;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportKeyedInput;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
@@ -51,7 +52,8 @@ public class MultiTableSink
                         MultiTableState,
                         MultiTableCommitInfo,
                         MultiTableAggregatedCommitInfo>,
-                SupportSchemaEvolutionSink {
+                SupportSchemaEvolutionSink,
+                SupportKeyedInput {
 
     @Getter private final Map<TablePath, SeaTunnelSink> sinks;
     private final int replicaNum;
@@ -203,4 +205,13 @@ public class MultiTableSink
         }
         return Collections.emptyList();
     }
+
+    @Override
+    public boolean requiresKeyedInput() {
+        return sinks.values().stream()
+                .anyMatch(
+                        sink ->
+                                sink instanceof SupportKeyedInput
+                                        && ((SupportKeyedInput) sink).requiresKeyedInput());
+    }
 }
@@ -19,6 +19,8 @@ package org.apache.seatunnel.api.source;
 
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 
+import java.util.List;
+
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
  *
@@ -28,6 +30,18 @@ public interface Collector<T> {
 
     void collect(T record);
 
+    /**
+     * Collects the records of one poll of the reader at once. The engine may hand the whole batch
+     * over to the downstream with a single acquisition of the checkpoint lock.
+     *
+     * @param records the records to collect, in order.
+     */
+    default void collectBatch(List<T> records) {
+        for (T record : records) {
+            collect(record);
+        }
+    }
+
     default void markSchemaChangeBeforeCheckpoint() {}
 
     default void collect(SchemaChangeEvent event) {}
@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.state.CheckpointListener;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link SourceReader} is used to generate source record, and it will be running at worker.
@@ -51,6 +52,22 @@ public interface SourceReader<T, SplitT extends SourceSplit>
      */
     void pollNext(Collector<T> output) throws Exception;
 
+    /**
+     * Returns a future that completes when the reader may have records for the next {@link
+     * #pollNext(Collector)} call. It lets the engine park an idle reader until data arrives,
+     * instead of polling it again after a fixed sleep.
+     *
+     * <p>The future is only a hint, {@link #pollNext(Collector)} may still collect nothing after it
+     * has completed. The engine keeps polling while it returns a completed future, so an idle
+     * reader must return a pending one.
+     *
+     * @return the availability future, or null if the reader does not report its availability, in
+     *     which case the engine polls it again after a short back-off.
+     */
+    default CompletableFuture<Void> isAvailable() {
+        return null;
+    }
+
     /**
      * Get the current split checkpoint state by checkpointId.
      *
@@ -37,8 +37,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Interface for reading and writing table metadata from SeaTunnel. Each connector need to contain
@@ -146,13 +148,57 @@ public interface Catalog extends AutoCloseable {
                 name(), "get table with tablePath " + tablePath + ", fieldNames: " + fieldNames);
     }
 
+    /**
+     * Return the given table paths that exist in this catalog, in the same order. Catalogs that can
+     * check many tables at once should override it, the default implementation checks the tables
+     * one by one, with up to {@code parallelism} threads.
+     */
+    default List<TablePath> listExistingTables(List<TablePath> tablePaths, int parallelism)
+            throws CatalogException {
+        if (parallelism <= 1 || tablePaths.size() <= 1) {
+            return tablePaths.stream().filter(this::tableExists).collect(Collectors.toList());
+        }
+        try (CatalogMetadataExecutor executor =
+                new CatalogMetadataExecutor(name(), Math.min(parallelism, tablePaths.size()))) {
+            Map<TablePath, Future<Boolean>> exists = executor.submit(tablePaths, this::tableExists);
+            return tablePaths.stream()
+                    .filter(
+                            tablePath ->
+                                    CatalogMetadataExecutor.await(exists.get(tablePath), tablePath))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Return the {@link CatalogTable}s of the given existing tables, in the same order. Catalogs
+     * that can read the metadata of many tables at once should override it, the default
+     * implementation loads the tables one by one, with up to {@code parallelism} threads.
+     */
+    default List<CatalogTable> getTables(List<TablePath> tablePaths, int parallelism)
+            throws CatalogException {
+        if (parallelism <= 1 || tablePaths.size() <= 1) {
+            return buildCatalogTablesWithErrorCheck(tablePaths.iterator());
+        }
+        try (CatalogMetadataExecutor executor =
+                new CatalogMetadataExecutor(name(), Math.min(parallelism, tablePaths.size()))) {
+            Map<TablePath, Future<CatalogTable>> tables =
+                    executor.submit(tablePaths, this::getTable);
+            return buildCatalogTablesWithErrorCheck(
+                    tablePaths.iterator(),
+                    tablePath -> CatalogMetadataExecutor.await(tables.get(tablePath), tablePath));
+        }
+    }
+
     default List<CatalogTable> getTables(ReadonlyConfig config) throws CatalogException {
+        int parallelism = config.get(CatalogOptions.TABLE_METADATA_PARALLELISM);
         // Get the list of specified tables
         List<String> tableNames = config.get(CatalogOptions.TABLE_NAMES);
         if (tableNames != null && !tableNames.isEmpty()) {
-            Iterator<TablePath> tablePaths =
-                    tableNames.stream().map(TablePath::of).filter(this::tableExists).iterator();
-            return buildCatalogTablesWithErrorCheck(tablePaths);
+            List<TablePath> tablePaths =
+                    listExistingTables(
+                            tableNames.stream().map(TablePath::of).collect(Collectors.toList()),
+                            parallelism);
+            return getTables(tablePaths, parallelism);
         }
 
         // Get the list of table pattern
@@ -174,15 +220,20 @@ public interface Catalog extends AutoCloseable {
                         }
                     });
         }
-        return buildCatalogTablesWithErrorCheck(tablePaths.iterator());
+        return getTables(tablePaths, parallelism);
     }
 
     default List<CatalogTable> buildCatalogTablesWithErrorCheck(Iterator<TablePath> tablePaths) {
+        return buildCatalogTablesWithErrorCheck(tablePaths, this::getTable);
+    }
+
+    default List<CatalogTable> buildCatalogTablesWithErrorCheck(
+            Iterator<TablePath> tablePaths, Function<TablePath, CatalogTable> getTable) {
         Map<String, Map<String, String>> unsupportedTable = new LinkedHashMap<>();
         List<CatalogTable> catalogTables = new ArrayList<>();
         while (tablePaths.hasNext()) {
             try {
-                catalogTables.add(getTable(tablePaths.next()));
+                catalogTables.add(getTable.apply(tablePaths.next()));
             } catch (SeaTunnelRuntimeException e) {
                 if (e.getSeaTunnelErrorCode()
                         .equals(CommonErrorCode.GET_CATALOG_TABLE_WITH_UNSUPPORTED_TYPE_ERROR)) {
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.catalog;
+
+import org.apache.seatunnel.api.table.catalog.exception.CatalogException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/** Runs the per table metadata calls of a {@link Catalog} on a bounded thread pool. */
+final class CatalogMetadataExecutor implements AutoCloseable {
+
+    private final ExecutorService executorService;
+
+    CatalogMetadataExecutor(String catalogName, int parallelism) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executorService =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            String.format(
+                                                    "catalog-metadata-%s-%d",
+                                                    catalogName, threadIndex.getAndIncrement()));
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    <T> Map<TablePath, Future<T>> submit(
+            List<TablePath> tablePaths, Function<TablePath, T> function) {
+        Map<TablePath, Future<T>> futures = new LinkedHashMap<>();
+        for (TablePath tablePath : tablePaths) {
+            futures.computeIfAbsent(
+                    tablePath, path -> executorService.submit(() -> function.apply(path)));
+        }
+        return futures;
+    }
+
+    static <T> T await(Future<T> future, TablePath tablePath) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CatalogException(
+                    String.format("Failed getting table %s", tablePath.getFullName()),
+                    e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CatalogException(
+                    String.format("Interrupted getting table %s", tablePath.getFullName()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
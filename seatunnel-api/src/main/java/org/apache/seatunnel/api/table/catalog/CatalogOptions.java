@@ -59,6 +59,14 @@ public interface CatalogOptions {
                             "The table names RegEx of the database to capture."
                                     + "The table name needs to include the database name, for example: database_.*\\.table_.*");
 
+    Option<Integer> TABLE_METADATA_PARALLELISM =
+            Options.key("table-metadata-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads used to load the metadata of the captured tables, "
+                                    + "only for the catalogs without bulk metadata retrieval.");
+
     Option<List<Map<String, Object>>> TABLE_LIST =
             Options.key("table_list")
                     .type(new TypeReference<List<Map<String, Object>>>() {})
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import java.util.List;
+
+/**
+ * A map transform which is cheaper to call for several rows at once, e.g. because every call is a
+ * round trip to a remote service. The engine may buffer up to {@link #getBatchSize()} rows and map
+ * them with {@link #mapBatch(List)}, engines which don't buffer call {@link #map(Object)} row by
+ * row.
+ */
+public interface SeaTunnelBatchMapTransform<T> extends SeaTunnelMapTransform<T> {
+
+    /** The max number of rows the engine buffers before calling {@link #mapBatch(List)}. */
+    int getBatchSize();
+
+    /** The max time in milliseconds a buffered row waits for its batch to fill up. */
+    long getBatchTimeoutMillis();
+
+    /**
+     * Transform several rows at once, the same as calling {@link #map(Object)} for each of them.
+     *
+     * @param rows the data need be transformed.
+     * @return transformed data in the order of the input rows, filtered rows are null.
+     */
+    List<T> mapBatch(List<T> rows);
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.catalog;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class CatalogTest {
+
+    @Test
+    public void testGetTablesInParallel() {
+        InMemoryCatalog catalog =
+                new InMemoryCatalog("InMemory", ReadonlyConfig.fromMap(new HashMap<>()));
+        List<String> tableNames =
+                Arrays.asList("st.public.table2", "st.public.not_exist", "st.public.table1");
+
+        List<CatalogTable> sequential = catalog.getTables(config(tableNames, 1));
+        List<CatalogTable> parallel = catalog.getTables(config(tableNames, 4));
+
+        Assertions.assertEquals(
+                Arrays.asList(TablePath.of("st.public.table2"), TablePath.of("st.public.table1")),
+                parallel.stream().map(CatalogTable::getTablePath).collect(Collectors.toList()));
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testGetTablesInParallelWithUnsupportedType() {
+        InMemoryCatalog catalog =
+                new InMemoryCatalog("InMemory", ReadonlyConfig.fromMap(new HashMap<>()));
+        SeaTunnelRuntimeException exception =
+                Assertions.assertThrows(
+                        SeaTunnelRuntimeException.class,
+                        () ->
+                                catalog.getTables(
+                                        config(
+                                                Arrays.asList(
+                                                        "unsupported.public.table1",
+                                                        "unsupported.public.table2"),
+                                                4)));
+        Assertions.assertEquals(
+                CommonErrorCode.GET_CATALOG_TABLES_WITH_UNSUPPORTED_TYPE_ERROR,
+                exception.getSeaTunnelErrorCode());
+    }
+
+    private static ReadonlyConfig config(List<String> tableNames, int parallelism) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(CatalogOptions.TABLE_NAMES.key(), tableNames);
+        config.put(CatalogOptions.TABLE_METADATA_PARALLELISM.key(), parallelism);
+        return ReadonlyConfig.fromMap(config);
+    }
+}
@@ -67,7 +67,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferMemorySize) {
         super(
                 startupConfig,
                 stopConfig,
@@ -78,6 +79,7 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 sampleShardingThreshold,
                 inverseSamplingRate,
                 exactlyOnce,
+                snapshotBufferMemorySize,
                 dbzProperties);
         this.driverClassName = driverClassName;
         this.hostname = hostname;
@@ -30,6 +30,13 @@ public interface SourceConfig extends Serializable {
 
     boolean isExactlyOnce();
 
+    /**
+     * The max estimated size in bytes of the snapshot records of a split kept in memory before the
+     * split is normalized in exactly-once mode, the records beyond it are spilled to the local
+     * disk.
+     */
+    long getSnapshotBufferMemorySize();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
@@ -107,6 +107,14 @@ public class SourceOptions {
                     .defaultValue(false)
                     .withDescription("Enable exactly once semantic.");
 
+    public static final Option<Long> SNAPSHOT_BUFFER_MEMORY_SIZE =
+            Options.key("snapshot.buffer.memory-size")
+                    .longType()
+                    .defaultValue(128L * 1024 * 1024)
+                    .withDescription(
+                            "The max estimated size in bytes of the snapshot records of a split kept in memory in exactly-once mode, "
+                                    + "the records beyond it are spilled to the local disk until the split is normalized.");
+
     public static final Option<Boolean> SCHEMA_CHANGES_ENABLED =
             Options.key("schema-changes.enabled")
                     .booleanType()
@@ -117,7 +125,7 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE, SNAPSHOT_BUFFER_MEMORY_SIZE)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
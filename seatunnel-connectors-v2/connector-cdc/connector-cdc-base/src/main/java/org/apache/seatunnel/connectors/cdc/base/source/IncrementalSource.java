@@ -48,6 +48,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.offset.OffsetFactory;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.IncrementalSourceReader;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.IncrementalSourceRecordEmitter;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.IncrementalSourceSplitReader;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.SpilledOutputBuffers;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
@@ -162,13 +163,15 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 new LinkedBlockingQueue<>(2);
 
         SchemaChangeResolver schemaChangeResolver = deserializationSchema.getSchemaChangeResolver();
+        SpilledOutputBuffers spilledOutputBuffers = new SpilledOutputBuffers();
         Supplier<IncrementalSourceSplitReader<C>> splitReaderSupplier =
                 () ->
                         new IncrementalSourceSplitReader<>(
                                 readerContext.getIndexOfSubtask(),
                                 dataSourceDialect,
                                 sourceConfig,
-                                schemaChangeResolver);
+                                schemaChangeResolver,
+                                spilledOutputBuffers);
         return new IncrementalSourceReader<>(
                 dataSourceDialect,
                 elementsQueue,
@@ -177,7 +180,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 new SourceReaderOptions(readonlyConfig),
                 readerContext,
                 sourceConfig,
-                deserializationSchema);
+                deserializationSchema,
+                spilledOutputBuffers);
     }
 
     protected RecordEmitter<SourceRecords, T, SourceSplitStateBase> createRecordEmitter(
@@ -26,6 +26,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.event.CompletedSnapshotPh
 import org.apache.seatunnel.connectors.cdc.base.source.event.CompletedSnapshotSplitsReportEvent;
 import org.apache.seatunnel.connectors.cdc.base.source.event.SnapshotSplitWatermark;
 import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.SpilledOutputBuffers;
 import org.apache.seatunnel.connectors.cdc.base.source.split.IncrementalSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
@@ -48,6 +49,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -77,6 +79,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
 
     private final AtomicBoolean needSendSplitRequest = new AtomicBoolean(false);
 
+    private final SpilledOutputBuffers spilledOutputBuffers;
+
     public IncrementalSourceReader(
             DataSourceDialect<C> dataSourceDialect,
             BlockingQueue<RecordsWithSplitIds<SourceRecords>> elementsQueue,
@@ -85,7 +89,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
             SourceReaderOptions options,
             SourceReader.Context context,
             C sourceConfig,
-            DebeziumDeserializationSchema<T> debeziumDeserializationSchema) {
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            SpilledOutputBuffers spilledOutputBuffers) {
         super(
                 elementsQueue,
                 new SingleThreadFetcherManager<>(elementsQueue, splitReaderSupplier::get),
@@ -97,6 +102,17 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         this.finishedUnackedSplits = new HashMap<>();
         this.subtaskId = context.getIndexOfSubtask();
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
+        this.spilledOutputBuffers = spilledOutputBuffers;
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            // delete the spill files of the snapshot splits which are not fully emitted
+            spilledOutputBuffers.close();
+        }
     }
 
     @Override
@@ -120,6 +136,15 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        if (!running || needSendSplitRequest.get()) {
+            // the split request is sent by the next poll
+            return AVAILABLE;
+        }
+        return super.isAvailable();
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         dataSourceDialect.commitChangeLogOffset(snapshotChangeLogOffset);
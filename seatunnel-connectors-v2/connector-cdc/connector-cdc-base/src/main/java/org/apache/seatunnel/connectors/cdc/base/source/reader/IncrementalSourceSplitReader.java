@@ -25,6 +25,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.reader.external.FetchTask
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.Fetcher;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.IncrementalSourceScanFetcher;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.IncrementalSourceStreamFetcher;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.SpilledOutputBuffers;
 import org.apache.seatunnel.connectors.cdc.base.source.split.ChangeEventRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
@@ -52,17 +53,20 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     private final DataSourceDialect<C> dataSourceDialect;
     private final C sourceConfig;
     private final SchemaChangeResolver schemaChangeResolver;
+    private final SpilledOutputBuffers spilledOutputBuffers;
 
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
             C sourceConfig,
-            SchemaChangeResolver schemaChangeResolver) {
+            SchemaChangeResolver schemaChangeResolver,
+            SpilledOutputBuffers spilledOutputBuffers) {
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.schemaChangeResolver = schemaChangeResolver;
+        this.spilledOutputBuffers = spilledOutputBuffers;
     }
 
     @Override
@@ -128,7 +132,9 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
                 if (currentFetcher == null) {
                     final FetchTask.Context taskContext =
                             dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
+                    currentFetcher =
+                            new IncrementalSourceScanFetcher(
+                                    taskContext, subtaskId, spilledOutputBuffers);
                 }
             } else {
                 // point from snapshot split to incremental split
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
 
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
 import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
@@ -51,6 +52,8 @@ public interface FetchTask<Split> {
     interface Context {
         void configure(SourceSplitBase sourceSplitBase);
 
+        SourceConfig getSourceConfig();
+
         ChangeEventQueue<DataChangeEvent> getQueue();
 
         TableId getTableId(SourceRecord record);
@@ -32,10 +32,10 @@ import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -66,9 +66,17 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private SnapshotSplit currentSnapshotSplit;
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
+    private static final int SPILLED_RECORDS_BATCH_SIZE = 1024;
 
-    public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+    // the spilled output buffers which are not fully emitted yet, owned by the source reader
+    private final SpilledOutputBuffers spilledOutputBuffers;
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext,
+            int subtaskId,
+            SpilledOutputBuffers spilledOutputBuffers) {
         this.taskContext = taskContext;
+        this.spilledOutputBuffers = spilledOutputBuffers;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
                         .setNameFormat("debezium-snapshot-reader-" + subtaskId)
@@ -154,50 +162,69 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         boolean reachChangeLogEnd = false;
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
-        while (!reachChangeLogEnd) {
-            checkReadException();
-            List<DataChangeEvent> batch = queue.poll();
-            for (DataChangeEvent event : batch) {
-                SourceRecord record = event.getRecord();
-                if (lowWatermark == null) {
-                    lowWatermark = record;
-                    assertLowWatermark(lowWatermark);
-                    continue;
-                }
+        SnapshotOutputBuffer outputBuffer =
+                new SnapshotOutputBuffer(
+                        taskContext.getSourceConfig().getSnapshotBufferMemorySize());
+        try {
+            while (!reachChangeLogEnd) {
+                checkReadException();
+                List<DataChangeEvent> batch = queue.poll();
+                for (DataChangeEvent event : batch) {
+                    SourceRecord record = event.getRecord();
+                    if (lowWatermark == null) {
+                        lowWatermark = record;
+                        assertLowWatermark(lowWatermark);
+                        continue;
+                    }
 
-                if (highWatermark == null && isHighWatermarkEvent(record)) {
-                    highWatermark = record;
-                    // begin to capture binlog events
-                    reachChangeLogStart = true;
-                    continue;
-                }
+                    if (highWatermark == null && isHighWatermarkEvent(record)) {
+                        highWatermark = record;
+                        // begin to capture binlog events
+                        reachChangeLogStart = true;
+                        continue;
+                    }
 
-                if (reachChangeLogStart && isEndWatermarkEvent(record)) {
-                    // capture to end watermark events, stop the loop
-                    reachChangeLogEnd = true;
-                    break;
-                }
+                    if (reachChangeLogStart && isEndWatermarkEvent(record)) {
+                        // capture to end watermark events, stop the loop
+                        reachChangeLogEnd = true;
+                        break;
+                    }
 
-                if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
-                } else {
-                    if (isChangeRecordInChunkRange(record)) {
-                        // rewrite overlapping snapshot records through the record key
-                        taskContext.rewriteOutputBuffer(outputBuffer, record);
+                    if (!reachChangeLogStart) {
+                        outputBuffer.put((Struct) record.key(), record);
+                    } else {
+                        if (isChangeRecordInChunkRange(record)) {
+                            // rewrite overlapping snapshot records through the record key
+                            taskContext.rewriteOutputBuffer(outputBuffer, record);
+                        }
                     }
                 }
             }
+        } catch (Throwable e) {
+            outputBuffer.close();
+            throw e;
         }
         // snapshot split return its data once
         hasNextElement.set(false);
 
+        final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
+        if (outputBuffer.isSpilled()) {
+            // keep the split in one SourceRecords so that it is emitted within one checkpoint,
+            // the spilled records are read back and normalized while they are emitted, so the
+            // buffer outlives this fetcher and is released by the iterator or the reader
+            spilledOutputBuffers.add(outputBuffer);
+            final Iterator<SourceRecord> spilledRecords =
+                    new SpilledRecordIterator(lowWatermark, outputBuffer, highWatermark);
+            sourceRecordsSet.add(new SourceRecords(() -> spilledRecords));
+            return sourceRecordsSet.iterator();
+        }
+
         final List<SourceRecord> normalizedRecords = new ArrayList<>();
         normalizedRecords.add(lowWatermark);
         normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
         normalizedRecords.add(highWatermark);
+        outputBuffer.close();
 
-        final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
         sourceRecordsSet.add(new SourceRecords(normalizedRecords));
         return sourceRecordsSet.iterator();
     }
@@ -252,6 +279,62 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         }
     }
 
+    /**
+     * Emits the low watermark, the normalized records of the spilled output buffer and the high
+     * watermark, the output buffer is released when all of its records are read. The iterator only
+     * uses the stateless record normalization of the task context, so it can be read after this
+     * fetcher is closed.
+     */
+    private class SpilledRecordIterator implements Iterator<SourceRecord> {
+        private final SnapshotOutputBuffer outputBuffer;
+        private final Iterator<List<SourceRecord>> batchIterator;
+        private SourceRecord lowWatermark;
+        private SourceRecord highWatermark;
+        private Iterator<SourceRecord> normalizedBatch = Collections.emptyIterator();
+
+        private SpilledRecordIterator(
+                SourceRecord lowWatermark,
+                SnapshotOutputBuffer outputBuffer,
+                SourceRecord highWatermark) {
+            this.lowWatermark = lowWatermark;
+            this.outputBuffer = outputBuffer;
+            this.batchIterator = outputBuffer.batchIterator(SPILLED_RECORDS_BATCH_SIZE);
+            this.highWatermark = highWatermark;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lowWatermark != null
+                    || normalizedBatch.hasNext()
+                    || batchIterator.hasNext()
+                    || highWatermark != null;
+        }
+
+        @Override
+        public SourceRecord next() {
+            SourceRecord record;
+            if (lowWatermark != null) {
+                record = lowWatermark;
+                lowWatermark = null;
+                return record;
+            }
+            if (!normalizedBatch.hasNext() && batchIterator.hasNext()) {
+                normalizedBatch =
+                        taskContext.formatMessageTimestamp(batchIterator.next()).iterator();
+            }
+            if (normalizedBatch.hasNext()) {
+                return normalizedBatch.next();
+            }
+            if (highWatermark == null) {
+                throw new NoSuchElementException();
+            }
+            record = highWatermark;
+            highWatermark = null;
+            spilledOutputBuffers.release(outputBuffer);
+            return record;
+        }
+    }
+
     private boolean isChangeRecordInChunkRange(SourceRecord record) {
         if (taskContext.isDataChangeRecord(record)) {
             // fix the between condition
@@ -155,6 +155,7 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
                 .collect(Collectors.toList());
     }
 
+    @Override
     public SourceConfig getSourceConfig() {
         return sourceConfig;
     }
@@ -0,0 +1,574 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The output buffer of a snapshot split in exactly-once mode. The record keys are indexed in memory
+ * in insertion order, the records are kept in memory until their estimated size reaches the memory
+ * limit, and the records put after that are serialized to a local spill file. The spilled records
+ * are read back when they are accessed, so the backfill rewrites through {@link
+ * FetchTask.Context#rewriteOutputBuffer(Map, SourceRecord)} work on both kinds of records.
+ *
+ * <p>The spilled records share the schemas and source offsets of the in-memory index, only the
+ * record values are written to the spill file.
+ */
+@Slf4j
+public class SnapshotOutputBuffer extends AbstractMap<Struct, SourceRecord> implements Closeable {
+
+    private static final int SPILL_FILE_BUFFER_SIZE = 64 * 1024;
+
+    private static final long OBJECT_SIZE = 16;
+    private static final long REFERENCE_SIZE = 8;
+
+    private final long memoryLimit;
+    private final Path spillDirectory;
+    private final LinkedHashMap<Struct, BufferedRecord> index = new LinkedHashMap<>();
+
+    private long memorySize;
+    private int spilledCount;
+    private boolean closed;
+
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private DataOutputStream spillOutput;
+    private long spillFileSize;
+    private boolean spillOutputFlushed = true;
+    private final ByteArrayOutputStream serializeBuffer = new ByteArrayOutputStream();
+    private final DataOutputStream serializeOutput = new DataOutputStream(serializeBuffer);
+
+    public SnapshotOutputBuffer(long memoryLimit) {
+        this(memoryLimit, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    public SnapshotOutputBuffer(long memoryLimit, Path spillDirectory) {
+        this.memoryLimit = memoryLimit;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public SourceRecord get(Object key) {
+        BufferedRecord bufferedRecord = index.get(key);
+        return bufferedRecord == null ? null : load(bufferedRecord);
+    }
+
+    @Override
+    public SourceRecord put(Struct key, SourceRecord record) {
+        BufferedRecord previous = index.get(key);
+        SourceRecord previousRecord = previous == null ? null : release(previous);
+        long size = estimateSize(record.value());
+        BufferedRecord bufferedRecord;
+        if (memorySize + size <= memoryLimit || record.valueSchema() == null) {
+            memorySize += size;
+            bufferedRecord = new BufferedRecord(record, size);
+        } else {
+            bufferedRecord = spill(record);
+        }
+        // the rewritten key keeps its position, the same as LinkedHashMap
+        index.put(key, bufferedRecord);
+        return previousRecord;
+    }
+
+    @Override
+    public SourceRecord remove(Object key) {
+        BufferedRecord previous = index.remove(key);
+        return previous == null ? null : release(previous);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        memorySize = 0;
+        spilledCount = 0;
+    }
+
+    @Override
+    public Set<Entry<Struct, SourceRecord>> entrySet() {
+        return new AbstractSet<Entry<Struct, SourceRecord>>() {
+            @Override
+            public Iterator<Entry<Struct, SourceRecord>> iterator() {
+                Iterator<Entry<Struct, BufferedRecord>> iterator = index.entrySet().iterator();
+                return new Iterator<Entry<Struct, SourceRecord>>() {
+                    private BufferedRecord current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Struct, SourceRecord> next() {
+                        Entry<Struct, BufferedRecord> entry = iterator.next();
+                        current = entry.getValue();
+                        return new SimpleImmutableEntry<>(entry.getKey(), load(current));
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                        forget(current);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return index.size();
+            }
+        };
+    }
+
+    /** Returns the values in insertion order, the spilled values are read in batches. */
+    public Iterator<List<SourceRecord>> batchIterator(int batchSize) {
+        Iterator<SourceRecord> iterator = values().iterator();
+        return new Iterator<List<SourceRecord>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<SourceRecord> next() {
+                // the buffer may be closed by the reader while the records are emitted
+                synchronized (SnapshotOutputBuffer.this) {
+                    checkNotClosed();
+                    List<SourceRecord> batch = new ArrayList<>(batchSize);
+                    while (iterator.hasNext() && batch.size() < batchSize) {
+                        batch.add(iterator.next());
+                    }
+                    return batch;
+                }
+            }
+        };
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    Path getSpillFile() {
+        return spillFile;
+    }
+
+    int getSpilledCount() {
+        return spilledCount;
+    }
+
+    long getMemorySize() {
+        return memorySize;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        clear();
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            spillChannel.close();
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete the snapshot spill file {}", spillFile, e);
+        } finally {
+            spillFile = null;
+            spillChannel = null;
+            spillOutput = null;
+        }
+    }
+
+    private BufferedRecord spill(SourceRecord record) {
+        try {
+            if (spillFile == null) {
+                Files.createDirectories(spillDirectory);
+                spillFile =
+                        Files.createTempFile(spillDirectory, "seatunnel-cdc-snapshot-", ".buffer");
+                spillChannel =
+                        FileChannel.open(
+                                spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                OutputStream outputStream = Channels.newOutputStream(spillChannel);
+                spillOutput =
+                        new DataOutputStream(
+                                new BufferedOutputStream(outputStream, SPILL_FILE_BUFFER_SIZE));
+                log.info(
+                        "The snapshot output buffer exceeds {} bytes, spill the records to {}",
+                        memoryLimit,
+                        spillFile);
+            }
+            serializeBuffer.reset();
+            writeValue(serializeOutput, record.valueSchema(), record.value());
+            serializeOutput.flush();
+            int length = serializeBuffer.size();
+            serializeBuffer.writeTo(spillOutput);
+            long position = spillFileSize;
+            spillFileSize += length;
+            spillOutputFlushed = false;
+            spilledCount++;
+            return new BufferedRecord(copy(record, null), position, length);
+        } catch (IOException e) {
+            throw new SeaTunnelException(
+                    String.format("Spill snapshot record to %s error", spillFile), e);
+        }
+    }
+
+    private synchronized SourceRecord load(BufferedRecord bufferedRecord) {
+        if (!bufferedRecord.isSpilled()) {
+            return bufferedRecord.record;
+        }
+        checkNotClosed();
+        try {
+            if (!spillOutputFlushed) {
+                spillOutput.flush();
+                spillOutputFlushed = true;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(bufferedRecord.length);
+            long position = bufferedRecord.position;
+            while (buffer.hasRemaining()) {
+                int read = spillChannel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    throw new IOException("Unexpected end of the spill file");
+                }
+            }
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+            Object value = readValue(input, bufferedRecord.record.valueSchema());
+            return copy(bufferedRecord.record, value);
+        } catch (IOException e) {
+            throw new SeaTunnelException(
+                    String.format("Read snapshot record from %s error", spillFile), e);
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new SeaTunnelException("The snapshot output buffer is already closed");
+        }
+    }
+
+    private SourceRecord release(BufferedRecord bufferedRecord) {
+        SourceRecord record = load(bufferedRecord);
+        forget(bufferedRecord);
+        return record;
+    }
+
+    private void forget(BufferedRecord bufferedRecord) {
+        // the spilled bytes stay in the file until the buffer is closed
+        if (bufferedRecord.isSpilled()) {
+            spilledCount--;
+        } else {
+            memorySize -= bufferedRecord.size;
+        }
+    }
+
+    private static SourceRecord copy(SourceRecord record, Object value) {
+        return new SourceRecord(
+                record.sourcePartition(),
+                record.sourceOffset(),
+                record.topic(),
+                record.kafkaPartition(),
+                record.keySchema(),
+                record.key(),
+                record.valueSchema(),
+                value,
+                record.timestamp(),
+                record.headers());
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Serialization of the record values
+    // --------------------------------------------------------------------------------------------
+
+    static void writeValue(DataOutput output, Schema schema, Object value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        switch (schema.type()) {
+            case INT8:
+                output.writeByte((Byte) value);
+                break;
+            case INT16:
+                output.writeShort((Short) value);
+                break;
+            case INT32:
+                if (value instanceof java.util.Date) {
+                    output.writeInt(
+                            Date.LOGICAL_NAME.equals(schema.name())
+                                    ? Date.fromLogical(schema, (java.util.Date) value)
+                                    : Time.fromLogical(schema, (java.util.Date) value));
+                } else {
+                    output.writeInt((Integer) value);
+                }
+                break;
+            case INT64:
+                if (value instanceof java.util.Date) {
+                    output.writeLong(Timestamp.fromLogical(schema, (java.util.Date) value));
+                } else {
+                    output.writeLong((Long) value);
+                }
+                break;
+            case FLOAT32:
+                output.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                output.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                output.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                if (value instanceof BigDecimal) {
+                    writeBytes(output, Decimal.fromLogical(schema, (BigDecimal) value));
+                } else if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    output.writeBoolean(true);
+                    writeBytes(output, bytes);
+                } else {
+                    output.writeBoolean(false);
+                    writeBytes(output, (byte[]) value);
+                }
+                break;
+            case ARRAY:
+                Collection<?> array = (Collection<?>) value;
+                output.writeInt(array.size());
+                for (Object element : array) {
+                    writeValue(output, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                output.writeInt(map.size());
+                for (Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(output, schema.keySchema(), entry.getKey());
+                    writeValue(output, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(output, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    static Object readValue(DataInput input, Schema schema) throws IOException {
+        if (!input.readBoolean()) {
+            return null;
+        }
+        switch (schema.type()) {
+            case INT8:
+                return input.readByte();
+            case INT16:
+                return input.readShort();
+            case INT32:
+                int intValue = input.readInt();
+                if (Date.LOGICAL_NAME.equals(schema.name())) {
+                    return Date.toLogical(schema, intValue);
+                }
+                if (Time.LOGICAL_NAME.equals(schema.name())) {
+                    return Time.toLogical(schema, intValue);
+                }
+                return intValue;
+            case INT64:
+                long longValue = input.readLong();
+                if (Timestamp.LOGICAL_NAME.equals(schema.name())) {
+                    return Timestamp.toLogical(schema, longValue);
+                }
+                return longValue;
+            case FLOAT32:
+                return input.readFloat();
+            case FLOAT64:
+                return input.readDouble();
+            case BOOLEAN:
+                return input.readBoolean();
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+                    return Decimal.toLogical(schema, readBytes(input));
+                }
+                boolean byteBuffer = input.readBoolean();
+                byte[] bytes = readBytes(input);
+                return byteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                int arraySize = input.readInt();
+                List<Object> array = new ArrayList<>(arraySize);
+                for (int i = 0; i < arraySize; i++) {
+                    array.add(readValue(input, schema.valueSchema()));
+                }
+                return array;
+            case MAP:
+                int mapSize = input.readInt();
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(
+                            readValue(input, schema.keySchema()),
+                            readValue(input, schema.valueSchema()));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    struct.put(field, readValue(input, field.schema()));
+                }
+                return struct;
+            default:
+                throw new IOException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static void writeBytes(DataOutput output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    /** Estimates the heap size of a record value, the shared schemas are not counted. */
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            List<Field> fields = struct.schema().fields();
+            long size = OBJECT_SIZE * 2 + REFERENCE_SIZE * fields.size();
+            for (Field field : fields) {
+                size += estimateSize(struct.getWithoutDefault(field.name()));
+            }
+            return size;
+        }
+        if (value instanceof String) {
+            return OBJECT_SIZE * 2 + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_SIZE + ((byte[]) value).length;
+        }
+        if (value instanceof ByteBuffer) {
+            return OBJECT_SIZE * 3 + ((ByteBuffer) value).capacity();
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_SIZE * 3 + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+        }
+        if (value instanceof Collection) {
+            long size = OBJECT_SIZE * 2;
+            for (Object element : (Collection<?>) value) {
+                size += REFERENCE_SIZE + estimateSize(element);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = OBJECT_SIZE * 2;
+            for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += OBJECT_SIZE * 2 + estimateSize(entry.getKey());
+                size += estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        return OBJECT_SIZE + REFERENCE_SIZE;
+    }
+
+    private static final class BufferedRecord {
+        // the whole record in memory, or the record without the value when it is spilled
+        private final SourceRecord record;
+        private final long size;
+        private final long position;
+        private final int length;
+
+        private BufferedRecord(SourceRecord record, long size) {
+            this.record = record;
+            this.size = size;
+            this.position = -1;
+            this.length = 0;
+        }
+
+        private BufferedRecord(SourceRecord record, long position, int length) {
+            this.record = record;
+            this.size = 0;
+            this.position = position;
+            this.length = length;
+        }
+
+        private boolean isSpilled() {
+            return position >= 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The spilled snapshot output buffers whose records are not fully emitted yet. The records of a
+ * spilled buffer are read lazily by the record emitter after the fetcher handed them over, so the
+ * buffers are owned by the source reader instead of the fetcher: a buffer is released when all of
+ * its records are emitted, and the remaining buffers are closed when the reader is closed.
+ */
+public class SpilledOutputBuffers implements Closeable {
+
+    private final Set<SnapshotOutputBuffer> outputBuffers = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public void add(SnapshotOutputBuffer outputBuffer) {
+        outputBuffers.add(outputBuffer);
+        if (closed) {
+            // the reader is closed while the fetcher is still running
+            release(outputBuffer);
+        }
+    }
+
+    public void release(SnapshotOutputBuffer outputBuffer) {
+        if (outputBuffers.remove(outputBuffer)) {
+            outputBuffer.close();
+        }
+    }
+
+    int size() {
+        return outputBuffers.size();
+    }
+
+    Set<SnapshotOutputBuffer> getOutputBuffers() {
+        return outputBuffers;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        outputBuffers.forEach(this::release);
+    }
+}
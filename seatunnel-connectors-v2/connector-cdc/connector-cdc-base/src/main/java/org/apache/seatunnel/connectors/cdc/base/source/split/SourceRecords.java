@@ -26,14 +26,27 @@ import java.util.List;
 /** Data structure to describe a set of {@link SourceRecord}. */
 public final class SourceRecords {
 
-    private final List<SourceRecord> sourceRecords;
+    private final Iterable<SourceRecord> sourceRecords;
 
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
     }
 
+    /**
+     * Creates the records which are produced lazily while they are iterated, e.g. the records read
+     * back from the spilled snapshot output buffer. They can be iterated only once.
+     */
+    public SourceRecords(Iterable<SourceRecord> sourceRecords) {
+        this.sourceRecords = sourceRecords;
+    }
+
     public List<SourceRecord> getSourceRecordList() {
-        return sourceRecords;
+        if (sourceRecords instanceof List) {
+            return (List<SourceRecord>) sourceRecords;
+        }
+        final List<SourceRecord> records = new ArrayList<>();
+        sourceRecords.forEach(records::add);
+        return records;
     }
 
     public Iterator<SourceRecord> iterator() {
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceScanFetcherTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("test.key").field("id", Schema.INT32_SCHEMA).build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.value")
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    private static final Map<String, String> PARTITION = Collections.singletonMap("server", "test");
+
+    // more records than one read back batch of the spilled split
+    private static final int RECORD_COUNT = 3000;
+
+    private SpilledOutputBuffers spilledOutputBuffers;
+    private IncrementalSourceScanFetcher fetcher;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        spilledOutputBuffers = new SpilledOutputBuffers();
+        fetcher = createFetcher();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        spilledOutputBuffers.close();
+    }
+
+    @Test
+    public void testReadSpilledSplitAfterFetcherClosed() throws Exception {
+        Iterator<SourceRecord> iterator = pollSpilledSplit();
+        List<SourceRecord> emitted = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            emitted.add(iterator.next());
+        }
+        Path spillFile = spilledOutputBuffers.getOutputBuffers().iterator().next().getSpillFile();
+
+        // the fetcher is closed when the reader switches to the stream split, the emitter still
+        // reads the rest of the spilled split
+        fetcher.close();
+        Assertions.assertTrue(Files.exists(spillFile));
+        iterator.forEachRemaining(emitted::add);
+
+        Assertions.assertEquals(RECORD_COUNT + 2, emitted.size());
+        Assertions.assertTrue(WatermarkEvent.isLowWatermarkEvent(emitted.get(0)));
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Struct value = (Struct) emitted.get(i + 1).value();
+            Assertions.assertEquals(i, value.getInt32("id"));
+            Assertions.assertEquals("name_" + i, value.getString("name"));
+        }
+        Assertions.assertTrue(WatermarkEvent.isHighWatermarkEvent(emitted.get(RECORD_COUNT + 1)));
+        // the buffer is released by the iterator once all of its records are emitted
+        Assertions.assertEquals(0, spilledOutputBuffers.size());
+        Assertions.assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    public void testCloseSpilledSplitWithReader() throws Exception {
+        Iterator<SourceRecord> iterator = pollSpilledSplit();
+        iterator.next();
+        iterator.next();
+        Path spillFile = spilledOutputBuffers.getOutputBuffers().iterator().next().getSpillFile();
+
+        fetcher.close();
+        spilledOutputBuffers.close();
+
+        Assertions.assertFalse(Files.exists(spillFile));
+        SeaTunnelException exception =
+                Assertions.assertThrows(
+                        SeaTunnelException.class, () -> iterator.forEachRemaining(record -> {}));
+        Assertions.assertEquals(
+                "The snapshot output buffer is already closed", exception.getMessage());
+
+        // the buffers spilled after the reader is closed are released at once
+        SnapshotOutputBuffer outputBuffer = new SnapshotOutputBuffer(0);
+        outputBuffer.put(key(0), createRecord(0));
+        Path lateSpillFile = outputBuffer.getSpillFile();
+        spilledOutputBuffers.add(outputBuffer);
+        Assertions.assertEquals(0, spilledOutputBuffers.size());
+        Assertions.assertFalse(Files.exists(lateSpillFile));
+    }
+
+    private Iterator<SourceRecord> pollSpilledSplit() throws Exception {
+        Iterator<SourceRecords> splitRecords = fetcher.pollSplitRecords();
+        Assertions.assertTrue(splitRecords.hasNext());
+        SourceRecords sourceRecords = splitRecords.next();
+        Assertions.assertFalse(splitRecords.hasNext());
+        Assertions.assertEquals(1, spilledOutputBuffers.size());
+        return sourceRecords.iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private IncrementalSourceScanFetcher createFetcher() throws Exception {
+        SnapshotSplit split =
+                new SnapshotSplit("split-0", TableId.parse("db.test"), null, null, null);
+        Offset offset = mock(Offset.class);
+        when(offset.getOffset()).thenReturn(Collections.singletonMap("pos", "0"));
+
+        List<DataChangeEvent> events = new ArrayList<>();
+        events.add(new DataChangeEvent(createWatermark(offset, WatermarkKind.LOW)));
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            events.add(new DataChangeEvent(createRecord(i)));
+        }
+        events.add(new DataChangeEvent(createWatermark(offset, WatermarkKind.HIGH)));
+        events.add(new DataChangeEvent(createWatermark(offset, WatermarkKind.END)));
+        ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        when(queue.poll()).thenReturn(events);
+
+        // every snapshot record is spilled
+        SourceConfig sourceConfig = mock(SourceConfig.class);
+        when(sourceConfig.getSnapshotBufferMemorySize()).thenReturn(0L);
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        when(taskContext.getSourceConfig()).thenReturn(sourceConfig);
+        when(taskContext.getQueue()).thenReturn(queue);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.formatMessageTimestamp(any()))
+                .thenAnswer(
+                        invocation ->
+                                new ArrayList<>(
+                                        (Collection<SourceRecord>) invocation.getArgument(0)));
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit()).thenReturn(split);
+
+        IncrementalSourceScanFetcher scanFetcher =
+                new IncrementalSourceScanFetcher(taskContext, 0, spilledOutputBuffers);
+        scanFetcher.submitTask(fetchTask);
+        return scanFetcher;
+    }
+
+    private static SourceRecord createWatermark(Offset offset, WatermarkKind watermarkKind) {
+        return WatermarkEvent.create(PARTITION, "test.topic", "split-0", watermarkKind, offset);
+    }
+
+    private static SourceRecord createRecord(int id) {
+        Struct value = new Struct(VALUE_SCHEMA).put("id", id).put("name", "name_" + id);
+        return new SourceRecord(
+                PARTITION,
+                Collections.singletonMap("pos", (long) id),
+                "test.topic",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                VALUE_SCHEMA,
+                value);
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+}
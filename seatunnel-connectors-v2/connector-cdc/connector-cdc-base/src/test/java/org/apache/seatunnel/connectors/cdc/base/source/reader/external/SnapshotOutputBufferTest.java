@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.debezium.data.Envelope;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SnapshotOutputBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("test.key").field("id", Schema.INT32_SCHEMA).build();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("test.value")
+                    .optional()
+                    .field("id", Schema.INT32_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("amount", Decimal.builder(2).optional().build())
+                    .field("updated", Timestamp.builder().optional().build())
+                    .field("data", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                    .field("flag", SchemaBuilder.bool().optional().defaultValue(true).build())
+                    .build();
+
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct().name("test.source").field("ts_ms", Schema.INT64_SCHEMA).build();
+
+    private static final Envelope ENVELOPE =
+            Envelope.defineSchema()
+                    .withName("test.envelope")
+                    .withRecord(ROW_SCHEMA)
+                    .withSource(SOURCE_SCHEMA)
+                    .build();
+
+    @TempDir Path spillDirectory;
+
+    @Test
+    public void testKeepRecordsInMemory() {
+        try (SnapshotOutputBuffer outputBuffer =
+                new SnapshotOutputBuffer(Long.MAX_VALUE, spillDirectory)) {
+            List<SourceRecord> records = createRecords(0, 100);
+            records.forEach(record -> outputBuffer.put((Struct) record.key(), record));
+
+            Assertions.assertFalse(outputBuffer.isSpilled());
+            Assertions.assertEquals(0, outputBuffer.getSpilledCount());
+            Assertions.assertTrue(outputBuffer.getMemorySize() > 0);
+            // the records are not copied when they are kept in memory
+            Iterator<SourceRecord> iterator = outputBuffer.values().iterator();
+            records.forEach(record -> Assertions.assertSame(record, iterator.next()));
+        }
+    }
+
+    @Test
+    public void testSpillRecords() throws IOException {
+        List<SourceRecord> records = createRecords(0, 100);
+        long memoryLimit =
+                records.stream()
+                        .limit(10)
+                        .mapToLong(record -> SnapshotOutputBuffer.estimateSize(record.value()))
+                        .sum();
+        SnapshotOutputBuffer outputBuffer = new SnapshotOutputBuffer(memoryLimit, spillDirectory);
+        records.forEach(record -> outputBuffer.put((Struct) record.key(), record));
+
+        Assertions.assertTrue(outputBuffer.isSpilled());
+        Assertions.assertEquals(90, outputBuffer.getSpilledCount());
+        Assertions.assertEquals(memoryLimit, outputBuffer.getMemorySize());
+        Assertions.assertEquals(1, listSpillFiles().size());
+        assertRecords(records, new ArrayList<>(outputBuffer.values()));
+        Assertions.assertEquals(records.get(50), outputBuffer.get(records.get(50).key()));
+
+        outputBuffer.close();
+        Assertions.assertTrue(listSpillFiles().isEmpty());
+        Assertions.assertTrue(outputBuffer.isEmpty());
+    }
+
+    @Test
+    public void testRewriteSpilledRecords() {
+        List<SourceRecord> records = createRecords(0, 10);
+        try (SnapshotOutputBuffer outputBuffer = new SnapshotOutputBuffer(0, spillDirectory)) {
+            records.forEach(record -> outputBuffer.put((Struct) record.key(), record));
+            Assertions.assertEquals(10, outputBuffer.getSpilledCount());
+
+            // the backfill updates keep the position of the snapshot records
+            SourceRecord update = createRecord(3, "updated");
+            Assertions.assertEquals(records.get(3), outputBuffer.put(key(3), update));
+            Assertions.assertEquals(records.get(5), outputBuffer.remove(key(5)));
+            Assertions.assertNull(outputBuffer.remove(key(42)));
+            SourceRecord insert = createRecord(42, "inserted");
+            Assertions.assertNull(outputBuffer.put(key(42), insert));
+
+            List<SourceRecord> expected = new ArrayList<>(records);
+            expected.set(3, update);
+            expected.remove(5);
+            expected.add(insert);
+            Assertions.assertEquals(10, outputBuffer.size());
+            Assertions.assertEquals(10, outputBuffer.getSpilledCount());
+            Assertions.assertFalse(outputBuffer.containsKey(key(5)));
+            assertRecords(expected, new ArrayList<>(outputBuffer.values()));
+        }
+    }
+
+    @Test
+    public void testBatchIterator() {
+        List<SourceRecord> records = createRecords(0, 25);
+        try (SnapshotOutputBuffer outputBuffer = new SnapshotOutputBuffer(0, spillDirectory)) {
+            records.forEach(record -> outputBuffer.put((Struct) record.key(), record));
+            Iterator<List<SourceRecord>> batchIterator = outputBuffer.batchIterator(10);
+            List<Integer> batchSizes = new ArrayList<>();
+            List<SourceRecord> actual = new ArrayList<>();
+            batchIterator.forEachRemaining(
+                    batch -> {
+                        batchSizes.add(batch.size());
+                        actual.addAll(batch);
+                    });
+            Assertions.assertEquals(Arrays.asList(10, 10, 5), batchSizes);
+            assertRecords(records, actual);
+        }
+    }
+
+    @Test
+    public void testSerializeValues() throws IOException {
+        Schema schema =
+                SchemaBuilder.struct()
+                        .field("int8", Schema.INT8_SCHEMA)
+                        .field("int16", Schema.INT16_SCHEMA)
+                        .field("float32", Schema.FLOAT32_SCHEMA)
+                        .field("float64", Schema.FLOAT64_SCHEMA)
+                        .field("buffer", Schema.BYTES_SCHEMA)
+                        .field("date", org.apache.kafka.connect.data.Date.SCHEMA)
+                        .field("time", org.apache.kafka.connect.data.Time.SCHEMA)
+                        .field(
+                                "map",
+                                SchemaBuilder.map(Schema.STRING_SCHEMA, ROW_SCHEMA)
+                                        .optional()
+                                        .build())
+                        .field("row", ROW_SCHEMA)
+                        .build();
+        Struct value =
+                new Struct(schema)
+                        .put("int8", (byte) -1)
+                        .put("int16", (short) 300)
+                        .put("float32", 1.5f)
+                        .put("float64", Double.NaN)
+                        .put("buffer", ByteBuffer.wrap(new byte[] {1, 2, 3}))
+                        .put("date", new java.util.Date(86400000L * 3))
+                        .put("time", new java.util.Date(1000L))
+                        .put("map", Collections.singletonMap("中文", createRow(1, "\u0000")))
+                        .put("row", new Struct(ROW_SCHEMA).put("id", 2));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SnapshotOutputBuffer.writeValue(new DataOutputStream(bytes), schema, value);
+        Object actual =
+                SnapshotOutputBuffer.readValue(
+                        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), schema);
+        Assertions.assertEquals(value, actual);
+        // the default value of the absent field is not materialized
+        Assertions.assertNull(((Struct) actual).getStruct("row").getWithoutDefault("flag"));
+    }
+
+    private static void assertRecords(List<SourceRecord> expected, List<SourceRecord> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            SourceRecord expectedRecord = expected.get(i);
+            SourceRecord actualRecord = actual.get(i);
+            Assertions.assertEquals(expectedRecord, actualRecord);
+            Assertions.assertSame(expectedRecord.valueSchema(), actualRecord.valueSchema());
+            Assertions.assertSame(expectedRecord.sourceOffset(), actualRecord.sourceOffset());
+        }
+    }
+
+    private List<Path> listSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static List<SourceRecord> createRecords(int start, int end) {
+        List<SourceRecord> records = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            records.add(createRecord(i, "name_" + i));
+        }
+        return records;
+    }
+
+    private static SourceRecord createRecord(int id, String name) {
+        Struct source = new Struct(SOURCE_SCHEMA).put("ts_ms", 1000L + id);
+        Struct value = ENVELOPE.read(createRow(id, name), source, Instant.ofEpochMilli(id));
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap("pos", (long) id),
+                "test.topic",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                ENVELOPE.schema(),
+                value);
+    }
+
+    private static Struct createRow(int id, String name) {
+        return new Struct(ROW_SCHEMA)
+                .put("id", id)
+                .put("name", name)
+                .put("amount", new BigDecimal(id).movePointLeft(2))
+                .put("updated", new java.util.Date(1_700_000_000_000L + id))
+                .put("data", new byte[] {(byte) id, 0, (byte) -id})
+                .put("tags", Arrays.asList("a", String.valueOf(id)))
+                .put("flag", id % 2 == 0);
+    }
+
+    private static Struct key(int id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+}
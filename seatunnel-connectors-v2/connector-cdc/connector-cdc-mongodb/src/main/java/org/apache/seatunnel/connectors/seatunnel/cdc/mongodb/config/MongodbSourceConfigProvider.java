@@ -33,6 +33,7 @@ import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.Mongo
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.POLL_AWAIT_TIME_MILLIS;
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.POLL_MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.SNAPSHOT_BUFFER_MEMORY_SIZE;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
 
@@ -58,6 +59,7 @@ public class MongodbSourceConfigProvider {
         private StopConfig stopOptions;
         private int heartbeatIntervalMillis = HEARTBEAT_INTERVAL_MILLIS.defaultValue();
         private int splitMetaGroupSize = 2;
+        private long snapshotBufferMemorySize = SNAPSHOT_BUFFER_MEMORY_SIZE.defaultValue();
         private int splitSizeMB = INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue();
 
         public Builder hosts(String hosts) {
@@ -146,6 +148,12 @@ public class MongodbSourceConfigProvider {
             return this;
         }
 
+        public Builder snapshotBufferMemorySize(long snapshotBufferMemorySize) {
+            checkArgument(snapshotBufferMemorySize >= 0);
+            this.snapshotBufferMemorySize = snapshotBufferMemorySize;
+            return this;
+        }
+
         public Builder validate() {
             checkNotNull(hosts, "hosts must be provided");
             return this;
@@ -169,7 +177,8 @@ public class MongodbSourceConfigProvider {
                     stopOptions,
                     heartbeatIntervalMillis,
                     splitMetaGroupSize,
-                    splitSizeMB);
+                    splitSizeMB,
+                    snapshotBufferMemorySize);
         }
     }
 }
@@ -110,6 +110,7 @@ public class MongodbFetchTaskContext implements FetchTask.Context {
                         .build();
     }
 
+    @Override
     public MongodbSourceConfig getSourceConfig() {
         return sourceConfig;
     }
@@ -37,6 +37,23 @@ public class ClickhouseConfig {
                     .defaultValue(20000)
                     .withDescription("Bulk size of clickhouse jdbc");
 
+    public static final Option<ClickhouseInsertMode> INSERT_MODE =
+            Options.key("insert_mode")
+                    .enumType(ClickhouseInsertMode.class)
+                    .defaultValue(ClickhouseInsertMode.JDBC)
+                    .withDescription(
+                            "The way rows are sent to clickhouse, JDBC prepared statements or "
+                                    + "RowBinary encoded rows on a streaming HTTP insert");
+
+    public static final Option<Boolean> ROW_BINARY_NULL_AS_DEFAULT =
+            Options.key("row_binary_null_as_default")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the ROW_BINARY insert mode sends a null value of a column "
+                                    + "which is not Nullable as the default value of its type, "
+                                    + "instead of failing the write");
+
     public static final Option<String> SQL =
             Options.key("sql")
                     .stringType()
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.config.Common;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.ShardMetadata;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryRowEncoder;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.CKCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSinkState;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.util.ClickhouseProxy;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.clickhouse.client.ClickHouseNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes the rows with the {@code ROW_BINARY} insert mode, each shard of {@link ShardRouter} has a
+ * streaming HTTP insert whose rows are encoded in the RowBinary format. Like the JDBC insert
+ * without primary keys, every row is appended whatever its row kind.
+ */
+@Slf4j
+public class ClickhouseRowBinarySinkWriter
+        implements SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState> {
+
+    private static final int DEFAULT_SOCKET_TIMEOUT = 30000;
+
+    private final ReaderOption option;
+    private final ShardRouter shardRouter;
+    private final transient ClickhouseProxy proxy;
+    private final int shardKeyIndex;
+    private final Map<Shard, RowBinaryHttpInsert> insertMap;
+
+    ClickhouseRowBinarySinkWriter(ReaderOption option) {
+        this.option = option;
+        this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
+        this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
+        String shardKey = option.getShardMetadata().getShardKey();
+        this.shardKeyIndex =
+                StringUtils.isNotEmpty(shardKey)
+                        ? option.getSeaTunnelRowType().indexOf(shardKey)
+                        : -1;
+        this.insertMap = initInsertMap();
+    }
+
+    @Override
+    public void write(SeaTunnelRow element) throws IOException {
+        Object shardKey = shardKeyIndex >= 0 ? element.getField(shardKeyIndex) : null;
+        RowBinaryHttpInsert insert = insertMap.get(shardRouter.getShard(shardKey));
+        insert.write(element);
+        if (insert.getRowCount() >= option.getBulkSize()) {
+            flush(insert);
+        }
+    }
+
+    @Override
+    public Optional<CKCommitInfo> prepareCommit() throws IOException {
+        for (RowBinaryHttpInsert insert : insertMap.values()) {
+            flush(insert);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void abortPrepare() {}
+
+    @Override
+    public void close() throws IOException {
+        this.proxy.close();
+        try {
+            for (RowBinaryHttpInsert insert : insertMap.values()) {
+                flush(insert);
+            }
+        } finally {
+            for (RowBinaryHttpInsert insert : insertMap.values()) {
+                insert.close();
+            }
+        }
+    }
+
+    private void flush(RowBinaryHttpInsert insert) {
+        try {
+            insert.flush();
+        } catch (IOException e) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Clickhouse RowBinary insert error",
+                    e);
+        }
+    }
+
+    private Map<Shard, RowBinaryHttpInsert> initInsertMap() {
+        ShardMetadata shardMetadata = option.getShardMetadata();
+        RowBinaryRowEncoder rowEncoder =
+                new RowBinaryRowEncoder(
+                        option.getSeaTunnelRowType(),
+                        option.getTableSchema(),
+                        ZoneId.of(option.getServerTimeZone()),
+                        option.isRowBinaryNullAsDefault());
+        boolean ssl = Boolean.parseBoolean(option.getProperties().getProperty("ssl", "false"));
+        int socketTimeout =
+                Integer.parseInt(
+                        option.getProperties()
+                                .getProperty(
+                                        "socket_timeout", String.valueOf(DEFAULT_SOCKET_TIMEOUT)));
+        Map<Shard, RowBinaryHttpInsert> result = new HashMap<>(Common.COLLECTION_SIZE);
+        shardRouter
+                .getShards()
+                .forEach(
+                        (weight, s) -> {
+                            ClickHouseNode node = s.getNode();
+                            InetSocketAddress address = node.getAddress();
+                            String endpoint =
+                                    (ssl ? "https://" : "http://")
+                                            + address.getHostString()
+                                            + ":"
+                                            + address.getPort();
+                            result.put(
+                                    s,
+                                    new RowBinaryHttpInsert(
+                                            endpoint,
+                                            node.getDatabase().orElse(shardMetadata.getDatabase()),
+                                            shardRouter.getShardTable(),
+                                            shardMetadata.getUsername(),
+                                            shardMetadata.getPassword(),
+                                            socketTimeout,
+                                            rowEncoder));
+                        });
+        return result;
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.catalog.ClickhouseCatalog;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.catalog.ClickhouseCatalogFactory;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseInsertMode;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
@@ -59,8 +60,11 @@ import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Clickh
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.CLICKHOUSE_CONFIG;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.CUSTOM_SQL;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.DATABASE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.INSERT_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PRIMARY_KEY;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.ROW_BINARY_NULL_AS_DEFAULT;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SERVER_TIME_ZONE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SHARDING_KEY;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SPLIT_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SUPPORT_UPSERT;
@@ -146,6 +150,13 @@ public class ClickhouseSink
             }
             primaryKeys = primaryKey.replaceAll("\\s+", "").split(",");
         }
+        ClickhouseInsertMode insertMode = readonlyConfig.get(INSERT_MODE);
+        if (insertMode == ClickhouseInsertMode.ROW_BINARY && primaryKeys != null) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "primary_key is not supported by the ROW_BINARY insert mode, "
+                            + "which only appends rows");
+        }
         boolean supportUpsert = readonlyConfig.get(SUPPORT_UPSERT);
         boolean allowExperimentalLightweightDelete =
                 readonlyConfig.get(ALLOW_EXPERIMENTAL_LIGHTWEIGHT_DELETE);
@@ -161,7 +172,13 @@ public class ClickhouseSink
                         .primaryKeys(primaryKeys)
                         .supportUpsert(supportUpsert)
                         .allowExperimentalLightweightDelete(allowExperimentalLightweightDelete)
+                        .insertMode(insertMode)
+                        .rowBinaryNullAsDefault(readonlyConfig.get(ROW_BINARY_NULL_AS_DEFAULT))
+                        .serverTimeZone(readonlyConfig.get(SERVER_TIME_ZONE))
                         .build();
+        if (insertMode == ClickhouseInsertMode.ROW_BINARY) {
+            return new ClickhouseRowBinarySinkWriter(option);
+        }
         return new ClickhouseSinkWriter(option, context);
     }
 
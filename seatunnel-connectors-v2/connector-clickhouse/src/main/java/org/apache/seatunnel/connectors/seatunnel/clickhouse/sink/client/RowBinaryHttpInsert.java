@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.SqlUtils;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryOutput;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryRowEncoder;
+
+import org.apache.commons.io.IOUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Inserts the rows of a shard with a single HTTP request per batch, the rows are encoded in the
+ * RowBinary format straight into the chunked request body while they are written, without JDBC
+ * parameters nor text formatting.
+ */
+@Slf4j
+public class RowBinaryHttpInsert implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final URL url;
+    private final String username;
+    private final String password;
+    private final int socketTimeout;
+    private final RowBinaryRowEncoder rowEncoder;
+    private HttpURLConnection connection;
+    private RowBinaryOutput output;
+    private int rowCount;
+
+    public RowBinaryHttpInsert(
+            String endpoint,
+            String database,
+            String table,
+            String username,
+            String password,
+            int socketTimeout,
+            RowBinaryRowEncoder rowEncoder) {
+        this.url = createUrl(endpoint, database, table, rowEncoder.getFieldNames());
+        this.username = username;
+        this.password = password;
+        this.socketTimeout = socketTimeout;
+        this.rowEncoder = rowEncoder;
+    }
+
+    public void write(SeaTunnelRow row) throws IOException {
+        if (output == null) {
+            open();
+        }
+        rowEncoder.encode(output, row);
+        rowCount++;
+    }
+
+    /** The number of rows written since the last {@link #flush()}. */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /** Ends the request body and waits for ClickHouse to insert the rows. */
+    public void flush() throws IOException {
+        if (output == null) {
+            return;
+        }
+        HttpURLConnection current = connection;
+        RowBinaryOutput currentOutput = output;
+        int rows = rowCount;
+        connection = null;
+        output = null;
+        rowCount = 0;
+        currentOutput.close();
+        int responseCode = current.getResponseCode();
+        if (responseCode != HttpURLConnection.HTTP_OK) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    String.format(
+                            "Clickhouse insert of %d rows failed with HTTP %d: %s",
+                            rows, responseCode, readError(current)));
+        }
+        try (InputStream in = current.getInputStream()) {
+            // drain the response so that the connection is kept alive
+            IOUtils.consume(in);
+        }
+        log.debug(
+                "Inserted {} rows in {} bytes into {}",
+                rows,
+                currentOutput.getCount(),
+                url.getPath());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (connection != null) {
+            connection.disconnect();
+            connection = null;
+            output = null;
+        }
+    }
+
+    private void open() throws IOException {
+        connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(BUFFER_SIZE);
+        connection.setConnectTimeout(socketTimeout);
+        connection.setReadTimeout(socketTimeout);
+        connection.setRequestProperty("Content-Type", "application/octet-stream");
+        if (username != null) {
+            connection.setRequestProperty("X-ClickHouse-User", username);
+        }
+        if (password != null) {
+            connection.setRequestProperty("X-ClickHouse-Key", password);
+        }
+        output = new RowBinaryOutput(connection.getOutputStream(), BUFFER_SIZE);
+    }
+
+    private static String readError(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getErrorStream()) {
+            return in == null ? "" : IOUtils.toString(in, StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static URL createUrl(
+            String endpoint, String database, String table, String[] fieldNames) {
+        try {
+            return new URL(
+                    endpoint
+                            + "/?database="
+                            + URLEncoder.encode(database, StandardCharsets.UTF_8.name())
+                            + "&query="
+                            + URLEncoder.encode(
+                                    SqlUtils.getInsertIntoRowBinaryStatement(table, fieldNames),
+                                    StandardCharsets.UTF_8.name()));
+        } catch (UnsupportedEncodingException | MalformedURLException e) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Invalid clickhouse endpoint " + endpoint,
+                    e);
+        }
+    }
+}
@@ -39,6 +39,14 @@ public class SqlUtils {
         return String.format("INSERT INTO %s (%s) VALUES (%s)", tableName, columns, placeholders);
     }
 
+    public static String getInsertIntoRowBinaryStatement(String tableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(SqlUtils::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return String.format("INSERT INTO %s (%s) FORMAT RowBinary", tableName, columns);
+    }
+
     public static String getDeleteStatement(
             String tableName,
             String[] conditionFields,
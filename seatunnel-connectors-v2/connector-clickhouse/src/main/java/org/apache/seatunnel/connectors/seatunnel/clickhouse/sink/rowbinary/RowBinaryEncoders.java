@@ -0,0 +1,567 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates the {@link RowBinaryFieldEncoder} of a ClickHouse column type, such as {@code
+ * Nullable(DateTime64(3, 'UTC'))} or {@code Map(String, Array(Int32))}. The values are converted
+ * the same way as the {@code *InjectFunction} of the JDBC insert do.
+ */
+public class RowBinaryEncoders {
+
+    private static final BigInteger UNSIGNED_128_MAX = BigInteger.ONE.shiftLeft(128);
+    private static final BigInteger UNSIGNED_256_MAX = BigInteger.ONE.shiftLeft(256);
+    private static final byte[] IPV4_MAPPED_PREFIX = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF
+    };
+
+    private RowBinaryEncoders() {}
+
+    /**
+     * Create the encoder of a column.
+     *
+     * @param column name of the column, used in the error messages
+     * @param type ClickHouse type of the column
+     * @param zoneId time zone of the DateTime values without an explicit time zone
+     * @param nullAsDefault whether a null value of a column which is not Nullable is sent as the
+     *     default value of its type, instead of failing
+     */
+    public static RowBinaryFieldEncoder create(
+            String column, String type, ZoneId zoneId, boolean nullAsDefault) {
+        type = type.trim();
+        int open = type.indexOf('(');
+        String name = open < 0 ? type : type.substring(0, open).trim();
+        List<String> args =
+                open < 0
+                        ? new ArrayList<>()
+                        : splitArguments(type.substring(open + 1, type.lastIndexOf(')')));
+        switch (name) {
+            case "Nullable":
+                return nullable(create(column, args.get(0), zoneId, nullAsDefault));
+            case "LowCardinality":
+                // LowCardinality only changes the storage, its values are sent as the nested type
+                return create(column, args.get(0), zoneId, nullAsDefault);
+            default:
+                RowBinaryFieldEncoder encoder =
+                        createNotNullable(column, type, name, args, zoneId, nullAsDefault);
+                return nullAsDefault ? encoder : notNull(column, type, encoder);
+        }
+    }
+
+    private static RowBinaryFieldEncoder createNotNullable(
+            String column,
+            String type,
+            String name,
+            List<String> args,
+            ZoneId zoneId,
+            boolean nullAsDefault) {
+        switch (name) {
+            case "Array":
+                return array(create(column, args.get(0), zoneId, nullAsDefault));
+            case "Map":
+                return map(
+                        create(column, args.get(0), zoneId, nullAsDefault),
+                        create(column, args.get(1), zoneId, nullAsDefault));
+            case "Int8":
+            case "UInt8":
+                return fixed(1, (out, value) -> out.writeInt8((int) toLong(value)));
+            case "Bool":
+            case "Boolean":
+                return fixed(1, (out, value) -> out.writeInt8(toBoolean(value) ? 1 : 0));
+            case "Int16":
+            case "UInt16":
+                return fixed(2, (out, value) -> out.writeInt16((int) toLong(value)));
+            case "Int32":
+            case "UInt32":
+                return fixed(4, (out, value) -> out.writeInt32((int) toLong(value)));
+            case "Int64":
+            case "UInt64":
+                return fixed(8, (out, value) -> out.writeInt64(toLong(value)));
+            case "Int128":
+                return bigInteger(column, 16, false);
+            case "UInt128":
+                return bigInteger(column, 16, true);
+            case "Int256":
+                return bigInteger(column, 32, false);
+            case "UInt256":
+                return bigInteger(column, 32, true);
+            case "Float32":
+                return fixed(4, (out, value) -> out.writeFloat32(toFloat(value)));
+            case "Float64":
+                return fixed(8, (out, value) -> out.writeFloat64(toDouble(value)));
+            case "Decimal":
+                return decimal(
+                        Integer.parseInt(args.get(0)),
+                        args.size() > 1 ? Integer.parseInt(args.get(1)) : 0);
+            case "Decimal32":
+                return decimal(9, Integer.parseInt(args.get(0)));
+            case "Decimal64":
+                return decimal(18, Integer.parseInt(args.get(0)));
+            case "Decimal128":
+                return decimal(38, Integer.parseInt(args.get(0)));
+            case "Decimal256":
+                return decimal(76, Integer.parseInt(args.get(0)));
+            case "String":
+                return fixed(1, (out, value) -> out.writeString(toBytes(value)));
+            case "FixedString":
+                return fixedString(column, Integer.parseInt(args.get(0)));
+            case "UUID":
+                return fixed(
+                        16,
+                        (out, value) -> {
+                            UUID uuid =
+                                    value instanceof UUID
+                                            ? (UUID) value
+                                            : UUID.fromString(value.toString());
+                            out.writeInt64(uuid.getMostSignificantBits());
+                            out.writeInt64(uuid.getLeastSignificantBits());
+                        });
+            case "Date":
+                return fixed(2, (out, value) -> out.writeInt16((int) toEpochDay(value)));
+            case "Date32":
+                return fixed(4, (out, value) -> out.writeInt32((int) toEpochDay(value)));
+            case "DateTime":
+                {
+                    ZoneId columnZoneId = args.isEmpty() ? zoneId : ZoneId.of(unquote(args.get(0)));
+                    return fixed(
+                            4,
+                            (out, value) ->
+                                    out.writeInt32(
+                                            (int) toInstant(value, columnZoneId).getEpochSecond()));
+                }
+            case "DateTime64":
+                return dateTime64(
+                        Integer.parseInt(args.get(0)),
+                        args.size() > 1 ? ZoneId.of(unquote(args.get(1))) : zoneId);
+            case "Enum8":
+                return enumeration(column, args, 1);
+            case "Enum16":
+                return enumeration(column, args, 2);
+            case "IPv4":
+                return fixed(
+                        4,
+                        (out, value) -> {
+                            byte[] address = toInetAddress(value).getAddress();
+                            out.writeBigInteger(address, 4);
+                        });
+            case "IPv6":
+                return fixed(
+                        16,
+                        (out, value) -> {
+                            byte[] address = toInetAddress(value).getAddress();
+                            if (address.length == 4) {
+                                // IPv4-mapped IPv6 address
+                                out.write(IPV4_MAPPED_PREFIX);
+                            }
+                            out.write(address);
+                        });
+            default:
+                throw new ClickhouseConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        String.format(
+                                "Column %s of type %s is not supported by the ROW_BINARY insert "
+                                        + "mode, use the JDBC insert mode",
+                                column, type));
+        }
+    }
+
+    private interface ValueWriter {
+        void write(RowBinaryOutput out, Object value) throws IOException;
+    }
+
+    /** An encoder whose default value is the given number of zero bytes. */
+    private static RowBinaryFieldEncoder fixed(int defaultWidth, ValueWriter writer) {
+        return new RowBinaryFieldEncoder() {
+            @Override
+            public void encode(RowBinaryOutput out, Object value) throws IOException {
+                writer.write(out, value);
+            }
+
+            @Override
+            public void encodeDefault(RowBinaryOutput out) throws IOException {
+                for (int i = 0; i < defaultWidth; i++) {
+                    out.write(0);
+                }
+            }
+        };
+    }
+
+    /** An encoder which fails on a null value, which a column that is not Nullable cannot hold. */
+    private static RowBinaryFieldEncoder notNull(
+            String column, String type, RowBinaryFieldEncoder nested) {
+        return new RowBinaryFieldEncoder() {
+            @Override
+            public void encode(RowBinaryOutput out, Object value) throws IOException {
+                nested.encode(out, value);
+            }
+
+            @Override
+            public void encodeDefault(RowBinaryOutput out) {
+                throw new ClickhouseConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "Null value of column %s, which is of the not Nullable type %s. "
+                                        + "Declare the column as Nullable, or set "
+                                        + "row_binary_null_as_default to send the default value "
+                                        + "of the type",
+                                column, type));
+            }
+        };
+    }
+
+    private static RowBinaryFieldEncoder nullable(RowBinaryFieldEncoder nested) {
+        return new RowBinaryFieldEncoder() {
+            @Override
+            public void encode(RowBinaryOutput out, Object value) throws IOException {
+                out.write(0);
+                nested.encode(out, value);
+            }
+
+            @Override
+            public void encodeDefault(RowBinaryOutput out) throws IOException {
+                out.write(1);
+            }
+        };
+    }
+
+    private static RowBinaryFieldEncoder array(RowBinaryFieldEncoder element) {
+        return fixed(
+                1,
+                (out, value) -> {
+                    if (value instanceof Collection) {
+                        Collection<?> collection = (Collection<?>) value;
+                        out.writeVarInt(collection.size());
+                        for (Object item : collection) {
+                            element.encodeNullable(out, item);
+                        }
+                        return;
+                    }
+                    int length = java.lang.reflect.Array.getLength(value);
+                    out.writeVarInt(length);
+                    for (int i = 0; i < length; i++) {
+                        element.encodeNullable(out, java.lang.reflect.Array.get(value, i));
+                    }
+                });
+    }
+
+    private static RowBinaryFieldEncoder map(
+            RowBinaryFieldEncoder key, RowBinaryFieldEncoder value) {
+        return fixed(
+                1,
+                (out, map) -> {
+                    out.writeVarInt(((Map<?, ?>) map).size());
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) map).entrySet()) {
+                        key.encodeNullable(out, entry.getKey());
+                        value.encodeNullable(out, entry.getValue());
+                    }
+                });
+    }
+
+    private static RowBinaryFieldEncoder bigInteger(String column, int width, boolean unsigned) {
+        BigInteger max = width == 16 ? UNSIGNED_128_MAX : UNSIGNED_256_MAX;
+        return fixed(
+                width,
+                (out, value) -> {
+                    BigInteger bigInteger = toBigInteger(value);
+                    boolean outOfRange =
+                            unsigned
+                                    ? bigInteger.signum() < 0 || bigInteger.compareTo(max) >= 0
+                                    : bigInteger.bitLength() >= width * 8;
+                    if (outOfRange) {
+                        throw new ClickhouseConnectorException(
+                                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                String.format(
+                                        "Value %s of column %s is out of range", value, column));
+                    }
+                    out.writeBigInteger(bigInteger.toByteArray(), width);
+                });
+    }
+
+    private static RowBinaryFieldEncoder decimal(int precision, int scale) {
+        if (precision <= 9) {
+            return fixed(4, (out, value) -> out.writeInt32(unscaled(value, scale).intValue()));
+        }
+        if (precision <= 18) {
+            return fixed(8, (out, value) -> out.writeInt64(unscaled(value, scale).longValue()));
+        }
+        int width = precision <= 38 ? 16 : 32;
+        return fixed(
+                width,
+                (out, value) -> out.writeBigInteger(unscaled(value, scale).toByteArray(), width));
+    }
+
+    private static RowBinaryFieldEncoder fixedString(String column, int length) {
+        return fixed(
+                length,
+                (out, value) -> {
+                    byte[] bytes = toBytes(value);
+                    if (bytes.length > length) {
+                        throw new ClickhouseConnectorException(
+                                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                String.format(
+                                        "Value %s of column %s is longer than %d bytes",
+                                        value, column, length));
+                    }
+                    out.write(bytes);
+                    for (int i = bytes.length; i < length; i++) {
+                        out.write(0);
+                    }
+                });
+    }
+
+    private static RowBinaryFieldEncoder dateTime64(int precision, ZoneId zoneId) {
+        long ticksPerSecond = BigInteger.TEN.pow(precision).longValue();
+        long nanosPerTick = BigInteger.TEN.pow(Math.max(0, 9 - precision)).longValue();
+        return fixed(
+                8,
+                (out, value) -> {
+                    Instant instant = toInstant(value, zoneId);
+                    out.writeInt64(
+                            instant.getEpochSecond() * ticksPerSecond
+                                    + instant.getNano() / nanosPerTick);
+                });
+    }
+
+    private static RowBinaryFieldEncoder enumeration(String column, List<String> args, int width) {
+        Map<String, Integer> values = new HashMap<>();
+        int first = 0;
+        for (String arg : args) {
+            int equals = arg.lastIndexOf('=');
+            int value = Integer.parseInt(arg.substring(equals + 1).trim());
+            if (values.isEmpty()) {
+                first = value;
+            }
+            values.put(unquote(arg.substring(0, equals)), value);
+        }
+        int defaultValue = first;
+        return new RowBinaryFieldEncoder() {
+            @Override
+            public void encode(RowBinaryOutput out, Object value) throws IOException {
+                int number;
+                if (value instanceof Number) {
+                    number = ((Number) value).intValue();
+                } else {
+                    Integer enumValue = values.get(value.toString());
+                    if (enumValue == null) {
+                        throw new ClickhouseConnectorException(
+                                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                String.format(
+                                        "Value %s is not an element of the enum column %s",
+                                        value, column));
+                    }
+                    number = enumValue;
+                }
+                write(out, number);
+            }
+
+            @Override
+            public void encodeDefault(RowBinaryOutput out) throws IOException {
+                write(out, defaultValue);
+            }
+
+            private void write(RowBinaryOutput out, int number) throws IOException {
+                if (width == 1) {
+                    out.writeInt8(number);
+                } else {
+                    out.writeInt16(number);
+                }
+            }
+        };
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return new BigInteger(value.toString().trim()).longValue();
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue() != 0;
+        }
+        String text = value.toString().trim();
+        return "1".equals(text) || Boolean.parseBoolean(text);
+    }
+
+    private static float toFloat(Object value) {
+        return value instanceof Number
+                ? ((Number) value).floatValue()
+                : Float.parseFloat(value.toString());
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number
+                ? ((Number) value).doubleValue()
+                : Double.parseDouble(value.toString());
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        }
+        if (value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString().trim()).toBigInteger();
+    }
+
+    private static BigInteger unscaled(Object value, int scale) {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) value);
+        } else {
+            decimal = new BigDecimal(value.toString().trim());
+        }
+        return decimal.setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochDay(Object value) {
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toEpochDay();
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate().toEpochDay();
+        }
+        return LocalDate.parse(value.toString().trim()).toEpochDay();
+    }
+
+    private static Instant toInstant(Object value, ZoneId zoneId) {
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(zoneId).toInstant();
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().atZone(zoneId).toInstant();
+        }
+        if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        }
+        if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        }
+        if (value instanceof Instant) {
+            return (Instant) value;
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(zoneId).toInstant();
+        }
+        return Timestamp.valueOf(value.toString().trim())
+                .toLocalDateTime()
+                .atZone(zoneId)
+                .toInstant();
+    }
+
+    private static InetAddress toInetAddress(Object value) {
+        if (value instanceof InetAddress) {
+            return (InetAddress) value;
+        }
+        try {
+            return InetAddress.getByName(value.toString().trim());
+        } catch (UnknownHostException e) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Value " + value + " is not an IP address",
+                    e);
+        }
+    }
+
+    /** Splits the arguments of a type at the top level commas, outside quotes and parentheses. */
+    private static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '\'') {
+                    quoted = false;
+                }
+            } else if (c == '\'') {
+                quoted = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                result.add(arguments.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        result.add(arguments.substring(start).trim());
+        return result;
+    }
+
+    private static String unquote(String text) {
+        text = text.trim();
+        if (text.length() >= 2 && text.startsWith("'") && text.endsWith("'")) {
+            text = text.substring(1, text.length() - 1);
+        }
+        return text.replace("\\'", "'").replace("\\\\", "\\");
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary;
+
+import java.io.IOException;
+
+/** Encodes the values of a column in the RowBinary format of its ClickHouse type. */
+public interface RowBinaryFieldEncoder {
+
+    /**
+     * Encode a value of the column.
+     *
+     * @param out output to encode into
+     * @param value value to encode, not null
+     */
+    void encode(RowBinaryOutput out, Object value) throws IOException;
+
+    /**
+     * Encode the value of the column when the row has no value for it, null for a Nullable column
+     * and the default value of the type otherwise, like ClickHouse does for text formats. Fails for
+     * a column which is not Nullable unless the encoder was created to send the default value.
+     *
+     * @param out output to encode into
+     */
+    void encodeDefault(RowBinaryOutput out) throws IOException;
+
+    default void encodeNullable(RowBinaryOutput out, Object value) throws IOException {
+        if (value == null) {
+            encodeDefault(out);
+        } else {
+            encode(out, value);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the values of the ClickHouse RowBinary format, little-endian fixed width numbers and
+ * LEB128 lengths, into a buffer which is sent to the underlying stream when it is full.
+ */
+public class RowBinaryOutput extends OutputStream {
+
+    /** The widest value written at once, an Int256. */
+    private static final int MIN_BUFFER_SIZE = 32;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+    private long count;
+
+    public RowBinaryOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length >= buffer.length) {
+            flushBuffer();
+            out.write(bytes, offset, length);
+            count += length;
+            return;
+        }
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    public void writeInt8(int value) throws IOException {
+        write(value);
+    }
+
+    public void writeInt16(int value) throws IOException {
+        ensureCapacity(2);
+        buffer[position++] = (byte) value;
+        buffer[position++] = (byte) (value >>> 8);
+    }
+
+    public void writeInt32(int value) throws IOException {
+        ensureCapacity(4);
+        buffer[position++] = (byte) value;
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 24);
+    }
+
+    public void writeInt64(long value) throws IOException {
+        ensureCapacity(8);
+        for (int i = 0; i < 8; i++) {
+            buffer[position++] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    public void writeFloat32(float value) throws IOException {
+        writeInt32(Float.floatToIntBits(value));
+    }
+
+    public void writeFloat64(double value) throws IOException {
+        writeInt64(Double.doubleToLongBits(value));
+    }
+
+    /** Writes an unsigned LEB128 number, the length of strings, arrays and maps. */
+    public void writeVarInt(long value) throws IOException {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeString(byte[] bytes) throws IOException {
+        writeVarInt(bytes.length);
+        write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes the two's complement of a big integer on the given number of bytes, little-endian like
+     * the Int128 and Int256 types.
+     */
+    public void writeBigInteger(byte[] bigEndian, int width) throws IOException {
+        ensureCapacity(width);
+        byte sign = bigEndian.length > 0 && bigEndian[0] < 0 ? (byte) -1 : 0;
+        for (int i = 0; i < width; i++) {
+            int index = bigEndian.length - 1 - i;
+            buffer[position++] = index >= 0 ? bigEndian[index] : sign;
+        }
+    }
+
+    /** The number of bytes written, including the buffered ones. */
+    public long getCount() {
+        return count + position;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - position < length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            count += position;
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the fields of a {@link SeaTunnelRow} which exist in the ClickHouse table as one row of
+ * the RowBinary format, in the order of {@link #getFieldNames()}.
+ */
+public class RowBinaryRowEncoder {
+
+    private final String[] fieldNames;
+    private final int[] fieldIndexes;
+    private final RowBinaryFieldEncoder[] fieldEncoders;
+
+    public RowBinaryRowEncoder(
+            SeaTunnelRowType rowType, Map<String, String> clickhouseTableSchema, ZoneId zoneId) {
+        this(rowType, clickhouseTableSchema, zoneId, false);
+    }
+
+    public RowBinaryRowEncoder(
+            SeaTunnelRowType rowType,
+            Map<String, String> clickhouseTableSchema,
+            ZoneId zoneId,
+            boolean nullAsDefault) {
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<RowBinaryFieldEncoder> encoders = new ArrayList<>();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String fieldName = rowType.getFieldName(i);
+            String clickhouseType = clickhouseTableSchema.get(fieldName);
+            if (clickhouseType == null) {
+                continue;
+            }
+            names.add(fieldName);
+            indexes.add(i);
+            encoders.add(
+                    RowBinaryEncoders.create(fieldName, clickhouseType, zoneId, nullAsDefault));
+        }
+        this.fieldNames = names.toArray(new String[0]);
+        this.fieldIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+        this.fieldEncoders = encoders.toArray(new RowBinaryFieldEncoder[0]);
+    }
+
+    public String[] getFieldNames() {
+        return fieldNames;
+    }
+
+    public void encode(RowBinaryOutput out, SeaTunnelRow row) throws IOException {
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            fieldEncoders[i].encodeNullable(out, row.getField(fieldIndexes[i]));
+        }
+    }
+}
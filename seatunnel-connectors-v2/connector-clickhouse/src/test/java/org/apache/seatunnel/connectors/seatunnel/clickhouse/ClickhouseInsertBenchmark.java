@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.RowBinaryHttpInsert;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.JdbcBatchStatementExecutorBuilder;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryRowEncoder;
+import org.apache.seatunnel.connectors.seatunnel.common.http.MockHttpServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.clickhouse.jdbc.internal.ClickHouseConnectionImpl;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the client side cost of inserting a batch of rows with the JDBC insert mode and with the
+ * ROW_BINARY insert mode. Both send their requests to a local HTTP stand-in of ClickHouse which
+ * only counts the bytes of the request bodies, so the time is spent in the sink and the HTTP
+ * client. Run it with {@link #main(String[])} from the IDE or the test classpath.
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClickhouseInsertBenchmark {
+
+    private static final int BATCH_SIZE = 10000;
+
+    @Param({"JDBC", "ROW_BINARY"})
+    public String insertMode;
+
+    private MockHttpServer server;
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private long batches;
+    private SeaTunnelRow[] rows;
+    private ClickHouseConnectionImpl connection;
+    private JdbcBatchStatementExecutor jdbcExecutor;
+    private RowBinaryHttpInsert rowBinaryInsert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server =
+                new MockHttpServer()
+                        .createContext(
+                                "/",
+                                exchange -> {
+                                    receivedBytes.addAndGet(
+                                            MockHttpServer.readBody(exchange).length);
+                                    MockHttpServer.respond(exchange, 200, new byte[0], null);
+                                });
+        String endpoint = server.getAddress();
+
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "price", "score", "created"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            new DecimalType(18, 4),
+                            BasicType.DOUBLE_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE
+                        });
+        Map<String, String> tableSchema = new LinkedHashMap<>();
+        tableSchema.put("id", "Int64");
+        tableSchema.put("name", "String");
+        tableSchema.put("price", "Decimal(18, 4)");
+        tableSchema.put("score", "Float64");
+        tableSchema.put("created", "DateTime");
+
+        rows = new SeaTunnelRow[BATCH_SIZE];
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows[i] =
+                    new SeaTunnelRow(
+                            new Object[] {
+                                (long) i,
+                                "name-" + i,
+                                BigDecimal.valueOf(i, 2),
+                                i / 3.0,
+                                created.plusSeconds(i)
+                            });
+        }
+
+        if ("JDBC".equals(insertMode)) {
+            Properties properties = new Properties();
+            properties.put("user", "default");
+            properties.put("password", "");
+            // the driver does not query the stand-in for the server information on connect
+            properties.put("server_time_zone", "UTC");
+            properties.put("server_version", "23.8");
+            connection =
+                    new ClickHouseConnectionImpl(
+                            "jdbc:clickhouse://" + endpoint + "/default", properties);
+            jdbcExecutor =
+                    new JdbcBatchStatementExecutorBuilder()
+                            .setTable("bench")
+                            .setTableEngine("MergeTree")
+                            .setRowType(rowType)
+                            .setClickhouseTableSchema(tableSchema)
+                            .build();
+            jdbcExecutor.prepareStatements(connection);
+        } else {
+            rowBinaryInsert =
+                    new RowBinaryHttpInsert(
+                            "http://" + endpoint,
+                            "default",
+                            "bench",
+                            "default",
+                            "",
+                            30000,
+                            new RowBinaryRowEncoder(rowType, tableSchema, ZoneId.of("UTC")));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (jdbcExecutor != null) {
+            jdbcExecutor.close();
+            connection.close();
+        }
+        if (rowBinaryInsert != null) {
+            rowBinaryInsert.close();
+        }
+        server.close();
+        log.info(
+                "{} sent {} bytes per batch of {} rows",
+                insertMode,
+                batches == 0 ? 0 : receivedBytes.get() / batches,
+                BATCH_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws Exception {
+        if (jdbcExecutor != null) {
+            for (SeaTunnelRow row : rows) {
+                jdbcExecutor.addToBatch(row);
+            }
+            jdbcExecutor.executeBatch();
+        } else {
+            for (SeaTunnelRow row : rows) {
+                rowBinaryInsert.write(row);
+            }
+            rowBinaryInsert.flush();
+        }
+        batches++;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ClickhouseInsertBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
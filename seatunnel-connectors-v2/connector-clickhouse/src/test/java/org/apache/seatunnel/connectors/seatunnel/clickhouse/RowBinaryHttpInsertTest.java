@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.RowBinaryHttpInsert;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryRowEncoder;
+import org.apache.seatunnel.connectors.seatunnel.common.http.MockHttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RowBinaryHttpInsertTest {
+
+    private MockHttpServer server;
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> users = Collections.synchronizedList(new ArrayList<>());
+    private final List<byte[]> bodies = Collections.synchronizedList(new ArrayList<>());
+    private volatile int responseCode = 200;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new MockHttpServer().createContext("/", this::handleInsert);
+    }
+
+    private void handleInsert(HttpExchange exchange) throws IOException {
+        queries.add(
+                URLDecoder.decode(
+                        exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8.name()));
+        users.add(exchange.getRequestHeaders().getFirst("X-ClickHouse-User"));
+        bodies.add(MockHttpServer.readBody(exchange));
+        byte[] response =
+                responseCode == 200
+                        ? new byte[0]
+                        : "Code: 27. DB::Exception: Cannot parse input"
+                                .getBytes(StandardCharsets.UTF_8);
+        MockHttpServer.respond(exchange, responseCode, response, null);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testInsertBatches() throws IOException {
+        RowBinaryHttpInsert insert = createInsert();
+        for (int i = 0; i < 3; i++) {
+            insert.write(new SeaTunnelRow(new Object[] {i, "n" + i}));
+        }
+        Assertions.assertEquals(3, insert.getRowCount());
+        insert.flush();
+        Assertions.assertEquals(0, insert.getRowCount());
+        insert.write(new SeaTunnelRow(new Object[] {3, null}));
+        insert.flush();
+        // nothing to send
+        insert.flush();
+        insert.close();
+
+        Assertions.assertEquals(2, queries.size());
+        Assertions.assertEquals(
+                "database=db&query=INSERT INTO tbl (\"id\", \"name\") FORMAT RowBinary",
+                queries.get(0));
+        Assertions.assertEquals("default", users.get(0));
+        Assertions.assertArrayEquals(
+                new byte[] {
+                    0, 0, 0, 0, 0, 2, 'n', '0', 1, 0, 0, 0, 0, 2, 'n', '1', 2, 0, 0, 0, 0, 2, 'n',
+                    '2'
+                },
+                bodies.get(0));
+        Assertions.assertArrayEquals(new byte[] {3, 0, 0, 0, 1}, bodies.get(1));
+    }
+
+    @Test
+    public void testInsertFailure() throws IOException {
+        responseCode = 500;
+        RowBinaryHttpInsert insert = createInsert();
+        insert.write(new SeaTunnelRow(new Object[] {1, "n"}));
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(ClickhouseConnectorException.class, insert::flush);
+        Assertions.assertTrue(exception.getMessage().contains("Cannot parse input"));
+        insert.close();
+    }
+
+    private RowBinaryHttpInsert createInsert() {
+        Map<String, String> schema = new LinkedHashMap<>();
+        schema.put("id", "Int32");
+        schema.put("name", "Nullable(String)");
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType<?>[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        return new RowBinaryHttpInsert(
+                server.getUrl(),
+                "db",
+                "tbl",
+                "default",
+                "",
+                10000,
+                new RowBinaryRowEncoder(rowType, schema, ZoneId.of("UTC")));
+    }
+}
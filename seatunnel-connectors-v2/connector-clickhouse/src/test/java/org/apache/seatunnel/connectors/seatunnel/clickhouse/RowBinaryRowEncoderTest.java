@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryOutput;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.rowbinary.RowBinaryRowEncoder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class RowBinaryRowEncoderTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    @Test
+    public void testEncodeRow() throws IOException {
+        RowBinaryRowEncoder encoder = createEncoder(false);
+        Assertions.assertArrayEquals(
+                new String[] {"id", "name", "score", "ts", "day", "tags", "attrs", "flag", "kind"},
+                encoder.getFieldNames());
+
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            "ab",
+                            "not in the table",
+                            new BigDecimal("12.345"),
+                            LocalDateTime.of(1970, 1, 1, 0, 0, 1, 500_000_000),
+                            LocalDate.of(1970, 1, 3),
+                            new String[] {"x"},
+                            Collections.singletonMap("k", 7L),
+                            true,
+                            "b"
+                        });
+        Assertions.assertEquals(
+                "01000000"
+                        + "00026162"
+                        + "d3040000"
+                        + "dc05000000000000"
+                        + "0200"
+                        + "010178"
+                        + "01016b0700000000000000"
+                        + "01"
+                        + "02",
+                encode(encoder, row));
+    }
+
+    @Test
+    public void testNullOfNotNullableColumn() throws IOException {
+        RowBinaryRowEncoder encoder = createEncoder(false);
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            null,
+                            null,
+                            null,
+                            BigDecimal.ONE,
+                            LocalDateTime.of(1970, 1, 1, 0, 0),
+                            LocalDate.of(1970, 1, 1),
+                            new String[0],
+                            Collections.emptyMap(),
+                            true,
+                            "a"
+                        });
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(
+                        ClickhouseConnectorException.class, () -> encode(encoder, row));
+        Assertions.assertTrue(exception.getMessage().contains("column id"));
+        Assertions.assertTrue(exception.getMessage().contains("row_binary_null_as_default"));
+
+        // a Nullable column takes the null, the element of an array does not
+        row.setField(0, 1);
+        Assertions.assertEquals("01000000" + "01", encode(encoder, row).substring(0, 10));
+        row.setField(6, new String[] {null});
+        exception =
+                Assertions.assertThrows(
+                        ClickhouseConnectorException.class, () -> encode(encoder, row));
+        Assertions.assertTrue(exception.getMessage().contains("column tags"));
+    }
+
+    @Test
+    public void testNullAsDefault() throws IOException {
+        RowBinaryRowEncoder encoder = createEncoder(true);
+        SeaTunnelRow nulls = new SeaTunnelRow(10);
+        Assertions.assertEquals(
+                "00000000"
+                        + "01"
+                        + "00000000"
+                        + "0000000000000000"
+                        + "0000"
+                        + "00"
+                        + "00"
+                        + "00"
+                        + "01",
+                encode(encoder, nulls));
+    }
+
+    @Test
+    public void testEncodeWideAndSpecialTypes() throws IOException {
+        Map<String, String> schema = new LinkedHashMap<>();
+        schema.put("i128", "Int128");
+        schema.put("u64", "UInt64");
+        schema.put("d38", "Decimal(38, 2)");
+        schema.put("lc", "LowCardinality(Nullable(String))");
+        schema.put("dt", "DateTime('Asia/Shanghai')");
+        schema.put("fs", "FixedString(3)");
+        schema.put("uuid", "UUID");
+        schema.put("ip", "IPv4");
+        String[] names = schema.keySet().toArray(new String[0]);
+        SeaTunnelDataType<?>[] types = new SeaTunnelDataType<?>[names.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = BasicType.STRING_TYPE;
+        }
+        RowBinaryRowEncoder encoder = new RowBinaryRowEncoder(rowType(names, types), schema, UTC);
+
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            -1L,
+                            new BigInteger("18446744073709551615"),
+                            new BigDecimal("-1"),
+                            "a",
+                            LocalDateTime.of(1970, 1, 1, 8, 0, 1),
+                            "a",
+                            new UUID(1L, 2L),
+                            "1.2.3.4"
+                        });
+        Assertions.assertEquals(
+                repeat("ff", 16)
+                        + repeat("ff", 8)
+                        + "9c"
+                        + repeat("ff", 15)
+                        + "000161"
+                        + "01000000"
+                        + "610000"
+                        + "0100000000000000"
+                        + "0200000000000000"
+                        + "04030201",
+                encode(encoder, row));
+    }
+
+    @Test
+    public void testVarInt() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (RowBinaryOutput out = new RowBinaryOutput(bytes, 32)) {
+            out.writeVarInt(300);
+            out.writeVarInt(0);
+            for (int i = 0; i < 4; i++) {
+                out.writeInt64(-2);
+            }
+            Assertions.assertEquals(35, out.getCount());
+        }
+        Assertions.assertEquals(
+                "ac0200" + repeat("fe" + repeat("ff", 7), 4), hex(bytes.toByteArray()));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        Map<String, String> schema = Collections.singletonMap("point", "Tuple(Int32, String)");
+        SeaTunnelRowType rowType =
+                rowType(new String[] {"point"}, new SeaTunnelDataType<?>[] {BasicType.STRING_TYPE});
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(
+                        ClickhouseConnectorException.class,
+                        () -> new RowBinaryRowEncoder(rowType, schema, UTC));
+        Assertions.assertTrue(exception.getMessage().contains("point"));
+    }
+
+    @Test
+    public void testValueOutOfRange() {
+        RowBinaryRowEncoder encoder =
+                new RowBinaryRowEncoder(
+                        rowType(
+                                new String[] {"u128"},
+                                new SeaTunnelDataType<?>[] {BasicType.STRING_TYPE}),
+                        Collections.singletonMap("u128", "UInt128"),
+                        UTC);
+        Assertions.assertThrows(
+                ClickhouseConnectorException.class,
+                () -> encode(encoder, new SeaTunnelRow(new Object[] {"-1"})));
+    }
+
+    private static RowBinaryRowEncoder createEncoder(boolean nullAsDefault) {
+        Map<String, String> schema = new LinkedHashMap<>();
+        schema.put("id", "Int32");
+        schema.put("name", "Nullable(String)");
+        schema.put("score", "Decimal(9, 2)");
+        schema.put("ts", "DateTime64(3, 'UTC')");
+        schema.put("day", "Date");
+        schema.put("tags", "Array(String)");
+        schema.put("attrs", "Map(String, Int64)");
+        schema.put("flag", "Bool");
+        schema.put("kind", "Enum8('a' = 1, 'b' = 2)");
+        return new RowBinaryRowEncoder(
+                rowType(
+                        new String[] {
+                            "id", "name", "extra", "score", "ts", "day", "tags", "attrs", "flag",
+                            "kind"
+                        },
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.INT_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.STRING_TYPE,
+                            new DecimalType(9, 3),
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            ArrayType.STRING_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.LONG_TYPE),
+                            BasicType.BOOLEAN_TYPE,
+                            BasicType.STRING_TYPE
+                        }),
+                schema,
+                UTC,
+                nullAsDefault);
+    }
+
+    private static SeaTunnelRowType rowType(String[] names, SeaTunnelDataType<?>[] types) {
+        return new SeaTunnelRowType(names, types);
+    }
+
+    private static String encode(RowBinaryRowEncoder encoder, SeaTunnelRow row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (RowBinaryOutput out = new RowBinaryOutput(bytes, 16)) {
+            encoder.encode(out, row);
+        }
+        return hex(bytes.toByteArray());
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffers the records emitted by a {@link RecordEmitter} and hands them over to the output with
+ * {@link Collector#collectBatch(List)}. Schema changes flush the buffered records first, so the
+ * output sees records and schema changes in the order they were emitted.
+ */
+class BatchingCollector<T> implements Collector<T> {
+
+    private final int batchSize;
+    private final List<T> buffer;
+    private Collector<T> output;
+
+    BatchingCollector(int batchSize) {
+        this.batchSize = batchSize;
+        this.buffer = new ArrayList<>(batchSize);
+    }
+
+    void setOutput(Collector<T> output) {
+        // records left over by a failed emit are dropped together with the failed reader
+        buffer.clear();
+        this.output = output;
+    }
+
+    void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        try {
+            output.collectBatch(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void collect(T record) {
+        buffer.add(record);
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void collect(SchemaChangeEvent event) {
+        flush();
+        output.collect(event);
+    }
+
+    @Override
+    public void markSchemaChangeBeforeCheckpoint() {
+        flush();
+        output.markSchemaChangeBeforeCheckpoint();
+    }
+
+    @Override
+    public void markSchemaChangeAfterCheckpoint() {
+        flush();
+        output.markSchemaChangeAfterCheckpoint();
+    }
+
+    @Override
+    public Object getCheckpointLock() {
+        return output.getCheckpointLock();
+    }
+
+    @Override
+    public boolean isEmptyThisPollNext() {
+        return output.isEmptyThisPollNext();
+    }
+
+    @Override
+    public void resetEmptyThisPollNext() {
+        output.resetEmptyThisPollNext();
+    }
+}
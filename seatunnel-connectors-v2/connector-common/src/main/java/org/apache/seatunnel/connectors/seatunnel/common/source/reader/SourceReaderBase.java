@@ -22,7 +22,6 @@ import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceEvent;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplit;
-import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 
@@ -36,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -55,6 +55,10 @@ import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.ch
 @Slf4j
 public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitStateT>
         implements SourceReader<T, SplitT> {
+    protected static final CompletableFuture<Void> AVAILABLE =
+            CompletableFuture.completedFuture(null);
+    private static final int EMIT_BATCH_SIZE = 1024;
+
     private final BlockingQueue<RecordsWithSplitIds<E>> elementsQueue;
     private final ConcurrentMap<String, SplitContext<T, SplitStateT>> splitStates;
     protected final RecordEmitter<E, T, SplitStateT> recordEmitter;
@@ -65,6 +69,7 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
     private RecordsWithSplitIds<E> currentFetch;
     protected SplitContext<T, SplitStateT> currentSplitContext;
     private Collector<T> currentSplitOutput;
+    private final BatchingCollector<T> batchingOutput = new BatchingCollector<>(EMIT_BATCH_SIZE);
     @Getter private volatile boolean noMoreSplitsAssignment;
 
     public SourceReaderBase(
@@ -106,15 +111,35 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
 
         E record = recordsWithSplitId.nextRecordFromSplit();
         if (record != null) {
+            // the records of the current split in this fetch are handed over as one batch, the
+            // state of the split is updated under the same lock as the emitted records
             synchronized (output.getCheckpointLock()) {
-                recordEmitter.emitRecord(record, currentSplitOutput, currentSplitContext.state);
+                batchingOutput.setOutput(currentSplitOutput);
+                int emitted = 0;
+                do {
+                    recordEmitter.emitRecord(record, batchingOutput, currentSplitContext.state);
+                    log.trace("Emitted record: {}", record);
+                } while (++emitted < EMIT_BATCH_SIZE
+                        && (record = recordsWithSplitId.nextRecordFromSplit()) != null);
+                batchingOutput.flush();
             }
-            log.trace("Emitted record: {}", record);
         } else if (!moveToNextSplit(recordsWithSplitId, output)) {
             pollNext(output);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        if (currentFetch != null) {
+            return AVAILABLE;
+        }
+        if (noMoreSplitsAssignment) {
+            // the end of the input is detected by polling the idle fetchers
+            return null;
+        }
+        return splitFetcherManager.getAvailableFuture();
+    }
+
     @Override
     public List<SplitT> snapshotState(long checkpointId) {
         List<SplitT> splits = new ArrayList<>();
@@ -167,12 +192,8 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         splitFetcherManager.checkErrors();
         RecordsWithSplitIds<E> recordsWithSplitId = elementsQueue.poll();
         if (recordsWithSplitId == null || !moveToNextSplit(recordsWithSplitId, output)) {
-            try {
-                log.trace("Current fetch is finished.");
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                throw new SeaTunnelException(e);
-            }
+            // the caller backs off on an empty poll until the reader is available again
+            log.trace("Current fetch is finished.");
             return null;
         }
 
@@ -40,8 +40,16 @@ public class SourceReaderOptions {
                     .defaultValue(2)
                     .withDescription("The capacity of the element queue in the source reader.");
 
+    public static final Option<Integer> SPLIT_FETCHER_NUM =
+            Options.key("source.reader.split.fetcher.num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads fetching the splits assigned to the source reader.");
+
     public final long sourceReaderCloseTimeout;
     public final int elementQueueCapacity;
+    public final int splitFetcherNum;
 
     public SourceReaderOptions(Config config) {
         this(ReadonlyConfig.fromConfig(config));
@@ -50,5 +58,6 @@ public class SourceReaderOptions {
     public SourceReaderOptions(ReadonlyConfig config) {
         this.sourceReaderCloseTimeout = config.get(SOURCE_READER_CLOSE_TIMEOUT);
         this.elementQueueCapacity = config.get(ELEMENT_QUEUE_CAPACITY);
+        this.splitFetcherNum = config.get(SPLIT_FETCHER_NUM);
     }
 }
@@ -40,6 +40,7 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
     private final SplitReader<E, SplitT> splitReader;
     private final BlockingQueue<RecordsWithSplitIds<E>> elementsQueue;
     private final Consumer<Collection<String>> splitFinishedCallback;
+    private final Runnable elementsAvailableCallback;
     private final int fetcherIndex;
 
     @Getter(value = AccessLevel.PRIVATE)
@@ -57,6 +58,7 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
 
             if (!isWakeup()) {
                 if (elementsQueue.offer(lastRecords, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    elementsAvailableCallback.run();
                     if (!lastRecords.finishedSplits().isEmpty()) {
                         splitFinishedCallback.accept(lastRecords.finishedSplits());
                     }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A fetcher manager running a fixed number of {@link SplitFetcher} threads, which all enqueue into
+ * the shared elements queue. The splits are distributed among the fetchers in a round-robin way.
+ * Every split is read by a single fetcher, so the records of a split keep their order.
+ */
+public class MultiThreadFetcherManager<E, SplitT extends SourceSplit>
+        extends SplitFetcherManager<E, SplitT> {
+
+    private static final int NO_FETCHER = -1;
+
+    /** The id of the fetcher running in each slot, or {@link #NO_FETCHER}. */
+    private final int[] fetcherIds;
+
+    private int nextSlot;
+
+    public MultiThreadFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<E>> elementsQueue,
+            Supplier<SplitReader<E, SplitT>> splitReaderSupplier,
+            int fetcherNum) {
+        this(elementsQueue, splitReaderSupplier, ignore -> {}, fetcherNum);
+    }
+
+    public MultiThreadFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<E>> elementsQueue,
+            Supplier<SplitReader<E, SplitT>> splitReaderSupplier,
+            Consumer<Collection<String>> splitFinishedHook,
+            int fetcherNum) {
+        super(elementsQueue, splitReaderSupplier, splitFinishedHook);
+        if (fetcherNum < 1) {
+            throw new IllegalArgumentException(
+                    "The number of split fetchers must be positive, but is " + fetcherNum);
+        }
+        this.fetcherIds = new int[fetcherNum];
+        Arrays.fill(fetcherIds, NO_FETCHER);
+    }
+
+    @Override
+    public synchronized void addSplits(Collection<SplitT> splitsToAdd) {
+        List<List<SplitT>> splitsBySlot = new ArrayList<>(fetcherIds.length);
+        for (int slot = 0; slot < fetcherIds.length; slot++) {
+            splitsBySlot.add(new ArrayList<>());
+        }
+        for (SplitT split : splitsToAdd) {
+            splitsBySlot.get(nextSlot).add(split);
+            nextSlot = (nextSlot + 1) % fetcherIds.length;
+        }
+        for (int slot = 0; slot < fetcherIds.length; slot++) {
+            List<SplitT> splits = splitsBySlot.get(slot);
+            if (splits.isEmpty()) {
+                continue;
+            }
+            SplitFetcher<E, SplitT> fetcher = getRunningFetcher(slot);
+            if (fetcher == null) {
+                fetcher = createSplitFetcher();
+                fetcherIds[slot] = fetcher.getFetcherId();
+                fetcher.addSplits(splits);
+
+                startFetcher(fetcher);
+            } else {
+                fetcher.addSplits(splits);
+            }
+        }
+    }
+
+    public int getFetcherNum() {
+        return fetcherIds.length;
+    }
+
+    /** Returns the fetcher running in the given slot, or null if it has exited or was closed. */
+    protected synchronized SplitFetcher<E, SplitT> getRunningFetcher(int slot) {
+        return fetcherIds[slot] == NO_FETCHER ? null : fetchers.get(fetcherIds[slot]);
+    }
+
+    /** Returns any running fetcher, or null if all of them have exited or were closed. */
+    protected SplitFetcher<E, SplitT> getRunningFetcher() {
+        return fetchers.isEmpty() ? null : fetchers.values().iterator().next();
+    }
+}
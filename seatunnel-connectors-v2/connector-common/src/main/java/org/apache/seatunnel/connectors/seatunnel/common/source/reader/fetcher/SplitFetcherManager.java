@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -56,6 +57,7 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
     private final Consumer<Throwable> errorHandler;
     private final ExecutorService executors;
     private volatile boolean closed;
+    private volatile CompletableFuture<Void> availableFuture = new CompletableFuture<>();
 
     public SplitFetcherManager(
             BlockingQueue<RecordsWithSplitIds<E>> elementsQueue,
@@ -80,6 +82,8 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
                         // Add the exception to the exception list.
                         uncaughtFetcherException.get().addSuppressed(throwable);
                     }
+                    // wake up the reader to rethrow the exception in #checkErrors
+                    notifyAvailable();
                 };
         String taskThreadName = Thread.currentThread().getName();
         this.executors =
@@ -108,8 +112,10 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
                         errorHandler,
                         () -> {
                             fetchers.remove(fetcherId);
+                            notifyAvailable();
                         },
-                        this.splitFinishedHook);
+                        this.splitFinishedHook,
+                        this::notifyAvailable);
         fetchers.put(fetcherId, splitFetcher);
         return splitFetcher;
     }
@@ -130,6 +136,7 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
 
     public synchronized void close(long timeoutMs) throws Exception {
         closed = true;
+        notifyAvailable();
         fetchers.values().forEach(SplitFetcher::shutdown);
         executors.shutdown();
         if (!executors.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
@@ -140,6 +147,31 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
         }
     }
 
+    /**
+     * Returns a future that completes when the fetchers have enqueued records, or when a fetcher
+     * failed or exited. A completed future is only replaced once the elements queue is drained.
+     */
+    public CompletableFuture<Void> getAvailableFuture() {
+        CompletableFuture<Void> future = availableFuture;
+        if (future.isDone()) {
+            synchronized (this) {
+                if (availableFuture.isDone()) {
+                    availableFuture = new CompletableFuture<>();
+                }
+                future = availableFuture;
+            }
+        }
+        // the records may have been enqueued before the future was replaced
+        if (!elementsQueue.isEmpty() || uncaughtFetcherException.get() != null || closed) {
+            future.complete(null);
+        }
+        return future;
+    }
+
+    private void notifyAvailable() {
+        availableFuture.complete(null);
+    }
+
     public void checkErrors() {
         if (uncaughtFetcherException.get() != null) {
             throw new RuntimeException(
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local HTTP endpoint for tests which stand in for the HTTP API of an external system. Requests
+ * are served concurrently, so a handler receiving its request with {@link #receive(HttpExchange)}
+ * is delayed by the latency of the server and counted in {@link #getMaxInFlight()}.
+ */
+public class MockHttpServer implements AutoCloseable {
+
+    private static final String HOST = "127.0.0.1";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public MockHttpServer() throws IOException {
+        this(0);
+    }
+
+    public MockHttpServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public MockHttpServer createContext(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** The host and port of the server, like {@code 127.0.0.1:8080}. */
+    public String getAddress() {
+        return HOST + ":" + getPort();
+    }
+
+    public String getUrl() {
+        return getUrl("");
+    }
+
+    public String getUrl(String path) {
+        return "http://" + getAddress() + path;
+    }
+
+    /** The highest number of requests received concurrently so far. */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /** Reads the body of a request and waits for the latency of the server. */
+    public byte[] receive(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            byte[] body = readBody(exchange);
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            return body;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public static byte[] readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream input = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+        }
+        return body.toByteArray();
+    }
+
+    public static String readBodyAsString(HttpExchange exchange) throws IOException {
+        return new String(readBody(exchange), StandardCharsets.UTF_8);
+    }
+
+    public static void respondJson(HttpExchange exchange, int status, byte[] body)
+            throws IOException {
+        respond(exchange, status, body, "application/json");
+    }
+
+    /** Sends the response and closes the exchange, an empty body is sent without a length. */
+    public static void respond(HttpExchange exchange, int status, byte[] body, String contentType)
+            throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
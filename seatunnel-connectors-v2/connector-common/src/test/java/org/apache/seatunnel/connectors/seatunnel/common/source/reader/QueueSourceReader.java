@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * A reader of a single unbounded split, whose records are offered to an in-memory queue by the
+ * tests. The fetcher blocks on the queue like the fetchers of a Kafka or CDC source.
+ */
+public class QueueSourceReader
+        extends SingleThreadMultiplexSourceReaderBase<
+                Long, Long, QueueSourceReader.QueueSplit, Long> {
+
+    static final QueueSplit SPLIT = new QueueSplit();
+
+    private static final long WAKEUP = Long.MIN_VALUE;
+
+    private final BlockingQueue<Long> source;
+
+    public QueueSourceReader() {
+        this(new LinkedBlockingQueue<>());
+    }
+
+    private QueueSourceReader(BlockingQueue<Long> source) {
+        super(
+                () -> new QueueSplitReader(source),
+                (element, collector, splitState) -> collector.collect(element),
+                new SourceReaderOptions(ReadonlyConfig.fromMap(new HashMap<>())),
+                new Context());
+        this.source = source;
+    }
+
+    public void offer(long value) {
+        source.offer(value);
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+
+    @Override
+    protected void onSplitFinished(Map<String, Long> finishedSplitIds) {}
+
+    @Override
+    protected Long initializedState(QueueSplit split) {
+        return 0L;
+    }
+
+    @Override
+    protected QueueSplit toSplitType(String splitId, Long splitState) {
+        return SPLIT;
+    }
+
+    static class QueueSplit implements SourceSplit {
+        @Override
+        public String splitId() {
+            return "queue";
+        }
+    }
+
+    private static class QueueSplitReader implements SplitReader<Long, QueueSplit> {
+
+        private final BlockingQueue<Long> source;
+
+        private QueueSplitReader(BlockingQueue<Long> source) {
+            this.source = source;
+        }
+
+        @Override
+        public RecordsWithSplitIds<Long> fetch() {
+            List<Long> records = new ArrayList<>();
+            try {
+                records.add(source.take());
+                source.drainTo(records);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.removeIf(value -> value == WAKEUP);
+            return new RecordsBySplits<>(
+                    Collections.singletonMap(SPLIT.splitId(), records), Collections.emptySet());
+        }
+
+        @Override
+        public void handleSplitsChanges(SplitsChange<QueueSplit> splitsChanges) {}
+
+        @Override
+        public void wakeUp() {
+            source.offer(WAKEUP);
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static class Context implements SourceReader.Context {
+
+        private final MetricsContext metricsContext = new AbstractMetricsContext() {};
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.UNBOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {}
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return metricsContext;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return event -> {};
+        }
+    }
+}
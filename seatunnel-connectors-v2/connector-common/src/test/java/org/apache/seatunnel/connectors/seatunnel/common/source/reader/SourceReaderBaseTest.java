@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class SourceReaderBaseTest {
+
+    @Test
+    public void testAvailableWhenRecordsArrive() throws Exception {
+        try (QueueSourceReader reader = new QueueSourceReader()) {
+            reader.open();
+            reader.addSplits(Collections.singletonList(QueueSourceReader.SPLIT));
+            ListCollector output = new ListCollector();
+
+            CompletableFuture<Void> available = reader.isAvailable();
+            Assertions.assertFalse(available.isDone());
+
+            reader.offer(1L);
+            reader.offer(2L);
+            available.get(10, TimeUnit.SECONDS);
+            pollUntil(reader, output, 2);
+            Assertions.assertEquals(Arrays.asList(1L, 2L), output.records);
+
+            // the queue is drained, so the reader is idle again
+            reader.pollNext(output);
+            CompletableFuture<Void> idle = reader.isAvailable();
+            Assertions.assertFalse(idle.isDone());
+            Assertions.assertNotSame(available, idle);
+
+            reader.offer(3L);
+            idle.get(10, TimeUnit.SECONDS);
+            pollUntil(reader, output, 3);
+            Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), output.records);
+        }
+    }
+
+    @Test
+    public void testNotAvailableAfterNoMoreSplits() throws Exception {
+        try (QueueSourceReader reader = new QueueSourceReader()) {
+            reader.open();
+            reader.handleNoMoreSplits();
+            // the end of the input is detected by polling
+            Assertions.assertNull(reader.isAvailable());
+        }
+    }
+
+    @Test
+    public void testEmitFetchedRecordsAsBatch() throws Exception {
+        try (QueueSourceReader reader = new QueueSourceReader()) {
+            reader.open();
+            ListCollector output = new ListCollector();
+
+            // offered before the fetcher starts, so they are fetched together
+            reader.offer(1L);
+            reader.offer(2L);
+            reader.offer(3L);
+            reader.addSplits(Collections.singletonList(QueueSourceReader.SPLIT));
+            reader.isAvailable().get(10, TimeUnit.SECONDS);
+            reader.pollNext(output);
+
+            Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), output.records);
+            Assertions.assertEquals(Collections.singletonList(3), output.batchSizes);
+        }
+    }
+
+    private static void pollUntil(QueueSourceReader reader, ListCollector output, int count)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (output.records.size() < count && System.currentTimeMillis() < deadline) {
+            reader.pollNext(output);
+            if (output.records.size() < count) {
+                CompletableFuture<Void> available = reader.isAvailable();
+                available.get(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static class ListCollector implements Collector<Long> {
+
+        private final List<Long> records = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public void collect(Long record) {
+            records.add(record);
+        }
+
+        @Override
+        public void collectBatch(List<Long> batch) {
+            batchSizes.add(batch.size());
+            records.addAll(batch);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
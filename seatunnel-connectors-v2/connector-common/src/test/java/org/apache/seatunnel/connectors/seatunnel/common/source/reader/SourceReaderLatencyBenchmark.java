@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures the latency of a record through an idle or busy {@link SourceReaderBase}, when the
+ * engine backs off with a fixed 100 ms sleep after an empty poll, and when it waits for {@link
+ * SourceReaderBase#isAvailable()}. Every invocation offers a marker record and waits until the
+ * polling thread emits it, while background records arrive at the given rate. Run it with {@link
+ * #main(String[])} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SourceReaderLatencyBenchmark {
+
+    private static final long IDLE_BACKOFF_MILLIS = 100;
+
+    private static final long MARKER = -1L;
+
+    public enum PollMode {
+        FIXED_SLEEP,
+        AVAILABILITY
+    }
+
+    @Param({"FIXED_SLEEP", "AVAILABILITY"})
+    public PollMode pollMode;
+
+    @Param({"10", "10000"})
+    public int eventsPerSecond;
+
+    private QueueSourceReader reader;
+    private ScheduledExecutorService producer;
+    private Thread pollingThread;
+    private volatile boolean running;
+    private volatile CompletableFuture<Void> markerEmitted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reader = new QueueSourceReader();
+        reader.open();
+        reader.addSplits(Collections.singletonList(QueueSourceReader.SPLIT));
+        producer = Executors.newSingleThreadScheduledExecutor();
+        producer.scheduleAtFixedRate(
+                () -> reader.offer(0L),
+                0,
+                TimeUnit.SECONDS.toMicros(1) / eventsPerSecond,
+                TimeUnit.MICROSECONDS);
+        running = true;
+        pollingThread = new Thread(this::poll, "latency-benchmark-poller");
+        pollingThread.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running = false;
+        pollingThread.join();
+        producer.shutdownNow();
+        reader.close();
+    }
+
+    @Benchmark
+    public void recordLatency() throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        markerEmitted = future;
+        reader.offer(MARKER);
+        future.get();
+    }
+
+    /** Emulates the source task of the engine, which polls the reader in a loop. */
+    private void poll() {
+        MarkerCollector output = new MarkerCollector();
+        try {
+            while (running) {
+                output.empty = true;
+                reader.pollNext(output);
+                if (!output.empty) {
+                    continue;
+                }
+                if (pollMode == PollMode.FIXED_SLEEP) {
+                    Thread.sleep(IDLE_BACKOFF_MILLIS);
+                } else {
+                    try {
+                        reader.isAvailable().get(IDLE_BACKOFF_MILLIS, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        // poll again
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private class MarkerCollector implements Collector<Long> {
+
+        private boolean empty;
+
+        @Override
+        public void collect(Long record) {
+            empty = false;
+            if (record == MARKER) {
+                markerEmitted.complete(null);
+            }
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(SourceReaderLatencyBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
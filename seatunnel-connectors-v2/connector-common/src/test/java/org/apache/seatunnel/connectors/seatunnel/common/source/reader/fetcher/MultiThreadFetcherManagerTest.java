@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsBySplits;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class MultiThreadFetcherManagerTest {
+
+    private static final int SPLIT_NUM = 8;
+    private static final int RECORDS_PER_SPLIT = 1000;
+    private static final int BATCH_SIZE = 10;
+
+    @Test
+    public void testSplitsAreFetchedInOrderByAllFetchers() throws Exception {
+        BlockingQueue<RecordsWithSplitIds<Integer>> elementsQueue = new ArrayBlockingQueue<>(2);
+        Set<String> fetcherThreads = ConcurrentHashMap.newKeySet();
+        MultiThreadFetcherManager<Integer, TestSplit> fetcherManager =
+                new MultiThreadFetcherManager<>(
+                        elementsQueue, () -> new TestSplitReader(fetcherThreads), 4);
+        Assertions.assertEquals(4, fetcherManager.getFetcherNum());
+
+        fetcherManager.addSplits(
+                IntStream.range(0, SPLIT_NUM)
+                        .mapToObj(index -> new TestSplit("split-" + index))
+                        .collect(Collectors.toList()));
+
+        Map<String, List<Integer>> recordsBySplit = new HashMap<>();
+        Set<String> finishedSplits = new HashSet<>();
+        while (finishedSplits.size() < SPLIT_NUM) {
+            RecordsWithSplitIds<Integer> records = elementsQueue.poll(10, TimeUnit.SECONDS);
+            Assertions.assertNotNull(records, "The fetchers stopped before finishing the splits");
+            String splitId;
+            while ((splitId = records.nextSplit()) != null) {
+                List<Integer> splitRecords =
+                        recordsBySplit.computeIfAbsent(splitId, ignored -> new ArrayList<>());
+                Integer record;
+                while ((record = records.nextRecordFromSplit()) != null) {
+                    splitRecords.add(record);
+                }
+            }
+            finishedSplits.addAll(records.finishedSplits());
+        }
+        fetcherManager.checkErrors();
+        fetcherManager.close(10000);
+
+        List<Integer> expected =
+                IntStream.range(0, RECORDS_PER_SPLIT).boxed().collect(Collectors.toList());
+        Assertions.assertEquals(SPLIT_NUM, recordsBySplit.size());
+        recordsBySplit.forEach(
+                (splitId, records) -> Assertions.assertEquals(expected, records, splitId));
+        Assertions.assertEquals(4, fetcherThreads.size());
+    }
+
+    @Test
+    public void testRestartExitedFetcher() throws Exception {
+        BlockingQueue<RecordsWithSplitIds<Integer>> elementsQueue = new ArrayBlockingQueue<>(2);
+        MultiThreadFetcherManager<Integer, TestSplit> fetcherManager =
+                new MultiThreadFetcherManager<>(
+                        elementsQueue, () -> new TestSplitReader(ConcurrentHashMap.newKeySet()), 2);
+
+        fetcherManager.addSplits(Collections.singletonList(new TestSplit("first")));
+        drainUntilFinished(elementsQueue, "first");
+        // the split is removed from the fetcher right after its last records are enqueued
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!fetcherManager.maybeShutdownFinishedFetchers()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+
+        // the slots of the closed fetchers are filled again
+        fetcherManager.addSplits(
+                IntStream.range(0, 2)
+                        .mapToObj(index -> new TestSplit("second-" + index))
+                        .collect(Collectors.toList()));
+        Assertions.assertEquals(2, fetcherManager.fetchers.size());
+        drainUntilFinished(elementsQueue, "second-0", "second-1");
+        fetcherManager.close(10000);
+    }
+
+    @Test
+    public void testInvalidFetcherNum() {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new MultiThreadFetcherManager<Integer, TestSplit>(
+                                new ArrayBlockingQueue<>(2),
+                                () -> new TestSplitReader(ConcurrentHashMap.newKeySet()),
+                                0));
+    }
+
+    private static void drainUntilFinished(
+            BlockingQueue<RecordsWithSplitIds<Integer>> elementsQueue, String... splitIds)
+            throws InterruptedException {
+        Set<String> pending = new HashSet<>();
+        Collections.addAll(pending, splitIds);
+        while (!pending.isEmpty()) {
+            RecordsWithSplitIds<Integer> records = elementsQueue.poll(10, TimeUnit.SECONDS);
+            Assertions.assertNotNull(records, "The fetchers stopped before finishing the splits");
+            pending.removeAll(records.finishedSplits());
+        }
+    }
+
+    @AllArgsConstructor
+    private static class TestSplit implements SourceSplit {
+        private final String splitId;
+
+        @Override
+        public String splitId() {
+            return splitId;
+        }
+    }
+
+    /** Emits the records 0 to {@link #RECORDS_PER_SPLIT} of every assigned split in batches. */
+    private static class TestSplitReader implements SplitReader<Integer, TestSplit> {
+
+        private final Set<String> fetcherThreads;
+        private final Map<String, Integer> nextRecords = new HashMap<>();
+
+        private TestSplitReader(Set<String> fetcherThreads) {
+            this.fetcherThreads = fetcherThreads;
+        }
+
+        @Override
+        public RecordsWithSplitIds<Integer> fetch() {
+            fetcherThreads.add(String.valueOf(Thread.currentThread().getId()));
+            Map<String, Collection<Integer>> recordsBySplit = new HashMap<>();
+            Set<String> finishedSplits = new HashSet<>();
+            nextRecords.replaceAll(
+                    (splitId, next) -> {
+                        int end = Math.min(next + BATCH_SIZE, RECORDS_PER_SPLIT);
+                        recordsBySplit.put(
+                                splitId,
+                                IntStream.range(next, end).boxed().collect(Collectors.toList()));
+                        if (end == RECORDS_PER_SPLIT) {
+                            finishedSplits.add(splitId);
+                        }
+                        return end;
+                    });
+            finishedSplits.forEach(nextRecords::remove);
+            return new RecordsBySplits<>(recordsBySplit, finishedSplits);
+        }
+
+        @Override
+        public void handleSplitsChanges(SplitsChange<TestSplit> splitsChanges) {
+            splitsChanges.splits().forEach(split -> nextRecords.put(split.splitId(), 0));
+        }
+
+        @Override
+        public void wakeUp() {}
+
+        @Override
+        public void close() {}
+    }
+}
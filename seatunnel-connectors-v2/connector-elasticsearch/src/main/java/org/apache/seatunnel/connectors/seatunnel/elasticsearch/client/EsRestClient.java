@@ -44,6 +44,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -51,6 +53,7 @@ import org.apache.http.util.EntityUtils;
 
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -61,11 +64,13 @@ import javax.net.ssl.SSLContext;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -217,11 +222,7 @@ public class EsRestClient implements Closeable {
                         "bulk es Response is null");
             }
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                String entity = EntityUtils.toString(response.getEntity());
-                JsonNode json = OBJECT_MAPPER.readTree(entity);
-                int took = json.get("took").asInt();
-                boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                return parseBulkResponse(EntityUtils.toString(response.getEntity()));
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
@@ -240,6 +241,62 @@ public class EsRestClient implements Closeable {
         }
     }
 
+    /**
+     * Sends the first {@code length} bytes of the buffer as a bulk request, without blocking. The
+     * buffer must not be modified until the returned future completes.
+     *
+     * @param requestBody the NDJSON actions, each line terminated by a newline
+     * @param length the number of bytes of the request body
+     */
+    public CompletableFuture<BulkResponse> bulkAsync(byte[] requestBody, int length) {
+        Request request = new Request("POST", "/_bulk");
+        request.setEntity(
+                new ByteArrayEntity(requestBody, 0, length, ContentType.APPLICATION_JSON));
+        CompletableFuture<BulkResponse> future = new CompletableFuture<>();
+        restClient.performRequestAsync(
+                request,
+                new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        try {
+                            future.complete(
+                                    parseBulkResponse(EntityUtils.toString(response.getEntity())));
+                        } catch (Exception e) {
+                            future.completeExceptionally(e);
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+        return future;
+    }
+
+    private static BulkResponse parseBulkResponse(String entity) throws IOException {
+        JsonNode json = OBJECT_MAPPER.readTree(entity);
+        int took = json.get("took").asInt();
+        boolean errors = json.get("errors").asBoolean();
+        BulkResponse bulkResponse = new BulkResponse(errors, took, entity);
+        JsonNode items = json.get("items");
+        if (errors && items != null) {
+            List<BulkResponse.FailedItem> failedItems = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                // every item has a single field named after its action, such as index or delete
+                JsonNode item = items.get(i).elements().next();
+                JsonNode error = item.get("error");
+                if (error != null) {
+                    failedItems.add(
+                            new BulkResponse.FailedItem(
+                                    i, item.get("status").asInt(), error.toString()));
+                }
+            }
+            bulkResponse.setFailedItems(failedItems);
+        }
+        return bulkResponse;
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -285,13 +342,83 @@ public class EsRestClient implements Closeable {
             Map<String, Object> query,
             String scrollTime,
             int scrollSize) {
+        return searchByScroll(index, source, query, scrollTime, scrollSize, 0, 1);
+    }
+
+    /**
+     * first time to request search documents of one slice by a sliced scroll, every slice can be
+     * consumed independently of the others
+     *
+     * @param sliceId the slice to read, from 0 to sliceMax - 1
+     * @param sliceMax the number of slices of the scroll, a scroll is not sliced if it is 1
+     */
+    public ScrollResult searchByScroll(
+            String index,
+            List<String> source,
+            Map<String, Object> query,
+            String scrollTime,
+            int scrollSize,
+            int sliceId,
+            int sliceMax) {
+        return searchByScroll(
+                index, source, query, scrollTime, scrollSize, sliceId, sliceMax, null, null, null);
+    }
+
+    /**
+     * first time to request search documents of one slice by a sliced scroll, from a position
+     *
+     * @param sortField a unique field to sort the documents by, or null to read them in index order
+     * @param searchAfter only read the documents whose sort field is greater than this value, or
+     *     null to read from the beginning, requires a sort field
+     * @param preference the shard copies to search, or null to let Elasticsearch choose them
+     */
+    public ScrollResult searchByScroll(
+            String index,
+            List<String> source,
+            Map<String, Object> query,
+            String scrollTime,
+            int scrollSize,
+            int sliceId,
+            int sliceMax,
+            String sortField,
+            String searchAfter,
+            String preference) {
         Map<String, Object> param = new HashMap<>();
-        param.put("query", query);
+        if (searchAfter == null) {
+            param.put("query", query);
+        } else {
+            Map<String, Object> bool = new HashMap<>();
+            bool.put("must", Collections.singletonList(query));
+            bool.put(
+                    "filter",
+                    Collections.singletonList(
+                            Collections.singletonMap(
+                                    "range",
+                                    Collections.singletonMap(
+                                            sortField,
+                                            Collections.singletonMap("gt", searchAfter)))));
+            param.put("query", Collections.singletonMap("bool", bool));
+        }
         param.put("_source", source);
-        param.put("sort", new String[] {"_doc"});
+        if (sortField == null) {
+            param.put("sort", new String[] {"_doc"});
+        } else {
+            param.put(
+                    "sort", Collections.singletonList(Collections.singletonMap(sortField, "asc")));
+        }
         param.put("size", scrollSize);
-        String endpoint = "/" + index + "/_search?scroll=" + scrollTime;
-        return getDocsFromScrollRequest(endpoint, JsonUtils.toJsonString(param));
+        if (sliceMax > 1) {
+            Map<String, Object> slice = new HashMap<>();
+            slice.put("id", sliceId);
+            slice.put("max", sliceMax);
+            param.put("slice", slice);
+        }
+        Request request = new Request("POST", "/" + index + "/_search");
+        request.addParameter("scroll", scrollTime);
+        if (preference != null) {
+            request.addParameter("preference", preference);
+        }
+        return getDocsFromScrollRequest(request, JsonUtils.toJsonString(param));
     }
 
     /**
@@ -304,11 +431,29 @@ public class EsRestClient implements Closeable {
         Map<String, String> param = new HashMap<>();
         param.put("scroll_id", scrollId);
         param.put("scroll", scrollTime);
-        return getDocsFromScrollRequest("/_search/scroll", JsonUtils.toJsonString(param));
+        return getDocsFromScrollRequest(
+                new Request("POST", "/_search/scroll"), JsonUtils.toJsonString(param));
     }
 
-    private ScrollResult getDocsFromScrollRequest(String endpoint, String requestBody) {
-        Request request = new Request("POST", endpoint);
+    /**
+     * release the search context of a scroll before it expires, call DELETE _search/scroll
+     *
+     * @param scrollId the scroll id of the last request
+     */
+    public void clearScroll(String scrollId) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("scroll_id", Collections.singletonList(scrollId));
+        Request request = new Request("DELETE", "/_search/scroll");
+        request.setJsonEntity(JsonUtils.toJsonString(param));
+        try {
+            restClient.performRequest(request);
+        } catch (IOException e) {
+            log.warn("clear scroll {} error", scrollId, e);
+        }
+    }
+
+    private ScrollResult getDocsFromScrollRequest(Request request, String requestBody) {
+        String endpoint = request.getEndpoint();
         request.setJsonEntity(requestBody);
         try {
             Response response = restClient.performRequest(request);
@@ -356,6 +501,10 @@ public class EsRestClient implements Closeable {
         scrollResult.setDocs(docs);
 
         for (JsonNode jsonNode : hitsNode) {
+            JsonNode sort = jsonNode.get("sort");
+            if (sort != null && sort.size() > 0) {
+                scrollResult.setLastSortValue(sort.get(0).asText());
+            }
             Map<String, Object> doc = new HashMap<>();
             doc.put("_index", jsonNode.get("_index").textValue());
             doc.put("_id", jsonNode.get("_id").textValue());
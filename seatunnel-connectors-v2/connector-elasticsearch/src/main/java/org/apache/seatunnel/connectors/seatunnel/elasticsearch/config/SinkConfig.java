@@ -64,6 +64,26 @@ public class SinkConfig {
                     .defaultValue(10)
                     .withDescription("batch bulk doc max size");
 
+    public static final Option<Long> MAX_BATCH_BYTES =
+            Options.key("max_batch_bytes")
+                    .longType()
+                    .defaultValue(5L * 1024 * 1024)
+                    .withDescription("batch bulk request max size in bytes");
+
+    public static final Option<Long> BATCH_INTERVAL_MS =
+            Options.key("batch_interval_ms")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "the interval to send the buffered docs in milliseconds, 0 sends them only when the batch is full or on checkpoint");
+
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "max bulk requests in flight, more than 1 may reorder the updates of the same doc");
+
     public static final Option<Integer> MAX_RETRY_COUNT =
             Options.key("max_retry_count")
                     .intType()
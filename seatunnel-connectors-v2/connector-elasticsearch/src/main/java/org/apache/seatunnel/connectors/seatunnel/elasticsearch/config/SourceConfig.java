@@ -77,6 +77,20 @@ public class SourceConfig implements Serializable {
                     .withDescription(
                             "Maximum number of hits to be returned with each Elasticsearch scroll request");
 
+    public static final Option<Integer> SLICE_NUM =
+            Options.key("slice_num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Number of slices each index is split into with a sliced scroll. The slices are read in parallel by the readers of the source");
+
+    public static final Option<String> RESUME_FIELD =
+            Options.key("resume_field")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "A unique keyword, numeric or date field the scroll is sorted by. A restored slice continues after the last emitted value of this field, instead of skipping the number of documents emitted before the checkpoint");
+
     public static final Option<Map<String, Object>> QUERY =
             Options.key("query")
                     .type(new TypeReference<Map<String, Object>>() {})
@@ -90,6 +104,8 @@ public class SourceConfig implements Serializable {
     private Map<String, Object> query;
     private String scrollTime;
     private int scrollSize;
+    private int sliceNum = 1;
+    private String resumeField;
 
     private CatalogTable catalogTable;
 
@@ -100,6 +116,8 @@ public class SourceConfig implements Serializable {
         sourceConfig.setQuery(new HashMap<>(query));
         sourceConfig.setScrollTime(scrollTime);
         sourceConfig.setScrollSize(scrollSize);
+        sourceConfig.setSliceNum(sliceNum);
+        sourceConfig.setResumeField(resumeField);
         sourceConfig.setCatalogTable(catalogTable);
         return sourceConfig;
     }
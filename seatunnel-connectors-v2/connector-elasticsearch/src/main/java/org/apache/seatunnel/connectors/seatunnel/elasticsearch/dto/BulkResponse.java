@@ -17,12 +17,16 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto;
 
+import java.util.Collections;
+import java.util.List;
+
 /** the response of bulk ES by http request */
 public class BulkResponse {
 
     private boolean errors;
     private int took;
     private String response;
+    private List<FailedItem> failedItems = Collections.emptyList();
 
     public BulkResponse() {}
 
@@ -55,4 +59,38 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    public List<FailedItem> getFailedItems() {
+        return failedItems;
+    }
+
+    public void setFailedItems(List<FailedItem> failedItems) {
+        this.failedItems = failedItems;
+    }
+
+    /** An action of the bulk request which has failed, identified by its position. */
+    public static class FailedItem {
+
+        private final int index;
+        private final int status;
+        private final String error;
+
+        public FailedItem(int index, int status, String error) {
+            this.index = index;
+            this.status = status;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
 }
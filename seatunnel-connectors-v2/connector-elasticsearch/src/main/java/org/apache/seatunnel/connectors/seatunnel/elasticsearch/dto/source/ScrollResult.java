@@ -27,4 +27,6 @@ public class ScrollResult {
 
     private String scrollId;
     private List<Map<String, Object>> docs;
+    // the sort value of the last document, null when the scroll is not sorted by a field
+    private String lastSortValue;
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A reusable buffer of the NDJSON actions of a bulk request. It remembers where every action
+ * starts, so that the failed actions can be kept for a retry.
+ */
+class BulkBuffer {
+
+    private byte[] bytes;
+    private int length;
+    private int[] offsets;
+    private int actions;
+
+    BulkBuffer(int initialBytes, int initialActions) {
+        this.bytes = new byte[Math.max(initialBytes, 16)];
+        this.offsets = new int[Math.max(initialActions, 1)];
+    }
+
+    /** Appends an action, which holds one or two lines without the trailing newline. */
+    void append(String action) {
+        byte[] encoded = action.getBytes(StandardCharsets.UTF_8);
+        ensureBytes(length + encoded.length + 1);
+        if (actions == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[actions++] = length;
+        System.arraycopy(encoded, 0, bytes, length, encoded.length);
+        length += encoded.length;
+        bytes[length++] = '\n';
+    }
+
+    /**
+     * Keeps only the actions at the given positions, in their order.
+     *
+     * @param indexes the ascending positions of the actions to keep
+     */
+    void retain(List<Integer> indexes) {
+        int newLength = 0;
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            int start = offsets[index];
+            int end = index + 1 < actions ? offsets[index + 1] : length;
+            // the kept actions only move towards the start of the buffer
+            System.arraycopy(bytes, start, bytes, newLength, end - start);
+            offsets[i] = newLength;
+            newLength += end - start;
+        }
+        length = newLength;
+        actions = indexes.size();
+    }
+
+    void clear() {
+        length = 0;
+        actions = 0;
+    }
+
+    boolean isEmpty() {
+        return actions == 0;
+    }
+
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    int getActions() {
+        return actions;
+    }
+
+    String getAction(int index) {
+        int end = index + 1 < actions ? offsets[index + 1] : length;
+        return new String(bytes, offsets[index], end - offsets[index] - 1, StandardCharsets.UTF_8);
+    }
+
+    private void ensureBytes(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
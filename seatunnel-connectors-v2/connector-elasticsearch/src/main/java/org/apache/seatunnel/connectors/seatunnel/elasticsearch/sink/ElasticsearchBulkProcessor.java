@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects bulk actions into reusable buffers and sends them without blocking the writer, with at
+ * most {@code maxConcurrentRequests} requests in flight. A buffer is sent when it holds {@code
+ * maxBatchSize} actions or {@code maxBatchBytes} bytes, and every {@code batchIntervalMs} if it is
+ * positive. Only the failed actions of a request are retried, and only when their status shows a
+ * transient failure.
+ *
+ * <p>The requests are sent in order when a single request may be in flight. More concurrent
+ * requests may reorder the updates of the same document.
+ */
+@Slf4j
+public class ElasticsearchBulkProcessor implements Closeable {
+
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1024;
+
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
+    private static final int STATUS_SERVER_ERROR = 500;
+
+    private final EsRestClient esRestClient;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final int maxConcurrentRequests;
+    private final RetryMaterial retryMaterial;
+
+    private final Semaphore inFlightRequests;
+    private final BlockingQueue<BulkBuffer> freeBuffers;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private BulkBuffer buffer;
+
+    public ElasticsearchBulkProcessor(
+            EsRestClient esRestClient,
+            int maxBatchSize,
+            long maxBatchBytes,
+            long batchIntervalMs,
+            int maxConcurrentRequests,
+            RetryMaterial retryMaterial) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException(
+                    "The number of concurrent bulk requests must be positive, but is "
+                            + maxConcurrentRequests);
+        }
+        this.esRestClient = esRestClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.retryMaterial = retryMaterial;
+        this.inFlightRequests = new Semaphore(maxConcurrentRequests);
+        this.freeBuffers = new ArrayBlockingQueue<>(maxConcurrentRequests + 1);
+        this.buffer = newBuffer();
+        this.scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "elasticsearch-bulk-processor");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        if (batchIntervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(
+                    this::flushIfIdle, batchIntervalMs, batchIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Adds an action, which holds one or two NDJSON lines without the trailing newline. */
+    public void add(String action) {
+        lock.lock();
+        try {
+            checkErrors();
+            buffer.append(action);
+            if (buffer.getActions() >= maxBatchSize || buffer.getLength() >= maxBatchBytes) {
+                acquireRequest();
+                sendBuffer();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Sends the buffered actions and waits until all the requests in flight have completed. */
+    public void flush() {
+        lock.lock();
+        try {
+            checkErrors();
+            if (!buffer.isEmpty()) {
+                acquireRequest();
+                sendBuffer();
+            }
+            try {
+                inFlightRequests.acquire(maxConcurrentRequests);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                        "Interrupted while waiting for the bulk requests",
+                        e);
+            }
+            inFlightRequests.release(maxConcurrentRequests);
+            checkErrors();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /** Sends the buffered actions from the timer, unless the writer is adding or flushing. */
+    private void flushIfIdle() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // the timer must not block, because it also sends the retries
+            if (!buffer.isEmpty() && failure.get() == null && inFlightRequests.tryAcquire()) {
+                sendBuffer();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquireRequest() {
+        try {
+            inFlightRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for a bulk request slot",
+                    e);
+        }
+    }
+
+    /** Sends the current buffer, the caller holds the lock and a request slot. */
+    private void sendBuffer() {
+        BulkBuffer requestBuffer = buffer;
+        BulkBuffer nextBuffer = freeBuffers.poll();
+        buffer = nextBuffer == null ? newBuffer() : nextBuffer;
+        send(requestBuffer, 1);
+    }
+
+    private void send(BulkBuffer requestBuffer, int attempt) {
+        try {
+            esRestClient
+                    .bulkAsync(requestBuffer.getBytes(), requestBuffer.getLength())
+                    .whenComplete(
+                            (response, error) ->
+                                    onResponse(requestBuffer, attempt, response, error));
+        } catch (Exception e) {
+            onResponse(requestBuffer, attempt, null, e);
+        }
+    }
+
+    private void onResponse(
+            BulkBuffer requestBuffer, int attempt, BulkResponse response, Throwable error) {
+        boolean lastAttempt = attempt >= retryMaterial.getRetryTimes();
+        if (error != null) {
+            if (lastAttempt) {
+                complete(
+                        requestBuffer,
+                        new ElasticsearchConnectorException(
+                                ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                String.format(
+                                        "bulk es error after %d attempts, request body(truncate)=%s",
+                                        attempt, truncate(requestBuffer)),
+                                error));
+            } else {
+                retry(requestBuffer, attempt, error.getMessage());
+            }
+            return;
+        }
+        List<BulkResponse.FailedItem> failedItems = response.getFailedItems();
+        if (!response.isErrors()) {
+            complete(requestBuffer, null);
+            return;
+        }
+        List<Integer> retryableItems = new ArrayList<>(failedItems.size());
+        for (BulkResponse.FailedItem failedItem : failedItems) {
+            if (!isRetryable(failedItem.getStatus()) || lastAttempt) {
+                complete(
+                        requestBuffer,
+                        new ElasticsearchConnectorException(
+                                ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                String.format(
+                                        "bulk es error after %d attempts, %d of %d actions failed, status=%d, error=%s, action=%s",
+                                        attempt,
+                                        failedItems.size(),
+                                        requestBuffer.getActions(),
+                                        failedItem.getStatus(),
+                                        failedItem.getError(),
+                                        requestBuffer.getAction(failedItem.getIndex()))));
+                return;
+            }
+            retryableItems.add(failedItem.getIndex());
+        }
+        if (retryableItems.isEmpty()) {
+            // the response reports errors without failed items, fall back to a full retry
+            retry(requestBuffer, attempt, "bulk es response has errors");
+            return;
+        }
+        requestBuffer.retain(retryableItems);
+        retry(
+                requestBuffer,
+                attempt,
+                String.format("%d actions were rejected", retryableItems.size()));
+    }
+
+    private void retry(BulkBuffer requestBuffer, int attempt, String reason) {
+        long backoff = retryMaterial.computeRetryWaitTimeMillis(attempt);
+        log.warn(
+                "Failed to bulk {} actions due to {}. Retrying attempt ({}/{}) after backoff of {} ms",
+                requestBuffer.getActions(),
+                reason,
+                attempt,
+                retryMaterial.getRetryTimes(),
+                backoff);
+        try {
+            scheduler.schedule(
+                    () -> send(requestBuffer, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            complete(
+                    requestBuffer,
+                    new ElasticsearchConnectorException(
+                            ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                            "The bulk processor was closed before the retry of " + reason,
+                            e));
+        }
+    }
+
+    private void complete(BulkBuffer requestBuffer, Throwable error) {
+        if (error != null && !failure.compareAndSet(null, error)) {
+            failure.get().addSuppressed(error);
+        }
+        requestBuffer.clear();
+        freeBuffers.offer(requestBuffer);
+        inFlightRequests.release();
+    }
+
+    private void checkErrors() {
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "ElasticSearch execute bulk request error",
+                    error);
+        }
+    }
+
+    private BulkBuffer newBuffer() {
+        return new BulkBuffer(
+                (int) Math.min(maxBatchBytes, INITIAL_BUFFER_BYTES), Math.min(maxBatchSize, 1024));
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == STATUS_TOO_MANY_REQUESTS || status >= STATUS_SERVER_ERROR;
+    }
+
+    private static String truncate(BulkBuffer requestBuffer) {
+        return new String(
+                requestBuffer.getBytes(),
+                0,
+                Math.min(1000, requestBuffer.getLength()),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -65,6 +65,9 @@ public class ElasticsearchSinkFactory implements TableSinkFactory {
                         PASSWORD,
                         MAX_RETRY_COUNT,
                         MAX_BATCH_SIZE,
+                        SinkConfig.MAX_BATCH_BYTES,
+                        SinkConfig.BATCH_INTERVAL_MS,
+                        SinkConfig.MAX_CONCURRENT_REQUESTS,
                         TLS_VERIFY_CERTIFICATE,
                         TLS_VERIFY_HOSTNAME,
                         TLS_KEY_STORE_PATH,
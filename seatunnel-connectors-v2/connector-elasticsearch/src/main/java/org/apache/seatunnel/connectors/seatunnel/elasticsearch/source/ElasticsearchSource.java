@@ -36,6 +36,7 @@ import org.apache.seatunnel.api.table.catalog.schema.TableSchemaOptions;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.catalog.ElasticSearchTypeConverter;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsType;
@@ -156,12 +157,20 @@ public class ElasticsearchSource
 
         String scrollTime = readonlyConfig.get(SourceConfig.SCROLL_TIME);
         int scrollSize = readonlyConfig.get(SourceConfig.SCROLL_SIZE);
+        int sliceNum = readonlyConfig.get(SourceConfig.SLICE_NUM);
+        if (sliceNum < 1) {
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "slice_num must be greater than 0, but is " + sliceNum);
+        }
         SourceConfig sourceConfig = new SourceConfig();
         sourceConfig.setSource(source);
         sourceConfig.setCatalogTable(catalogTable);
         sourceConfig.setQuery(query);
         sourceConfig.setScrollTime(scrollTime);
         sourceConfig.setScrollSize(scrollSize);
+        sourceConfig.setSliceNum(sliceNum);
+        sourceConfig.setResumeField(readonlyConfig.get(SourceConfig.RESUME_FIELD));
         sourceConfig.setIndex(index);
         sourceConfig.setCatalogTable(catalogTable);
         return sourceConfig;
@@ -41,8 +41,10 @@ import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.EsC
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.INDEX;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.INDEX_LIST;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.QUERY;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.RESUME_FIELD;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.SCROLL_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.SCROLL_TIME;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig.SLICE_NUM;
 
 @AutoService(Factory.class)
 public class ElasticsearchSourceFactory implements TableSourceFactory {
@@ -62,6 +64,8 @@ public class ElasticsearchSourceFactory implements TableSourceFactory {
                         PASSWORD,
                         SCROLL_TIME,
                         SCROLL_SIZE,
+                        SLICE_NUM,
+                        RESUME_FIELD,
                         QUERY,
                         TLS_VERIFY_CERTIFICATE,
                         TLS_VERIFY_HOSTNAME,
@@ -49,6 +49,11 @@ public class ElasticsearchSourceReader
     private EsRestClient esRestClient;
 
     Deque<ElasticsearchSourceSplit> splits = new LinkedList<>();
+    private ElasticsearchSourceSplit currentSplit;
+    // the scroll of the current split, it is a server side cursor and never part of the state
+    private String currentScrollId;
+    // the number of documents of the current scroll which are emitted or skipped
+    private long currentScrollPosition;
     boolean noMoreSplit;
 
     private final long pollNextWaitTime = 1000L;
@@ -65,31 +70,57 @@ public class ElasticsearchSourceReader
 
     @Override
     public void close() throws IOException {
+        if (currentScrollId != null) {
+            esRestClient.clearScroll(currentScrollId);
+            currentScrollId = null;
+        }
         esRestClient.close();
     }
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            ElasticsearchSourceSplit split = splits.poll();
+            if (currentSplit == null) {
+                currentSplit = splits.poll();
+            }
+            ElasticsearchSourceSplit split = currentSplit;
             if (split != null) {
                 SeaTunnelRowType seaTunnelRowType = split.getSeaTunnelRowType();
                 SeaTunnelRowDeserializer deserializer =
                         new DefaultSeaTunnelRowDeserializer(seaTunnelRowType);
                 SourceConfig sourceIndexInfo = split.getSourceConfig();
-                ScrollResult scrollResult =
-                        esRestClient.searchByScroll(
-                                sourceIndexInfo.getIndex(),
-                                sourceIndexInfo.getSource(),
-                                sourceIndexInfo.getQuery(),
-                                sourceIndexInfo.getScrollTime(),
-                                sourceIndexInfo.getScrollSize());
-                outputFromScrollResult(scrollResult, sourceIndexInfo, output, deserializer);
-                while (scrollResult.getDocs() != null && scrollResult.getDocs().size() > 0) {
-                    scrollResult =
-                            esRestClient.searchWithScrollId(
-                                    scrollResult.getScrollId(), sourceIndexInfo.getScrollTime());
-                    outputFromScrollResult(scrollResult, sourceIndexInfo, output, deserializer);
+                // read one page per poll, so that a checkpoint can record the number of emitted
+                // documents between two pages
+                ScrollResult scrollResult = nextPage(split);
+                List<Map<String, Object>> docs = scrollResult.getDocs();
+                if (docs != null && docs.size() > 0) {
+                    currentScrollId = scrollResult.getScrollId();
+                    if (sourceIndexInfo.getResumeField() != null) {
+                        // a restored split already starts after the last emitted document
+                        outputFromScrollResult(docs, sourceIndexInfo, output, deserializer);
+                        split.setLastResumeValue(scrollResult.getLastSortValue());
+                    } else {
+                        // a restored split skips the documents emitted before the checkpoint
+                        int skipCount =
+                                (int)
+                                        Math.min(
+                                                docs.size(),
+                                                Math.max(
+                                                        0,
+                                                        split.getReadCount()
+                                                                - currentScrollPosition));
+                        outputFromScrollResult(
+                                docs.subList(skipCount, docs.size()),
+                                sourceIndexInfo,
+                                output,
+                                deserializer);
+                        currentScrollPosition += docs.size();
+                        split.setReadCount(Math.max(split.getReadCount(), currentScrollPosition));
+                    }
+                } else {
+                    esRestClient.clearScroll(scrollResult.getScrollId());
+                    currentScrollId = null;
+                    currentSplit = null;
                 }
             } else if (noMoreSplit) {
                 // signal to the source that we have reached the end of the data.
@@ -101,14 +132,49 @@ public class ElasticsearchSourceReader
         }
     }
 
+    private ScrollResult nextPage(ElasticsearchSourceSplit split) {
+        SourceConfig sourceIndexInfo = split.getSourceConfig();
+        if (currentScrollId != null) {
+            return esRestClient.searchWithScrollId(
+                    currentScrollId, sourceIndexInfo.getScrollTime());
+        }
+        String resumeField = sourceIndexInfo.getResumeField();
+        if (resumeField != null && split.getLastResumeValue() != null) {
+            log.info(
+                    "Resume split {} after the document with {} {}",
+                    split.splitId(),
+                    resumeField,
+                    split.getLastResumeValue());
+        } else if (resumeField == null && split.getReadCount() > 0) {
+            log.info(
+                    "Resume split {}, skip the {} documents emitted before the checkpoint",
+                    split.splitId(),
+                    split.getReadCount());
+        }
+        currentScrollPosition = 0;
+        // without a resume field, a restored split relies on the index order of the documents,
+        // which is only the same on the same shard copies
+        return esRestClient.searchByScroll(
+                sourceIndexInfo.getIndex(),
+                sourceIndexInfo.getSource(),
+                sourceIndexInfo.getQuery(),
+                sourceIndexInfo.getScrollTime(),
+                sourceIndexInfo.getScrollSize(),
+                split.getSliceId(),
+                sourceIndexInfo.getSliceNum(),
+                resumeField,
+                resumeField == null ? null : split.getLastResumeValue(),
+                resumeField == null ? split.splitId() : null);
+    }
+
     private void outputFromScrollResult(
-            ScrollResult scrollResult,
+            List<Map<String, Object>> docs,
             SourceConfig sourceConfig,
             Collector<SeaTunnelRow> output,
             SeaTunnelRowDeserializer deserializer) {
         List<String> source = sourceConfig.getSource();
         String tableId = sourceConfig.getCatalogTable().getTablePath().toString();
-        for (Map<String, Object> doc : scrollResult.getDocs()) {
+        for (Map<String, Object> doc : docs) {
             SeaTunnelRow seaTunnelRow =
                     deserializer.deserialize(new ElasticsearchRecord(doc, source, tableId));
             output.collect(seaTunnelRow);
@@ -117,7 +183,13 @@ public class ElasticsearchSourceReader
 
     @Override
     public List<ElasticsearchSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<ElasticsearchSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        // the splits are copied, the current split keeps counting the emitted documents
+        if (currentSplit != null) {
+            state.add(currentSplit.copy());
+        }
+        splits.forEach(split -> state.add(split.copy()));
+        return state;
     }
 
     @Override
@@ -21,12 +21,15 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
+/**
+ * One slice of the sliced scroll of an index. The split is not sliced when the slice number of its
+ * {@link SourceConfig} is 1.
+ */
 @ToString
-@AllArgsConstructor
 public class ElasticsearchSourceSplit implements SourceSplit {
 
     private static final long serialVersionUID = -1L;
@@ -35,6 +38,39 @@ public class ElasticsearchSourceSplit implements SourceSplit {
 
     @Getter private SourceConfig sourceConfig;
 
+    @Getter private int sliceId;
+
+    /**
+     * The number of documents of the slice emitted by the reader. A scroll id is a server side
+     * cursor which keeps moving after a checkpoint, so a restored slice without a resume field
+     * opens a new scroll and skips this number of documents instead.
+     */
+    @Getter @Setter private long readCount;
+
+    /**
+     * The resume field value of the last document of the slice emitted by the reader, a restored
+     * slice with a resume field continues after it.
+     */
+    @Getter @Setter private String lastResumeValue;
+
+    public ElasticsearchSourceSplit(String splitId, SourceConfig sourceConfig) {
+        this(splitId, sourceConfig, 0);
+    }
+
+    public ElasticsearchSourceSplit(String splitId, SourceConfig sourceConfig, int sliceId) {
+        this.splitId = splitId;
+        this.sourceConfig = sourceConfig;
+        this.sliceId = sliceId;
+    }
+
+    public ElasticsearchSourceSplit copy() {
+        ElasticsearchSourceSplit split =
+                new ElasticsearchSourceSplit(splitId, sourceConfig, sliceId);
+        split.setReadCount(readCount);
+        split.setLastResumeValue(lastResumeValue);
+        return split;
+    }
+
     public SeaTunnelRowType getSeaTunnelRowType() {
         return sourceConfig.getCatalogTable().getSeaTunnelRowType();
     }
@@ -106,14 +106,16 @@ public class ElasticsearchSourceSplitEnumerator
     private void addPendingSplit(Collection<ElasticsearchSourceSplit> splits) {
         int readerCount = context.currentParallelism();
         for (ElasticsearchSourceSplit split : splits) {
-            int ownerReader = getSplitOwner(split.splitId(), readerCount);
+            int ownerReader = getSplitOwner(split, readerCount);
             log.info("Assigning {} to {} reader.", split, ownerReader);
             pendingSplit.computeIfAbsent(ownerReader, r -> new ArrayList<>()).add(split);
         }
     }
 
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+    private static int getSplitOwner(ElasticsearchSourceSplit split, int numReaders) {
+        // the slices of an index go to consecutive readers, so that they are read in parallel
+        String indexSplitId = String.valueOf(split.getSourceConfig().getIndex().hashCode());
+        return ((indexSplitId.hashCode() + split.getSliceId()) & Integer.MAX_VALUE) % numReaders;
     }
 
     private void assignSplit(Collection<Integer> readers) {
@@ -151,9 +153,17 @@ public class ElasticsearchSourceSplitEnumerator
             for (IndexDocsCount indexDocsCount : indexDocsCounts) {
                 SourceConfig cloneCfg = sourceConfig.clone();
                 cloneCfg.setIndex(indexDocsCount.getIndex());
-                splits.add(
-                        new ElasticsearchSourceSplit(
-                                String.valueOf(indexDocsCount.getIndex().hashCode()), cloneCfg));
+                String indexSplitId = String.valueOf(indexDocsCount.getIndex().hashCode());
+                int sliceNum = cloneCfg.getSliceNum();
+                if (sliceNum <= 1) {
+                    splits.add(new ElasticsearchSourceSplit(indexSplitId, cloneCfg));
+                    continue;
+                }
+                for (int sliceId = 0; sliceId < sliceNum; sliceId++) {
+                    splits.add(
+                            new ElasticsearchSourceSplit(
+                                    indexSplitId + "-" + sliceId, cloneCfg, sliceId));
+                }
             }
         }
         return splits;
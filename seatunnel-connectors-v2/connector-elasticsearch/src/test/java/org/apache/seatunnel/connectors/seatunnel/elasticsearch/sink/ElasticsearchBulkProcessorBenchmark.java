@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a batch of documents to a local mock bulk endpoint, which answers after a fixed latency.
+ * Compares the former writer, which joins the buffered actions into one string and sends it
+ * synchronously, with the bulk processor keeping 1 or 4 requests in flight. Run it with {@link
+ * #main(String[])} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ElasticsearchBulkProcessorBenchmark {
+
+    private static final int DOCUMENTS = 10000;
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    @Param({"5"})
+    public long latencyMillis;
+
+    @Param({"1", "4"})
+    public int maxConcurrentRequests;
+
+    private MockBulkServer server;
+    private EsRestClient esRestClient;
+    private ElasticsearchBulkProcessor processor;
+    private List<String> actions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new MockBulkServer(latencyMillis);
+        esRestClient = server.createClient();
+        processor =
+                new ElasticsearchBulkProcessor(
+                        esRestClient,
+                        MAX_BATCH_SIZE,
+                        Long.MAX_VALUE,
+                        0,
+                        maxConcurrentRequests,
+                        new RetryMaterial(3, true, exception -> true, 200, true));
+        actions = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            actions.add(
+                    "{\"index\":{\"_index\":\"benchmark\",\"_id\":\""
+                            + i
+                            + "\"}}\n{\"id\":"
+                            + i
+                            + ",\"name\":\"document-"
+                            + i
+                            + "\",\"score\":"
+                            + i * 0.5
+                            + "}");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processor.close();
+        esRestClient.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void synchronousJoinedBatches() {
+        List<String> requestEsList = new ArrayList<>(MAX_BATCH_SIZE);
+        for (String action : actions) {
+            requestEsList.add(action);
+            if (requestEsList.size() >= MAX_BATCH_SIZE) {
+                esRestClient.bulk(String.join("\n", requestEsList) + "\n");
+                requestEsList.clear();
+            }
+        }
+        if (!requestEsList.isEmpty()) {
+            esRestClient.bulk(String.join("\n", requestEsList) + "\n");
+        }
+    }
+
+    @Benchmark
+    public void pipelinedBulkProcessor() {
+        for (String action : actions) {
+            processor.add(action);
+        }
+        processor.flush();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ElasticsearchBulkProcessorBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+public class ElasticsearchBulkProcessorTest {
+
+    private static final RetryMaterial RETRY_MATERIAL =
+            new RetryMaterial(3, true, exception -> true, 10, true);
+
+    private MockBulkServer server;
+    private EsRestClient esRestClient;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new MockBulkServer();
+        esRestClient = server.createClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        esRestClient.close();
+        server.close();
+    }
+
+    @Test
+    public void testSendBatchesBySize() {
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(
+                        esRestClient, 10, 1024 * 1024, 0, 2, RETRY_MATERIAL)) {
+            for (int i = 0; i < 95; i++) {
+                processor.add(action(i));
+            }
+            processor.flush();
+        }
+        List<List<String>> requests = server.getRequests();
+        Assertions.assertEquals(10, requests.size());
+        Assertions.assertEquals(95, server.getDocuments().size());
+        Assertions.assertEquals("{\"value\":94}", server.getDocuments().get("94"));
+    }
+
+    @Test
+    public void testSendBatchesByBytes() throws InterruptedException {
+        int actionBytes = (action(0) + "\n").length();
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(
+                        esRestClient, 1000, actionBytes * 3, 0, 1, RETRY_MATERIAL)) {
+            for (int i = 0; i < 9; i++) {
+                processor.add(action(i));
+            }
+            // the buffer is full, so the actions are sent without flushing
+            waitUntil(() -> server.getDocuments().size() == 9);
+            Assertions.assertEquals(3, server.getRequests().size());
+        }
+    }
+
+    @Test
+    public void testSendBatchesByInterval() throws InterruptedException {
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(
+                        esRestClient, 1000, 1024 * 1024, 50, 1, RETRY_MATERIAL)) {
+            processor.add(action(0));
+            processor.add(action(1));
+            waitUntil(() -> server.getDocuments().size() == 2);
+        }
+    }
+
+    @Test
+    public void testRetryOnlyRejectedActions() {
+        server.failAction("3", 429, 1);
+        server.failAction("7", 503, 2);
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(
+                        esRestClient, 10, 1024 * 1024, 0, 1, RETRY_MATERIAL)) {
+            for (int i = 0; i < 10; i++) {
+                processor.add(action(i));
+            }
+            processor.flush();
+        }
+        List<List<String>> requests = server.getRequests();
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertEquals(10, requests.get(0).size());
+        Assertions.assertEquals(Arrays.asList("3", "7"), requests.get(1));
+        Assertions.assertEquals(Arrays.asList("7"), requests.get(2));
+        Assertions.assertEquals(10, server.getDocuments().size());
+        Assertions.assertEquals("{\"value\":7}", server.getDocuments().get("7"));
+    }
+
+    @Test
+    public void testFailOnNonRetryableAction() {
+        server.failAction("5", 400, 1);
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 10, 1024 * 1024, 0, 1, RETRY_MATERIAL);
+        for (int i = 0; i < 10; i++) {
+            processor.add(action(i));
+        }
+        ElasticsearchConnectorException exception =
+                Assertions.assertThrows(ElasticsearchConnectorException.class, processor::flush);
+        Assertions.assertTrue(
+                exception.getCause().getMessage().contains("status=400"),
+                exception.getCause().getMessage());
+        // the failed action is not retried
+        Assertions.assertEquals(1, server.getRequests().size());
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class, () -> processor.add(action(10)));
+        Assertions.assertThrows(ElasticsearchConnectorException.class, processor::close);
+    }
+
+    @Test
+    public void testFailAfterRetries() {
+        server.failAction("1", 429, Integer.MAX_VALUE);
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 10, 1024 * 1024, 0, 1, RETRY_MATERIAL);
+        processor.add(action(0));
+        processor.add(action(1));
+        Assertions.assertThrows(ElasticsearchConnectorException.class, processor::flush);
+        List<List<String>> requests = server.getRequests();
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertEquals(Arrays.asList("1"), requests.get(2));
+    }
+
+    @Test
+    public void testLimitConcurrentRequests() throws Exception {
+        try (MockBulkServer slowServer = new MockBulkServer(20);
+                ElasticsearchBulkProcessor processor =
+                        new ElasticsearchBulkProcessor(
+                                slowServer.createClient(), 1, 1024 * 1024, 0, 3, RETRY_MATERIAL)) {
+            for (int i = 0; i < 30; i++) {
+                processor.add(action(i));
+            }
+            processor.flush();
+            Assertions.assertEquals(30, slowServer.getDocuments().size());
+            Assertions.assertTrue(slowServer.getMaxInFlight() <= 3);
+            Assertions.assertTrue(slowServer.getMaxInFlight() > 1);
+        }
+    }
+
+    @Test
+    public void testBulkBufferRetain() {
+        BulkBuffer buffer = new BulkBuffer(16, 1);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(action(i));
+        }
+        Assertions.assertEquals(5, buffer.getActions());
+        buffer.retain(Arrays.asList(1, 4));
+        Assertions.assertEquals(2, buffer.getActions());
+        Assertions.assertEquals(action(1), buffer.getAction(0));
+        Assertions.assertEquals(action(4), buffer.getAction(1));
+        Assertions.assertEquals(
+                action(1) + "\n" + action(4) + "\n",
+                new String(buffer.getBytes(), 0, buffer.getLength()));
+        buffer.clear();
+        Assertions.assertTrue(buffer.isEmpty());
+    }
+
+    private static String action(int id) {
+        return "{\"index\":{\"_index\":\"test\",\"_id\":\"" + id + "\"}}\n{\"value\":" + id + "}";
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Timed out");
+            Thread.sleep(10);
+        }
+    }
+}
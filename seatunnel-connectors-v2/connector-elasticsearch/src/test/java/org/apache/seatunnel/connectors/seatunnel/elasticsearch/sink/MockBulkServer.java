@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.connectors.seatunnel.common.http.MockHttpServer;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local HTTP endpoint answering bulk requests like Elasticsearch. Every action must be an index
+ * action with an {@code _id}, followed by its document. The status of an action can be set per
+ * document id, for a number of attempts.
+ */
+class MockBulkServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final MockHttpServer server;
+    private final Map<String, int[]> statuses = new ConcurrentHashMap<>();
+    private final List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, String> documents = new ConcurrentHashMap<>();
+
+    MockBulkServer() throws IOException {
+        this(0);
+    }
+
+    MockBulkServer(long latencyMillis) throws IOException {
+        this.server = new MockHttpServer(latencyMillis).createContext("/_bulk", this::handleBulk);
+    }
+
+    EsRestClient createClient() {
+        return EsRestClient.createInstance(
+                Collections.singletonList(server.getUrl()),
+                Optional.empty(),
+                Optional.empty(),
+                false,
+                false,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty());
+    }
+
+    /** Answers the given status to the next {@code attempts} actions with the given id. */
+    void failAction(String id, int status, int attempts) {
+        statuses.put(id, new int[] {status, attempts});
+    }
+
+    /** The ids of the actions of every request received so far. */
+    List<List<String>> getRequests() {
+        synchronized (requests) {
+            return new ArrayList<>(requests);
+        }
+    }
+
+    Map<String, String> getDocuments() {
+        return documents;
+    }
+
+    int getMaxInFlight() {
+        return server.getMaxInFlight();
+    }
+
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        String body = new String(server.receive(exchange), StandardCharsets.UTF_8);
+        List<String> ids = new ArrayList<>();
+        ArrayNode items = OBJECT_MAPPER.createArrayNode();
+        boolean errors = false;
+        try (BufferedReader reader = new BufferedReader(new StringReader(body))) {
+            String actionLine;
+            while ((actionLine = reader.readLine()) != null) {
+                String id = OBJECT_MAPPER.readTree(actionLine).get("index").get("_id").asText();
+                String document = reader.readLine();
+                ids.add(id);
+                ObjectNode result = items.addObject().putObject("index");
+                result.put("_id", id);
+                int status = nextStatus(id);
+                result.put("status", status);
+                if (status >= 300) {
+                    errors = true;
+                    result.putObject("error").put("type", "mock_exception");
+                } else {
+                    documents.put(id, document);
+                }
+            }
+        }
+        requests.add(ids);
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.put("took", 1);
+        response.put("errors", errors);
+        response.set("items", items);
+        MockHttpServer.respondJson(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(response));
+    }
+
+    private int nextStatus(String id) {
+        int[] status = statuses.get(id);
+        if (status == null) {
+            return 201;
+        }
+        synchronized (status) {
+            if (status[1] > 0) {
+                status[1]--;
+                return status[0];
+            }
+            return 201;
+        }
+    }
+
+    @Override
+    public void close() {
+        server.close();
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.EsClusterConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ElasticsearchSourceReaderTest {
+
+    private static final String INDEX = "st_index";
+
+    private static final int DOC_COUNT = 100;
+
+    private MockScrollServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new MockScrollServer(INDEX, DOC_COUNT);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testReadSlices() throws Exception {
+        SourceConfig sourceConfig = createSourceConfig(4);
+        List<ElasticsearchSourceSplit> splits = new ArrayList<>();
+        for (int sliceId = 0; sliceId < 4; sliceId++) {
+            splits.add(new ElasticsearchSourceSplit("slice-" + sliceId, sourceConfig, sliceId));
+        }
+
+        List<String> ids = new ArrayList<>();
+        for (ElasticsearchSourceSplit split : splits) {
+            ElasticsearchSourceReader reader = createReader();
+            reader.addSplits(Collections.singletonList(split));
+            reader.handleNoMoreSplits();
+            ids.addAll(readToEnd(reader));
+            reader.close();
+        }
+
+        Assertions.assertEquals(allIds(), sorted(ids));
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3), sorted(server.getOpenedSlices()));
+        Assertions.assertEquals(0, server.getOpenScrollCount());
+    }
+
+    @Test
+    public void testReadWithoutSlices() throws Exception {
+        ElasticsearchSourceReader reader = createReader();
+        reader.addSplits(
+                Collections.singletonList(
+                        new ElasticsearchSourceSplit("index", createSourceConfig(1))));
+        reader.handleNoMoreSplits();
+
+        Assertions.assertEquals(allIds(), sorted(readToEnd(reader)));
+        Assertions.assertEquals(Collections.singletonList(-1), server.getOpenedSlices());
+        reader.close();
+    }
+
+    @Test
+    public void testResumeAfterReadingPastCheckpoint() throws Exception {
+        ElasticsearchSourceReader reader = createReader();
+        reader.addSplits(
+                Collections.singletonList(
+                        new ElasticsearchSourceSplit("slice-1", createSourceConfig(2), 1)));
+        ListCollector output = new ListCollector();
+        reader.pollNext(output);
+        reader.pollNext(output);
+        List<ElasticsearchSourceSplit> state = reader.snapshotState(1);
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals(20, state.get(0).getReadCount());
+
+        // the pages read after the checkpoint move the server side scroll, they are lost when
+        // the reader fails before the next checkpoint
+        reader.pollNext(new ListCollector());
+        reader.pollNext(new ListCollector());
+        Assertions.assertEquals(20, state.get(0).getReadCount());
+        reader.close();
+
+        ElasticsearchSourceReader restored = createReader();
+        restored.addSplits(state);
+        restored.handleNoMoreSplits();
+        List<String> ids = new ArrayList<>(output.ids);
+        ids.addAll(readToEnd(restored));
+        restored.close();
+
+        // the slice is read exactly once, the restored reader skips the checkpointed documents
+        Assertions.assertEquals(sliceIds(1, 2), sorted(ids));
+        Assertions.assertEquals(Arrays.asList(1, 1), server.getOpenedSlices());
+        // both scrolls search the same shard copies, which keep the index order
+        Assertions.assertEquals(Arrays.asList("slice-1", "slice-1"), server.getPreferences());
+        Assertions.assertEquals(0, server.getOpenScrollCount());
+    }
+
+    @Test
+    public void testResumeByResumeField() throws Exception {
+        SourceConfig sourceConfig = createSourceConfig(2);
+        sourceConfig.setResumeField("value");
+        ElasticsearchSourceReader reader = createReader();
+        reader.addSplits(
+                Collections.singletonList(
+                        new ElasticsearchSourceSplit("slice-1", sourceConfig, 1)));
+        ListCollector output = new ListCollector();
+        reader.pollNext(output);
+        reader.pollNext(output);
+        List<ElasticsearchSourceSplit> state = reader.snapshotState(1);
+        Assertions.assertEquals("39", state.get(0).getLastResumeValue());
+        reader.pollNext(new ListCollector());
+        reader.close();
+
+        // a restored split does not depend on the index order of the documents
+        server.reverseIndexOrder();
+        ElasticsearchSourceReader restored = createReader();
+        restored.addSplits(state);
+        restored.handleNoMoreSplits();
+        List<String> ids = new ArrayList<>(output.ids);
+        ids.addAll(readToEnd(restored));
+        restored.close();
+
+        Assertions.assertEquals(sliceIds(1, 2), sorted(ids));
+        Assertions.assertEquals(Arrays.asList(null, null), server.getPreferences());
+        Assertions.assertEquals(0, server.getOpenScrollCount());
+    }
+
+    @Test
+    public void testResumeAfterScrollExpired() throws Exception {
+        ElasticsearchSourceReader reader = createReader();
+        reader.addSplits(
+                Collections.singletonList(
+                        new ElasticsearchSourceSplit("slice-0", createSourceConfig(2), 0)));
+        ListCollector output = new ListCollector();
+        reader.pollNext(output);
+        List<ElasticsearchSourceSplit> state = reader.snapshotState(1);
+        reader.close();
+        server.expireScrolls();
+
+        ElasticsearchSourceReader restored = createReader();
+        restored.addSplits(state);
+        restored.handleNoMoreSplits();
+        List<String> ids = new ArrayList<>(output.ids);
+        ids.addAll(readToEnd(restored));
+        restored.close();
+
+        Assertions.assertEquals(sliceIds(0, 2), sorted(ids));
+        Assertions.assertEquals(Arrays.asList(0, 0), server.getOpenedSlices());
+    }
+
+    private ElasticsearchSourceReader createReader() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(
+                EsClusterConnectionConfig.HOSTS.key(), Collections.singletonList(server.getHost()));
+        ElasticsearchSourceReader reader =
+                new ElasticsearchSourceReader(new Context(), ReadonlyConfig.fromMap(config));
+        reader.open();
+        return reader;
+    }
+
+    private static SourceConfig createSourceConfig(int sliceNum) {
+        SourceConfig sourceConfig = new SourceConfig();
+        sourceConfig.setIndex(INDEX);
+        sourceConfig.setSource(Collections.singletonList("_id"));
+        sourceConfig.setQuery(Collections.singletonMap("match_all", new HashMap<>()));
+        sourceConfig.setScrollTime("1m");
+        sourceConfig.setScrollSize(10);
+        sourceConfig.setSliceNum(sliceNum);
+        sourceConfig.setCatalogTable(
+                CatalogTable.of(
+                        TableIdentifier.of("elasticsearch", null, INDEX),
+                        TableSchema.builder()
+                                .column(
+                                        PhysicalColumn.of(
+                                                "_id", BasicType.STRING_TYPE, 0L, true, null, null))
+                                .build(),
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        ""));
+        return sourceConfig;
+    }
+
+    private static List<String> readToEnd(ElasticsearchSourceReader reader) throws Exception {
+        Context context = (Context) reader.context;
+        ListCollector output = new ListCollector();
+        for (int i = 0; i < DOC_COUNT && !context.noMoreElement; i++) {
+            reader.pollNext(output);
+        }
+        Assertions.assertTrue(context.noMoreElement);
+        return output.ids;
+    }
+
+    private static List<String> allIds() {
+        return sliceIds(0, 1);
+    }
+
+    private static List<String> sliceIds(int sliceId, int sliceMax) {
+        return sorted(
+                IntStream.range(0, DOC_COUNT)
+                        .filter(id -> id % sliceMax == sliceId)
+                        .mapToObj(String::valueOf)
+                        .collect(Collectors.toList()));
+    }
+
+    private static <T extends Comparable<T>> List<T> sorted(List<T> values) {
+        Set<T> distinct = new HashSet<>(values);
+        Assertions.assertEquals(values.size(), distinct.size(), "duplicated values " + values);
+        return distinct.stream().sorted().collect(Collectors.toList());
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+
+        private final List<String> ids = new ArrayList<>();
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            ids.add((String) record.getField(0));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class Context implements SourceReader.Context {
+
+        private final MetricsContext metricsContext = new AbstractMetricsContext() {};
+
+        private boolean noMoreElement;
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return metricsContext;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return event -> {};
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.connectors.seatunnel.common.http.MockHttpServer;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local HTTP endpoint answering scroll requests like Elasticsearch, for a single index of
+ * documents with the ids 0 to {@code docCount - 1}, whose field {@code value} is their id. A
+ * document belongs to the slice {@code id % max} of a sliced scroll. A scroll sorted by {@code
+ * _doc} returns the documents in index order, a scroll sorted by {@code value} in id order, after
+ * the value of a {@code range} filter if the query has one.
+ */
+class MockScrollServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final MockHttpServer server;
+    private final String index;
+    private final int docCount;
+    private final Map<String, Scroll> scrolls = new ConcurrentHashMap<>();
+    private final List<Integer> openedSlices = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> preferences = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean reversedIndexOrder;
+
+    MockScrollServer(String index, int docCount) throws IOException {
+        this.index = index;
+        this.docCount = docCount;
+        this.server =
+                new MockHttpServer()
+                        .createContext("/" + index + "/_search", this::handleSearch)
+                        .createContext("/_search/scroll", this::handleScroll);
+    }
+
+    String getHost() {
+        return server.getUrl();
+    }
+
+    /** The slice ids of the scrolls opened so far, -1 for a scroll that is not sliced. */
+    List<Integer> getOpenedSlices() {
+        synchronized (openedSlices) {
+            return new ArrayList<>(openedSlices);
+        }
+    }
+
+    /** The preference parameters of the scrolls opened so far, null for a scroll without one. */
+    List<String> getPreferences() {
+        synchronized (preferences) {
+            return new ArrayList<>(preferences);
+        }
+    }
+
+    int getOpenScrollCount() {
+        return scrolls.size();
+    }
+
+    /** Reverses the index order of the documents, like a merge of the segments may change it. */
+    void reverseIndexOrder() {
+        reversedIndexOrder = !reversedIndexOrder;
+    }
+
+    /** Drops every search context, like Elasticsearch does when the scroll time elapses. */
+    void expireScrolls() {
+        scrolls.clear();
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        JsonNode request = readBody(exchange);
+        Scroll scroll = new Scroll();
+        scroll.size = request.get("size").asInt();
+        int sliceId = 0;
+        int sliceMax = 1;
+        JsonNode slice = request.get("slice");
+        if (slice != null) {
+            sliceId = slice.get("id").asInt();
+            sliceMax = slice.get("max").asInt();
+        }
+        scroll.sorted = request.get("sort").get(0).has("value");
+        JsonNode after = request.at("/query/bool/filter/0/range/value/gt");
+        int first = after.isMissingNode() ? 0 : after.asInt() + 1;
+        for (int i = 0; i < docCount; i++) {
+            int id = scroll.sorted || !reversedIndexOrder ? i : docCount - 1 - i;
+            if (id >= first && id % sliceMax == sliceId) {
+                scroll.ids.add(id);
+            }
+        }
+        String scrollId = UUID.randomUUID().toString();
+        scrolls.put(scrollId, scroll);
+        openedSlices.add(slice == null ? -1 : sliceId);
+        preferences.add(getParameter(exchange, "preference"));
+        respondPage(exchange, scrollId, scroll);
+    }
+
+    private void handleScroll(HttpExchange exchange) throws IOException {
+        JsonNode request = readBody(exchange);
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            for (JsonNode scrollId : request.get("scroll_id")) {
+                scrolls.remove(scrollId.asText());
+            }
+            respond(exchange, 200, OBJECT_MAPPER.createObjectNode().put("succeeded", true));
+            return;
+        }
+        String scrollId = request.get("scroll_id").asText();
+        Scroll scroll = scrolls.get(scrollId);
+        if (scroll == null) {
+            ObjectNode error = OBJECT_MAPPER.createObjectNode();
+            error.putObject("error").put("type", "search_context_missing_exception");
+            respond(exchange, 404, error);
+            return;
+        }
+        respondPage(exchange, scrollId, scroll);
+    }
+
+    private void respondPage(HttpExchange exchange, String scrollId, Scroll scroll)
+            throws IOException {
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.put("_scroll_id", scrollId);
+        ObjectNode shards = response.putObject("_shards");
+        shards.put("total", 1);
+        shards.put("successful", 1);
+        ArrayNode hits = response.putObject("hits").putArray("hits");
+        synchronized (scroll) {
+            while (hits.size() < scroll.size && scroll.next < scroll.ids.size()) {
+                int id = scroll.ids.get(scroll.next++);
+                ObjectNode hit = hits.addObject();
+                hit.put("_index", index);
+                hit.put("_id", String.valueOf(id));
+                hit.putObject("_source").put("value", id);
+                if (scroll.sorted) {
+                    hit.putArray("sort").add(id);
+                }
+            }
+        }
+        respond(exchange, 200, response);
+    }
+
+    private static String getParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith(name + "=")) {
+                    return parameter.substring(name.length() + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static JsonNode readBody(HttpExchange exchange) throws IOException {
+        return OBJECT_MAPPER.readTree(MockHttpServer.readBody(exchange));
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonNode json)
+            throws IOException {
+        MockHttpServer.respondJson(exchange, status, OBJECT_MAPPER.writeValueAsBytes(json));
+    }
+
+    @Override
+    public void close() {
+        server.close();
+    }
+
+    private static class Scroll {
+        private final List<Integer> ids = new ArrayList<>();
+        private int size;
+        private boolean sorted;
+        private int next;
+    }
+}
@@ -178,4 +178,13 @@ public class BaseSourceConfigOptions {
                     .enumType(ArchiveCompressFormat.class)
                     .defaultValue(ArchiveCompressFormat.NONE)
                     .withDescription("Archive compression codec");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The size in bytes of the splits a file is divided into, so that a large file can be "
+                                    + "read by several readers. Only uncompressed text, csv and json files and "
+                                    + "parquet and orc files are divided. 0 means every file is one split.");
 }
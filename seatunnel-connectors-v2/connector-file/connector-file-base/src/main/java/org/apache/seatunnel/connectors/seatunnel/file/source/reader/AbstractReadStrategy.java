@@ -30,11 +30,13 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipParameters;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +50,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -174,6 +177,45 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         }
     }
 
+    /**
+     * Whether the file can be read by byte range, the strategy must override {@link #read(String,
+     * long, long, String, Collector)} when it returns true.
+     */
+    protected boolean isSplittable(String path) {
+        return false;
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path, long splitSize)
+            throws IOException {
+        if (splitSize <= 0 || !isSplittable(path)) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= splitSize) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += splitSize) {
+            splits.add(
+                    new FileSourceSplit(
+                            tableId, path, start, Math.min(splitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /** Open the lines of the byte range {@code [start, start + length)} of a line based file. */
+    protected InputStream openLineRange(String path, long start, long length) throws IOException {
+        FSDataInputStream inputStream = hadoopFileSystemProxy.getInputStream(path);
+        try {
+            inputStream.seek(start);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+        return new LineRangeInputStream(inputStream, start, start + length);
+    }
+
     @Override
     public SeaTunnelRowType getActualSeaTunnelRowTypeInfo() {
         return isMergePartition ? seaTunnelRowTypeWithPartition : seaTunnelRowType;
@@ -24,6 +24,7 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
@@ -81,6 +82,24 @@ public class JsonReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.JSON);
     }
 
+    @Override
+    public void read(
+            String path, long start, long length, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (length <= 0) {
+            read(path, tableId, output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        readProcess(path, tableId, output, openLineRange(path, start, length), partitionsMap, path);
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return compressFormat == CompressFormat.NONE
+                && archiveCompressFormat == ArchiveCompressFormat.NONE;
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the lines of a byte range of a line based file. A line belongs to the range when its first
+ * byte is in {@code (start, end]}, the first line of the file belongs to the range starting at 0.
+ * So the line cut by the start of the range is left to the previous range, and the line cut by the
+ * end of the range is read to its end, the ranges of a file read every line exactly once.
+ *
+ * <p>The line delimiter is {@code '\n'}, so the encoding of the file must be ASCII compatible.
+ */
+class LineRangeInputStream extends FilterInputStream {
+    private static final int LINE_DELIMITER = '\n';
+
+    private final long start;
+    private final long end;
+    private final byte[] oneByte = new byte[1];
+    /** The position in the file of the next byte of the underlying stream. */
+    private long pos;
+
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * @param in the stream of the file positioned at {@code start}
+     * @param start the start of the range, exclusive, a line starting at {@code start} belongs to
+     *     the previous range unless {@code start} is 0
+     * @param end the end of the range, inclusive, a line starting at {@code end} is read
+     */
+    LineRangeInputStream(InputStream in, long start, long end) {
+        super(new BufferedInputStream(in));
+        this.start = start;
+        this.end = end;
+        this.pos = start;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(oneByte, 0, 1);
+        return n < 0 ? -1 : oneByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!started) {
+            started = true;
+            skipFirstLine();
+        }
+        if (finished) {
+            return -1;
+        }
+        if (pos <= end) {
+            // a line starting at end still belongs to the range, so end itself can be read in bulk
+            int n = in.read(b, off, (int) Math.min(len, end + 1 - pos));
+            if (n < 0) {
+                finished = true;
+                return -1;
+            }
+            pos += n;
+            if (pos > end && b[off + n - 1] == LINE_DELIMITER) {
+                finished = true;
+            }
+            return n;
+        }
+        // finish the line cut by the end of the range
+        int n = in.read(b, off, len);
+        if (n < 0) {
+            finished = true;
+            return -1;
+        }
+        for (int i = 0; i < n; i++) {
+            if (b[off + i] == LINE_DELIMITER) {
+                finished = true;
+                n = i + 1;
+                break;
+            }
+        }
+        pos += n;
+        return n;
+    }
+
+    private void skipFirstLine() throws IOException {
+        if (start == 0) {
+            return;
+        }
+        int c;
+        do {
+            c = in.read();
+            if (c < 0) {
+                finished = true;
+                return;
+            }
+            pos++;
+        } while (c != LINE_DELIMITER);
+        if (pos > end) {
+            finished = true;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long skipped = 0;
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -78,7 +78,12 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                                     + "]");
                 }
                 try {
-                    readStrategy.read(split.getFilePath(), split.getTableId(), output);
+                    readStrategy.read(
+                            split.getFilePath(),
+                            split.getStart(),
+                            split.getLength(),
+                            split.getTableId(),
+                            output);
                 } catch (Exception e) {
                     String errorMsg =
                             String.format("Read data from this file [%s] failed", split.splitId());
@@ -33,6 +33,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -83,6 +84,17 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(path, 0, FileSourceSplit.WHOLE_FILE, tableId, output);
+    }
+
+    /**
+     * Read the stripes of the byte range, a stripe belongs to the range that contains its start
+     * offset, so the ranges of a file read every stripe exactly once.
+     */
+    @Override
+    public void read(
+            String path, long start, long length, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,7 +117,11 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            if (length > 0) {
+                options.range(start, length);
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
                 int num = 0;
@@ -192,6 +208,11 @@ public class OrcReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    protected boolean isSplittable(String path) {
+        return true;
+    }
+
     @Override
     boolean checkFileType(String path) {
         try {
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.DummyRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads the flat columns of a parquet file without materializing Avro records. The columns of a row
+ * group are decoded one after another in batches of rows, every value is written straight into the
+ * field array of its row.
+ *
+ * <p>The values are the same as the ones {@link ParquetReadStrategy} resolves from the Avro
+ * records, the columns that are nested, repeated or need another conversion are not supported.
+ */
+class ParquetColumnarReader {
+    private static final int BATCH_SIZE = 4096;
+
+    private final MessageType requestedSchema;
+    private final ColumnDecoder[] decoders;
+
+    private ParquetColumnarReader(MessageType requestedSchema, ColumnDecoder[] decoders) {
+        this.requestedSchema = requestedSchema;
+        this.decoders = decoders;
+    }
+
+    /**
+     * Create the reader of the fields of the row type, the field {@code i} is the field {@code
+     * indexes[i]} of the file schema.
+     *
+     * @return null when a field can not be read column by column
+     */
+    static ParquetColumnarReader create(
+            MessageType fileSchema, int[] indexes, SeaTunnelRowType rowType) {
+        if (indexes == null || indexes.length != rowType.getTotalFields()) {
+            return null;
+        }
+        List<Type> fields = new ArrayList<>(indexes.length);
+        Set<Integer> distinctIndexes = new HashSet<>();
+        ColumnDecoder[] decoders = new ColumnDecoder[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] >= fileSchema.getFieldCount() || !distinctIndexes.add(indexes[i])) {
+                return null;
+            }
+            Type type = fileSchema.getType(indexes[i]);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+                return null;
+            }
+            decoders[i] =
+                    createDecoder(type.asPrimitiveType(), rowType.getFieldType(i).getSqlType());
+            if (decoders[i] == null) {
+                return null;
+            }
+            fields.add(type);
+        }
+        return new ParquetColumnarReader(new MessageType(fileSchema.getName(), fields), decoders);
+    }
+
+    private static ColumnDecoder createDecoder(PrimitiveType type, SqlType sqlType) {
+        OriginalType originalType = type.getOriginalType();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return sqlType == SqlType.BOOLEAN ? ColumnReader::getBoolean : null;
+            case INT32:
+                if (originalType == null && sqlType == SqlType.INT) {
+                    return ColumnReader::getInteger;
+                }
+                if (originalType == OriginalType.INT_8 && sqlType == SqlType.TINYINT) {
+                    return reader -> (byte) reader.getInteger();
+                }
+                if (originalType == OriginalType.INT_16 && sqlType == SqlType.SMALLINT) {
+                    return reader -> (short) reader.getInteger();
+                }
+                if (originalType == OriginalType.DATE && sqlType == SqlType.DATE) {
+                    return reader -> LocalDate.ofEpochDay(reader.getInteger());
+                }
+                return null;
+            case INT64:
+                if (originalType == OriginalType.TIMESTAMP_MILLIS) {
+                    LogicalTypeAnnotation.TimestampLogicalTypeAnnotation timestamp =
+                            (LogicalTypeAnnotation.TimestampLogicalTypeAnnotation)
+                                    type.getLogicalTypeAnnotation();
+                    // Avro resolves a local timestamp as LocalDateTime, leave it to the Avro path
+                    if (!timestamp.isAdjustedToUTC() || sqlType != SqlType.TIMESTAMP) {
+                        return null;
+                    }
+                    return reader ->
+                            LocalDateTime.ofInstant(
+                                    Instant.ofEpochMilli(reader.getLong()), ZoneId.systemDefault());
+                }
+                if (originalType != OriginalType.DECIMAL && sqlType == SqlType.BIGINT) {
+                    return ColumnReader::getLong;
+                }
+                return null;
+            case INT96:
+                return sqlType == SqlType.TIMESTAMP
+                        ? reader -> ParquetReadStrategy.int96ToLocalDateTime(reader.getBinary())
+                        : null;
+            case FLOAT:
+                return sqlType == SqlType.FLOAT ? ColumnReader::getFloat : null;
+            case DOUBLE:
+                return sqlType == SqlType.DOUBLE ? ColumnReader::getDouble : null;
+            case BINARY:
+                if (originalType == null && sqlType == SqlType.BYTES) {
+                    return reader -> {
+                        Binary binary = reader.getBinary();
+                        // the binary may share its bytes with the page or the dictionary
+                        byte[] bytes = new byte[binary.length()];
+                        binary.toByteBuffer().get(bytes);
+                        return bytes;
+                    };
+                }
+                if ((originalType == OriginalType.UTF8 || originalType == OriginalType.ENUM)
+                        && sqlType == SqlType.STRING) {
+                    return reader -> reader.getBinary().toStringUsingUTF8();
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (originalType == OriginalType.DECIMAL && sqlType == SqlType.DECIMAL) {
+                    int scale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation)
+                                            type.getLogicalTypeAnnotation())
+                                    .getScale();
+                    return reader ->
+                            new BigDecimal(new BigInteger(reader.getBinary().getBytes()), scale);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Read the rows of the row groups left in the file reader, the first fields of every row array
+     * are filled with the values of the columns.
+     *
+     * @param rowSize the size of the row arrays, not less than the number of columns
+     */
+    void read(ParquetFileReader fileReader, int rowSize, Consumer<Object[]> rowConsumer)
+            throws IOException {
+        fileReader.setRequestedSchema(requestedSchema);
+        String createdBy = fileReader.getFileMetaData().getCreatedBy();
+        List<ColumnDescriptor> columns = requestedSchema.getColumns();
+        ColumnReader[] columnReaders = new ColumnReader[decoders.length];
+        Object[][] rows = new Object[BATCH_SIZE][];
+        PageReadStore rowGroup;
+        while ((rowGroup = fileReader.readNextRowGroup()) != null) {
+            ColumnReadStoreImpl columnReadStore =
+                    new ColumnReadStoreImpl(
+                            rowGroup,
+                            new DummyRecordConverter(requestedSchema).getRootConverter(),
+                            requestedSchema,
+                            createdBy);
+            for (int i = 0; i < decoders.length; i++) {
+                columnReaders[i] = columnReadStore.getColumnReader(columns.get(i));
+            }
+            long rowCount = rowGroup.getRowCount();
+            for (long offset = 0; offset < rowCount; offset += BATCH_SIZE) {
+                int batchSize = (int) Math.min(BATCH_SIZE, rowCount - offset);
+                for (int row = 0; row < batchSize; row++) {
+                    rows[row] = new Object[rowSize];
+                }
+                for (int i = 0; i < decoders.length; i++) {
+                    decodeColumn(
+                            columnReaders[i],
+                            columns.get(i).getMaxDefinitionLevel(),
+                            decoders[i],
+                            rows,
+                            i,
+                            batchSize);
+                }
+                for (int row = 0; row < batchSize; row++) {
+                    rowConsumer.accept(rows[row]);
+                    rows[row] = null;
+                }
+            }
+        }
+    }
+
+    private static void decodeColumn(
+            ColumnReader columnReader,
+            int maxDefinitionLevel,
+            ColumnDecoder decoder,
+            Object[][] rows,
+            int field,
+            int batchSize) {
+        for (int row = 0; row < batchSize; row++) {
+            // a value below the max definition level is null
+            if (columnReader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                rows[row][field] = decoder.decode(columnReader);
+            }
+            columnReader.consume();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColumnDecoder {
+        Object decode(ColumnReader columnReader);
+    }
+}
@@ -33,22 +33,33 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
-import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.api.ReadSupport;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
 import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordMaterializer;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
@@ -65,9 +76,11 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -85,6 +98,17 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(path, 0, FileSourceSplit.WHOLE_FILE, tableId, output);
+    }
+
+    /**
+     * Read the row groups of the byte range, a row group belongs to the range that contains its
+     * midpoint, so the ranges of a file read every row group exactly once.
+     */
+    @Override
+    public void read(
+            String path, long start, long length, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,17 +122,106 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
+        ParquetReadOptions.Builder options =
+                HadoopReadOptions.builder(hadoopInputFile.getConfiguration());
+        if (length > 0) {
+            options.withRange(start, start + length);
+        }
+        try (ParquetFileReader fileReader =
+                ParquetFileReader.open(hadoopInputFile, options.build())) {
+            ParquetColumnarReader columnarReader =
+                    createColumnarReader(fileReader.getFileMetaData().getSchema());
+            if (columnarReader != null) {
+                readColumnar(fileReader, columnarReader, tableId, output, partitionsMap);
+            } else {
+                readRecords(
+                        fileReader,
+                        hadoopInputFile.getConfiguration(),
+                        tableId,
+                        output,
+                        partitionsMap);
+            }
+        }
+    }
+
+    /**
+     * Create the reader of the flat columns of the file, which skips the Avro records of {@link
+     * #readRecords}.
+     *
+     * @return null when the file must be read record by record
+     */
+    ParquetColumnarReader createColumnarReader(MessageType fileSchema) {
+        return ParquetColumnarReader.create(fileSchema, indexes, seaTunnelRowType);
+    }
+
+    private void readColumnar(
+            ParquetFileReader fileReader,
+            ParquetColumnarReader columnarReader,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            Map<String, String> partitionsMap)
+            throws IOException {
+        int fieldsCount = seaTunnelRowType.getTotalFields();
+        int rowSize = isMergePartition ? fieldsCount + partitionsMap.size() : fieldsCount;
+        columnarReader.read(
+                fileReader,
+                rowSize,
+                fields -> {
+                    if (isMergePartition) {
+                        int index = fieldsCount;
+                        for (String value : partitionsMap.values()) {
+                            fields[index++] = value;
+                        }
+                    }
+                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                    seaTunnelRow.setTableId(tableId);
+                    output.collect(seaTunnelRow);
+                });
+    }
+
+    /**
+     * Materialize the Avro records of the row groups left in the file reader, the same way as
+     * {@link org.apache.parquet.avro.AvroParquetReader} does, but without opening the file and
+     * reading its footer again.
+     */
+    private void readRecords(
+            ParquetFileReader fileReader,
+            Configuration configuration,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            Map<String, String> partitionsMap)
+            throws IOException {
         int fieldsCount = seaTunnelRowType.getTotalFields();
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
-        GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
-                AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
-            while ((record = reader.read()) != null) {
+        AvroReadSupport<GenericRecord> readSupport = new AvroReadSupport<>(dataModel);
+        FileMetaData fileMetaData = fileReader.getFileMetaData();
+        MessageType fileSchema = fileMetaData.getSchema();
+        Map<String, String> keyValueMetaData = fileMetaData.getKeyValueMetaData();
+        Map<String, Set<String>> initMetaData = new HashMap<>();
+        keyValueMetaData.forEach(
+                (key, value) -> initMetaData.put(key, Collections.singleton(value)));
+        ReadSupport.ReadContext readContext =
+                readSupport.init(new InitContext(configuration, initMetaData, fileSchema));
+        MessageType requestedSchema = readContext.getRequestedSchema();
+        fileReader.setRequestedSchema(requestedSchema);
+        RecordMaterializer<GenericRecord> materializer =
+                readSupport.prepareForRead(
+                        configuration, keyValueMetaData, fileSchema, readContext);
+        MessageColumnIO columnIO =
+                new ColumnIOFactory(fileMetaData.getCreatedBy())
+                        .getColumnIO(requestedSchema, fileSchema, true);
+        PageReadStore rowGroup;
+        while ((rowGroup = fileReader.readNextRowGroup()) != null) {
+            RecordReader<GenericRecord> recordReader =
+                    columnIO.getRecordReader(rowGroup, materializer, FilterCompat.NOOP);
+            for (long row = 0; row < rowGroup.getRowCount(); row++) {
+                GenericRecord record = recordReader.read();
+                if (record == null || recordReader.shouldSkipCurrentRecord()) {
+                    continue;
+                }
                 Object[] fields;
                 if (isMergePartition) {
                     int index = fieldsCount;
@@ -130,6 +243,11 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    protected boolean isSplittable(String path) {
+        return true;
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -207,15 +325,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 return bytes;
             case TIMESTAMP:
                 if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
+                    return int96ToLocalDateTime(
+                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes()));
                 }
                 Instant instant = Instant.ofEpochMilli((long) field);
                 return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
@@ -236,6 +347,16 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    static LocalDateTime int96ToLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        int julianDay = nanoTime.getJulianDay();
+        long nanosOfDay = nanoTime.getTimeOfDayNanos();
+        long timestamp =
+                (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanosOfDay / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfo(TablePath.DEFAULT, path);
@@ -29,10 +29,12 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,6 +47,27 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /**
+     * Read the rows of the byte range {@code [start, start + length)} of the file, a length not
+     * greater than 0 reads the whole file. Only the strategies that return byte range splits from
+     * {@link #getFileSourceSplits(String, String, long)} need to override it.
+     */
+    default void read(
+            String path, long start, long length, String tableId, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(path, tableId, output);
+    }
+
+    /**
+     * Get the splits of the file, the file is divided into byte ranges of {@code splitSize} bytes
+     * when the format can be read from the middle of the file, otherwise the whole file is one
+     * split.
+     */
+    default List<FileSourceSplit> getFileSourceSplits(String tableId, String path, long splitSize)
+            throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
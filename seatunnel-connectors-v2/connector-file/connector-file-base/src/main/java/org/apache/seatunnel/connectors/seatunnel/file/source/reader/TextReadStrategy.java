@@ -29,6 +29,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
 import org.apache.seatunnel.common.utils.DateUtils;
 import org.apache.seatunnel.common.utils.TimeUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
@@ -71,6 +72,30 @@ public class TextReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.TEXT);
     }
 
+    @Override
+    public void read(
+            String path, long start, long length, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (length <= 0) {
+            read(path, tableId, output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        // the header rows are only in the range that starts the file
+        readLines(
+                tableId,
+                output,
+                openLineRange(path, start, length),
+                partitionsMap,
+                start == 0 ? skipHeaderNumber : 0);
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return compressFormat == CompressFormat.NONE
+                && archiveCompressFormat == ArchiveCompressFormat.NONE;
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -96,11 +121,20 @@ public class TextReadStrategy extends AbstractReadStrategy {
                 actualInputStream = inputStream;
                 break;
         }
+        readLines(tableId, output, actualInputStream, partitionsMap, skipHeaderNumber);
+    }
 
+    private void readLines(
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap,
+            long skipLines)
+            throws IOException {
         try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
+                new BufferedReader(new InputStreamReader(inputStream, encoding))) {
             reader.lines()
-                    .skip(skipHeaderNumber)
+                    .skip(skipLines)
                     .forEach(
                             line -> {
                                 try {
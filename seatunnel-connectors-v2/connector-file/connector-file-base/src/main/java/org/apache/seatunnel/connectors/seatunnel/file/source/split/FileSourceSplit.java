@@ -24,26 +24,47 @@ import lombok.Getter;
 public class FileSourceSplit implements SourceSplit {
     private static final long serialVersionUID = 1L;
 
+    /** The length of a split that reads the whole file. */
+    public static final long WHOLE_FILE = -1;
+
     @Getter private final String tableId;
     @Getter private final String filePath;
 
+    /**
+     * The byte range of the file read by this split. A length not greater than 0 means the whole
+     * file, which is also the value of the splits restored from a state before the range is added.
+     */
+    @Getter private final long start;
+
+    @Getter private final long length;
+
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, WHOLE_FILE);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String splitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return splitId;
         }
-        return tableId + "_" + filePath;
+        return splitId + "@" + start;
     }
 }
@@ -20,6 +20,9 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -30,7 +33,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -41,23 +43,17 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Context<FileSourceSplit> context;
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
-    private final Map<String, List<String>> filePathMap;
+    private final List<FileSourceSplit> allSplit;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
             BaseMultipleTableFileSourceConfig multipleTableFileSourceConfig) {
         this.context = context;
-        this.filePathMap =
-                multipleTableFileSourceConfig.getFileSourceConfigs().stream()
-                        .collect(
-                                Collectors.toMap(
-                                        localFileSourceConfig ->
-                                                localFileSourceConfig
-                                                        .getCatalogTable()
-                                                        .getTableId()
-                                                        .toTablePath()
-                                                        .toString(),
-                                        BaseFileSourceConfig::getFilePaths));
+        this.allSplit = new ArrayList<>();
+        for (BaseFileSourceConfig fileSourceConfig :
+                multipleTableFileSourceConfig.getFileSourceConfigs()) {
+            allSplit.addAll(discoverySplits(fileSourceConfig));
+        }
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
     }
@@ -89,13 +85,7 @@ public class MultipleTableFileSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
-        for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
-            String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
-            }
-        }
+        pendingSplit.addAll(allSplit);
         assignSplit(subtaskId);
     }
 
@@ -140,6 +130,28 @@ public class MultipleTableFileSourceSplitEnumerator
         context.signalNoMoreSplits(taskId);
     }
 
+    private static List<FileSourceSplit> discoverySplits(BaseFileSourceConfig fileSourceConfig) {
+        String tableId = fileSourceConfig.getCatalogTable().getTableId().toTablePath().toString();
+        long splitSize =
+                fileSourceConfig
+                        .getBaseFileSourceConfig()
+                        .get(BaseSourceConfigOptions.FILE_SPLIT_SIZE);
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (String filePath : fileSourceConfig.getFilePaths()) {
+            try {
+                splits.addAll(
+                        fileSourceConfig
+                                .getReadStrategy()
+                                .getFileSourceSplits(tableId, filePath, splitSize));
+            } catch (IOException e) {
+                String errorMsg = String.format("Get splits of this file [%s] failed", filePath);
+                throw new FileConnectorException(
+                        FileConnectorErrorCode.FILE_READ_FAILED, errorMsg, e);
+            }
+        }
+        return splits;
+    }
+
     private static int getSplitOwner(String tp, int numReaders) {
         return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
     }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class LineRangeInputStreamTest {
+
+    @Test
+    public void testRangesReadEveryLineOnce() throws IOException {
+        String[] contents = {
+            "a\nbb\nccc\n\n\ndddd\ne", "a\nbb\nccc\n", "\n\n\n", "abcdef", "a\r\nb\r\n"
+        };
+        for (String content : contents) {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            for (int splitSize = 1; splitSize <= bytes.length; splitSize++) {
+                StringBuilder result = new StringBuilder();
+                for (int start = 0; start < bytes.length; start += splitSize) {
+                    result.append(
+                            readRange(bytes, start, Math.min(start + splitSize, bytes.length)));
+                }
+                Assertions.assertEquals(content, result.toString(), "split size " + splitSize);
+            }
+        }
+    }
+
+    @Test
+    public void testSingleByteRead() throws IOException {
+        byte[] bytes = "a\nbb\nccc\n".getBytes(StandardCharsets.UTF_8);
+        // the line starting at the end of the range belongs to the range
+        try (InputStream in = new ByteArrayInputStream(bytes, 2, bytes.length - 2)) {
+            LineRangeInputStream range = new LineRangeInputStream(in, 2, 5);
+            StringBuilder result = new StringBuilder();
+            for (int c = range.read(); c >= 0; c = range.read()) {
+                result.append((char) c);
+            }
+            Assertions.assertEquals("ccc\n", result.toString());
+        }
+    }
+
+    @Test
+    public void testReadTextFileByRange(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("test.txt");
+        List<String> lines = new ArrayList<>();
+        lines.add("header");
+        for (int i = 0; i < 100; i++) {
+            lines.add("line_" + i);
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+
+        Map<String, Object> schema = new HashMap<>();
+        schema.put("fields", Collections.singletonMap("name", "string"));
+        Map<String, Object> options = new HashMap<>();
+        options.put("file_format_type", "text");
+        options.put("skip_header_row_number", 1);
+        options.put("schema", schema);
+        Config pluginConfig = ConfigFactory.parseMap(options);
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            readStrategy.setPluginConfig(pluginConfig);
+            readStrategy.init(new ReadStrategyEncodingTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            String path = readStrategy.getFileNamesByPath(file.toString()).get(0);
+            readStrategy.setCatalogTable(CatalogTableUtil.buildWithConfig(pluginConfig));
+
+            List<FileSourceSplit> splits = readStrategy.getFileSourceSplits("table", path, 64);
+            Assertions.assertEquals((Files.size(file) + 63) / 64, splits.size());
+            ReadStrategyEncodingTest.TestCollector collector =
+                    new ReadStrategyEncodingTest.TestCollector();
+            for (FileSourceSplit split : splits) {
+                readStrategy.read(
+                        split.getFilePath(),
+                        split.getStart(),
+                        split.getLength(),
+                        split.getTableId(),
+                        collector);
+            }
+            Assertions.assertEquals(
+                    lines.subList(1, lines.size()),
+                    collector.getRows().stream()
+                            .map(row -> (String) row.getField(0))
+                            .collect(Collectors.toList()));
+            Assertions.assertEquals(1, readStrategy.getFileSourceSplits("table", path, 0).size());
+        }
+    }
+
+    private static String readRange(byte[] bytes, int start, int end) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in =
+                new LineRangeInputStream(
+                        new ByteArrayInputStream(bytes, start, bytes.length - start), start, end)) {
+            byte[] buffer = new byte[3];
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                out.write(buffer, 0, n);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.schema.MessageType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+@DisabledOnOs(OS.WINDOWS)
+public class ParquetColumnarReaderTest {
+    private static final int ROW_COUNT = 5000;
+    private static final String SCHEMA =
+            "{\"type\":\"record\",\"name\":\"test\",\"fields\":["
+                    + "{\"name\":\"c_int\",\"type\":\"int\"},"
+                    + "{\"name\":\"c_bigint\",\"type\":[\"null\",\"long\"]},"
+                    + "{\"name\":\"c_string\",\"type\":[\"null\",\"string\"]},"
+                    + "{\"name\":\"c_double\",\"type\":\"double\"},"
+                    + "{\"name\":\"c_boolean\",\"type\":\"boolean\"},"
+                    + "{\"name\":\"c_bytes\",\"type\":\"bytes\"},"
+                    + "{\"name\":\"c_decimal\",\"type\":{\"type\":\"fixed\",\"name\":\"c_decimal\",\"size\":16,\"logicalType\":\"decimal\",\"precision\":30,\"scale\":8}},"
+                    + "{\"name\":\"c_date\",\"type\":{\"type\":\"int\",\"logicalType\":\"date\"}},"
+                    + "{\"name\":\"c_timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}"
+                    + "]}";
+
+    @Test
+    public void testReadFlatColumns(@TempDir Path tempDir) throws Exception {
+        String path = writeTestData(tempDir);
+        try (ColumnarReadStrategy parquetReadStrategy = new ColumnarReadStrategy()) {
+            parquetReadStrategy.init(
+                    new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            SeaTunnelRowType rowType = parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+            Assertions.assertNotNull(
+                    ParquetColumnarReader.create(
+                            new AvroSchemaConverter().convert(new Schema.Parser().parse(SCHEMA)),
+                            IntStream.range(0, rowType.getTotalFields()).toArray(),
+                            rowType));
+
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            parquetReadStrategy.read(path, "", collector);
+            Assertions.assertTrue(parquetReadStrategy.columnar);
+            List<SeaTunnelRow> rows = collector.getRows();
+            Assertions.assertEquals(ROW_COUNT, rows.size());
+            for (int i = 0; i < ROW_COUNT; i++) {
+                SeaTunnelRow row = rows.get(i);
+                Assertions.assertEquals(i, row.getField(0));
+                Assertions.assertEquals(i % 3 == 0 ? null : (long) i, row.getField(1));
+                Assertions.assertEquals(i % 5 == 0 ? null : "name_" + i, row.getField(2));
+                Assertions.assertEquals(i * 1.5d, row.getField(3));
+                Assertions.assertEquals(i % 2 == 0, row.getField(4));
+                Assertions.assertArrayEquals(
+                        ("bytes_" + i).getBytes(StandardCharsets.UTF_8), (byte[]) row.getField(5));
+                Assertions.assertEquals(
+                        new BigDecimal(BigInteger.valueOf(i * 100000001L), 8), row.getField(6));
+                Assertions.assertEquals(LocalDate.ofEpochDay(i), row.getField(7));
+                Assertions.assertEquals(
+                        LocalDateTime.ofInstant(
+                                Instant.ofEpochMilli(i * 1000L), ZoneId.systemDefault()),
+                        row.getField(8));
+            }
+        }
+    }
+
+    @Test
+    public void testReadProjectedColumns(@TempDir Path tempDir) throws Exception {
+        String path = writeTestData(tempDir);
+        try (ColumnarReadStrategy parquetReadStrategy = new ColumnarReadStrategy()) {
+            parquetReadStrategy.setPluginConfig(
+                    ConfigFactory.parseMap(
+                            Collections.singletonMap(
+                                    "read_columns", Arrays.asList("c_string", "c_int"))));
+            parquetReadStrategy.init(
+                    new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            parquetReadStrategy.read(path, "", collector);
+            Assertions.assertTrue(parquetReadStrategy.columnar);
+            Assertions.assertEquals(ROW_COUNT, collector.getRows().size());
+            SeaTunnelRow row = collector.getRows().get(7);
+            Assertions.assertEquals(2, row.getArity());
+            Assertions.assertEquals("name_7", row.getField(0));
+            Assertions.assertEquals(7, row.getField(1));
+        }
+    }
+
+    @Test
+    public void testNestedColumnIsNotSupported() {
+        Schema schema =
+                new Schema.Parser()
+                        .parse(
+                                "{\"type\":\"record\",\"name\":\"test\",\"fields\":[{\"name\":\"c_array\",\"type\":{\"type\":\"array\",\"items\":\"int\"}}]}");
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_array"},
+                        new SeaTunnelDataType[] {ArrayType.INT_ARRAY_TYPE});
+        Assertions.assertNull(
+                ParquetColumnarReader.create(
+                        new AvroSchemaConverter().convert(schema), new int[] {0}, rowType));
+    }
+
+    @Test
+    public void testReadRecordsOfNestedColumns(@TempDir Path tempDir) throws Exception {
+        String path = tempDir.resolve("nested.parquet").toString();
+        Schema schema =
+                new Schema.Parser()
+                        .parse(
+                                "{\"type\":\"record\",\"name\":\"test\",\"fields\":[{\"name\":\"c_int\",\"type\":\"int\"},{\"name\":\"c_array\",\"type\":{\"type\":\"array\",\"items\":\"int\"}}]}");
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new org.apache.hadoop.fs.Path(path))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("c_int", i);
+                record.put("c_array", Arrays.asList(i, i + 1));
+                writer.write(record);
+            }
+        }
+        try (ColumnarReadStrategy parquetReadStrategy = new ColumnarReadStrategy()) {
+            parquetReadStrategy.init(
+                    new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+            ParquetReadStrategyTest.TestCollector collector =
+                    new ParquetReadStrategyTest.TestCollector();
+            parquetReadStrategy.read(path, "", collector);
+            Assertions.assertFalse(parquetReadStrategy.columnar);
+            Assertions.assertEquals(ROW_COUNT, collector.getRows().size());
+            SeaTunnelRow row = collector.getRows().get(7);
+            Assertions.assertEquals(7, row.getField(0));
+            Assertions.assertArrayEquals(new Integer[] {7, 8}, (Integer[]) row.getField(1));
+        }
+    }
+
+    private static String writeTestData(Path tempDir) throws IOException {
+        String path = tempDir.resolve("test.parquet").toString();
+        Schema schema = new Schema.Parser().parse(SCHEMA);
+        Schema decimalSchema = schema.getField("c_decimal").schema();
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new org.apache.hadoop.fs.Path(path))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .withRowGroupSize(64 * 1024)
+                        .build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("c_int", i);
+                record.put("c_bigint", i % 3 == 0 ? null : (long) i);
+                record.put("c_string", i % 5 == 0 ? null : "name_" + i);
+                record.put("c_double", i * 1.5d);
+                record.put("c_boolean", i % 2 == 0);
+                record.put(
+                        "c_bytes",
+                        ByteBuffer.wrap(("bytes_" + i).getBytes(StandardCharsets.UTF_8)));
+                byte[] unscaled = BigInteger.valueOf(i * 100000001L).toByteArray();
+                byte[] fixed = new byte[16];
+                System.arraycopy(
+                        unscaled, 0, fixed, fixed.length - unscaled.length, unscaled.length);
+                record.put("c_decimal", new GenericData.Fixed(decimalSchema, fixed));
+                record.put("c_date", i);
+                record.put("c_timestamp", i * 1000L);
+                writer.write(record);
+            }
+        }
+        return path;
+    }
+
+    /** Records whether the last file was read by {@link ParquetColumnarReader}. */
+    private static class ColumnarReadStrategy extends ParquetReadStrategy {
+        private boolean columnar;
+
+        @Override
+        ParquetColumnarReader createColumnarReader(MessageType fileSchema) {
+            ParquetColumnarReader columnarReader = super.createColumnarReader(fileSchema);
+            columnar = columnarReader != null;
+            return columnarReader;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericArray;
@@ -52,8 +53,11 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
 
@@ -190,6 +194,55 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadByRange() throws Exception {
+        String path = "/tmp/data_range.parquet";
+        new File(path).delete();
+        Schema schema =
+                new Schema.Parser()
+                        .parse(
+                                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"}]}");
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(path))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .withRowGroupSize(1024)
+                        .withPageSize(512)
+                        .build()) {
+            for (int i = 0; i < 10000; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                writer.write(record);
+            }
+        }
+        try (ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy()) {
+            parquetReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+            long splitSize = new File(path).length() / 4;
+            List<FileSourceSplit> splits =
+                    parquetReadStrategy.getFileSourceSplits("", path, splitSize);
+            Assertions.assertTrue(splits.size() > 1);
+            List<Integer> ids = new ArrayList<>();
+            int nonEmptySplits = 0;
+            for (FileSourceSplit split : splits) {
+                TestCollector testCollector = new TestCollector();
+                parquetReadStrategy.read(
+                        path, split.getStart(), split.getLength(), "", testCollector);
+                if (!testCollector.getRows().isEmpty()) {
+                    nonEmptySplits++;
+                }
+                testCollector.getRows().forEach(row -> ids.add((Integer) row.getField(0)));
+            }
+            Assertions.assertTrue(nonEmptySplits > 1);
+            Collections.sort(ids);
+            Assertions.assertEquals(
+                    IntStream.range(0, 10000).boxed().collect(Collectors.toList()), ids);
+        } finally {
+            new File(path).delete();
+        }
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadUnsupportedType() throws Exception {
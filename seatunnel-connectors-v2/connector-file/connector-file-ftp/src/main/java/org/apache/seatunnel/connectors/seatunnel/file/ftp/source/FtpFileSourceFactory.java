@@ -84,6 +84,7 @@ public class FtpFileSourceFactory implements TableSourceFactory {
                 .optional(FtpConfigOptions.FTP_CONNECTION_MODE)
                 .optional(BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC)
                 .optional(BaseSourceConfigOptions.NULL_FORMAT)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
                 .build();
     }
 
@@ -56,11 +56,14 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.common.exception.CommonErrorCode.UNSUPPORTED_METHOD;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
@@ -70,6 +73,8 @@ import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.ch
 public abstract class AbstractJdbcCatalog implements Catalog {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractJdbcCatalog.class);
 
+    private static final int BULK_METADATA_TABLES_PER_QUERY = 500;
+
     protected final String catalogName;
     protected final String defaultDatabase;
     protected final String username;
@@ -233,6 +238,282 @@ public abstract class AbstractJdbcCatalog implements Catalog {
         }
     }
 
+    /**
+     * Check the tables with one {@link #listTables} per database, the tables that are not listed
+     * are checked one by one with {@link #tableExists}.
+     */
+    @Override
+    public List<TablePath> listExistingTables(List<TablePath> tablePaths, int parallelism)
+            throws CatalogException {
+        Map<String, Set<String>> tablesOfDatabase = new HashMap<>();
+        List<TablePath> existingTables = new ArrayList<>();
+        for (TablePath tablePath : tablePaths) {
+            Set<String> tables =
+                    tablesOfDatabase.computeIfAbsent(
+                            getDatabaseName(tablePath), this::listTablesIgnoreError);
+            if (tables.contains(getTableName(tablePath)) || tableExists(tablePath)) {
+                existingTables.add(tablePath);
+            }
+        }
+        return existingTables;
+    }
+
+    private Set<String> listTablesIgnoreError(String databaseName) {
+        try {
+            return new HashSet<>(listTables(databaseName));
+        } catch (Exception e) {
+            log.debug("Failed listing tables of database {}", databaseName, e);
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Read the columns and keys of many tables with a few queries per database when the catalog
+     * provides {@link #getSelectColumnsSql(String, List)}, otherwise load the tables one by one.
+     * All the metadata goes through the connection of the database, so the tables are never loaded
+     * in parallel.
+     */
+    @Override
+    public List<CatalogTable> getTables(List<TablePath> tablePaths, int parallelism)
+            throws CatalogException {
+        Map<String, Map<String, String>> unsupportedTable = new LinkedHashMap<>();
+        Map<TablePath, CatalogTable> catalogTables;
+        try {
+            catalogTables = getTablesInBulk(tablePaths, unsupportedTable);
+        } catch (SeaTunnelRuntimeException e) {
+            if (e.getSeaTunnelErrorCode().getCode().equals(UNSUPPORTED_METHOD.getCode())) {
+                log.info(
+                        "The catalog: {} is not supported the bulk metadata retrieval, load the tables one by one",
+                        this.catalogName);
+                return Catalog.super.getTables(tablePaths, 1);
+            }
+            throw e;
+        }
+        if (!unsupportedTable.isEmpty()) {
+            throw CommonError.getCatalogTablesWithUnsupportedType(catalogName, unsupportedTable);
+        }
+        return tablePaths.stream().map(catalogTables::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Read the columns and keys of the given existing tables with a few queries per database. A
+     * table with unsupported column types is put in {@code unsupportedTable} instead of failing the
+     * others, so the caller can report it together with its own errors.
+     *
+     * @throws SeaTunnelRuntimeException with {@code UNSUPPORTED_METHOD} if the catalog does not
+     *     provide the bulk metadata queries.
+     */
+    public Map<TablePath, CatalogTable> getTablesInBulk(
+            List<TablePath> tablePaths, Map<String, Map<String, String>> unsupportedTable)
+            throws CatalogException {
+        if (tablePaths.stream().anyMatch(tablePath -> getDatabaseName(tablePath) == null)) {
+            throw CommonError.unsupportedMethod(this.catalogName, "getTablesInBulk");
+        }
+        Map<String, List<TablePath>> tablesOfDatabase =
+                tablePaths.stream()
+                        .distinct()
+                        .collect(
+                                Collectors.groupingBy(
+                                        this::getDatabaseName,
+                                        LinkedHashMap::new,
+                                        Collectors.toList()));
+        Map<TablePath, CatalogTable> catalogTables = new HashMap<>();
+        try {
+            for (Map.Entry<String, List<TablePath>> entry : tablesOfDatabase.entrySet()) {
+                List<TablePath> tables = entry.getValue();
+                for (int i = 0; i < tables.size(); i += BULK_METADATA_TABLES_PER_QUERY) {
+                    List<TablePath> batch =
+                            tables.subList(
+                                    i, Math.min(i + BULK_METADATA_TABLES_PER_QUERY, tables.size()));
+                    getTablesOfDatabaseInBulk(
+                            entry.getKey(), batch, catalogTables, unsupportedTable);
+                }
+            }
+        } catch (SQLException e) {
+            throw new CatalogException(
+                    String.format("Failed getting tables in catalog %s", catalogName), e);
+        }
+        return catalogTables;
+    }
+
+    private void getTablesOfDatabaseInBulk(
+            String databaseName,
+            List<TablePath> tablePaths,
+            Map<TablePath, CatalogTable> catalogTables,
+            Map<String, Map<String, String>> unsupportedTable)
+            throws SQLException {
+        String columnsSql = getSelectColumnsSql(databaseName, tablePaths);
+        Connection conn = getConnection(getUrlFromDatabaseName(databaseName));
+        // table name -> columns
+        Map<String, TableSchema.Builder> builders = new HashMap<>();
+        Map<String, Map<String, String>> unsupportedColumns = new HashMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(columnsSql);
+                ResultSet resultSet = ps.executeQuery()) {
+            while (resultSet.next()) {
+                String tableName = getMetadataTableName(resultSet);
+                TableSchema.Builder builder =
+                        builders.computeIfAbsent(tableName, key -> TableSchema.builder());
+                try {
+                    builder.column(buildColumn(resultSet));
+                } catch (SeaTunnelRuntimeException e) {
+                    if (e.getSeaTunnelErrorCode()
+                            .equals(CommonErrorCode.CONVERT_TO_SEATUNNEL_TYPE_ERROR_SIMPLE)) {
+                        unsupportedColumns
+                                .computeIfAbsent(tableName, key -> new LinkedHashMap<>())
+                                .put(e.getParams().get("field"), e.getParams().get("dataType"));
+                    } else {
+                        throw e;
+                    }
+                }
+            }
+        }
+        buildKeysInBulk(conn, databaseName, tablePaths, builders);
+        for (TablePath tablePath : tablePaths) {
+            String tableName = getTableName(tablePath);
+            Map<String, String> unsupported = getIgnoreCase(unsupportedColumns, tableName);
+            if (unsupported != null) {
+                unsupportedTable.put(tablePath.getFullName(), unsupported);
+                continue;
+            }
+            TableSchema.Builder builder = getIgnoreCase(builders, tableName);
+            if (builder == null) {
+                throw new TableNotExistException(catalogName, tablePath);
+            }
+            catalogTables.put(
+                    tablePath,
+                    CatalogTable.of(
+                            getTableIdentifier(tablePath),
+                            builder.build(),
+                            buildConnectorOptions(tablePath),
+                            Collections.emptyList(),
+                            "",
+                            catalogName));
+        }
+    }
+
+    private void buildKeysInBulk(
+            Connection conn,
+            String databaseName,
+            List<TablePath> tablePaths,
+            Map<String, TableSchema.Builder> builders)
+            throws SQLException {
+        String indexesSql;
+        try {
+            indexesSql = getSelectIndexesSql(databaseName, tablePaths);
+        } catch (SeaTunnelRuntimeException e) {
+            if (!e.getSeaTunnelErrorCode().getCode().equals(UNSUPPORTED_METHOD.getCode())) {
+                throw e;
+            }
+            DatabaseMetaData metaData = conn.getMetaData();
+            for (TablePath tablePath : tablePaths) {
+                TableSchema.Builder builder = getIgnoreCase(builders, getTableName(tablePath));
+                if (builder != null) {
+                    getPrimaryKey(metaData, tablePath).ifPresent(builder::primaryKey);
+                    getConstraintKeys(metaData, tablePath).forEach(builder::constraintKey);
+                }
+            }
+            return;
+        }
+        // table name -> index name -> key
+        Map<String, PrimaryKey> primaryKeys = new HashMap<>();
+        Map<String, Map<String, ConstraintKey>> constraintKeys = new HashMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(indexesSql);
+                ResultSet resultSet = ps.executeQuery()) {
+            while (resultSet.next()) {
+                String columnName = resultSet.getString("COLUMN_NAME");
+                if (columnName == null) {
+                    continue;
+                }
+                String tableName = getMetadataTableName(resultSet);
+                String indexName = CatalogUtils.cleanKeyName(resultSet.getString("INDEX_NAME"));
+                if (isPrimaryKeyIndex(indexName)) {
+                    primaryKeys
+                            .computeIfAbsent(
+                                    tableName, key -> PrimaryKey.of(indexName, new ArrayList<>()))
+                            .getColumnNames()
+                            .add(columnName);
+                    continue;
+                }
+                boolean noUnique = resultSet.getBoolean("NON_UNIQUE");
+                ConstraintKey constraintKey =
+                        constraintKeys
+                                .computeIfAbsent(tableName, key -> new LinkedHashMap<>())
+                                .computeIfAbsent(
+                                        indexName,
+                                        key ->
+                                                ConstraintKey.of(
+                                                        noUnique
+                                                                ? ConstraintKey.ConstraintType
+                                                                        .INDEX_KEY
+                                                                : ConstraintKey.ConstraintType
+                                                                        .UNIQUE_KEY,
+                                                        indexName,
+                                                        new ArrayList<>()));
+                ConstraintKey.ColumnSortType sortType =
+                        "A".equals(resultSet.getString("ASC_OR_DESC"))
+                                ? ConstraintKey.ColumnSortType.ASC
+                                : ConstraintKey.ColumnSortType.DESC;
+                constraintKey
+                        .getColumnNames()
+                        .add(new ConstraintKey.ConstraintKeyColumn(columnName, sortType));
+            }
+        }
+        builders.forEach(
+                (tableName, builder) -> {
+                    Optional.ofNullable(primaryKeys.get(tableName)).ifPresent(builder::primaryKey);
+                    constraintKeys
+                            .getOrDefault(tableName, Collections.emptyMap())
+                            .values()
+                            .forEach(builder::constraintKey);
+                });
+    }
+
+    /** The metadata may return the table names in another case than the configured ones. */
+    private static <T> T getIgnoreCase(Map<String, T> tables, String tableName) {
+        T value = tables.get(tableName);
+        if (value != null) {
+            return value;
+        }
+        return tables.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(tableName))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * The sql to read the columns of many tables of the database at once, each row is passed to
+     * {@link #buildColumn(ResultSet)} and must carry the table name read by {@link
+     * #getMetadataTableName(ResultSet)}, ordered by the column position.
+     */
+    protected String getSelectColumnsSql(String databaseName, List<TablePath> tablePaths) {
+        throw CommonError.unsupportedMethod(this.catalogName, "getSelectColumnsSql");
+    }
+
+    /**
+     * The sql to read the indexes of many tables of the database at once, the rows have the columns
+     * TABLE_NAME, INDEX_NAME, NON_UNIQUE, COLUMN_NAME and ASC_OR_DESC, ordered by the column
+     * position in the index.
+     */
+    protected String getSelectIndexesSql(String databaseName, List<TablePath> tablePaths) {
+        throw CommonError.unsupportedMethod(this.catalogName, "getSelectIndexesSql");
+    }
+
+    /** The table name of a bulk metadata row, the same as {@link #getTableName(TablePath)}. */
+    protected String getMetadataTableName(ResultSet resultSet) throws SQLException {
+        return resultSet.getString("TABLE_NAME");
+    }
+
+    protected boolean isPrimaryKeyIndex(String indexName) {
+        return "PRIMARY".equals(indexName);
+    }
+
+    private String getDatabaseName(TablePath tablePath) {
+        return StringUtils.isNotBlank(tablePath.getDatabaseName())
+                ? tablePath.getDatabaseName()
+                : defaultDatabase;
+    }
+
     protected Optional<PrimaryKey> getPrimaryKey(DatabaseMetaData metaData, TablePath tablePath)
             throws SQLException {
         return getPrimaryKey(
@@ -45,6 +45,7 @@ import java.sql.Statement;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class MySqlCatalog extends AbstractJdbcCatalog {
@@ -52,6 +53,13 @@ public class MySqlCatalog extends AbstractJdbcCatalog {
     private static final String SELECT_COLUMNS_SQL_TEMPLATE =
             "SELECT * FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME ='%s' ORDER BY ORDINAL_POSITION ASC";
 
+    private static final String SELECT_TABLES_COLUMNS_SQL_TEMPLATE =
+            "SELECT * FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME ASC, ORDINAL_POSITION ASC";
+
+    private static final String SELECT_TABLES_INDEXES_SQL_TEMPLATE =
+            "SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, COLUMN_NAME, COLLATION AS ASC_OR_DESC FROM INFORMATION_SCHEMA.STATISTICS "
+                    + "WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME IN (%s) ORDER BY TABLE_NAME ASC, INDEX_NAME ASC, SEQ_IN_INDEX ASC";
+
     private static final String SELECT_DATABASE_EXISTS =
             "SELECT SCHEMA_NAME FROM information_schema.schemata WHERE SCHEMA_NAME = '%s'";
 
@@ -105,6 +113,24 @@ public class MySqlCatalog extends AbstractJdbcCatalog {
                 SELECT_COLUMNS_SQL_TEMPLATE, tablePath.getDatabaseName(), tablePath.getTableName());
     }
 
+    @Override
+    protected String getSelectColumnsSql(String databaseName, List<TablePath> tablePaths) {
+        return String.format(
+                SELECT_TABLES_COLUMNS_SQL_TEMPLATE, databaseName, getTableNamesSql(tablePaths));
+    }
+
+    @Override
+    protected String getSelectIndexesSql(String databaseName, List<TablePath> tablePaths) {
+        return String.format(
+                SELECT_TABLES_INDEXES_SQL_TEMPLATE, databaseName, getTableNamesSql(tablePaths));
+    }
+
+    private String getTableNamesSql(List<TablePath> tablePaths) {
+        return tablePaths.stream()
+                .map(tablePath -> "'" + tablePath.getTableName().replace("'", "''") + "'")
+                .collect(Collectors.joining(","));
+    }
+
     @Override
     protected TableIdentifier getTableIdentifier(TablePath tablePath) {
         return TableIdentifier.of(
@@ -81,6 +81,14 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Integer> MAX_IN_FLIGHT_BATCHES =
+            Options.key("max_in_flight_batches")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max number of batches that are executed asynchronously while the next batch is filled. "
+                                    + "Zero means the batch is executed synchronously by the writer thread.");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -164,6 +172,13 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_BINARY_COPY_STATEMENT =
+            Options.key("use_binary_copy_statement")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "stream the rows of the copy in statement in the binary format instead of csv (postgresql)");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -43,6 +43,9 @@ public class JdbcSourceConfig implements Serializable {
     private int splitSampleShardingThreshold;
     private int splitInverseSamplingRate;
     private boolean decimalTypeNarrowing;
+    private boolean splitResumable;
+    private int splitPollMaxRows;
+    private long splitPollMaxDurationMs;
 
     public static JdbcSourceConfig of(ReadonlyConfig config) {
         JdbcSourceConfig.Builder builder = JdbcSourceConfig.builder();
@@ -64,6 +67,9 @@ public class JdbcSourceConfig implements Serializable {
         builder.splitSampleShardingThreshold(
                 config.get(JdbcSourceOptions.SPLIT_SAMPLE_SHARDING_THRESHOLD));
         builder.splitInverseSamplingRate(config.get(JdbcSourceOptions.SPLIT_INVERSE_SAMPLING_RATE));
+        builder.splitResumable(config.get(JdbcSourceOptions.SPLIT_RESUMABLE));
+        builder.splitPollMaxRows(config.get(JdbcSourceOptions.SPLIT_POLL_MAX_ROWS));
+        builder.splitPollMaxDurationMs(config.get(JdbcSourceOptions.SPLIT_POLL_MAX_DURATION_MS));
 
         builder.decimalTypeNarrowing(config.get(JdbcOptions.DECIMAL_TYPE_NARROWING));
 
@@ -105,4 +105,29 @@ public interface JdbcSourceOptions {
                     .booleanType()
                     .defaultValue(false)
                     .withDescription("Skip the analysis of table count");
+
+    Option<Boolean> SPLIT_RESUMABLE =
+            Options.key("split.resumable")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Read the splits of tables whose split key is a single column primary key or unique key "
+                                    + "in split key order and record the last emitted split key in the checkpoint. "
+                                    + "The reader then returns after `split.poll-max-rows` rows or `split.poll-max-duration-ms`, "
+                                    + "so checkpoints are not blocked until a whole split is read, "
+                                    + "and a restored job continues in the middle of a split.");
+
+    Option<Integer> SPLIT_POLL_MAX_ROWS =
+            Options.key("split.poll-max-rows")
+                    .intType()
+                    .defaultValue(10000)
+                    .withDescription(
+                            "The max number of rows a resumable split emits while it holds the checkpoint lock.");
+
+    Option<Long> SPLIT_POLL_MAX_DURATION_MS =
+            Options.key("split.poll-max-duration-ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The max time in milliseconds a resumable split emits rows while it holds the checkpoint lock.");
 }
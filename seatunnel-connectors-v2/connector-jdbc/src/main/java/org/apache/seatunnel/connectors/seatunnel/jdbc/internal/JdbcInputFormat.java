@@ -106,6 +106,20 @@ public class JdbcInputFormat implements Serializable {
         }
     }
 
+    /**
+     * Whether the reader may stop in the middle of the split and resume it after the last split key
+     * it emitted.
+     */
+    public boolean isResumable(JdbcSourceSplit split) {
+        TableSchema schema = tables.get(split.getTablePath()).getTableSchema();
+        return chunkSplitter.isResumable(split, schema) && schema.contains(split.getSplitKeyName());
+    }
+
+    /** Returns the position of the split key in the rows read from the split. */
+    public int getSplitKeyIndex(JdbcSourceSplit split) {
+        return tables.get(split.getTablePath()).getTableSchema().indexOf(split.getSplitKeyName());
+    }
+
     /**
      * Closes all resources used.
      *
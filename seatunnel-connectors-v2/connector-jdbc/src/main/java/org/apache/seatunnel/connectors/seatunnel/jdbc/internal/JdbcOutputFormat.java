@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
@@ -31,11 +33,25 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
 
-/** A JDBC outputFormat */
+/**
+ * A JDBC outputFormat
+ *
+ * <p>When {@code max_in_flight_batches} is greater than zero, a full batch is handed over to a
+ * flush thread which executes the batches in order on the connection of this output format, while
+ * the writer thread fills the next batch. The writer thread blocks once {@code
+ * max_in_flight_batches} batches are waiting or executing, and {@link #flush()} waits until all of
+ * them are executed.
+ */
 public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implements Serializable {
 
     protected final JdbcConnectionProvider connectionProvider;
@@ -52,6 +68,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
 
+    private transient List<I> batch;
+    private transient ExecutorService flushExecutor;
+    private transient Semaphore inFlightBatches;
+
     public JdbcOutputFormat(
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
@@ -72,6 +92,20 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     e);
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        if (jdbcConnectionConfig.getMaxInFlightBatches() > 0) {
+            batch = new ArrayList<>();
+            inFlightBatches = new Semaphore(jdbcConnectionConfig.getMaxInFlightBatches());
+            flushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jdbc-output-format-flusher-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+    }
+
+    private boolean isAsyncFlush() {
+        return flushExecutor != null;
     }
 
     private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
@@ -99,11 +133,19 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     public final synchronized void writeRecord(I record) {
         checkFlushException();
         try {
-            addToBatch(record);
+            if (isAsyncFlush()) {
+                batch.add(record);
+            } else {
+                addToBatch(record);
+            }
             batchCount++;
             if (jdbcConnectionConfig.getBatchSize() > 0
                     && batchCount >= jdbcConnectionConfig.getBatchSize()) {
-                flush();
+                if (isAsyncFlush()) {
+                    submitBatch();
+                } else {
+                    flush();
+                }
             }
         } catch (Exception e) {
             throw new JdbcConnectorException(
@@ -118,6 +160,14 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     }
 
     public synchronized void flush() throws IOException {
+        if (isAsyncFlush()) {
+            if (flushException == null) {
+                submitBatch();
+            }
+            awaitInFlightBatches();
+            checkFlushException();
+            return;
+        }
         if (flushException != null) {
             LOG.warn(
                     String.format(
@@ -130,11 +180,71 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             return;
         }
 
+        executeBatchWithRetries();
+        batchCount = 0;
+    }
+
+    /** Hands the current batch over to the flush thread, blocks if too many are in flight. */
+    private void submitBatch() {
+        if (batchCount == 0) {
+            return;
+        }
+        List<I> records = batch;
+        batch = new ArrayList<>();
+        batchCount = 0;
+        try {
+            inFlightBatches.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for in-flight batches",
+                    e);
+        }
+        try {
+            flushExecutor.execute(() -> executeBatch(records));
+        } catch (RejectedExecutionException e) {
+            inFlightBatches.release();
+            throw e;
+        }
+    }
+
+    private void executeBatch(List<I> records) {
+        try {
+            // a failed batch fails the writer, the batches after it are dropped
+            if (flushException == null) {
+                for (I record : records) {
+                    addToBatch(record);
+                }
+                executeBatchWithRetries();
+            }
+        } catch (Exception e) {
+            LOG.error("Writing records to JDBC failed.", e);
+            flushException = e;
+        } finally {
+            inFlightBatches.release();
+        }
+    }
+
+    private void awaitInFlightBatches() {
+        int maxInFlightBatches = jdbcConnectionConfig.getMaxInFlightBatches();
+        try {
+            inFlightBatches.acquire(maxInFlightBatches);
+            inFlightBatches.release(maxInFlightBatches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for in-flight batches",
+                    e);
+        }
+    }
+
+    private void executeBatchWithRetries() {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
                 attemptFlush();
-                batchCount = 0;
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -177,7 +287,7 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         if (!closed) {
             closed = true;
 
-            if (batchCount > 0) {
+            if (batchCount > 0 || isAsyncFlush()) {
                 try {
                     flush();
                 } catch (Exception e) {
@@ -190,6 +300,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
             }
 
+            if (flushExecutor != null) {
+                flushExecutor.shutdownNow();
+            }
+
             try {
                 if (jdbcStatementExecutor != null) {
                     jdbcStatementExecutor.closeStatements();
@@ -28,6 +28,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDiale
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBinaryBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
@@ -67,7 +68,13 @@ public class JdbcOutputFormatBuilder {
                                 jdbcSinkConfig.getDatabase() + "." + jdbcSinkConfig.getTable()));
 
         final List<String> primaryKeys = jdbcSinkConfig.getPrimaryKeys();
-        if (jdbcSinkConfig.isUseCopyStatement()) {
+        if (jdbcSinkConfig.isUseCopyStatement() && jdbcSinkConfig.isUseBinaryCopyStatement()) {
+            statementExecutorFactory =
+                    () ->
+                            createBinaryCopyInBufferStatementExecutor(
+                                    createBinaryCopyInBatchStatementExecutor(
+                                            dialect, table, tableSchema));
+        } else if (jdbcSinkConfig.isUseCopyStatement()) {
             statementExecutorFactory =
                     () ->
                             createCopyInBufferStatementExecutor(
@@ -238,6 +245,23 @@ public class JdbcOutputFormatBuilder {
         return new CopyManagerBatchStatementExecutor(copyInSql, tableSchema);
     }
 
+    private static JdbcBatchStatementExecutor<SeaTunnelRow>
+            createBinaryCopyInBufferStatementExecutor(
+                    CopyManagerBinaryBatchStatementExecutor copyManagerBatchStatementExecutor) {
+        return new BufferedBatchStatementExecutor(
+                copyManagerBatchStatementExecutor, Function.identity());
+    }
+
+    private static CopyManagerBinaryBatchStatementExecutor createBinaryCopyInBatchStatementExecutor(
+            JdbcDialect dialect, String table, TableSchema tableSchema) {
+        String columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(dialect::quoteIdentifier)
+                        .collect(Collectors.joining(",", "(", ")"));
+        String copyInSql = String.format("COPY %s %s FROM STDIN WITH BINARY", table, columns);
+        return new CopyManagerBinaryBatchStatementExecutor(copyInSql, tableSchema);
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOnlyExecutor(
             JdbcDialect dialect,
             String database,
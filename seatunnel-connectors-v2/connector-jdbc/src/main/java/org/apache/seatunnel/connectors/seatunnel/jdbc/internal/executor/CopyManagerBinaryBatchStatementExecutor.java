@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Writes the rows with {@code COPY ... FROM STDIN WITH BINARY}. The copy operation is started by
+ * the first row of a batch and the rows are encoded straight into it, so a batch is never held in
+ * memory as text. {@link #executeBatch()} ends the copy operation.
+ */
+@Slf4j
+public class CopyManagerBinaryBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String copySql;
+    private final SeaTunnelRowType rowType;
+    private CopyManagerProxy copyManagerProxy;
+    private CopyManagerProxy.CopyInOutputStream copyIn;
+    private PostgresCopyBinaryWriter writer;
+
+    public CopyManagerBinaryBatchStatementExecutor(String copySql, TableSchema tableSchema) {
+        this.copySql = copySql;
+        this.rowType = tableSchema.toPhysicalRowDataType();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        try {
+            this.copyManagerProxy = new CopyManagerProxy(connection);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "unable to open CopyManager Operation in this JDBC writer. Please configure option use_copy_statement = false.",
+                    e);
+        }
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        try {
+            if (writer == null) {
+                copyIn = copyManagerProxy.startCopy(copySql);
+                writer =
+                        new PostgresCopyBinaryWriter(
+                                rowType, new BufferedOutputStream(copyIn, BUFFER_SIZE));
+                writer.writeHeader();
+            }
+            writer.writeRow(record);
+        } catch (RuntimeException e) {
+            cancelCopy();
+            throw e;
+        } catch (Exception e) {
+            cancelCopy();
+            throw new SQLException("Sql command: " + copySql, e);
+        }
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.finish();
+            copyIn.endCopy();
+        } catch (IOException | InvocationTargetException | IllegalAccessException e) {
+            cancelCopy();
+            throw new SQLException("Sql command: " + copySql, e);
+        } finally {
+            writer = null;
+            copyIn = null;
+        }
+    }
+
+    private void cancelCopy() {
+        if (copyIn != null) {
+            try {
+                copyIn.cancelCopy();
+            } catch (Exception e) {
+                log.warn("Cancel copy operation failed.", e);
+            }
+        }
+        writer = null;
+        copyIn = null;
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        cancelCopy();
+        this.copyManagerProxy = null;
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
@@ -36,6 +38,7 @@ class CopyManagerProxy {
     Class<?> copyManagerClazz;
     Method getCopyAPIMethod;
     Method copyInMethod;
+    Method copyInStreamMethod;
 
     CopyManagerProxy(Connection connection)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException,
@@ -59,6 +62,7 @@ class CopyManagerProxy {
         this.copyManager = this.getCopyAPIMethod.invoke(this.connection);
         this.copyManagerClazz = this.copyManager.getClass();
         this.copyInMethod = this.copyManagerClazz.getMethod("copyIn", String.class, Reader.class);
+        this.copyInStreamMethod = this.copyManagerClazz.getMethod("copyIn", String.class);
     }
 
     long doCopy(String sql, Reader reader)
@@ -66,6 +70,66 @@ class CopyManagerProxy {
         return (long) this.copyInMethod.invoke(this.copyManager, sql, reader);
     }
 
+    /** Starts a copy operation, the data written to the returned stream is sent right away. */
+    CopyInOutputStream startCopy(String sql)
+            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException,
+                    ClassNotFoundException {
+        Object copyIn = this.copyInStreamMethod.invoke(this.copyManager, sql);
+        // the implementation class is not public, resolve the methods on the interface
+        Class<?> copyInClazz =
+                Class.forName(
+                        "org.postgresql.copy.CopyIn", false, copyIn.getClass().getClassLoader());
+        return new CopyInOutputStream(
+                copyIn,
+                copyInClazz.getMethod("writeToCopy", byte[].class, int.class, int.class),
+                copyInClazz.getMethod("endCopy"),
+                copyInClazz.getMethod("cancelCopy"));
+    }
+
+    /** Writes to a started copy operation of the PostgreSQL driver. */
+    static class CopyInOutputStream extends OutputStream {
+        private final Object copyIn;
+        private final Method writeToCopyMethod;
+        private final Method endCopyMethod;
+        private final Method cancelCopyMethod;
+
+        private CopyInOutputStream(
+                Object copyIn,
+                Method writeToCopyMethod,
+                Method endCopyMethod,
+                Method cancelCopyMethod) {
+            this.copyIn = copyIn;
+            this.writeToCopyMethod = writeToCopyMethod;
+            this.endCopyMethod = endCopyMethod;
+            this.cancelCopyMethod = cancelCopyMethod;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                writeToCopyMethod.invoke(copyIn, b, off, len);
+            } catch (InvocationTargetException e) {
+                throw new IOException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IOException(e);
+            }
+        }
+
+        /** Finishes the copy operation and returns the number of copied rows. */
+        long endCopy() throws InvocationTargetException, IllegalAccessException {
+            return (long) endCopyMethod.invoke(copyIn);
+        }
+
+        void cancelCopy() throws InvocationTargetException, IllegalAccessException {
+            cancelCopyMethod.invoke(copyIn);
+        }
+    }
+
     private static Object getConnectionFromInvocationHandler(InvocationHandler handler)
             throws IllegalAccessException {
         Class<?> handlerClass = handler.getClass();
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes rows in the binary format of the PostgreSQL {@code COPY ... FROM STDIN WITH BINARY}
+ * command. The values are encoded with the binary representation of the column type that matches
+ * the SeaTunnel type, so the column types of the target table must match the row type.
+ */
+public class PostgresCopyBinaryWriter {
+    private static final byte[] SIGNATURE = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0
+    };
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final long POSTGRES_EPOCH_SECONDS =
+            POSTGRES_EPOCH_DATE.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    private static final short NUMERIC_POS = 0x0000;
+    private static final short NUMERIC_NEG = 0x4000;
+    private static final BigInteger NUMERIC_BASE = BigInteger.valueOf(10000);
+
+    private final SqlType[] fieldTypes;
+    private final DataOutputStream out;
+
+    public PostgresCopyBinaryWriter(SeaTunnelRowType rowType, OutputStream out) {
+        this.fieldTypes = new SqlType[rowType.getTotalFields()];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            fieldTypes[i] = checkSupported(rowType.getFieldType(i));
+        }
+        this.out = new DataOutputStream(out);
+    }
+
+    private static SqlType checkSupported(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case MAP:
+            case ARRAY:
+            case ROW:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + dataType);
+            default:
+                return dataType.getSqlType();
+        }
+    }
+
+    public void writeHeader() throws IOException {
+        out.write(SIGNATURE);
+        // flags field
+        out.writeInt(0);
+        // header extension area length
+        out.writeInt(0);
+    }
+
+    public void writeRow(SeaTunnelRow row) throws IOException {
+        out.writeShort(fieldTypes.length);
+        for (int i = 0; i < fieldTypes.length; i++) {
+            writeField(fieldTypes[i], row.getField(i));
+        }
+    }
+
+    /** Writes the file trailer and flushes the output, the output is not closed. */
+    public void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+
+    private void writeField(SqlType sqlType, Object value) throws IOException {
+        if (value == null || sqlType == SqlType.NULL) {
+            out.writeInt(-1);
+            return;
+        }
+        switch (sqlType) {
+            case STRING:
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                break;
+            case BOOLEAN:
+                out.writeInt(1);
+                out.writeByte((Boolean) value ? 1 : 0);
+                break;
+            case TINYINT:
+                // there is no single byte integer type in PostgreSQL, it is stored as smallint
+                out.writeInt(2);
+                out.writeShort((Byte) value);
+                break;
+            case SMALLINT:
+                out.writeInt(2);
+                out.writeShort((Short) value);
+                break;
+            case INT:
+                out.writeInt(4);
+                out.writeInt((Integer) value);
+                break;
+            case BIGINT:
+                out.writeInt(8);
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeInt(4);
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeInt(8);
+                out.writeDouble((Double) value);
+                break;
+            case DECIMAL:
+                writeNumeric((BigDecimal) value);
+                break;
+            case DATE:
+                out.writeInt(4);
+                out.writeInt((int) ChronoUnit.DAYS.between(POSTGRES_EPOCH_DATE, (LocalDate) value));
+                break;
+            case TIME:
+                out.writeInt(8);
+                out.writeLong(((LocalTime) value).toNanoOfDay() / 1000);
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                long seconds = dateTime.toEpochSecond(ZoneOffset.UTC) - POSTGRES_EPOCH_SECONDS;
+                out.writeInt(8);
+                out.writeLong(seconds * 1_000_000 + dateTime.getNano() / 1000);
+                break;
+            case BYTES:
+                byte[] binary = (byte[]) value;
+                out.writeInt(binary.length);
+                out.write(binary);
+                break;
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + sqlType);
+        }
+    }
+
+    /**
+     * Writes a numeric as its base 10000 digits, the first digit has the weight {@code weight}, the
+     * digits before and after the decimal point are grouped separately.
+     */
+    private void writeNumeric(BigDecimal value) throws IOException {
+        int scale = Math.max(value.scale(), 0);
+        BigInteger unscaled = value.setScale(scale).unscaledValue().abs();
+        // pad the fraction to whole base 10000 digits
+        int fractionDigits = (scale + 3) / 4;
+        BigInteger padded = unscaled.multiply(BigInteger.TEN.pow(fractionDigits * 4 - scale));
+
+        short[] digits = new short[padded.bitLength() / 13 + 2];
+        int count = 0;
+        while (padded.signum() != 0) {
+            BigInteger[] divideAndRemainder = padded.divideAndRemainder(NUMERIC_BASE);
+            digits[count++] = divideAndRemainder[1].shortValue();
+            padded = divideAndRemainder[0];
+        }
+        // digits are collected from the least significant one, drop the trailing zeros
+        int lowest = 0;
+        while (lowest < count && digits[lowest] == 0) {
+            lowest++;
+        }
+        int ndigits = count - lowest;
+        int weight = ndigits == 0 ? 0 : count - fractionDigits - 1;
+
+        out.writeInt(8 + ndigits * 2);
+        out.writeShort(ndigits);
+        out.writeShort(weight);
+        out.writeShort(value.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS);
+        out.writeShort(scale);
+        for (int i = count - 1; i >= lowest; i--) {
+            out.writeShort(digits[i]);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.sink.SchemaSaveMode;
 import org.apache.seatunnel.api.sink.SeaTunnelSink;
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportKeyedInput;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSink;
@@ -68,7 +69,8 @@ public class JdbcSink
         implements SeaTunnelSink<SeaTunnelRow, JdbcSinkState, XidInfo, JdbcAggregatedCommitInfo>,
                 SupportSaveMode,
                 SupportMultiTableSink,
-                SupportSchemaEvolutionSink {
+                SupportSchemaEvolutionSink,
+                SupportKeyedInput {
 
     private final TableSchema tableSchema;
 
@@ -302,6 +304,18 @@ public class JdbcSink
         return Optional.ofNullable(catalogTable);
     }
 
+    @Override
+    public boolean requiresKeyedInput() {
+        // Upserts and deletes of one key must not be reordered between parallel writers
+        return jdbcSinkConfig.getPrimaryKeys() != null
+                && !jdbcSinkConfig.getPrimaryKeys().isEmpty();
+    }
+
+    @Override
+    public List<String> getInputKeyColumns() {
+        return jdbcSinkConfig.getPrimaryKeys();
+    }
+
     @Override
     public List<SchemaChangeType> supports() {
         return Arrays.asList(
@@ -124,7 +124,20 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
+    /**
+     * Whether the reader may stop in the middle of the split and resume it after the last split key
+     * it emitted, see {@link JdbcSourceSplit#getLastSplitKey()}.
+     */
+    public boolean isResumable(JdbcSourceSplit split, TableSchema schema) {
+        return false;
+    }
+
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null);
+    }
+
+    protected PreparedStatement createPreparedStatement(String sql, String orderByColumn)
+            throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
@@ -134,6 +147,9 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
             sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
         }
+        if (orderByColumn != null) {
+            sql = sql + " ORDER BY " + jdbcDialect.quoteIdentifier(orderByColumn);
+        }
         log.debug("Prepared statement: {}", sql);
         return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
     }
@@ -20,6 +20,8 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
 
 import org.apache.seatunnel.api.table.catalog.Column;
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -72,6 +74,41 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         return createDynamicSplitStatement(split, schema);
     }
 
+    /**
+     * A split can be resumed when its split key identifies a row, i.e. the split key is a single
+     * column primary key or a not nullable unique key. Such a split is read in split key order. A
+     * nullable unique key is rejected, because the rows whose key is NULL never match the {@code
+     * key > ?} predicate of a resumed split and would be lost on restore.
+     */
+    @Override
+    public boolean isResumable(JdbcSourceSplit split, TableSchema schema) {
+        String splitKeyName = split.getSplitKeyName();
+        if (!config.isSplitResumable() || splitKeyName == null) {
+            return false;
+        }
+        PrimaryKey primaryKey = schema.getPrimaryKey();
+        if (primaryKey != null
+                && primaryKey.getColumnNames().size() == 1
+                && splitKeyName.equals(primaryKey.getColumnNames().get(0))) {
+            return true;
+        }
+        List<ConstraintKey> constraintKeys = schema.getConstraintKeys();
+        return constraintKeys != null
+                && schema.contains(splitKeyName)
+                && !schema.getColumn(splitKeyName).isNullable()
+                && constraintKeys.stream()
+                        .filter(
+                                constraintKey ->
+                                        constraintKey.getConstraintType()
+                                                == ConstraintKey.ConstraintType.UNIQUE_KEY)
+                        .map(ConstraintKey::getColumnNames)
+                        .anyMatch(
+                                columns ->
+                                        columns.size() == 1
+                                                && splitKeyName.equals(
+                                                        columns.get(0).getColumnName()));
+    }
+
     private Collection<JdbcSourceSplit> createDynamicSplits(
             JdbcSourceTable table, SeaTunnelRowType splitKey) throws Exception {
         String splitKeyName = splitKey.getFieldNames()[0];
@@ -98,7 +135,10 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        PreparedStatement statement =
+                isResumable(split, schema)
+                        ? createPreparedStatement(splitQuery, split.getSplitKeyName())
+                        : createPreparedStatement(splitQuery);
         prepareDynamicSplitStatement(statement, split);
         return statement;
     }
@@ -460,7 +500,10 @@ public class DynamicChunkSplitter extends ChunkSplitter {
                 new SeaTunnelRowType(
                         new String[] {split.getSplitKeyName()},
                         new SeaTunnelDataType[] {split.getSplitKeyType()});
-        boolean isFirstSplit = split.getSplitStart() == null;
+        // a resumed split continues after the last split key emitted before the restore
+        boolean isResumedSplit = split.getLastSplitKey() != null;
+        String lowerBoundPredicate = isResumedSplit ? " > ?" : " >= ?";
+        boolean isFirstSplit = split.getSplitStart() == null && !isResumedSplit;
         boolean isLastSplit = split.getSplitEnd() == null;
 
         final String condition;
@@ -475,11 +518,11 @@ public class DynamicChunkSplitter extends ChunkSplitter {
             condition = sql.toString();
         } else if (isLastSplit) {
             StringBuilder sql = new StringBuilder();
-            addKeyColumnsToCondition(schema, rowType, sql, " >= ?");
+            addKeyColumnsToCondition(schema, rowType, sql, lowerBoundPredicate);
             condition = sql.toString();
         } else {
             StringBuilder sql = new StringBuilder();
-            addKeyColumnsToCondition(schema, rowType, sql, " >= ?");
+            addKeyColumnsToCondition(schema, rowType, sql, lowerBoundPredicate);
             sql.append(" AND NOT (");
             addKeyColumnsToCondition(schema, rowType, sql, " = ?");
             sql.append(")");
@@ -523,13 +566,15 @@ public class DynamicChunkSplitter extends ChunkSplitter {
 
     private static void prepareDynamicSplitStatement(
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
-        boolean isFirstSplit = split.getSplitStart() == null;
+        Object lowerBound =
+                split.getLastSplitKey() != null ? split.getLastSplitKey() : split.getSplitStart();
+        boolean isFirstSplit = lowerBound == null;
         boolean isLastSplit = split.getSplitEnd() == null;
         if (isFirstSplit && isLastSplit) {
             return;
         }
 
-        Object[] splitStart = new Object[] {split.getSplitStart()};
+        Object[] splitStart = new Object[] {lowerBound};
         Object[] splitEnd = new Object[] {split.getSplitEnd()};
         int splitKeyNumbers = 1;
         if (isFirstSplit) {
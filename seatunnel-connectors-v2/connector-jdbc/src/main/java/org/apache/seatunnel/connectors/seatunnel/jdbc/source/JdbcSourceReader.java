@@ -36,14 +36,27 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 
 @Slf4j
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
+    private static final long AWAIT_ROWS_TIMEOUT_MS = 100;
+
     private final Context context;
     private final JdbcInputFormat inputFormat;
+    private final JdbcSourceSplitFetcher splitFetcher;
+    private final int pollMaxRows;
+    private final long pollMaxDurationMs;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
     private volatile boolean noMoreSplit;
 
+    private JdbcSourceSplit currentSplit;
+    private boolean currentSplitResumable;
+    private int splitKeyIndex;
+    private Object lastSplitKey;
+
     public JdbcSourceReader(
             Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.inputFormat = new JdbcInputFormat(config, tables);
+        this.splitFetcher = new JdbcSourceSplitFetcher(inputFormat, config.getSplitPollMaxRows());
+        this.pollMaxRows = config.getSplitPollMaxRows();
+        this.pollMaxDurationMs = config.getSplitPollMaxDurationMs();
         this.context = context;
     }
 
@@ -54,6 +67,11 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
 
     @Override
     public void close() throws IOException {
+        try {
+            splitFetcher.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         inputFormat.closeInputFormat();
     }
 
@@ -61,30 +79,78 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
-            if (null != split) {
-                try {
-                    inputFormat.open(split);
-                    while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
+            if (currentSplit == null) {
+                JdbcSourceSplit split = splits.poll();
+                if (null != split) {
+                    startSplit(split);
+                } else if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded jdbc source");
+                    context.signalNoMoreElement();
+                    return;
+                }
+            }
+        }
+        if (currentSplit == null) {
+            Thread.sleep(1000L);
+            return;
+        }
+
+        if (!currentSplitResumable) {
+            // the position inside the split is unknown, so the whole split is emitted before a
+            // checkpoint barrier can pass
+            synchronized (output.getCheckpointLock()) {
+                while (!splitFetcher.isFinished()) {
+                    if (splitFetcher.await(AWAIT_ROWS_TIMEOUT_MS)) {
+                        SeaTunnelRow row = splitFetcher.next();
+                        if (row != null) {
+                            output.collect(row);
+                        }
                     }
-                } finally {
-                    inputFormat.close();
                 }
-            } else if (noMoreSplit && splits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info("Closed the bounded jdbc source");
-                context.signalNoMoreElement();
-            } else {
-                Thread.sleep(1000L);
+                currentSplit = null;
             }
+            return;
         }
+
+        // wait for the fetch thread without holding the checkpoint lock
+        if (!splitFetcher.await(AWAIT_ROWS_TIMEOUT_MS)) {
+            return;
+        }
+        synchronized (output.getCheckpointLock()) {
+            long deadline = System.currentTimeMillis() + pollMaxDurationMs;
+            int emitted = 0;
+            SeaTunnelRow row;
+            while (emitted < pollMaxRows
+                    && System.currentTimeMillis() < deadline
+                    && (row = splitFetcher.next()) != null) {
+                output.collect(row);
+                lastSplitKey = row.getField(splitKeyIndex);
+                emitted++;
+            }
+            if (splitFetcher.isFinished()) {
+                currentSplit = null;
+            }
+        }
+    }
+
+    private void startSplit(JdbcSourceSplit split) {
+        currentSplit = split;
+        currentSplitResumable = inputFormat.isResumable(split);
+        splitKeyIndex = currentSplitResumable ? inputFormat.getSplitKeyIndex(split) : -1;
+        lastSplitKey = split.getLastSplitKey();
+        splitFetcher.start(split);
     }
 
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>();
+        if (currentSplit != null) {
+            // rows read ahead but not emitted yet are read again after a restore
+            state.add(currentSplit.withLastSplitKey(lastSplitKey));
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
@@ -29,6 +29,8 @@ import lombok.ToString;
 @ToString
 @AllArgsConstructor
 public class JdbcSourceSplit implements SourceSplit {
+    private static final long serialVersionUID = -815542654355310611L;
+
     private final TablePath tablePath;
     private final String splitId;
     private final String splitQuery;
@@ -37,6 +39,43 @@ public class JdbcSourceSplit implements SourceSplit {
     private final Object splitStart;
     private final Object splitEnd;
 
+    /**
+     * The split key of the last row the reader emitted from this split, a restored split is read
+     * after this key. Only set for splits which are read in split key order.
+     */
+    private final Object lastSplitKey;
+
+    public JdbcSourceSplit(
+            TablePath tablePath,
+            String splitId,
+            String splitQuery,
+            String splitKeyName,
+            SeaTunnelDataType splitKeyType,
+            Object splitStart,
+            Object splitEnd) {
+        this(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                null);
+    }
+
+    public JdbcSourceSplit withLastSplitKey(Object lastSplitKey) {
+        return new JdbcSourceSplit(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                lastSplitKey);
+    }
+
     @Override
     public String splitId() {
         return splitId;
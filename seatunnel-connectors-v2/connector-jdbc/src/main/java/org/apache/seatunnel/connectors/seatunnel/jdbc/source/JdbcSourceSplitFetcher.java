@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.JdbcInputFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the rows of one split at a time on a background thread into a bounded buffer. The reader
+ * only takes the rows out of the buffer while it holds the checkpoint lock, so the database is read
+ * ahead while the checkpoint lock is free.
+ */
+@Slf4j
+class JdbcSourceSplitFetcher implements AutoCloseable {
+    private static final Object END_OF_SPLIT = new Object();
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private final JdbcInputFormat inputFormat;
+    private final BlockingQueue<Object> buffer;
+    private final ExecutorService executor;
+    private volatile boolean running = true;
+    private Future<?> fetchTask;
+    private Object head;
+    private boolean finished = true;
+
+    JdbcSourceSplitFetcher(JdbcInputFormat inputFormat, int bufferSize) {
+        this.inputFormat = inputFormat;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor =
+                Executors.newSingleThreadExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("jdbc-source-split-fetcher-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /** Starts to read the split, the previous split must be finished. */
+    void start(JdbcSourceSplit split) {
+        if (!finished) {
+            throw new IllegalStateException("The previous split is not finished yet");
+        }
+        finished = false;
+        fetchTask = executor.submit(() -> fetch(split));
+    }
+
+    private void fetch(JdbcSourceSplit split) {
+        try {
+            inputFormat.open(split);
+            while (running && !inputFormat.reachedEnd()) {
+                put(inputFormat.nextRecord());
+            }
+            put(END_OF_SPLIT);
+        } catch (Throwable e) {
+            log.error("Failed to read split {}", split.splitId(), e);
+            put(e);
+        } finally {
+            try {
+                inputFormat.close();
+            } catch (Exception e) {
+                log.warn("Failed to close split {}", split.splitId(), e);
+            }
+        }
+    }
+
+    private void put(Object element) {
+        try {
+            while (running && !buffer.offer(element, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                // the reader is slower than the database, wait until it takes rows again
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * Waits until a row is available or the split is finished.
+     *
+     * @return false if nothing became available within the timeout.
+     */
+    boolean await(long timeoutMs) throws InterruptedException {
+        if (head == null && !finished) {
+            head = buffer.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+        return head != null || finished;
+    }
+
+    /** Returns the next row without blocking, or null if no row is available right now. */
+    SeaTunnelRow next() {
+        if (finished) {
+            return null;
+        }
+        Object element = head != null ? head : buffer.poll();
+        head = null;
+        if (element == null) {
+            return null;
+        }
+        if (element == END_OF_SPLIT) {
+            finished = true;
+            return null;
+        }
+        if (element instanceof Throwable) {
+            finished = true;
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Couldn't read data - " + ((Throwable) element).getMessage(),
+                    (Throwable) element);
+        }
+        return (SeaTunnelRow) element;
+    }
+
+    /** Whether all rows of the current split were returned by {@link #next()}. */
+    boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (fetchTask != null) {
+            fetchTask.cancel(true);
+        }
+        executor.shutdownNow();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("The jdbc split fetcher did not stop in 30 seconds");
+        }
+        buffer.clear();
+    }
+}
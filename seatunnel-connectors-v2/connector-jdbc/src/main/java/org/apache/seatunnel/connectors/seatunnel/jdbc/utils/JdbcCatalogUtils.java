@@ -51,6 +51,7 @@ import java.sql.Connection;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -78,11 +79,14 @@ public class JdbcCatalogUtils {
                 log.info("Loading catalog tables for catalog : {}", jdbcCatalog.getClass());
 
                 jdbcCatalog.open();
+                Map<TablePath, CatalogTable> bulkLoadedTables =
+                        getCatalogTablesInBulk(tablesConfig, jdbcCatalog, jdbcDialect);
                 Map<String, Map<String, String>> unsupportedTable = new LinkedHashMap<>();
                 for (JdbcSourceTableConfig tableConfig : tablesConfig) {
                     try {
                         CatalogTable catalogTable =
-                                getCatalogTable(tableConfig, jdbcCatalog, jdbcDialect);
+                                getCatalogTable(
+                                        tableConfig, jdbcCatalog, jdbcDialect, bulkLoadedTables);
                         TablePath tablePath = catalogTable.getTableId().toTablePath();
                         JdbcSourceTable jdbcSourceTable =
                                 JdbcSourceTable.builder()
@@ -159,10 +163,45 @@ public class JdbcCatalogUtils {
         }
     }
 
+    /**
+     * Load the metadata of the tables configured by path only in bulk, the tables configured with a
+     * query are loaded one by one. The tables missing in the result, e.g. the ones with unsupported
+     * column types, are loaded again one by one so their errors are reported together.
+     */
+    private static Map<TablePath, CatalogTable> getCatalogTablesInBulk(
+            List<JdbcSourceTableConfig> tablesConfig,
+            AbstractJdbcCatalog jdbcCatalog,
+            JdbcDialect jdbcDialect) {
+        List<TablePath> tablePaths =
+                tablesConfig.stream()
+                        .filter(
+                                tableConfig ->
+                                        StringUtils.isNotEmpty(tableConfig.getTablePath())
+                                                && StringUtils.isEmpty(tableConfig.getQuery()))
+                        .map(tableConfig -> jdbcDialect.parse(tableConfig.getTablePath()))
+                        .distinct()
+                        .collect(Collectors.toList());
+        if (tablePaths.size() <= 1) {
+            return Collections.emptyMap();
+        }
+        try {
+            List<TablePath> existingTables = jdbcCatalog.listExistingTables(tablePaths, 1);
+            return jdbcCatalog.getTablesInBulk(existingTables, new LinkedHashMap<>());
+        } catch (SeaTunnelRuntimeException e) {
+            if (!e.getSeaTunnelErrorCode()
+                    .getCode()
+                    .equals(CommonErrorCode.UNSUPPORTED_METHOD.getCode())) {
+                log.warn("Failed loading the catalog tables in bulk, load them one by one", e);
+            }
+            return Collections.emptyMap();
+        }
+    }
+
     private static CatalogTable getCatalogTable(
             JdbcSourceTableConfig tableConfig,
             AbstractJdbcCatalog jdbcCatalog,
-            JdbcDialect jdbcDialect)
+            JdbcDialect jdbcDialect,
+            Map<TablePath, CatalogTable> bulkLoadedTables)
             throws SQLException {
         if (Strings.isNullOrEmpty(tableConfig.getTablePath())
                 && Strings.isNullOrEmpty(tableConfig.getQuery())) {
@@ -198,7 +237,8 @@ public class JdbcCatalogUtils {
         }
         if (StringUtils.isNotEmpty(tableConfig.getTablePath())) {
             TablePath tablePath = jdbcDialect.parse(tableConfig.getTablePath());
-            return jdbcCatalog.getTable(tablePath);
+            CatalogTable bulkLoadedTable = bulkLoadedTables.get(tablePath);
+            return bulkLoadedTable != null ? bulkLoadedTable : jdbcCatalog.getTable(tablePath);
         }
 
         return jdbcCatalog.getTable(tableConfig.getQuery());
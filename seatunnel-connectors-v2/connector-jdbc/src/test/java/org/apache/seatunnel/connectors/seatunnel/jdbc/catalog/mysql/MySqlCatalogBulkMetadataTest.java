@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.catalog.mysql;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+import org.apache.seatunnel.common.utils.JdbcUrlUtil;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+class MySqlCatalogBulkMetadataTest {
+
+    private static final TablePath ORDERS = TablePath.of("shop", "orders");
+    private static final TablePath USERS = TablePath.of("shop", "users");
+    private static final TablePath SHAPES = TablePath.of("shop", "shapes");
+
+    private final List<String> executedSqls = new ArrayList<>();
+    private MySqlCatalog catalog;
+
+    @BeforeEach
+    void before() throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.prepareStatement(anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            String sql = invocation.getArgument(0);
+                            executedSqls.add(sql);
+                            PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+                            ResultSet resultSet =
+                                    sql.contains("INFORMATION_SCHEMA.COLUMNS")
+                                            ? resultSet(columnRows())
+                                            : resultSet(indexRows());
+                            Mockito.when(statement.executeQuery()).thenReturn(resultSet);
+                            return statement;
+                        });
+        catalog =
+                new MySqlCatalog(
+                        "mysql",
+                        "root",
+                        "root",
+                        JdbcUrlUtil.getUrlInfo("jdbc:mysql://127.0.0.1:3306/shop")) {
+                    @Override
+                    protected Connection getConnection(String url) {
+                        return connection;
+                    }
+                };
+    }
+
+    @Test
+    void testSelectTablesSql() {
+        List<TablePath> tablePaths = Arrays.asList(ORDERS, TablePath.of("shop", "it's"));
+        Assertions.assertEquals(
+                "SELECT * FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'shop' "
+                        + "AND TABLE_NAME IN ('orders','it''s') "
+                        + "ORDER BY TABLE_NAME ASC, ORDINAL_POSITION ASC",
+                catalog.getSelectColumnsSql("shop", tablePaths));
+        Assertions.assertEquals(
+                "SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, COLUMN_NAME, COLLATION AS ASC_OR_DESC "
+                        + "FROM INFORMATION_SCHEMA.STATISTICS WHERE TABLE_SCHEMA = 'shop' "
+                        + "AND TABLE_NAME IN ('orders','it''s') "
+                        + "ORDER BY TABLE_NAME ASC, INDEX_NAME ASC, SEQ_IN_INDEX ASC",
+                catalog.getSelectIndexesSql("shop", tablePaths));
+    }
+
+    @Test
+    void testGetTablesWithOneQueryPerMetadataTable() {
+        List<CatalogTable> tables = catalog.getTables(Arrays.asList(USERS, ORDERS), 1);
+
+        Assertions.assertEquals(2, executedSqls.size());
+        Assertions.assertEquals(USERS, tables.get(0).getTableId().toTablePath());
+        Assertions.assertEquals(ORDERS, tables.get(1).getTableId().toTablePath());
+
+        CatalogTable orders = tables.get(1);
+        Assertions.assertArrayEquals(
+                new String[] {"id", "user_id"}, orders.getTableSchema().getFieldNames());
+        Assertions.assertEquals(
+                Arrays.asList("id"), orders.getTableSchema().getPrimaryKey().getColumnNames());
+        List<ConstraintKey> constraintKeys = orders.getTableSchema().getConstraintKeys();
+        Assertions.assertEquals(1, constraintKeys.size());
+        Assertions.assertEquals("idx_user", constraintKeys.get(0).getConstraintName());
+        Assertions.assertEquals(
+                ConstraintKey.ConstraintType.INDEX_KEY, constraintKeys.get(0).getConstraintType());
+
+        CatalogTable users = tables.get(0);
+        Assertions.assertArrayEquals(new String[] {"id"}, users.getTableSchema().getFieldNames());
+        Assertions.assertNull(users.getTableSchema().getPrimaryKey());
+    }
+
+    @Test
+    void testGetTablesInBulkKeepsUnsupportedTablesApart() {
+        Map<String, Map<String, String>> unsupportedTable = new LinkedHashMap<>();
+        Map<TablePath, CatalogTable> tables =
+                catalog.getTablesInBulk(Arrays.asList(ORDERS, SHAPES, USERS), unsupportedTable);
+
+        Assertions.assertEquals(2, tables.size());
+        Assertions.assertTrue(tables.containsKey(ORDERS));
+        Assertions.assertTrue(tables.containsKey(USERS));
+        Assertions.assertEquals(1, unsupportedTable.size());
+        Assertions.assertEquals(
+                "UNKNOWN_TYPE", unsupportedTable.get(SHAPES.getFullName()).get("area"));
+
+        SeaTunnelRuntimeException exception =
+                Assertions.assertThrows(
+                        SeaTunnelRuntimeException.class,
+                        () -> catalog.getTables(Arrays.asList(ORDERS, SHAPES), 1));
+        Assertions.assertEquals(
+                CommonErrorCode.GET_CATALOG_TABLES_WITH_UNSUPPORTED_TYPE_ERROR,
+                exception.getSeaTunnelErrorCode());
+    }
+
+    private static List<Map<String, Object>> columnRows() {
+        return Arrays.asList(
+                column("orders", "id", "bigint", 19),
+                column("orders", "user_id", "int", 10),
+                column("shapes", "area", "unknown_type", 0),
+                column("users", "id", "int", 10));
+    }
+
+    private static List<Map<String, Object>> indexRows() {
+        return Arrays.asList(
+                index("orders", "PRIMARY", false, "id"),
+                index("orders", "idx_user", true, "user_id"));
+    }
+
+    private static Map<String, Object> column(
+            String tableName, String columnName, String columnType, int precision) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("TABLE_NAME", tableName);
+        row.put("COLUMN_NAME", columnName);
+        row.put("COLUMN_TYPE", columnType);
+        row.put("DATA_TYPE", columnType);
+        row.put("IS_NULLABLE", "NO");
+        row.put("NUMERIC_PRECISION", precision);
+        return row;
+    }
+
+    private static Map<String, Object> index(
+            String tableName, String indexName, boolean nonUnique, String columnName) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("TABLE_NAME", tableName);
+        row.put("INDEX_NAME", indexName);
+        row.put("NON_UNIQUE", nonUnique);
+        row.put("COLUMN_NAME", columnName);
+        row.put("ASC_OR_DESC", "A");
+        return row;
+    }
+
+    /** A forward only result set over the given rows, the missing columns read as SQL NULL. */
+    private static ResultSet resultSet(List<Map<String, Object>> rows) throws SQLException {
+        Iterator<Map<String, Object>> iterator = rows.iterator();
+        Map<String, Object>[] current = new Map[1];
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.next())
+                .thenAnswer(
+                        invocation -> {
+                            current[0] = iterator.hasNext() ? iterator.next() : null;
+                            return current[0] != null;
+                        });
+        Mockito.when(resultSet.getString(anyString()))
+                .thenAnswer(invocation -> (String) current[0].get(invocation.getArgument(0)));
+        Mockito.when(resultSet.getObject(anyString()))
+                .thenAnswer(invocation -> current[0].get(invocation.getArgument(0)));
+        Mockito.when(resultSet.getInt(anyString()))
+                .thenAnswer(
+                        invocation ->
+                                ((Number) current[0].getOrDefault(invocation.getArgument(0), 0))
+                                        .intValue());
+        Mockito.when(resultSet.getLong(anyString()))
+                .thenAnswer(
+                        invocation ->
+                                ((Number) current[0].getOrDefault(invocation.getArgument(0), 0))
+                                        .longValue());
+        Mockito.when(resultSet.getBoolean(anyString()))
+                .thenAnswer(
+                        invocation ->
+                                (Boolean)
+                                        current[0].getOrDefault(invocation.getArgument(0), false));
+        return resultSet;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class JdbcOutputFormatTest {
+
+    @Test
+    public void testAsyncFlushExecutesBatchesInOrder() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor();
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(executor, 2);
+        outputFormat.open();
+        for (int i = 0; i < 5; i++) {
+            outputFormat.writeRecord(i);
+        }
+        outputFormat.flush();
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3), Arrays.asList(4)),
+                executor.batches);
+        Assertions.assertNotEquals(Thread.currentThread(), executor.executeThread);
+        outputFormat.close();
+    }
+
+    @Test
+    public void testAsyncFlushBlocksWhenTooManyBatchesInFlight() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor();
+        executor.blockExecute = new CountDownLatch(1);
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(executor, 1);
+        outputFormat.open();
+        // the first batch takes the only in-flight slot and blocks in executeBatch
+        outputFormat.writeRecord(0);
+        outputFormat.writeRecord(1);
+
+        CompletableFuture<Void> blockedWrite =
+                CompletableFuture.runAsync(
+                        () -> {
+                            outputFormat.writeRecord(2);
+                            outputFormat.writeRecord(3);
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> blockedWrite.get(200, TimeUnit.MILLISECONDS));
+
+        executor.blockExecute.countDown();
+        blockedWrite.get(10, TimeUnit.SECONDS);
+        outputFormat.flush();
+        Assertions.assertEquals(2, executor.batches.size());
+        outputFormat.close();
+    }
+
+    @Test
+    public void testAsyncFlushFailureFailsFlush() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor();
+        executor.failExecute = true;
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = createOutputFormat(executor, 2);
+        outputFormat.open();
+        outputFormat.writeRecord(0);
+        outputFormat.writeRecord(1);
+
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertThrows(JdbcConnectorException.class, () -> outputFormat.writeRecord(2));
+    }
+
+    private static JdbcOutputFormat<Integer, RecordingExecutor> createOutputFormat(
+            RecordingExecutor executor, int maxInFlightBatches) {
+        JdbcConnectionProvider connectionProvider = Mockito.mock(JdbcConnectionProvider.class);
+        Mockito.when(connectionProvider.getConnection()).thenReturn(Mockito.mock(Connection.class));
+        JdbcConnectionConfig config =
+                JdbcConnectionConfig.builder()
+                        .url("jdbc:test")
+                        .driverName("test")
+                        .batchSize(2)
+                        .maxInFlightBatches(maxInFlightBatches)
+                        .build();
+        return new JdbcOutputFormat<>(connectionProvider, config, () -> executor);
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<Integer> {
+        private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> buffer = new ArrayList<>();
+        private volatile Thread executeThread;
+        private volatile CountDownLatch blockExecute;
+        private volatile boolean failExecute;
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(Integer record) {
+            buffer.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            executeThread = Thread.currentThread();
+            if (failExecute) {
+                throw new SQLException("execute failed");
+            }
+            if (blockExecute != null) {
+                try {
+                    blockExecute.await();
+                } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+            }
+            batches.add(new ArrayList<>(buffer));
+            buffer.clear();
+        }
+
+        @Override
+        public void closeStatements() {}
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding a batch for the copy in statement as CSV text, the way {@link
+ * CopyManagerBatchStatementExecutor} does, with streaming it in the binary format of {@link
+ * PostgresCopyBinaryWriter}. Only the encoding is measured, the CSV text is read once like the
+ * driver does. Run it with {@link #main(String[])} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CopyEncodingBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final OutputStream DISCARD =
+            new OutputStream() {
+                @Override
+                public void write(int b) {}
+
+                @Override
+                public void write(byte[] b, int off, int len) {}
+            };
+
+    private TableSchema tableSchema;
+    private SeaTunnelRow[] rows;
+
+    @Setup
+    public void setUp() {
+        tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        column("id", BasicType.LONG_TYPE),
+                                        column("name", BasicType.STRING_TYPE),
+                                        column("score", BasicType.DOUBLE_TYPE),
+                                        column("amount", new DecimalType(20, 4)),
+                                        column("birthday", LocalTimeType.LOCAL_DATE_TYPE),
+                                        column("updated_at", LocalTimeType.LOCAL_DATE_TIME_TYPE)))
+                        .build();
+        rows = new SeaTunnelRow[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows[i] =
+                    new SeaTunnelRow(
+                            new Object[] {
+                                (long) i,
+                                "name_" + i,
+                                i * 1.5d,
+                                BigDecimal.valueOf(i * 1000L + 1234, 4),
+                                LocalDate.of(1990, 1, 1).plusDays(i),
+                                LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i)
+                            });
+        }
+    }
+
+    private static PhysicalColumn column(String name, SeaTunnelDataType<?> type) {
+        return PhysicalColumn.builder().name(name).dataType(type).build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long csv() throws IOException, SQLException {
+        CopyManagerBatchStatementExecutor executor =
+                new CopyManagerBatchStatementExecutor("", tableSchema);
+        executor.csvPrinter = new CSVPrinter(new StringBuilder(), CSVFormat.POSTGRESQL_CSV);
+        for (SeaTunnelRow row : rows) {
+            executor.addToBatch(row);
+        }
+        executor.csvPrinter.flush();
+        StringReader reader = new StringReader(executor.csvPrinter.getOut().toString());
+        long length = 0;
+        char[] buffer = new char[64 * 1024];
+        for (int read = reader.read(buffer); read > 0; read = reader.read(buffer)) {
+            length += read;
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public PostgresCopyBinaryWriter binary() throws IOException {
+        PostgresCopyBinaryWriter writer =
+                new PostgresCopyBinaryWriter(
+                        tableSchema.toPhysicalRowDataType(),
+                        new BufferedOutputStream(DISCARD, 64 * 1024));
+        writer.writeHeader();
+        for (SeaTunnelRow row : rows) {
+            writer.writeRow(row);
+        }
+        writer.finish();
+        return writer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(CopyEncodingBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
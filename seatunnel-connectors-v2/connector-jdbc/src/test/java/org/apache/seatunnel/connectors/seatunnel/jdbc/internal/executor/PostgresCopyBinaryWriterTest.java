@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public class PostgresCopyBinaryWriterTest {
+
+    @Test
+    public void testWriteRows() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "c_int",
+                            "c_bigint",
+                            "c_string",
+                            "c_boolean",
+                            "c_double",
+                            "c_date",
+                            "c_time",
+                            "c_timestamp",
+                            "c_bytes",
+                            "c_null"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.INT_TYPE,
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.BOOLEAN_TYPE,
+                            BasicType.DOUBLE_TYPE,
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_TIME_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            PrimitiveByteArrayType.INSTANCE,
+                            BasicType.STRING_TYPE
+                        });
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PostgresCopyBinaryWriter writer = new PostgresCopyBinaryWriter(rowType, bytes);
+        writer.writeHeader();
+        writer.writeRow(
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            2L,
+                            "中文",
+                            true,
+                            1.5d,
+                            LocalDate.of(2000, 1, 3),
+                            LocalTime.of(0, 0, 1, 2000),
+                            LocalDateTime.of(1999, 12, 31, 23, 59, 59, 500_000_000),
+                            new byte[] {1, 2},
+                            null
+                        }));
+        writer.finish();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        byte[] signature = new byte[11];
+        in.readFully(signature);
+        Assertions.assertArrayEquals(
+                new byte[] {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0},
+                signature);
+        Assertions.assertEquals(0, in.readInt());
+        Assertions.assertEquals(0, in.readInt());
+
+        Assertions.assertEquals(10, in.readShort());
+        Assertions.assertEquals(4, in.readInt());
+        Assertions.assertEquals(1, in.readInt());
+        Assertions.assertEquals(8, in.readInt());
+        Assertions.assertEquals(2L, in.readLong());
+        byte[] utf8 = "中文".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(utf8.length, in.readInt());
+        byte[] string = new byte[utf8.length];
+        in.readFully(string);
+        Assertions.assertArrayEquals(utf8, string);
+        Assertions.assertEquals(1, in.readInt());
+        Assertions.assertEquals(1, in.readByte());
+        Assertions.assertEquals(8, in.readInt());
+        Assertions.assertEquals(1.5d, in.readDouble());
+        // days since 2000-01-01
+        Assertions.assertEquals(4, in.readInt());
+        Assertions.assertEquals(2, in.readInt());
+        // microseconds since midnight
+        Assertions.assertEquals(8, in.readInt());
+        Assertions.assertEquals(1_000_002L, in.readLong());
+        // microseconds since 2000-01-01 00:00:00
+        Assertions.assertEquals(8, in.readInt());
+        Assertions.assertEquals(-500_000L, in.readLong());
+        Assertions.assertEquals(2, in.readInt());
+        Assertions.assertEquals(1, in.readByte());
+        Assertions.assertEquals(2, in.readByte());
+        Assertions.assertEquals(-1, in.readInt());
+
+        Assertions.assertEquals(-1, in.readShort());
+        Assertions.assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void testWriteNumeric() throws IOException {
+        assertNumeric("12345.678", 1, 0x0000, 3, 1, 2345, 6780);
+        assertNumeric("-0.00001", -2, 0x4000, 5, 1000);
+        assertNumeric("10000", 1, 0x0000, 0, 1);
+        assertNumeric("0.000", 0, 0x0000, 3);
+        assertNumeric("1E+5", 1, 0x0000, 0, 10);
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_array"},
+                        new SeaTunnelDataType[] {ArrayType.INT_ARRAY_TYPE});
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> new PostgresCopyBinaryWriter(rowType, new ByteArrayOutputStream()));
+    }
+
+    private static void assertNumeric(String value, int weight, int sign, int scale, int... digits)
+            throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_decimal"},
+                        new SeaTunnelDataType[] {new DecimalType(38, 10)});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PostgresCopyBinaryWriter writer = new PostgresCopyBinaryWriter(rowType, bytes);
+        writer.writeRow(new SeaTunnelRow(new Object[] {new BigDecimal(value)}));
+        writer.finish();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assertions.assertEquals(1, in.readShort());
+        Assertions.assertEquals(8 + digits.length * 2, in.readInt());
+        Assertions.assertEquals(digits.length, in.readShort());
+        Assertions.assertEquals(weight, in.readShort());
+        Assertions.assertEquals(sign, in.readShort());
+        Assertions.assertEquals(scale, in.readShort());
+        for (int digit : digits) {
+            Assertions.assertEquals(digit, in.readShort());
+        }
+    }
+}
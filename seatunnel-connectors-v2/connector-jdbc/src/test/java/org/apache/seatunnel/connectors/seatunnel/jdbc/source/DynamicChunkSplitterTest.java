@@ -110,6 +110,27 @@ public class DynamicChunkSplitterTest {
         Assertions.assertEquals(
                 "SELECT * FROM (select * from table1) tmp WHERE \"id\"::text >= ? AND NOT (\"id\"::text = ?) AND \"id\"::text <= ?",
                 splitQuerySQL);
+
+        split = split.withLastSplitKey(5);
+        splitQuerySQL = splitter.createDynamicSplitQuerySQL(split, tableSchema);
+        Assertions.assertEquals(
+                "SELECT * FROM (select * from table1) tmp WHERE \"id\"::text > ? AND NOT (\"id\"::text = ?) AND \"id\"::text <= ?",
+                splitQuerySQL);
+
+        split =
+                new JdbcSourceSplit(
+                                TablePath.of("db1", "schema1", "table1"),
+                                "split1",
+                                null,
+                                "id",
+                                BasicType.INT_TYPE,
+                                null,
+                                null)
+                        .withLastSplitKey(5);
+        splitQuerySQL = splitter.createDynamicSplitQuerySQL(split, tableSchema);
+        Assertions.assertEquals(
+                "SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\"::text > ?",
+                splitQuerySQL);
     }
 
     @Test
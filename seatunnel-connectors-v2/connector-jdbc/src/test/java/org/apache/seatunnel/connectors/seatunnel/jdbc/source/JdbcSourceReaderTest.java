@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JdbcSourceReaderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("main", "test_table");
+    private static final int ROW_COUNT = 10;
+
+    @TempDir private Path tempDir;
+    private String url;
+    private Map<TablePath, CatalogTable> tables;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        url = "jdbc:sqlite:" + tempDir.resolve("test.db");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE test_table (id BIGINT PRIMARY KEY, name TEXT)");
+            try (PreparedStatement insert =
+                    connection.prepareStatement("INSERT INTO test_table VALUES (?, ?)")) {
+                // inserted in reverse order, a resumable split must be read in split key order
+                for (long i = ROW_COUNT; i > 0; i--) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "name_" + i);
+                    insert.executeUpdate();
+                }
+            }
+        }
+
+        TableSchema schema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .sourceType("BIGINT")
+                                                .dataType(BasicType.LONG_TYPE)
+                                                .build(),
+                                        PhysicalColumn.builder()
+                                                .name("name")
+                                                .sourceType("TEXT")
+                                                .dataType(BasicType.STRING_TYPE)
+                                                .build()))
+                        .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                        .build();
+        tables = new HashMap<>();
+        tables.put(
+                TABLE_PATH,
+                CatalogTable.of(
+                        TableIdentifier.of("sqlite", TABLE_PATH),
+                        schema,
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        null));
+    }
+
+    @Test
+    public void testResumableSplitIsResumedAfterLastEmittedKey() throws Exception {
+        JdbcSourceConfig config = config(true);
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TABLE_PATH, "split-0", null, "id", BasicType.LONG_TYPE, 1L, null);
+
+        TestCollector collector = new TestCollector();
+        List<JdbcSourceSplit> state;
+        JdbcSourceReader reader = createReader(config, collector);
+        try {
+            reader.addSplits(Collections.singletonList(split));
+            while (collector.rows.isEmpty()) {
+                reader.pollNext(collector);
+            }
+            // the reader returns after split.poll-max-rows rows
+            Assertions.assertTrue(collector.rows.size() <= 3);
+            state = reader.snapshotState(1);
+        } finally {
+            reader.close();
+        }
+
+        Assertions.assertEquals(1, state.size());
+        Assertions.assertEquals(
+                collector.rows.get(collector.rows.size() - 1).getField(0),
+                state.get(0).getLastSplitKey());
+
+        JdbcSourceReader restoredReader = createReader(config, collector);
+        try {
+            restoredReader.addSplits(state);
+            restoredReader.handleNoMoreSplits();
+            while (!collector.noMoreElement) {
+                restoredReader.pollNext(collector);
+            }
+        } finally {
+            restoredReader.close();
+        }
+
+        Assertions.assertEquals(ROW_COUNT, collector.rows.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i + 1L, collector.rows.get(i).getField(0));
+        }
+    }
+
+    @Test
+    public void testNotResumableSplitIsReadAtOnce() throws Exception {
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TABLE_PATH, "split-0", null, "id", BasicType.LONG_TYPE, 1L, null);
+
+        TestCollector collector = new TestCollector();
+        JdbcSourceReader reader = createReader(config(false), collector);
+        try {
+            reader.addSplits(Collections.singletonList(split));
+            while (collector.rows.isEmpty()) {
+                reader.pollNext(collector);
+            }
+            Assertions.assertEquals(ROW_COUNT, collector.rows.size());
+            Assertions.assertTrue(reader.snapshotState(1).isEmpty());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testNullableUniqueSplitKeyIsReadAtOnce() throws Exception {
+        TablePath tablePath = TablePath.of("main", "nullable_table");
+        try (Connection connection = DriverManager.getConnection(url);
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE nullable_table (code BIGINT UNIQUE, name TEXT)");
+            statement.execute(
+                    "INSERT INTO nullable_table VALUES"
+                            + " (NULL, 'a'), (1, 'b'), (2, 'c'), (NULL, 'd'), (3, 'e')");
+        }
+        TableSchema schema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("code")
+                                                .sourceType("BIGINT")
+                                                .dataType(BasicType.LONG_TYPE)
+                                                .nullable(true)
+                                                .build(),
+                                        PhysicalColumn.builder()
+                                                .name("name")
+                                                .sourceType("TEXT")
+                                                .dataType(BasicType.STRING_TYPE)
+                                                .nullable(true)
+                                                .build()))
+                        .constraintKey(
+                                ConstraintKey.of(
+                                        ConstraintKey.ConstraintType.UNIQUE_KEY,
+                                        "uk_code",
+                                        Collections.singletonList(
+                                                ConstraintKey.ConstraintKeyColumn.of(
+                                                        "code", ConstraintKey.ColumnSortType.ASC))))
+                        .build();
+        tables.put(
+                tablePath,
+                CatalogTable.of(
+                        TableIdentifier.of("sqlite", tablePath),
+                        schema,
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        null));
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        tablePath, "split-0", null, "code", BasicType.LONG_TYPE, null, null);
+
+        // a resumed split would lose the NULL keys, so the split is not resumable
+        TestCollector collector = new TestCollector();
+        JdbcSourceReader reader = createReader(config(true), collector);
+        try {
+            reader.addSplits(Collections.singletonList(split));
+            while (collector.rows.isEmpty()) {
+                reader.pollNext(collector);
+            }
+            Assertions.assertEquals(5, collector.rows.size());
+            Assertions.assertEquals(
+                    2, collector.rows.stream().filter(row -> row.getField(0) == null).count());
+            Assertions.assertTrue(reader.snapshotState(1).isEmpty());
+        } finally {
+            reader.close();
+        }
+    }
+
+    private JdbcSourceConfig config(boolean resumable) {
+        return JdbcSourceConfig.builder()
+                .jdbcConnectionConfig(
+                        JdbcConnectionConfig.builder()
+                                .url(url)
+                                .driverName("org.sqlite.JDBC")
+                                .build())
+                .useDynamicSplitter(true)
+                .splitResumable(resumable)
+                .splitPollMaxRows(3)
+                .splitPollMaxDurationMs(1000)
+                .build();
+    }
+
+    private JdbcSourceReader createReader(JdbcSourceConfig config, TestCollector collector)
+            throws Exception {
+        SourceReader.Context context = Mockito.mock(SourceReader.Context.class);
+        Mockito.doAnswer(invocation -> collector.noMoreElement = true)
+                .when(context)
+                .signalNoMoreElement();
+        JdbcSourceReader reader = new JdbcSourceReader(context, config, tables);
+        reader.open();
+        return reader;
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows = new ArrayList<>();
+        private final Object lock = new Object();
+        private boolean noMoreElement;
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return lock;
+        }
+    }
+}
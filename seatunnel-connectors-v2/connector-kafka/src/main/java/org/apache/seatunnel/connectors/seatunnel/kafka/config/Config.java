@@ -175,6 +175,14 @@ public class Config {
                     .defaultValue(10000L)
                     .withDescription("The interval for poll message");
 
+    public static final Option<Integer> DESERIALIZATION_PARALLELISM =
+            Options.key("deserialization_parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads of each split reader deserializing the polled messages. "
+                                    + "The messages are deserialized one by one by the reader when it is 1.");
+
     public static final Option<MessageFormatErrorHandleWay> MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION =
             Options.key("format_error_handle_way")
                     .enumType(MessageFormatErrorHandleWay.class)
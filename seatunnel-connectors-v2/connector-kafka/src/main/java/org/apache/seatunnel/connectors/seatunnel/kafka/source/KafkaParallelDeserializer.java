@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+
+/**
+ * Deserializes the records of a poll on a pool of worker threads, so that the emitter only hands
+ * the outputs over under the checkpoint lock. The records of each partition are cut into
+ * consecutive chunks, and the outputs of the chunks are put back together in the order of the
+ * offsets, so the offsets of a {@link KafkaSourceSplitState} still advance one record at a time.
+ */
+public class KafkaParallelDeserializer implements AutoCloseable {
+
+    private final int parallelism;
+
+    private final ExecutorService executorService;
+
+    /** One deserializer per worker, the deserialization schemas are not thread safe. */
+    private final BlockingQueue<KafkaRecordDeserializer> deserializers;
+
+    public KafkaParallelDeserializer(KafkaRecordDeserializer deserializer, int parallelism) {
+        this.parallelism = parallelism;
+        this.executorService =
+                Executors.newFixedThreadPool(
+                        parallelism,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("kafka-deserializer-%d")
+                                .setDaemon(true)
+                                .build());
+        this.deserializers = new ArrayBlockingQueue<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            deserializers.add(deserializer.copy());
+        }
+    }
+
+    /**
+     * Deserializes the records of each partition that are before its stopping offset.
+     *
+     * @return the outputs of the records of each partition, in the order of the records
+     */
+    public Map<TopicPartition, List<List<Object>>> deserialize(
+            ConsumerRecords<byte[], byte[]> consumerRecords,
+            Map<TopicPartition, TablePath> tablePaths,
+            ToLongFunction<TopicPartition> stoppingOffsets) {
+        Map<TopicPartition, List<Future<List<List<Object>>>>> chunks = new LinkedHashMap<>();
+        for (TopicPartition tp : consumerRecords.partitions()) {
+            List<ConsumerRecord<byte[], byte[]>> records = consumerRecords.records(tp);
+            long stoppingOffset = stoppingOffsets.applyAsLong(tp);
+            int end = 0;
+            while (end < records.size() && records.get(end).offset() < stoppingOffset) {
+                end++;
+            }
+            TablePath tablePath = tablePaths.get(tp);
+            int chunkSize = Math.max(1, (end + parallelism - 1) / parallelism);
+            List<Future<List<List<Object>>>> futures = new ArrayList<>();
+            for (int from = 0; from < end; from += chunkSize) {
+                List<ConsumerRecord<byte[], byte[]>> chunk =
+                        records.subList(from, Math.min(from + chunkSize, end));
+                futures.add(executorService.submit(() -> deserializeChunk(tablePath, chunk)));
+            }
+            chunks.put(tp, futures);
+        }
+
+        Map<TopicPartition, List<List<Object>>> outputs = new HashMap<>();
+        try {
+            for (Map.Entry<TopicPartition, List<Future<List<List<Object>>>>> entry :
+                    chunks.entrySet()) {
+                List<List<Object>> partitionOutputs = new ArrayList<>();
+                for (Future<List<List<Object>>> future : entry.getValue()) {
+                    partitionOutputs.addAll(future.get());
+                }
+                outputs.put(entry.getKey(), partitionOutputs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(chunks);
+            throw new KafkaConnectorException(KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
+        } catch (ExecutionException e) {
+            cancel(chunks);
+            throw new KafkaConnectorException(
+                    KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e.getCause());
+        }
+        return outputs;
+    }
+
+    private List<List<Object>> deserializeChunk(
+            TablePath tablePath, List<ConsumerRecord<byte[], byte[]>> records) throws Exception {
+        KafkaRecordDeserializer deserializer = deserializers.take();
+        try {
+            BufferingCollector collector = new BufferingCollector();
+            List<List<Object>> outputs = new ArrayList<>(records.size());
+            for (ConsumerRecord<byte[], byte[]> record : records) {
+                collector.outputs = new ArrayList<>(1);
+                deserializer.deserialize(tablePath, record, collector);
+                outputs.add(collector.outputs);
+            }
+            return outputs;
+        } finally {
+            deserializers.add(deserializer);
+        }
+    }
+
+    private static void cancel(Map<TopicPartition, List<Future<List<List<Object>>>>> chunks) {
+        chunks.values().forEach(futures -> futures.forEach(future -> future.cancel(true)));
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    /** Keeps the outputs of a record, they are emitted by the reader thread later. */
+    private static class BufferingCollector implements Collector<SeaTunnelRow> {
+
+        private final Object lock = new Object();
+
+        private List<Object> outputs;
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            outputs.add(record);
+        }
+
+        @Override
+        public void collect(SchemaChangeEvent event) {
+            outputs.add(event);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return lock;
+        }
+    }
+}
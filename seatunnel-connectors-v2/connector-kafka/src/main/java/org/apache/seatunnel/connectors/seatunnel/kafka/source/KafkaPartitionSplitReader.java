@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import org.apache.seatunnel.shade.com.google.common.base.Preconditions;
 
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.common.utils.TemporaryClassLoaderContext;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
@@ -57,8 +58,7 @@ import java.util.StringJoiner;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-public class KafkaPartitionSplitReader
-        implements SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+public class KafkaPartitionSplitReader implements SplitReader<KafkaRecord, KafkaSourceSplit> {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaPartitionSplitReader.class);
 
@@ -75,18 +75,45 @@ public class KafkaPartitionSplitReader
 
     private final long pollTimeout;
 
+    private final Map<TopicPartition, TablePath> tablePaths = new HashMap<>();
+
+    /** Deserializes the polled records ahead of the emitter, null if the emitter does it. */
+    @Nullable private final KafkaParallelDeserializer parallelDeserializer;
+
     public KafkaPartitionSplitReader(
             KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context) {
+        this(kafkaSourceConfig, context, 0);
+    }
+
+    /**
+     * @param readerIndex the index of the split reader within the source reader, which keeps the
+     *     client ids of the consumers of the same subtask distinct.
+     */
+    public KafkaPartitionSplitReader(
+            KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context, int readerIndex) {
         this.kafkaSourceConfig = kafkaSourceConfig;
-        this.consumer = initConsumer(kafkaSourceConfig, context.getIndexOfSubtask());
+        this.consumer =
+                initConsumer(
+                        kafkaSourceConfig,
+                        readerIndex == 0
+                                ? String.valueOf(context.getIndexOfSubtask())
+                                : context.getIndexOfSubtask() + "-" + readerIndex);
         this.stoppingOffsets = new HashMap<>();
         this.groupId =
                 kafkaSourceConfig.getProperties().getProperty(ConsumerConfig.GROUP_ID_CONFIG);
         this.pollTimeout = kafkaSourceConfig.getPollTimeout();
+        this.parallelDeserializer =
+                kafkaSourceConfig.getDeserializationParallelism() > 1
+                        ? new KafkaParallelDeserializer(
+                                new KafkaRecordDeserializer(
+                                        kafkaSourceConfig.getMapMetadata(),
+                                        kafkaSourceConfig.getMessageFormatErrorHandleWay()),
+                                kafkaSourceConfig.getDeserializationParallelism())
+                        : null;
     }
 
     @Override
-    public RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> fetch() throws IOException {
+    public RecordsWithSplitIds<KafkaRecord> fetch() throws IOException {
         ConsumerRecords<byte[], byte[]> consumerRecords;
         try {
             consumerRecords = consumer.poll(Duration.ofMillis(pollTimeout));
@@ -127,6 +154,12 @@ public class KafkaPartitionSplitReader
             }
         }
 
+        if (parallelDeserializer != null) {
+            recordsBySplits.setOutputs(
+                    parallelDeserializer.deserialize(
+                            consumerRecords, tablePaths, this::getStoppingOffset));
+        }
+
         markEmptySplitsAsFinished(recordsBySplits);
 
         if (!finishedPartitions.isEmpty()) {
@@ -185,6 +218,7 @@ public class KafkaPartitionSplitReader
                 .forEach(
                         s -> {
                             newPartitionAssignments.add(s.getTopicPartition());
+                            tablePaths.put(s.getTopicPartition(), s.getTablePath());
                             parseStartingOffsets(
                                     s,
                                     partitionsStartingFromEarliest,
@@ -335,6 +369,9 @@ public class KafkaPartitionSplitReader
     @Override
     public void close() throws Exception {
         consumer.close();
+        if (parallelDeserializer != null) {
+            parallelDeserializer.close();
+        }
     }
 
     public void notifyCheckpointComplete(
@@ -344,7 +381,7 @@ public class KafkaPartitionSplitReader
     }
 
     private KafkaConsumer<byte[], byte[]> initConsumer(
-            KafkaSourceConfig kafkaSourceConfig, int subtaskId) {
+            KafkaSourceConfig kafkaSourceConfig, String clientIdSuffix) {
 
         try (TemporaryClassLoaderContext ignored =
                 TemporaryClassLoaderContext.of(kafkaSourceConfig.getClass().getClassLoader())) {
@@ -360,13 +397,13 @@ public class KafkaPartitionSplitReader
             if (this.kafkaSourceConfig.getProperties().get("client.id") == null) {
                 props.setProperty(
                         ConsumerConfig.CLIENT_ID_CONFIG,
-                        CLIENT_ID_PREFIX + "-consumer-" + subtaskId);
+                        CLIENT_ID_PREFIX + "-consumer-" + clientIdSuffix);
             } else {
                 props.setProperty(
                         ConsumerConfig.CLIENT_ID_CONFIG,
                         this.kafkaSourceConfig.getProperties().get("client.id").toString()
                                 + "-"
-                                + subtaskId);
+                                + clientIdSuffix);
             }
             props.setProperty(
                     ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
@@ -395,14 +432,15 @@ public class KafkaPartitionSplitReader
         }
     }
 
-    private static class KafkaPartitionSplitRecords
-            implements RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> {
+    private static class KafkaPartitionSplitRecords implements RecordsWithSplitIds<KafkaRecord> {
 
         private final Set<String> finishedSplits = new HashSet<>();
         private final Map<TopicPartition, Long> stoppingOffsets = new HashMap<>();
         private final ConsumerRecords<byte[], byte[]> consumerRecords;
         private final Iterator<TopicPartition> splitIterator;
         private Iterator<ConsumerRecord<byte[], byte[]>> recordIterator;
+        @Nullable private Map<TopicPartition, List<List<Object>>> outputs;
+        @Nullable private Iterator<List<Object>> outputIterator;
         private TopicPartition currentTopicPartition;
         private Long currentSplitStoppingOffset;
 
@@ -416,6 +454,10 @@ public class KafkaPartitionSplitReader
             stoppingOffsets.put(topicPartition, stoppingOffset);
         }
 
+        private void setOutputs(Map<TopicPartition, List<List<Object>>> outputs) {
+            this.outputs = outputs;
+        }
+
         private void addFinishedSplit(String splitId) {
             finishedSplits.add(splitId);
         }
@@ -425,19 +467,23 @@ public class KafkaPartitionSplitReader
             if (splitIterator.hasNext()) {
                 currentTopicPartition = splitIterator.next();
                 recordIterator = consumerRecords.records(currentTopicPartition).iterator();
+                if (outputs != null) {
+                    outputIterator = outputs.get(currentTopicPartition).iterator();
+                }
                 currentSplitStoppingOffset =
                         stoppingOffsets.getOrDefault(currentTopicPartition, Long.MAX_VALUE);
                 return currentTopicPartition.toString();
             } else {
                 currentTopicPartition = null;
                 recordIterator = null;
+                outputIterator = null;
                 currentSplitStoppingOffset = null;
                 return null;
             }
         }
 
         @Nullable @Override
-        public ConsumerRecord<byte[], byte[]> nextRecordFromSplit() {
+        public KafkaRecord nextRecordFromSplit() {
             Preconditions.checkNotNull(
                     currentTopicPartition,
                     "Make sure nextSplit() did not return null before "
@@ -446,7 +492,8 @@ public class KafkaPartitionSplitReader
                 final ConsumerRecord<byte[], byte[]> record = recordIterator.next();
                 // Only emit records before stopping offset
                 if (record.offset() < currentSplitStoppingOffset) {
-                    return record;
+                    return new KafkaRecord(
+                            record, outputIterator == null ? null : outputIterator.next());
                 }
             }
             return null;
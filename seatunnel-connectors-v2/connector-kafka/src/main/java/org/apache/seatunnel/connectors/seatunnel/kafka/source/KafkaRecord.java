@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/** A record polled by a split reader, with its outputs when it was deserialized by the reader. */
+@Getter
+@AllArgsConstructor
+public class KafkaRecord {
+
+    private final ConsumerRecord<byte[], byte[]> consumerRecord;
+
+    /**
+     * The rows and schema change events deserialized from the record in their order, or null when
+     * the record is deserialized by the {@link KafkaRecordEmitter}.
+     */
+    @Nullable private final List<Object> outputs;
+}
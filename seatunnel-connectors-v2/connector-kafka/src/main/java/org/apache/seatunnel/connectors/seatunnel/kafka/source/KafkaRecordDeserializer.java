@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.SerializationUtils;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** Deserializes a polled record with the deserialization schema of the table of its split. */
+public class KafkaRecordDeserializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaRecordDeserializer.class);
+
+    private final HashMap<TablePath, DeserializationSchema<SeaTunnelRow>> deserializationSchemas;
+    private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
+
+    public KafkaRecordDeserializer(
+            Map<TablePath, ConsumerMetadata> mapMetadata,
+            MessageFormatErrorHandleWay messageFormatErrorHandleWay) {
+        this.deserializationSchemas = new HashMap<>();
+        mapMetadata.forEach(
+                (tablePath, metadata) ->
+                        deserializationSchemas.put(tablePath, metadata.getDeserializationSchema()));
+        this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
+    }
+
+    private KafkaRecordDeserializer(
+            HashMap<TablePath, DeserializationSchema<SeaTunnelRow>> deserializationSchemas,
+            MessageFormatErrorHandleWay messageFormatErrorHandleWay) {
+        this.deserializationSchemas = deserializationSchemas;
+        this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
+    }
+
+    public void deserialize(
+            TablePath tablePath,
+            ConsumerRecord<byte[], byte[]> consumerRecord,
+            Collector<SeaTunnelRow> collector)
+            throws Exception {
+        // todo there is an additional loss in this place for non-multi-table scenarios
+        DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                deserializationSchemas.get(tablePath);
+        try {
+            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                        .deserialize(consumerRecord, collector);
+            } else {
+                deserializationSchema.deserialize(consumerRecord.value(), collector);
+            }
+        } catch (Exception e) {
+            if (this.messageFormatErrorHandleWay == MessageFormatErrorHandleWay.SKIP) {
+                logger.warn(
+                        "Deserialize message failed, skip this message, message: {}",
+                        new String(consumerRecord.value()));
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns a deserializer with its own copies of the deserialization schemas, which keep state
+     * such as reused readers and rows and must not be shared by threads.
+     */
+    public KafkaRecordDeserializer copy() {
+        HashMap<TablePath, DeserializationSchema<SeaTunnelRow>> copies =
+                SerializationUtils.deserialize(
+                        SerializationUtils.serialize(deserializationSchemas),
+                        KafkaRecordDeserializer.class.getClassLoader());
+        return new KafkaRecordDeserializer(copies, messageFormatErrorHandleWay);
+    }
+}
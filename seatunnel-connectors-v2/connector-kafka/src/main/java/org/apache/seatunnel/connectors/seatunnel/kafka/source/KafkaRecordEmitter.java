@@ -17,63 +17,52 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 
-import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
-import org.apache.seatunnel.format.compatible.kafka.connect.json.CompatibleKafkaConnectDeserializationSchema;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
+import java.util.List;
 import java.util.Map;
 
 public class KafkaRecordEmitter
-        implements RecordEmitter<
-                ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplitState> {
+        implements RecordEmitter<KafkaRecord, SeaTunnelRow, KafkaSourceSplitState> {
 
-    private static final Logger logger = LoggerFactory.getLogger(KafkaRecordEmitter.class);
-    private final Map<TablePath, ConsumerMetadata> mapMetadata;
+    private final KafkaRecordDeserializer recordDeserializer;
     private final OutputCollector<SeaTunnelRow> outputCollector;
-    private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
 
     public KafkaRecordEmitter(
             Map<TablePath, ConsumerMetadata> mapMetadata,
             MessageFormatErrorHandleWay messageFormatErrorHandleWay) {
-        this.mapMetadata = mapMetadata;
-        this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
+        this.recordDeserializer =
+                new KafkaRecordDeserializer(mapMetadata, messageFormatErrorHandleWay);
         this.outputCollector = new OutputCollector<>();
     }
 
     @Override
     public void emitRecord(
-            ConsumerRecord<byte[], byte[]> consumerRecord,
+            KafkaRecord kafkaRecord,
             Collector<SeaTunnelRow> collector,
             KafkaSourceSplitState splitState)
             throws Exception {
-        outputCollector.output = collector;
-        // todo there is an additional loss in this place for non-multi-table scenarios
-        DeserializationSchema<SeaTunnelRow> deserializationSchema =
-                mapMetadata.get(splitState.getTablePath()).getDeserializationSchema();
-        try {
-            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
-                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
-                        .deserialize(consumerRecord, outputCollector);
-            } else {
-                deserializationSchema.deserialize(consumerRecord.value(), outputCollector);
-            }
-        } catch (Exception e) {
-            if (this.messageFormatErrorHandleWay == MessageFormatErrorHandleWay.SKIP) {
-                logger.warn(
-                        "Deserialize message failed, skip this message, message: {}",
-                        new String(consumerRecord.value()));
-            } else {
-                throw e;
+        ConsumerRecord<byte[], byte[]> consumerRecord = kafkaRecord.getConsumerRecord();
+        List<Object> outputs = kafkaRecord.getOutputs();
+        if (outputs == null) {
+            outputCollector.output = collector;
+            recordDeserializer.deserialize(
+                    splitState.getTablePath(), consumerRecord, outputCollector);
+        } else {
+            // the record was deserialized by the split reader
+            for (Object output : outputs) {
+                if (output instanceof SchemaChangeEvent) {
+                    collector.collect((SchemaChangeEvent) output);
+                } else {
+                    collector.collect((SeaTunnelRow) output);
+                }
             }
         }
         // consumerRecord.offset + 1 is the offset commit to Kafka and also the start offset
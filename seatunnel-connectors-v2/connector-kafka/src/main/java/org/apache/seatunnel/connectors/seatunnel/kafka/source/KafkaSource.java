@@ -34,11 +34,10 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceRead
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch.KafkaSourceFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSourceState;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class KafkaSource
@@ -77,16 +76,23 @@ public class KafkaSource
     @Override
     public SourceReader<SeaTunnelRow, KafkaSourceSplit> createReader(
             SourceReader.Context readerContext) {
+        SourceReaderOptions sourceReaderOptions = new SourceReaderOptions(readonlyConfig);
+        BlockingQueue<RecordsWithSplitIds<KafkaRecord>> elementsQueue =
+                new ArrayBlockingQueue<>(sourceReaderOptions.getElementQueueCapacity());
 
-        BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
-                new LinkedBlockingQueue<>();
-
+        AtomicInteger splitReaderIndex = new AtomicInteger();
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
-                () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
+                () ->
+                        new KafkaPartitionSplitReader(
+                                kafkaSourceConfig,
+                                readerContext,
+                                splitReaderIndex.getAndIncrement());
 
         KafkaSourceFetcherManager kafkaSourceFetcherManager =
                 new KafkaSourceFetcherManager(
-                        elementsQueue, kafkaPartitionSplitReaderSupplier::get);
+                        elementsQueue,
+                        kafkaPartitionSplitReaderSupplier::get,
+                        sourceReaderOptions.getSplitFetcherNum());
         KafkaRecordEmitter kafkaRecordEmitter =
                 new KafkaRecordEmitter(
                         kafkaSourceConfig.getMapMetadata(),
@@ -96,7 +102,7 @@ public class KafkaSource
                 elementsQueue,
                 kafkaSourceFetcherManager,
                 kafkaRecordEmitter,
-                new SourceReaderOptions(readonlyConfig),
+                sourceReaderOptions,
                 kafkaSourceConfig,
                 readerContext);
     }
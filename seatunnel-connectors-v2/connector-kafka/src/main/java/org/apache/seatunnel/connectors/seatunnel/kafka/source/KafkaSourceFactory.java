@@ -57,7 +57,8 @@ public class KafkaSourceFactory implements TableSourceFactory {
                         Config.FORMAT,
                         Config.DEBEZIUM_RECORD_INCLUDE_SCHEMA,
                         Config.DEBEZIUM_RECORD_TABLE_FILTER,
-                        Config.KEY_PARTITION_DISCOVERY_INTERVAL_MILLIS)
+                        Config.KEY_PARTITION_DISCOVERY_INTERVAL_MILLIS,
+                        Config.DESERIALIZATION_PARALLELISM)
                 .conditional(Config.START_MODE, StartMode.TIMESTAMP, Config.START_MODE_TIMESTAMP)
                 .conditional(
                         Config.START_MODE, StartMode.SPECIFIC_OFFSETS, Config.START_MODE_OFFSETS)
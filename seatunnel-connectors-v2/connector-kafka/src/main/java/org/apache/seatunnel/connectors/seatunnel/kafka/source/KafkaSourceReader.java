@@ -19,14 +19,12 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.MultiThreadMultiplexSourceReaderBase;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmitter;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SingleThreadMultiplexSourceReaderBase;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch.KafkaSourceFetcherManager;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 
@@ -44,11 +42,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 public class KafkaSourceReader
-        extends SingleThreadMultiplexSourceReaderBase<
-                ConsumerRecord<byte[], byte[]>,
-                SeaTunnelRow,
-                KafkaSourceSplit,
-                KafkaSourceSplitState> {
+        extends MultiThreadMultiplexSourceReaderBase<
+                KafkaRecord, SeaTunnelRow, KafkaSourceSplit, KafkaSourceSplitState> {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaSourceReader.class);
     private final SourceReader.Context context;
@@ -59,11 +54,9 @@ public class KafkaSourceReader
     private final ConcurrentMap<TopicPartition, OffsetAndMetadata> offsetsOfFinishedSplits;
 
     KafkaSourceReader(
-            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>
-                    splitFetcherManager,
-            RecordEmitter<ConsumerRecord<byte[], byte[]>, SeaTunnelRow, KafkaSourceSplitState>
-                    recordEmitter,
+            BlockingQueue<RecordsWithSplitIds<KafkaRecord>> elementsQueue,
+            KafkaSourceFetcherManager splitFetcherManager,
+            RecordEmitter<KafkaRecord, SeaTunnelRow, KafkaSourceSplitState> recordEmitter,
             SourceReaderOptions options,
             KafkaSourceConfig kafkaSourceConfig,
             Context context) {
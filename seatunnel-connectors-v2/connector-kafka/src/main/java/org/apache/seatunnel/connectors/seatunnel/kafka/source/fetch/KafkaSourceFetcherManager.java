@@ -18,14 +18,14 @@
 package org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch;
 
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.MultiThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcher;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherTask;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaPartitionSplitReader;
+import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaRecord;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaSourceSplit;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.common.TopicPartition;
@@ -41,23 +41,23 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public class KafkaSourceFetcherManager
-        extends SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+        extends MultiThreadFetcherManager<KafkaRecord, KafkaSourceSplit> {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaSourceFetcherManager.class);
 
     public KafkaSourceFetcherManager(
-            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
-                    splitReaderSupplier) {
-        super(elementsQueue, splitReaderSupplier);
+            BlockingQueue<RecordsWithSplitIds<KafkaRecord>> elementsQueue,
+            Supplier<SplitReader<KafkaRecord, KafkaSourceSplit>> splitReaderSupplier,
+            int fetcherNum) {
+        super(elementsQueue, splitReaderSupplier, fetcherNum);
     }
 
     public KafkaSourceFetcherManager(
-            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
-            Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
-                    splitReaderSupplier,
-            Consumer<Collection<String>> splitFinishedHook) {
-        super(elementsQueue, splitReaderSupplier, splitFinishedHook);
+            BlockingQueue<RecordsWithSplitIds<KafkaRecord>> elementsQueue,
+            Supplier<SplitReader<KafkaRecord, KafkaSourceSplit>> splitReaderSupplier,
+            Consumer<Collection<String>> splitFinishedHook,
+            int fetcherNum) {
+        super(elementsQueue, splitReaderSupplier, splitFinishedHook, fetcherNum);
     }
 
     public void commitOffsets(
@@ -66,8 +66,8 @@ public class KafkaSourceFetcherManager
         if (offsetsToCommit.isEmpty()) {
             return;
         }
-        SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher =
-                fetchers.get(0);
+        // the offsets are committed for the consumer group, so any fetcher may commit all of them
+        SplitFetcher<KafkaRecord, KafkaSourceSplit> splitFetcher = getRunningFetcher();
         if (splitFetcher != null) {
             // The fetcher thread is still running. This should be the majority of the cases.
             enqueueOffsetsCommitTask(splitFetcher, offsetsToCommit, callback);
@@ -79,7 +79,7 @@ public class KafkaSourceFetcherManager
     }
 
     private void enqueueOffsetsCommitTask(
-            SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher,
+            SplitFetcher<KafkaRecord, KafkaSourceSplit> splitFetcher,
             Map<TopicPartition, OffsetAndMetadata> offsetsToCommit,
             OffsetCommitCallback callback) {
         KafkaPartitionSplitReader kafkaReader =
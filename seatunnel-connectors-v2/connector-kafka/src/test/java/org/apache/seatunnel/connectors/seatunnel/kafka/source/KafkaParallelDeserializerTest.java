@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class KafkaParallelDeserializerTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of(null, "test");
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+
+    private static final Set<String> WORKERS = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void testKeepOrderOfPartitions() {
+        WORKERS.clear();
+        Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records = new HashMap<>();
+        records.put(PARTITION_0, records(PARTITION_0, 100));
+        records.put(PARTITION_1, records(PARTITION_1, 37));
+
+        Map<TopicPartition, List<List<Object>>> outputs;
+        try (KafkaParallelDeserializer deserializer =
+                new KafkaParallelDeserializer(
+                        recordDeserializer(MessageFormatErrorHandleWay.FAIL), 4)) {
+            outputs =
+                    deserializer.deserialize(
+                            new ConsumerRecords<>(records), tablePaths(), tp -> Long.MAX_VALUE);
+        }
+
+        assertOutputs(outputs.get(PARTITION_0), PARTITION_0, 100);
+        assertOutputs(outputs.get(PARTITION_1), PARTITION_1, 37);
+        Assertions.assertTrue(WORKERS.size() > 1);
+    }
+
+    @Test
+    void testSkipRecordsAfterStoppingOffset() {
+        Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records = new HashMap<>();
+        records.put(PARTITION_0, records(PARTITION_0, 10));
+
+        Map<TopicPartition, List<List<Object>>> outputs;
+        try (KafkaParallelDeserializer deserializer =
+                new KafkaParallelDeserializer(
+                        recordDeserializer(MessageFormatErrorHandleWay.FAIL), 3)) {
+            outputs =
+                    deserializer.deserialize(
+                            new ConsumerRecords<>(records), tablePaths(), tp -> 7L);
+        }
+
+        assertOutputs(outputs.get(PARTITION_0), PARTITION_0, 7);
+    }
+
+    @Test
+    void testFormatErrorHandleWay() {
+        List<ConsumerRecord<byte[], byte[]>> partitionRecords = records(PARTITION_0, 5);
+        partitionRecords.set(
+                2,
+                new ConsumerRecord<>(
+                        "test", 0, 2, null, "invalid".getBytes(StandardCharsets.UTF_8)));
+        Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records =
+                Collections.singletonMap(PARTITION_0, partitionRecords);
+
+        try (KafkaParallelDeserializer deserializer =
+                new KafkaParallelDeserializer(
+                        recordDeserializer(MessageFormatErrorHandleWay.SKIP), 2)) {
+            List<List<Object>> outputs =
+                    deserializer
+                            .deserialize(
+                                    new ConsumerRecords<>(records),
+                                    tablePaths(),
+                                    tp -> Long.MAX_VALUE)
+                            .get(PARTITION_0);
+            Assertions.assertEquals(5, outputs.size());
+            Assertions.assertTrue(outputs.get(2).isEmpty());
+            Assertions.assertEquals("test-0-3", ((SeaTunnelRow) outputs.get(3).get(0)).getField(0));
+        }
+
+        try (KafkaParallelDeserializer deserializer =
+                new KafkaParallelDeserializer(
+                        recordDeserializer(MessageFormatErrorHandleWay.FAIL), 2)) {
+            Assertions.assertThrows(
+                    KafkaConnectorException.class,
+                    () ->
+                            deserializer.deserialize(
+                                    new ConsumerRecords<>(records),
+                                    tablePaths(),
+                                    tp -> Long.MAX_VALUE));
+        }
+    }
+
+    private static void assertOutputs(
+            List<List<Object>> outputs, TopicPartition tp, int expectedCount) {
+        Assertions.assertEquals(expectedCount, outputs.size());
+        for (int i = 0; i < expectedCount; i++) {
+            Assertions.assertEquals(1, outputs.get(i).size());
+            SeaTunnelRow row = (SeaTunnelRow) outputs.get(i).get(0);
+            Assertions.assertEquals(tp + "-" + i, row.getField(0));
+        }
+    }
+
+    private static List<ConsumerRecord<byte[], byte[]>> records(TopicPartition tp, int count) {
+        List<ConsumerRecord<byte[], byte[]>> records = new ArrayList<>();
+        for (int offset = 0; offset < count; offset++) {
+            records.add(
+                    new ConsumerRecord<>(
+                            tp.topic(),
+                            tp.partition(),
+                            offset,
+                            null,
+                            (tp + "-" + offset).getBytes(StandardCharsets.UTF_8)));
+        }
+        return records;
+    }
+
+    private static Map<TopicPartition, TablePath> tablePaths() {
+        Map<TopicPartition, TablePath> tablePaths = new HashMap<>();
+        tablePaths.put(PARTITION_0, TABLE_PATH);
+        tablePaths.put(PARTITION_1, TABLE_PATH);
+        return tablePaths;
+    }
+
+    private static KafkaRecordDeserializer recordDeserializer(
+            MessageFormatErrorHandleWay messageFormatErrorHandleWay) {
+        ConsumerMetadata metadata = new ConsumerMetadata();
+        metadata.setTopic("test");
+        metadata.setDeserializationSchema(new SingleThreadDeserializationSchema());
+        return new KafkaRecordDeserializer(
+                Collections.singletonMap(TABLE_PATH, metadata), messageFormatErrorHandleWay);
+    }
+
+    /** Fails when an instance is used by more than one thread, like most of the formats. */
+    private static class SingleThreadDeserializationSchema
+            implements DeserializationSchema<SeaTunnelRow> {
+
+        private transient Thread owner;
+
+        @Override
+        public SeaTunnelRow deserialize(byte[] message) throws IOException {
+            if (owner == null) {
+                owner = Thread.currentThread();
+            } else if (owner != Thread.currentThread()) {
+                throw new IllegalStateException("The schema is shared by threads");
+            }
+            WORKERS.add(owner.getName());
+            String value = new String(message, StandardCharsets.UTF_8);
+            if (!value.startsWith("test-")) {
+                throw new IOException("Invalid message " + value);
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new SeaTunnelRow(new Object[] {value});
+        }
+
+        @Override
+        public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+            return new SeaTunnelRowType(
+                    new String[] {"value"}, new SeaTunnelDataType[] {BasicType.STRING_TYPE});
+        }
+    }
+}
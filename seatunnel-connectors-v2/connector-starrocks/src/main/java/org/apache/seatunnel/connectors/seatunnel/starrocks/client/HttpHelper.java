@@ -124,9 +124,18 @@ public class HttpHelper {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Map<String, Object> doHttpPut(String url, byte[] data, Map<String, String> header)
             throws IOException {
+        return doHttpPut(url, new ByteArrayEntity(data), header);
+    }
+
+    /**
+     * The entity of a chunked stream load is not repeatable, it is only sent after the redirection
+     * to a BE has been answered to the {@code Expect: 100-continue} header of the request.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> doHttpPut(String url, HttpEntity entity, Map<String, String> header)
+            throws IOException {
         final HttpClientBuilder httpClientBuilder =
                 HttpClients.custom()
                         .addInterceptorFirst(
@@ -151,7 +160,7 @@ public class HttpHelper {
                     httpPut.setHeader(entry.getKey(), String.valueOf(entry.getValue()));
                 }
             }
-            httpPut.setEntity(new ByteArrayEntity(data));
+            httpPut.setEntity(entity);
             httpPut.setConfig(
                     RequestConfig.custom()
                             .setSocketTimeout(sinkConfig.getHttpSocketTimeout())
@@ -30,15 +30,16 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 public class StarRocksSinkManager {
 
-    private final SinkConfig sinkConfig;
+    protected final SinkConfig sinkConfig;
     private final List<byte[]> batchList;
 
-    private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
+    protected final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
     private volatile boolean initialize;
     private volatile Exception flushException;
     private int batchRowCount = 0;
@@ -125,6 +126,33 @@ public class StarRocksSinkManager {
         batchBytesSize = 0;
     }
 
+    /**
+     * Flushes the records before a checkpoint.
+     *
+     * @return the label of the transaction to commit once the checkpoint completes, empty if the
+     *     records are already visible
+     */
+    public synchronized Optional<String> prepareCommit() throws IOException {
+        flush();
+        return Optional.empty();
+    }
+
+    /** Rolls back the side effects of the last {@link #prepareCommit()}. */
+    public synchronized void abortPrepare() throws IOException {}
+
+    /**
+     * Labels the next transactions after the checkpoints of a writer and rolls back the ones it
+     * left open after the given checkpoint.
+     *
+     * @param labelPrefix the label prefix of the writer
+     * @param checkpointId the checkpoint the writer is restored from, 0 if none
+     */
+    public synchronized void restoreTransactions(String labelPrefix, long checkpointId)
+            throws IOException {}
+
+    /** Records the checkpoint the last {@link #prepareCommit()} belongs to. */
+    public synchronized void snapshotState(long checkpointId) {}
+
     private void checkFlushException() {
         if (flushException != null) {
             throw new StarRocksConnectorException(
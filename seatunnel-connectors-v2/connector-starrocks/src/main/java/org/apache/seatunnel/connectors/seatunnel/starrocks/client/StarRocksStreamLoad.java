@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.common.utils.ExceptionUtils;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+
+import org.apache.http.entity.InputStreamEntity;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A stream load whose records are sent in a chunked HTTP request while they are written. The
+ * records go through a {@link RecordStream}, so the memory of a load is bounded by its buffers
+ * whatever the size of the load.
+ */
+@Slf4j
+public class StarRocksStreamLoad implements Closeable {
+
+    private static final String RESULT_FAILED = "Fail";
+
+    private final HttpHelper httpHelper;
+    private final RecordStream recordStream;
+    private final ExecutorService executorService;
+    private Future<Map<String, Object>> pendingLoadFuture;
+    @Getter private String host;
+    @Getter private String label;
+    @Getter private boolean loading;
+
+    public StarRocksStreamLoad(HttpHelper httpHelper, int bufferSize, int bufferCount) {
+        this.httpHelper = httpHelper;
+        this.recordStream = new RecordStream(bufferSize, bufferCount);
+        this.executorService =
+                Executors.newSingleThreadExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("starrocks-stream-load-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /** Starts the HTTP request of a load, it sends the records as they are written. */
+    public void startLoad(String host, String url, String label, Map<String, String> headers) {
+        if (pendingLoadFuture != null) {
+            throw new IllegalStateException("The previous load " + this.label + " is pending");
+        }
+        this.host = host;
+        this.label = label;
+        this.loading = true;
+        recordStream.startInput();
+        log.debug("stream load started for {}", label);
+        pendingLoadFuture =
+                executorService.submit(
+                        () -> {
+                            try {
+                                Map<String, Object> result =
+                                        httpHelper.doHttpPut(
+                                                url, new InputStreamEntity(recordStream), headers);
+                                if (result == null || RESULT_FAILED.equals(result.get("Status"))) {
+                                    recordStream.setErrorMessageByStreamLoad(
+                                            "Stream load " + label + " failed: " + result);
+                                }
+                                return result;
+                            } catch (Exception e) {
+                                // unblocks the writer waiting for a free buffer
+                                recordStream.setErrorMessageByStreamLoad(
+                                        ExceptionUtils.getMessage(e));
+                                throw e;
+                            }
+                        });
+    }
+
+    public void write(byte[] bytes) throws IOException {
+        recordStream.write(bytes);
+    }
+
+    /** Ends the data of the load, its response is then awaited by {@link #waitLoad()}. */
+    public void stopLoad() throws IOException {
+        loading = false;
+        recordStream.endInput();
+    }
+
+    public boolean isPending() {
+        return pendingLoadFuture != null;
+    }
+
+    /** Waits for the response of the load that was stopped. */
+    public Map<String, Object> waitLoad() throws IOException {
+        try {
+            return pendingLoadFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.STREAM_LOAD_FAILED, e);
+        } catch (ExecutionException e) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.STREAM_LOAD_FAILED,
+                    "Failed to stream load data with label: " + label,
+                    e.getCause());
+        } finally {
+            pendingLoadFuture = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
@@ -52,6 +52,7 @@ public class StarRocksStreamLoadVisitor {
     private long pos;
     private static final String RESULT_FAILED = "Fail";
     private static final String RESULT_SUCCESS = "Success";
+    private static final String RESULT_OK = "OK";
     private static final String RESULT_LABEL_EXISTED = "Label Already Exists";
     private static final String LAEBL_STATE_VISIBLE = "VISIBLE";
     private static final String LAEBL_STATE_COMMITTED = "COMMITTED";
@@ -68,20 +69,8 @@ public class StarRocksStreamLoadVisitor {
     }
 
     public Boolean doStreamLoad(StarRocksFlushTuple flushData) throws IOException {
-        String host = getAvailableHost();
-        if (null == host) {
-            throw new StarRocksConnectorException(
-                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
-                    "None of the host in `load_url` could be connected.");
-        }
-        String loadUrl =
-                new StringBuilder(host)
-                        .append("/api/")
-                        .append(sinkConfig.getDatabase())
-                        .append("/")
-                        .append(sinkConfig.getTable())
-                        .append("/_stream_load")
-                        .toString();
+        String host = getAvailableHostOrThrow();
+        String loadUrl = getLoadUrl(host);
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     String.format(
@@ -95,6 +84,17 @@ public class StarRocksStreamLoadVisitor {
                         loadUrl,
                         joinRows(flushData.getRows(), flushData.getBytes().intValue()),
                         getStreamLoadHttpHeader(flushData.getLabel()));
+        return checkLoadResult(host, flushData.getLabel(), loadResult);
+    }
+
+    /**
+     * Checks the response of a stream load, or of a load into a transaction, and throws if it
+     * failed.
+     *
+     * @return true if the data has been loaded, false if the load has to be retried
+     */
+    boolean checkLoadResult(String host, String label, Map<String, Object> loadResult)
+            throws IOException {
         final String keyStatus = "Status";
         if (null == loadResult || !loadResult.containsKey(keyStatus)) {
             LOG.error("unknown result status. {}", loadResult);
@@ -134,9 +134,122 @@ public class StarRocksStreamLoadVisitor {
         } else if (RESULT_LABEL_EXISTED.equals(loadResult.get(keyStatus))) {
             LOG.debug("StreamLoad response:\n" + JsonUtils.toJsonString(loadResult));
             // has to block-checking the state to get the final result
-            checkLabelState(host, flushData.getLabel());
+            checkLabelState(host, label);
+        }
+        return RESULT_SUCCESS.equals(loadResult.get(keyStatus))
+                || RESULT_OK.equals(loadResult.get(keyStatus));
+    }
+
+    String getLoadUrl(String host) {
+        return new StringBuilder(host)
+                .append("/api/")
+                .append(sinkConfig.getDatabase())
+                .append("/")
+                .append(sinkConfig.getTable())
+                .append("/_stream_load")
+                .toString();
+    }
+
+    String getTransactionLoadUrl(String host) {
+        return host + "/api/transaction/load";
+    }
+
+    /** Begins a stream load transaction, whose data is loaded by requests with the same label. */
+    public void beginTransaction(String host, String label) throws IOException {
+        doTransactionRequest(host, "begin", label);
+    }
+
+    /** Prepares a transaction once all its data is loaded, it is committed by the committer. */
+    public void prepareTransaction(String host, String label) throws IOException {
+        doTransactionRequest(host, "prepare", label);
+    }
+
+    public void commitTransaction(String label) throws IOException {
+        String host = getAvailableHostOrThrow();
+        try {
+            doTransactionRequest(host, "commit", label);
+        } catch (StarRocksConnectorException e) {
+            // the commit of a restored checkpoint may have been done before the failure
+            String labelState = getLabelState(host, label);
+            if (!LAEBL_STATE_VISIBLE.equals(labelState)
+                    && !LAEBL_STATE_COMMITTED.equals(labelState)) {
+                throw e;
+            }
+            LOG.info("Transaction label[{}] is already {}", label, labelState);
+        }
+    }
+
+    public void rollbackTransaction(String label) throws IOException {
+        doTransactionRequest(getAvailableHostOrThrow(), "rollback", label);
+    }
+
+    /**
+     * Rolls back the transactions of a writer labeled after the given checkpoint and the ones
+     * following it, until a label is unknown. They were left open by an attempt which failed before
+     * their checkpoint completed.
+     */
+    public void abortTransactions(String labelPrefix, long checkpointId) throws IOException {
+        String host = getAvailableHostOrThrow();
+        for (long id = checkpointId; ; id++) {
+            String label = labelPrefix + "_" + id;
+            String labelState = getLabelState(host, label);
+            if (labelState == null || RESULT_LABEL_UNKNOWN.equals(labelState)) {
+                return;
+            }
+            if (LAEBL_STATE_VISIBLE.equals(labelState)
+                    || LAEBL_STATE_COMMITTED.equals(labelState)) {
+                throw new StarRocksConnectorException(
+                        StarRocksConnectorErrorCode.TRANSACTION_FAILED,
+                        String.format(
+                                "Transaction label[%s] is already %s, change the label prefix or restore from the latest checkpoint",
+                                label, labelState));
+            }
+            if (!RESULT_LABEL_ABORTED.equals(labelState)) {
+                LOG.info("Roll back transaction label[{}] left {}", label, labelState);
+                doTransactionRequest(host, "rollback", label);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void doTransactionRequest(String host, String operation, String label)
+            throws IOException {
+        String url = host + "/api/transaction/" + operation;
+        String response = httpHelper.doHttpPost(url, getTransactionHttpHeader(label), "");
+        Map<String, Object> result =
+                response == null ? null : JsonUtils.parseObject(response, Map.class);
+        if (result == null || !RESULT_OK.equals(result.get("Status"))) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.TRANSACTION_FAILED,
+                    String.format(
+                            "Failed to %s transaction of label[%s], response[%s]",
+                            operation, label, response));
         }
-        return RESULT_SUCCESS.equals(loadResult.get(keyStatus));
+        LOG.info("{} transaction of label[{}] succeeded", operation, label);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String getLabelState(String host, String label) throws IOException {
+        String queryLoadStateUrl =
+                new StringBuilder(host)
+                        .append("/api/")
+                        .append(sinkConfig.getDatabase())
+                        .append("/get_load_state?label=")
+                        .append(label)
+                        .toString();
+        Map<String, Object> result =
+                httpHelper.doHttpGet(queryLoadStateUrl, getLoadStateHttpHeader(label));
+        return result == null ? null : (String) result.get("state");
+    }
+
+    String getAvailableHostOrThrow() {
+        String host = getAvailableHost();
+        if (null == host) {
+            throw new StarRocksConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "None of the host in `load_url` could be connected.");
+        }
+        return host;
     }
 
     private String getAvailableHost() {
@@ -261,7 +374,7 @@ public class StarRocksStreamLoadVisitor {
         return "Basic " + new String(encodedAuth);
     }
 
-    private Map<String, String> getStreamLoadHttpHeader(String label) {
+    Map<String, String> getStreamLoadHttpHeader(String label) {
         Map<String, String> headerMap = new HashMap<>();
         List<Column> columns = tableSchema.getColumns();
         List<String> fieldNames =
@@ -293,6 +406,17 @@ public class StarRocksStreamLoadVisitor {
         return headerMap;
     }
 
+    private Map<String, String> getTransactionHttpHeader(String label) {
+        Map<String, String> headerMap = new HashMap<>();
+        headerMap.put("label", label);
+        headerMap.put("db", sinkConfig.getDatabase());
+        headerMap.put("table", sinkConfig.getTable());
+        headerMap.put(
+                "Authorization",
+                getBasicAuthHeader(sinkConfig.getUsername(), sinkConfig.getPassword()));
+        return headerMap;
+    }
+
     private Map<String, String> getLoadStateHttpHeader(String label) {
         Map<String, String> headerMap = new HashMap<>();
         headerMap.put(
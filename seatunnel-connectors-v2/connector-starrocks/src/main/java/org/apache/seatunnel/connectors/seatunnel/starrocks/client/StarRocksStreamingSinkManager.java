@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sends the records to StarRocks in chunked stream loads while they are written, instead of
+ * buffering a whole batch and loading it synchronously. Two loads are used in turn, so the records
+ * of the next load are streamed while StarRocks commits the previous one. The memory of a load is
+ * bounded by its buffers.
+ *
+ * <p>With transactions enabled, the loads between two checkpoints are done in one stream load
+ * transaction, which is prepared before the checkpoint and committed by the committer once the
+ * checkpoint completes. The loads of a transaction are sent one after the other, so the two loads
+ * do not overlap then. A transaction is labeled by the label prefix of the writer and the
+ * checkpoint it is prepared for, which lets a restored writer roll back the transactions a failed
+ * attempt left open.
+ */
+@Slf4j
+public class StarRocksStreamingSinkManager extends StarRocksSinkManager {
+
+    private static final byte[] JSON_ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] JSON_DELIMITER = ",".getBytes(StandardCharsets.UTF_8);
+
+    private final StarRocksStreamLoad[] streamLoads;
+    private final boolean jsonFormat;
+    private final byte[] rowDelimiter;
+    private final boolean enableTransaction;
+    private int current;
+    private int loadRowCount;
+    private long loadBytesSize;
+    private String transactionHost;
+    private String transactionLabel;
+    private String transactionLabelPrefix;
+    private long lastCheckpointId;
+
+    public StarRocksStreamingSinkManager(SinkConfig sinkConfig, TableSchema tableSchema) {
+        super(sinkConfig, tableSchema);
+        HttpHelper httpHelper = new HttpHelper(sinkConfig);
+        this.streamLoads = new StarRocksStreamLoad[2];
+        for (int i = 0; i < streamLoads.length; i++) {
+            streamLoads[i] =
+                    new StarRocksStreamLoad(
+                            httpHelper,
+                            sinkConfig.getStreamingLoadBufferSize(),
+                            sinkConfig.getStreamingLoadBufferCount());
+        }
+        this.jsonFormat = SinkConfig.StreamLoadFormat.JSON.equals(sinkConfig.getLoadFormat());
+        if (jsonFormat) {
+            this.rowDelimiter = JSON_DELIMITER;
+        } else {
+            this.rowDelimiter =
+                    StarRocksDelimiterParser.parse(
+                                    (String) sinkConfig.getStreamLoadProps().get("row_delimiter"),
+                                    "\n")
+                            .getBytes(StandardCharsets.UTF_8);
+        }
+        this.enableTransaction = sinkConfig.isEnableTransaction();
+    }
+
+    @Override
+    public synchronized void write(String record) throws IOException {
+        byte[] bts = record.getBytes(StandardCharsets.UTF_8);
+        StarRocksStreamLoad streamLoad = streamLoads[current];
+        if (!streamLoad.isLoading()) {
+            startLoad(streamLoad);
+        } else {
+            streamLoad.write(rowDelimiter);
+        }
+        streamLoad.write(bts);
+        loadRowCount++;
+        loadBytesSize += bts.length;
+        if (loadRowCount >= sinkConfig.getBatchMaxSize()
+                || loadBytesSize >= sinkConfig.getBatchMaxBytes()) {
+            stopLoad(streamLoad);
+            current = 1 - current;
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        StarRocksStreamLoad streamLoad = streamLoads[current];
+        if (streamLoad.isLoading()) {
+            stopLoad(streamLoad);
+            current = 1 - current;
+        }
+        for (StarRocksStreamLoad load : streamLoads) {
+            if (load.isPending()) {
+                waitLoad(load);
+            }
+        }
+    }
+
+    @Override
+    public synchronized Optional<String> prepareCommit() throws IOException {
+        flush();
+        if (transactionLabel == null) {
+            return Optional.empty();
+        }
+        String label = transactionLabel;
+        starrocksStreamLoadVisitor.prepareTransaction(transactionHost, label);
+        transactionLabel = null;
+        return Optional.of(label);
+    }
+
+    @Override
+    public synchronized void abortPrepare() throws IOException {
+        rollbackTransaction();
+    }
+
+    @Override
+    public synchronized void restoreTransactions(String labelPrefix, long checkpointId)
+            throws IOException {
+        this.transactionLabelPrefix = labelPrefix;
+        this.lastCheckpointId = checkpointId;
+        starrocksStreamLoadVisitor.abortTransactions(labelPrefix, checkpointId + 1);
+    }
+
+    @Override
+    public synchronized void snapshotState(long checkpointId) {
+        this.lastCheckpointId = checkpointId;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+            // the records after the last checkpoint are written again on recovery
+            rollbackTransaction();
+        } finally {
+            for (StarRocksStreamLoad streamLoad : streamLoads) {
+                streamLoad.close();
+            }
+        }
+    }
+
+    private void startLoad(StarRocksStreamLoad streamLoad) throws IOException {
+        if (streamLoad.isPending()) {
+            // at most two loads are in flight
+            waitLoad(streamLoad);
+        }
+        String host;
+        String label;
+        String url;
+        if (enableTransaction) {
+            if (transactionLabel == null) {
+                transactionHost = starrocksStreamLoadVisitor.getAvailableHostOrThrow();
+                transactionLabel = createTransactionLabel();
+                starrocksStreamLoadVisitor.beginTransaction(transactionHost, transactionLabel);
+            }
+            host = transactionHost;
+            label = transactionLabel;
+            url = starrocksStreamLoadVisitor.getTransactionLoadUrl(host);
+        } else {
+            host = starrocksStreamLoadVisitor.getAvailableHostOrThrow();
+            label = createBatchLabel();
+            url = starrocksStreamLoadVisitor.getLoadUrl(host);
+        }
+        Map<String, String> headers = starrocksStreamLoadVisitor.getStreamLoadHttpHeader(label);
+        if (enableTransaction) {
+            headers.put("db", sinkConfig.getDatabase());
+            headers.put("table", sinkConfig.getTable());
+        }
+        streamLoad.startLoad(host, url, label, headers);
+        if (jsonFormat) {
+            streamLoad.write(JSON_ARRAY_START);
+        }
+        loadRowCount = 0;
+        loadBytesSize = 0;
+    }
+
+    private void stopLoad(StarRocksStreamLoad streamLoad) throws IOException {
+        if (jsonFormat) {
+            streamLoad.write(JSON_ARRAY_END);
+        }
+        streamLoad.stopLoad();
+        if (enableTransaction) {
+            // the loads of a transaction are sequential
+            waitLoad(streamLoad);
+        }
+    }
+
+    private void waitLoad(StarRocksStreamLoad streamLoad) throws IOException {
+        Map<String, Object> loadResult = streamLoad.waitLoad();
+        if (!starrocksStreamLoadVisitor.checkLoadResult(
+                streamLoad.getHost(), streamLoad.getLabel(), loadResult)) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.STREAM_LOAD_FAILED,
+                    String.format(
+                            "Failed to stream load data with label[%s], response[%s]",
+                            streamLoad.getLabel(), loadResult));
+        }
+    }
+
+    private String createTransactionLabel() {
+        if (transactionLabelPrefix == null) {
+            return createBatchLabel();
+        }
+        return transactionLabelPrefix + "_" + (lastCheckpointId + 1);
+    }
+
+    private void rollbackTransaction() throws IOException {
+        if (transactionLabel != null) {
+            String label = transactionLabel;
+            transactionLabel = null;
+            starrocksStreamLoadVisitor.rollbackTransaction(label);
+        }
+    }
+}
@@ -65,6 +65,11 @@ public class SinkConfig implements Serializable {
 
     private int httpSocketTimeout;
 
+    private boolean enableStreamingLoad;
+    private int streamingLoadBufferSize;
+    private int streamingLoadBufferCount;
+    private boolean enableTransaction;
+
     @Getter private final Map<String, Object> streamLoadProps = new HashMap<>();
 
     public static SinkConfig of(ReadonlyConfig config) {
@@ -98,6 +103,12 @@ public class SinkConfig implements Serializable {
         sinkConfig.setDataSaveMode(config.get(StarRocksSinkOptions.DATA_SAVE_MODE));
         sinkConfig.setCustomSql(config.get(StarRocksSinkOptions.CUSTOM_SQL));
         sinkConfig.setHttpSocketTimeout(config.get(StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS));
+        sinkConfig.setEnableStreamingLoad(config.get(StarRocksSinkOptions.ENABLE_STREAMING_LOAD));
+        sinkConfig.setStreamingLoadBufferSize(
+                config.get(StarRocksSinkOptions.STREAMING_LOAD_BUFFER_SIZE));
+        sinkConfig.setStreamingLoadBufferCount(
+                config.get(StarRocksSinkOptions.STREAMING_LOAD_BUFFER_COUNT));
+        sinkConfig.setEnableTransaction(config.get(StarRocksSinkOptions.ENABLE_TRANSACTION));
         return sinkConfig;
     }
 }
@@ -163,6 +163,33 @@ public interface StarRocksSinkOptions {
                     .defaultValue(3 * 60 * 1000)
                     .withDescription("Set http socket timeout, default is 3 minutes.");
 
+    Option<Boolean> ENABLE_STREAMING_LOAD =
+            Options.key("enable_streaming_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to send the records in a chunked stream load while they are written, instead of buffering a whole batch. The next load is streamed while the previous one is committed by StarRocks");
+
+    Option<Integer> STREAMING_LOAD_BUFFER_SIZE =
+            Options.key("streaming_load_buffer_size")
+                    .intType()
+                    .defaultValue(256 * 1024)
+                    .withDescription("The size of a buffer of a streaming load, in bytes");
+
+    Option<Integer> STREAMING_LOAD_BUFFER_COUNT =
+            Options.key("streaming_load_buffer_count")
+                    .intType()
+                    .defaultValue(3)
+                    .withDescription(
+                            "The number of buffers of a streaming load, it must be greater than 1");
+
+    Option<Boolean> ENABLE_TRANSACTION =
+            Options.key("enable_transaction")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to load the records of a checkpoint in a stream load transaction, which is committed when the checkpoint completes. It implies the streaming load");
+
     Option<String> CUSTOM_SQL =
             Options.key("custom_sql")
                     .stringType()
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.sink;
+
+import org.apache.seatunnel.api.sink.SinkCommitter;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.client.StarRocksStreamLoadVisitor;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/** Commits the stream load transactions prepared by the writers before a checkpoint. */
+public class StarRocksCommitter implements SinkCommitter<StarRocksCommitInfo> {
+
+    private final StarRocksStreamLoadVisitor streamLoadVisitor;
+
+    public StarRocksCommitter(SinkConfig sinkConfig, TableSchema tableSchema) {
+        this.streamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, tableSchema);
+    }
+
+    @Override
+    public List<StarRocksCommitInfo> commit(List<StarRocksCommitInfo> commitInfos)
+            throws IOException {
+        for (StarRocksCommitInfo commitInfo : commitInfos) {
+            streamLoadVisitor.commitTransaction(commitInfo.getLabel());
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void abort(List<StarRocksCommitInfo> commitInfos) throws IOException {
+        for (StarRocksCommitInfo commitInfo : commitInfos) {
+            streamLoadVisitor.rollbackTransaction(commitInfo.getLabel());
+        }
+    }
+}
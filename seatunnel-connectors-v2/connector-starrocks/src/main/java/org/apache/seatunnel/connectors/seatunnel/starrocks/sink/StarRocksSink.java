@@ -17,10 +17,14 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.sink;
 
+import org.apache.seatunnel.api.common.JobContext;
+import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.sink.DataSaveMode;
 import org.apache.seatunnel.api.sink.DefaultSaveModeHandler;
 import org.apache.seatunnel.api.sink.SaveModeHandler;
 import org.apache.seatunnel.api.sink.SchemaSaveMode;
+import org.apache.seatunnel.api.sink.SeaTunnelSink;
+import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
@@ -31,23 +35,27 @@ import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.schema.SchemaChangeType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.connectors.seatunnel.common.sink.AbstractSimpleSink;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.catalog.StarRocksCatalog;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.catalog.StarRocksCatalogFactory;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-public class StarRocksSink extends AbstractSimpleSink<SeaTunnelRow, Void>
-        implements SupportSaveMode, SupportSchemaEvolutionSink, SupportMultiTableSink {
+public class StarRocksSink
+        implements SeaTunnelSink<SeaTunnelRow, StarRocksSinkState, StarRocksCommitInfo, Void>,
+                SupportSaveMode,
+                SupportSchemaEvolutionSink,
+                SupportMultiTableSink {
 
     private final TableSchema tableSchema;
     private final SinkConfig sinkConfig;
     private final DataSaveMode dataSaveMode;
     private final SchemaSaveMode schemaSaveMode;
     private final CatalogTable catalogTable;
+    private String jobId;
 
     public StarRocksSink(SinkConfig sinkConfig, CatalogTable catalogTable) {
         this.sinkConfig = sinkConfig;
@@ -62,10 +70,43 @@ public class StarRocksSink extends AbstractSimpleSink<SeaTunnelRow, Void>
         return StarRocksCatalogFactory.IDENTIFIER;
     }
 
+    @Override
+    public void setJobContext(JobContext jobContext) {
+        this.jobId = jobContext.getJobId();
+    }
+
     @Override
     public StarRocksSinkWriter createWriter(SinkWriter.Context context) {
+        return restoreWriter(context, Collections.emptyList());
+    }
+
+    @Override
+    public StarRocksSinkWriter restoreWriter(
+            SinkWriter.Context context, List<StarRocksSinkState> states) {
         TablePath sinkTablePath = catalogTable.getTablePath();
-        return new StarRocksSinkWriter(sinkConfig, tableSchema, sinkTablePath);
+        return new StarRocksSinkWriter(
+                sinkConfig, tableSchema, sinkTablePath, jobId, context.getIndexOfSubtask(), states);
+    }
+
+    @Override
+    public Optional<Serializer<StarRocksSinkState>> getWriterStateSerializer() {
+        return Optional.of(new StarRocksSinkStateSerializer());
+    }
+
+    @Override
+    public Optional<SinkCommitter<StarRocksCommitInfo>> createCommitter() {
+        if (!sinkConfig.isEnableTransaction()) {
+            return Optional.empty();
+        }
+        return Optional.of(new StarRocksCommitter(sinkConfig, tableSchema));
+    }
+
+    @Override
+    public Optional<Serializer<StarRocksCommitInfo>> getCommitInfoSerializer() {
+        if (!sinkConfig.isEnableTransaction()) {
+            return Optional.empty();
+        }
+        return Optional.of(new StarRocksCommitInfoSerializer());
     }
 
     @Override
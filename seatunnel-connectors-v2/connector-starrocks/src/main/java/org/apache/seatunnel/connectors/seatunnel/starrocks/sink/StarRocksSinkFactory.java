@@ -67,7 +67,11 @@ public class StarRocksSinkFactory implements TableSinkFactory {
                         StarRocksSinkOptions.DATA_SAVE_MODE,
                         MULTI_TABLE_SINK_REPLICA,
                         StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE,
-                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS)
+                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS,
+                        StarRocksSinkOptions.ENABLE_STREAMING_LOAD,
+                        StarRocksSinkOptions.STREAMING_LOAD_BUFFER_SIZE,
+                        StarRocksSinkOptions.STREAMING_LOAD_BUFFER_COUNT,
+                        StarRocksSinkOptions.ENABLE_TRANSACTION)
                 .conditional(
                         DATA_SAVE_MODE,
                         DataSaveMode.CUSTOM_PROCESSING,
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.sink;
 
+import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.sink.SupportSchemaEvolutionSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
@@ -27,8 +28,8 @@ import org.apache.seatunnel.api.table.schema.handler.TableSchemaChangeEventDispa
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
-import org.apache.seatunnel.connectors.seatunnel.common.sink.AbstractSinkWriter;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.client.StarRocksSinkManager;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.client.StarRocksStreamingSinkManager;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksCsvSerializer;
@@ -43,27 +44,47 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
-public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
-        implements SupportMultiTableSinkWriter<Void>, SupportSchemaEvolutionSinkWriter {
+public class StarRocksSinkWriter
+        implements SinkWriter<SeaTunnelRow, StarRocksCommitInfo, StarRocksSinkState>,
+                SupportMultiTableSinkWriter<Void>,
+                SupportSchemaEvolutionSinkWriter {
     private StarRocksISerializer serializer;
     private StarRocksSinkManager manager;
     private TableSchema tableSchema;
     private final SinkConfig sinkConfig;
     private final TablePath sinkTablePath;
+    private final String labelPrefix;
+    private long lastCheckpointId;
     private final TableSchemaChangeEventDispatcher tableSchemaChangeEventDispatcher =
             new TableSchemaChangeEventDispatcher();
 
     public StarRocksSinkWriter(
-            SinkConfig sinkConfig, TableSchema tableSchema, TablePath tablePath) {
+            SinkConfig sinkConfig,
+            TableSchema tableSchema,
+            TablePath tablePath,
+            String jobId,
+            int indexOfSubtask,
+            List<StarRocksSinkState> states) {
         this.tableSchema = tableSchema;
         SeaTunnelRowType seaTunnelRowType = tableSchema.toPhysicalRowDataType();
         this.serializer = createSerializer(sinkConfig, seaTunnelRowType);
-        this.manager = new StarRocksSinkManager(sinkConfig, tableSchema);
         this.sinkConfig = sinkConfig;
         this.sinkTablePath = tablePath;
+        this.labelPrefix =
+                (sinkConfig.getLabelPrefix() == null ? "" : sinkConfig.getLabelPrefix())
+                        + tablePath.getFullName().replaceAll("[^A-Za-z0-9_-]", "_")
+                        + "_"
+                        + jobId
+                        + "_"
+                        + indexOfSubtask;
+        this.lastCheckpointId = states.isEmpty() ? 0 : states.get(0).getCheckpointId();
+        this.manager = createManager(sinkConfig, tableSchema);
+        restoreTransactions();
     }
 
     @Override
@@ -85,7 +106,8 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         this.tableSchema = tableSchemaChangeEventDispatcher.reset(tableSchema).apply(event);
         SeaTunnelRowType seaTunnelRowType = tableSchema.toPhysicalRowDataType();
         this.serializer = createSerializer(sinkConfig, seaTunnelRowType);
-        this.manager = new StarRocksSinkManager(sinkConfig, tableSchema);
+        this.manager = createManager(sinkConfig, tableSchema);
+        restoreTransactions();
 
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
@@ -107,10 +129,29 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
 
     @SneakyThrows
     @Override
-    public Optional<Void> prepareCommit() {
+    public Optional<StarRocksCommitInfo> prepareCommit() {
         // Flush to storage before snapshot state is performed
-        manager.flush();
-        return super.prepareCommit();
+        return manager.prepareCommit()
+                .map(
+                        label ->
+                                new StarRocksCommitInfo(
+                                        sinkConfig.getDatabase(), sinkConfig.getTable(), label));
+    }
+
+    @Override
+    public List<StarRocksSinkState> snapshotState(long checkpointId) {
+        if (!sinkConfig.isEnableTransaction()) {
+            return Collections.emptyList();
+        }
+        manager.snapshotState(checkpointId);
+        this.lastCheckpointId = checkpointId;
+        return Collections.singletonList(new StarRocksSinkState(labelPrefix, checkpointId));
+    }
+
+    @SneakyThrows
+    @Override
+    public void abortPrepare() {
+        manager.abortPrepare();
     }
 
     @Override
@@ -126,6 +167,27 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         }
     }
 
+    private void restoreTransactions() {
+        if (!sinkConfig.isEnableTransaction()) {
+            return;
+        }
+        log.info("restore transactions of label prefix {} after {}", labelPrefix, lastCheckpointId);
+        try {
+            manager.restoreTransactions(labelPrefix, lastCheckpointId);
+        } catch (IOException e) {
+            throw new StarRocksConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, e);
+        }
+    }
+
+    private static StarRocksSinkManager createManager(
+            SinkConfig sinkConfig, TableSchema tableSchema) {
+        if (sinkConfig.isEnableStreamingLoad() || sinkConfig.isEnableTransaction()) {
+            return new StarRocksStreamingSinkManager(sinkConfig, tableSchema);
+        }
+        return new StarRocksSinkManager(sinkConfig, tableSchema);
+    }
+
     public StarRocksISerializer createSerializer(
             SinkConfig sinkConfig, SeaTunnelRowType seaTunnelRowType) {
         if (SinkConfig.StreamLoadFormat.CSV.equals(sinkConfig.getLoadFormat())) {
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.connectors.seatunnel.common.http.MockHttpServer;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local HTTP endpoint answering stream loads and stream load transactions like a StarRocks FE.
+ * The data of every load is kept with its label, and the status of a transaction is kept by label.
+ */
+class MockStarRocksServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final MockHttpServer server;
+    private final List<Load> loads = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, String> transactions = new ConcurrentHashMap<>();
+    private volatile boolean failLoads;
+
+    MockStarRocksServer(long latencyMillis) throws IOException {
+        this.server =
+                new MockHttpServer(latencyMillis)
+                        .createContext("/api/db/tbl/_stream_load", this::handleLoad)
+                        .createContext("/api/transaction/", this::handleTransaction)
+                        .createContext("/api/db/get_load_state", this::handleLoadState);
+    }
+
+    String getNodeUrl() {
+        return server.getAddress();
+    }
+
+    void failLoads() {
+        this.failLoads = true;
+    }
+
+    List<Load> getLoads() {
+        synchronized (loads) {
+            return new ArrayList<>(loads);
+        }
+    }
+
+    /** The status of the transactions by label, BEGIN, PREPARED, COMMITTED or ABORTED. */
+    Map<String, String> getTransactions() {
+        return transactions;
+    }
+
+    int getMaxInFlight() {
+        return server.getMaxInFlight();
+    }
+
+    private void handleLoad(HttpExchange exchange) throws IOException {
+        String label = exchange.getRequestHeaders().getFirst("label");
+        receiveLoad(exchange, label);
+        respond(exchange, failLoads ? "Fail" : "Success");
+    }
+
+    private void handleTransaction(HttpExchange exchange) throws IOException {
+        String operation =
+                exchange.getRequestURI().getPath().substring("/api/transaction/".length());
+        String label = exchange.getRequestHeaders().getFirst("label");
+        String state = transactions.get(label);
+        switch (operation) {
+            case "begin":
+                transactions.put(label, "BEGIN");
+                respond(exchange, "OK");
+                return;
+            case "load":
+                receiveLoad(exchange, label);
+                respond(exchange, !failLoads && "BEGIN".equals(state) ? "OK" : "Fail");
+                return;
+            case "prepare":
+                transition(exchange, label, "BEGIN".equals(state), "PREPARED");
+                return;
+            case "commit":
+                transition(exchange, label, "PREPARED".equals(state), "COMMITTED");
+                return;
+            case "rollback":
+                transition(exchange, label, state != null && !"COMMITTED".equals(state), "ABORTED");
+                return;
+            default:
+                respond(exchange, "Fail");
+        }
+    }
+
+    private void handleLoadState(HttpExchange exchange) throws IOException {
+        MockHttpServer.readBody(exchange);
+        String query = exchange.getRequestURI().getQuery();
+        String state = transactions.get(query.substring(query.indexOf("label=") + 6));
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.put("Status", "OK");
+        response.put(
+                "state", state == null ? "UNKNOWN" : "BEGIN".equals(state) ? "PREPARE" : state);
+        MockHttpServer.respondJson(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(response));
+    }
+
+    private void transition(HttpExchange exchange, String label, boolean allowed, String state)
+            throws IOException {
+        MockHttpServer.readBody(exchange);
+        if (allowed) {
+            transactions.put(label, state);
+        }
+        respond(exchange, allowed ? "OK" : "Fail");
+    }
+
+    private void receiveLoad(HttpExchange exchange, String label) throws IOException {
+        String body = new String(server.receive(exchange), StandardCharsets.UTF_8);
+        loads.add(new Load(label, body));
+    }
+
+    private static void respond(HttpExchange exchange, String status) throws IOException {
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.put("Status", status);
+        response.put("Message", "");
+        MockHttpServer.respondJson(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(response));
+    }
+
+    @Override
+    public void close() {
+        server.close();
+    }
+
+    static class Load {
+        final String label;
+        final String body;
+
+        Load(String label, String body) {
+            this.label = label;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.sink.StarRocksCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.sink.StarRocksCommitter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public class StarRocksStreamingSinkManagerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TableSchema TABLE_SCHEMA =
+            TableSchema.builder()
+                    .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, null))
+                    .column(PhysicalColumn.of("name", BasicType.STRING_TYPE, 0L, true, null, null))
+                    .build();
+
+    private MockStarRocksServer server;
+
+    @AfterEach
+    public void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testJsonLoadsAreCutByRows() throws Exception {
+        server = new MockStarRocksServer(0);
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.JSON, false);
+        StarRocksStreamingSinkManager manager =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        for (int i = 0; i < 25; i++) {
+            manager.write(String.format("{\"id\":%d,\"name\":\"name-%d\"}", i, i));
+        }
+        manager.flush();
+        manager.close();
+
+        List<MockStarRocksServer.Load> loads = server.getLoads();
+        Assertions.assertEquals(3, loads.size());
+        Assertions.assertEquals(
+                3, loads.stream().map(load -> load.label).distinct().count(), "labels");
+        List<Integer> ids =
+                loads.stream()
+                        .flatMap(load -> readJsonArray(load.body).stream())
+                        .map(row -> row.get("id").asInt())
+                        .sorted()
+                        .collect(Collectors.toList());
+        Assertions.assertEquals(25, ids.size());
+        for (int i = 0; i < 25; i++) {
+            Assertions.assertEquals(i, ids.get(i));
+        }
+        List<Integer> loadSizes =
+                loads.stream()
+                        .map(load -> readJsonArray(load.body).size())
+                        .sorted()
+                        .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(5, 10, 10), loadSizes);
+    }
+
+    @Test
+    public void testCsvLoadsUseRowDelimiter() throws Exception {
+        server = new MockStarRocksServer(0);
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.CSV, false);
+        sinkConfig.getStreamLoadProps().put("row_delimiter", "|");
+        StarRocksStreamingSinkManager manager =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        for (int i = 0; i < 3; i++) {
+            manager.write(i + "\tname-" + i);
+        }
+        manager.close();
+
+        List<MockStarRocksServer.Load> loads = server.getLoads();
+        Assertions.assertEquals(1, loads.size());
+        Assertions.assertEquals("0\tname-0|1\tname-1|2\tname-2", loads.get(0).body);
+    }
+
+    @Test
+    public void testLoadsOverlap() throws Exception {
+        server = new MockStarRocksServer(200);
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.JSON, false);
+        StarRocksStreamingSinkManager manager =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        for (int i = 0; i < 60; i++) {
+            manager.write(String.format("{\"id\":%d,\"name\":\"name-%d\"}", i, i));
+        }
+        manager.close();
+
+        Assertions.assertEquals(6, server.getLoads().size());
+        Assertions.assertEquals(2, server.getMaxInFlight());
+    }
+
+    @Test
+    public void testTransactionIsCommittedByCommitter() throws Exception {
+        server = new MockStarRocksServer(0);
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.JSON, true);
+        StarRocksStreamingSinkManager manager =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        for (int i = 0; i < 25; i++) {
+            manager.write(String.format("{\"id\":%d,\"name\":\"name-%d\"}", i, i));
+        }
+        Optional<String> label = manager.prepareCommit();
+        Assertions.assertTrue(label.isPresent());
+        Assertions.assertEquals("PREPARED", server.getTransactions().get(label.get()));
+        List<MockStarRocksServer.Load> loads = server.getLoads();
+        Assertions.assertEquals(3, loads.size());
+        for (MockStarRocksServer.Load load : loads) {
+            Assertions.assertEquals(label.get(), load.label);
+        }
+
+        StarRocksCommitter committer = new StarRocksCommitter(sinkConfig, TABLE_SCHEMA);
+        committer.commit(
+                Collections.singletonList(
+                        new StarRocksCommitInfo(
+                                sinkConfig.getDatabase(), sinkConfig.getTable(), label.get())));
+        Assertions.assertEquals("COMMITTED", server.getTransactions().get(label.get()));
+
+        // nothing was written since the last checkpoint
+        Assertions.assertFalse(manager.prepareCommit().isPresent());
+        manager.close();
+    }
+
+    @Test
+    public void testUnpreparedTransactionIsRolledBackOnClose() throws Exception {
+        server = new MockStarRocksServer(0);
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.JSON, true);
+        StarRocksStreamingSinkManager manager =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        manager.write("{\"id\":1,\"name\":\"name-1\"}");
+        manager.close();
+
+        Assertions.assertEquals(1, server.getTransactions().size());
+        Assertions.assertEquals("ABORTED", server.getTransactions().values().iterator().next());
+    }
+
+    @Test
+    public void testOpenTransactionsAreRolledBackOnRestore() throws Exception {
+        server = new MockStarRocksServer(0);
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.JSON, true);
+        StarRocksStreamingSinkManager failed =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        failed.restoreTransactions("db_tbl_1_0", 0);
+        failed.write("{\"id\":1,\"name\":\"name-1\"}");
+        Assertions.assertEquals(Optional.of("db_tbl_1_0_1"), failed.prepareCommit());
+        failed.snapshotState(1);
+        failed.write("{\"id\":2,\"name\":\"name-2\"}");
+        Assertions.assertEquals("PREPARED", server.getTransactions().get("db_tbl_1_0_1"));
+        Assertions.assertEquals("BEGIN", server.getTransactions().get("db_tbl_1_0_2"));
+
+        // checkpoint 1 never completed, the writer is restored without state
+        StarRocksStreamingSinkManager restored =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        restored.restoreTransactions("db_tbl_1_0", 0);
+        Assertions.assertEquals("ABORTED", server.getTransactions().get("db_tbl_1_0_1"));
+        Assertions.assertEquals("ABORTED", server.getTransactions().get("db_tbl_1_0_2"));
+
+        restored.write("{\"id\":1,\"name\":\"name-1\"}");
+        Assertions.assertEquals(Optional.of("db_tbl_1_0_1"), restored.prepareCommit());
+        Assertions.assertEquals("PREPARED", server.getTransactions().get("db_tbl_1_0_1"));
+        restored.close();
+    }
+
+    @Test
+    public void testFailedLoadThrows() throws Exception {
+        server = new MockStarRocksServer(0);
+        server.failLoads();
+        SinkConfig sinkConfig = createSinkConfig(SinkConfig.StreamLoadFormat.JSON, false);
+        StarRocksStreamingSinkManager manager =
+                new StarRocksStreamingSinkManager(sinkConfig, TABLE_SCHEMA);
+        manager.write("{\"id\":1,\"name\":\"name-1\"}");
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::flush);
+    }
+
+    private SinkConfig createSinkConfig(SinkConfig.StreamLoadFormat format, boolean transaction) {
+        SinkConfig sinkConfig = new SinkConfig();
+        sinkConfig.setNodeUrls(Collections.singletonList(server.getNodeUrl()));
+        sinkConfig.setUsername("root");
+        sinkConfig.setPassword("");
+        sinkConfig.setDatabase("db");
+        sinkConfig.setTable("tbl");
+        sinkConfig.setLoadFormat(format);
+        sinkConfig.setBatchMaxSize(10);
+        sinkConfig.setBatchMaxBytes(1024 * 1024);
+        sinkConfig.setHttpSocketTimeout(10000);
+        sinkConfig.setEnableStreamingLoad(true);
+        sinkConfig.setStreamingLoadBufferSize(64);
+        sinkConfig.setStreamingLoadBufferCount(2);
+        sinkConfig.setEnableTransaction(transaction);
+        return sinkConfig;
+    }
+
+    private static List<JsonNode> readJsonArray(String body) {
+        try {
+            JsonNode array = OBJECT_MAPPER.readTree(body);
+            Assertions.assertTrue(array.isArray(), body);
+            return StreamSupport.stream(array.spliterator(), false).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.seatunnel.core.starter.exception.TaskExecuteException;
 import org.apache.seatunnel.core.starter.execution.PluginUtil;
 import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelFactoryDiscovery;
 import org.apache.seatunnel.plugin.discovery.seatunnel.SeaTunnelTransformPluginDiscovery;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.flink.api.common.functions.FlatMapFunction;
@@ -143,14 +144,15 @@ public class TransformExecuteProcessor
 
     protected DataStream<SeaTunnelRow> flinkTransform(
             SeaTunnelTransform transform, DataStream<SeaTunnelRow> stream) {
+        TypeInformation<SeaTunnelRow> producedType =
+                SeaTunnelRowTypeInfo.of(transform.getProducedCatalogTables());
         if (transform instanceof SeaTunnelFlatMapTransform) {
-            return stream.flatMap(
-                    new ArrayFlatMap(transform), TypeInformation.of(SeaTunnelRow.class));
+            return stream.flatMap(new ArrayFlatMap(transform), producedType);
         }
 
         return stream.transform(
                         String.format("%s-Transform", transform.getPluginName()),
-                        TypeInformation.of(SeaTunnelRow.class),
+                        producedType,
                         new StreamMap<>(
                                 flinkRuntimeEnvironment
                                         .getStreamExecutionEnvironment()
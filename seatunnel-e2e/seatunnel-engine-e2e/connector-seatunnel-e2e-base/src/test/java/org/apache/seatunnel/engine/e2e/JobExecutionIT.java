@@ -29,6 +29,7 @@ import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.core.job.JobResult;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.server.SeaTunnelServerStarter;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 
@@ -43,6 +44,7 @@ import com.hazelcast.map.IMap;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -112,15 +114,55 @@ public class JobExecutionIT {
 
     @Test
     public void testExecuteJobWithLockMetrics() throws Exception {
-        // lock metrics map
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        Common.setDeployMode(DeployMode.CLIENT);
+        String filePath = TestUtils.getResource("streaming_fakesource_to_file_complex.conf");
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setName("fake_to_file_with_lock_metrics");
+        ClientConfig clientConfig = ConfigProvider.locateAndGetClientConfig();
+        clientConfig.setClusterName(TestUtils.getClusterName("JobExecutionIT"));
+        IMap<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
                 hazelcastInstance.getMap(Constant.IMAP_RUNNING_JOB_METRICS);
-        metricsImap.lock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-        try {
-            runJobFileWithAssertEndStatus(
-                    "batch_fakesource_to_file.conf", "fake_to_file", JobStatus.FINISHED);
-        } finally {
-            metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
+        try (SeaTunnelClient engineClient = new SeaTunnelClient(clientConfig)) {
+            ClientJobExecutionEnvironment jobExecutionEnv =
+                    engineClient.createExecutionContext(filePath, jobConfig, SEATUNNEL_CONFIG);
+            final ClientJobProxy clientJobProxy = jobExecutionEnv.execute();
+            long jobId = clientJobProxy.getJobId();
+
+            // lock the metrics entry of a task group of the running job
+            TaskGroupLocation lockedLocation =
+                    await().atMost(60000, TimeUnit.MILLISECONDS)
+                            .until(
+                                    () ->
+                                            metricsImap.keySet().stream()
+                                                    .filter(
+                                                            location ->
+                                                                    location.getJobId() == jobId)
+                                                    .findFirst(),
+                                    Optional::isPresent)
+                            .get();
+            metricsImap.lock(lockedLocation);
+            try {
+                // the worker keeps overwriting the locked entry without waiting for the lock
+                long lockedVersion = metricsImap.getEntryView(lockedLocation).getVersion();
+                await().atMost(60000, TimeUnit.MILLISECONDS)
+                        .until(
+                                () ->
+                                        metricsImap.getEntryView(lockedLocation).getVersion()
+                                                > lockedVersion);
+
+                CompletableFuture<JobStatus> objectCompletableFuture =
+                        CompletableFuture.supplyAsync(clientJobProxy::waitForJobComplete);
+                clientJobProxy.cancelJob();
+                await().atMost(60000, TimeUnit.MILLISECONDS)
+                        .untilAsserted(
+                                () ->
+                                        Assertions.assertTrue(
+                                                objectCompletableFuture.isDone()
+                                                        && JobStatus.CANCELED.equals(
+                                                                objectCompletableFuture.get())));
+            } finally {
+                metricsImap.unlock(lockedLocation);
+            }
         }
     }
 
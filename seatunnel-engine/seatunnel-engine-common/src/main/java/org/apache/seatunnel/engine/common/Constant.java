@@ -57,11 +57,11 @@ public class Constant {
 
     public static final String IMAP_CHECKPOINT_ID = "engine_checkpoint-id-map";
 
-    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobMetrics";
-
-    public static final Long IMAP_RUNNING_JOB_METRICS_KEY = 1L;
+    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningTaskGroupMetrics";
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    public static final String IMAP_SHUFFLE_CHANNEL_ENDPOINTS = "engine_shuffleChannelEndpoints";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
@@ -27,6 +27,8 @@ import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ScheduleStrategy;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleServiceConfig;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryLogsConfig;
@@ -54,6 +56,7 @@ import static com.hazelcast.internal.config.DomConfigHelper.childElements;
 import static com.hazelcast.internal.config.DomConfigHelper.cleanNodeName;
 import static com.hazelcast.internal.config.DomConfigHelper.getBooleanValue;
 import static com.hazelcast.internal.config.DomConfigHelper.getIntegerValue;
+import static com.hazelcast.internal.config.DomConfigHelper.getLongValue;
 
 public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor {
     private static final ILogger LOGGER = Logger.getLogger(YamlSeaTunnelDomConfigProcessor.class);
@@ -199,6 +202,8 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                 engineConfig.setHttpConfig(parseHttpConfig(node));
             } else if (ServerConfigOptions.COORDINATOR_SERVICE.key().equals(name)) {
                 engineConfig.setCoordinatorServiceConfig(parseCoordinatorServiceConfig(node));
+            } else if (ServerConfigOptions.SHUFFLE.key().equals(name)) {
+                engineConfig.setShuffleServiceConfig(parseShuffleServiceConfig(node));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
@@ -419,4 +424,43 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
         }
         return httpConfig;
     }
+
+    private ShuffleServiceConfig parseShuffleServiceConfig(Node shuffleNode) {
+        ShuffleServiceConfig shuffleServiceConfig = new ShuffleServiceConfig();
+        for (Node node : childElements(shuffleNode)) {
+            String name = cleanNodeName(node);
+            if (ServerConfigOptions.SHUFFLE_TRANSPORT.key().equals(name)) {
+                shuffleServiceConfig.setTransport(
+                        ShuffleTransportType.valueOf(
+                                getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.SHUFFLE_PORT.key().equals(name)) {
+                shuffleServiceConfig.setPort(
+                        getIntegerValue(
+                                ServerConfigOptions.SHUFFLE_PORT.key(), getTextContent(node)));
+            } else if (ServerConfigOptions.SHUFFLE_PORT_RANGE.key().equals(name)) {
+                shuffleServiceConfig.setPortRange(
+                        getIntegerValue(
+                                ServerConfigOptions.SHUFFLE_PORT_RANGE.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.SHUFFLE_CHANNEL_CREDITS.key().equals(name)) {
+                shuffleServiceConfig.setChannelCredits(
+                        getIntegerValue(
+                                ServerConfigOptions.SHUFFLE_CHANNEL_CREDITS.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.SHUFFLE_CONNECT_TIMEOUT.key().equals(name)) {
+                shuffleServiceConfig.setConnectTimeout(
+                        getLongValue(
+                                ServerConfigOptions.SHUFFLE_CONNECT_TIMEOUT.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.SHUFFLE_MAX_FRAME_SIZE.key().equals(name)) {
+                shuffleServiceConfig.setMaxFrameSize(
+                        getIntegerValue(
+                                ServerConfigOptions.SHUFFLE_MAX_FRAME_SIZE.key(),
+                                getTextContent(node)));
+            } else {
+                LOGGER.warning("Unrecognized element: " + name);
+            }
+        }
+        return shuffleServiceConfig;
+    }
 }
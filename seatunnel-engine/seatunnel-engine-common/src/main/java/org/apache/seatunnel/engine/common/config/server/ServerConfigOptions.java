@@ -300,6 +300,53 @@ public class ServerConfigOptions {
                     .defaultValue(new HttpConfig())
                     .withDescription("The http configuration.");
 
+    public static final Option<ShuffleTransportType> SHUFFLE_TRANSPORT =
+            Options.key("transport")
+                    .type(new TypeReference<ShuffleTransportType>() {})
+                    .defaultValue(ShuffleTransportType.HAZELCAST_QUEUE)
+                    .withDescription(
+                            "The transport used to shuffle records between tasks, including HAZELCAST_QUEUE and TCP.");
+
+    public static final Option<Integer> SHUFFLE_PORT =
+            Options.key("port")
+                    .intType()
+                    .defaultValue(5901)
+                    .withDescription("The first port tried by the TCP shuffle server.");
+
+    public static final Option<Integer> SHUFFLE_PORT_RANGE =
+            Options.key("port-range")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The number of ports tried by the TCP shuffle server, starting from the shuffle port.");
+
+    public static final Option<Integer> SHUFFLE_CHANNEL_CREDITS =
+            Options.key("channel-credits")
+                    .intType()
+                    .defaultValue(2048)
+                    .withDescription(
+                            "The number of records a TCP shuffle channel may have in flight before the producer is blocked.");
+
+    public static final Option<Long> SHUFFLE_CONNECT_TIMEOUT =
+            Options.key("connect-timeout")
+                    .longType()
+                    .defaultValue(60000L)
+                    .withDescription(
+                            "The time (in milliseconds) a producer waits for the consumer of a TCP shuffle channel.");
+
+    public static final Option<Integer> SHUFFLE_MAX_FRAME_SIZE =
+            Options.key("max-frame-size")
+                    .intType()
+                    .defaultValue(64 * 1024 * 1024)
+                    .withDescription(
+                            "The maximum size (in bytes) of a data frame of a TCP shuffle channel, larger frames are rejected by the consumer.");
+
+    public static final Option<ShuffleServiceConfig> SHUFFLE =
+            Options.key("shuffle")
+                    .type(new TypeReference<ShuffleServiceConfig>() {})
+                    .defaultValue(new ShuffleServiceConfig())
+                    .withDescription("The shuffle transport configuration.");
+
     public static final String EVENT_REPORT_HTTP = "event-report-http";
     public static final String EVENT_REPORT_HTTP_URL = "url";
     public static final String EVENT_REPORT_HTTP_HEADERS = "headers";
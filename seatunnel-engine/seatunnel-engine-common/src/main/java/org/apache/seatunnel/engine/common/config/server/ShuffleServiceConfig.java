@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.common.config.server;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+@Data
+public class ShuffleServiceConfig implements Serializable {
+
+    private ShuffleTransportType transport = ServerConfigOptions.SHUFFLE_TRANSPORT.defaultValue();
+
+    private int port = ServerConfigOptions.SHUFFLE_PORT.defaultValue();
+
+    private int portRange = ServerConfigOptions.SHUFFLE_PORT_RANGE.defaultValue();
+
+    private int channelCredits = ServerConfigOptions.SHUFFLE_CHANNEL_CREDITS.defaultValue();
+
+    private long connectTimeout = ServerConfigOptions.SHUFFLE_CONNECT_TIMEOUT.defaultValue();
+
+    private int maxFrameSize = ServerConfigOptions.SHUFFLE_MAX_FRAME_SIZE.defaultValue();
+
+    public void setTransport(ShuffleTransportType transport) {
+        checkNotNull(transport, ServerConfigOptions.SHUFFLE_TRANSPORT + " must not be null");
+        this.transport = transport;
+    }
+
+    public void setPort(int port) {
+        checkPositive(port, ServerConfigOptions.SHUFFLE_PORT + " must be > 0");
+        this.port = port;
+    }
+
+    public void setPortRange(int portRange) {
+        checkPositive(portRange, ServerConfigOptions.SHUFFLE_PORT_RANGE + " must be > 0");
+        this.portRange = portRange;
+    }
+
+    public void setChannelCredits(int channelCredits) {
+        checkPositive(channelCredits, ServerConfigOptions.SHUFFLE_CHANNEL_CREDITS + " must be > 0");
+        this.channelCredits = channelCredits;
+    }
+
+    public void setConnectTimeout(long connectTimeout) {
+        checkPositive(connectTimeout, ServerConfigOptions.SHUFFLE_CONNECT_TIMEOUT + " must be > 0");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public void setMaxFrameSize(int maxFrameSize) {
+        checkPositive(maxFrameSize, ServerConfigOptions.SHUFFLE_MAX_FRAME_SIZE + " must be > 0");
+        this.maxFrameSize = maxFrameSize;
+    }
+}
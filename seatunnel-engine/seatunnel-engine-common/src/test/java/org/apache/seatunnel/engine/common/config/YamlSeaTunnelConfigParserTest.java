@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +82,12 @@ public class YamlSeaTunnelConfigParserTest {
                 30, config.getEngineConfig().getCoordinatorServiceConfig().getCoreThreadNum());
         Assertions.assertEquals(
                 1000, config.getEngineConfig().getCoordinatorServiceConfig().getMaxThreadNum());
+        Assertions.assertEquals(
+                ShuffleTransportType.TCP,
+                config.getEngineConfig().getShuffleServiceConfig().getTransport());
+        Assertions.assertEquals(6901, config.getEngineConfig().getShuffleServiceConfig().getPort());
+        Assertions.assertEquals(
+                1024, config.getEngineConfig().getShuffleServiceConfig().getChannelCredits());
     }
 
     @Test
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import lombok.experimental.Tolerate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Routes every row to the target partition picked by the hash of its key columns, so all changes of
+ * one key are written by the same target in the order they were produced. The key columns of a
+ * table are the configured ones, or its primary key when none are configured. Rows of a table
+ * without any key are routed by table id. Schema change events are broadcast to every target.
+ */
+@SuperBuilder(toBuilder = true)
+@Getter
+@Setter
+@ToString
+public class ShuffleKeyHashStrategy extends ShuffleStrategy {
+    /** The id of the shuffle action, keeps apart the channels of keyed shuffles in one pipeline. */
+    private long shuffleId;
+
+    /** The input tables keyed by table id. */
+    private Map<String, CatalogTable> catalogTables;
+    /** The configured key columns keyed by table id, the primary key is used when absent. */
+    private Map<String, List<String>> keyColumns;
+
+    private int targetPartitions;
+
+    @ToString.Exclude private transient Map<String, int[]> keyFieldIndexes;
+    @ToString.Exclude private transient Map<Integer, String[]> inputQueueMapping;
+
+    @Tolerate
+    public ShuffleKeyHashStrategy() {}
+
+    @Override
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
+        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
+        List<String> queueNames = new ArrayList<>(targetPartitions);
+        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+            queueNames.add(generateQueueName(pipelineId, inputIndex, targetIndex));
+        }
+        return queueNames;
+    }
+
+    @Override
+    public String createShuffleKey(Record<?> record, int pipelineId, int inputIndex) {
+        if (inputQueueMapping == null) {
+            inputQueueMapping = new HashMap<>();
+        }
+        String[] inputQueueNames =
+                inputQueueMapping.computeIfAbsent(
+                        inputIndex,
+                        key -> {
+                            String[] queueNames = new String[targetPartitions];
+                            for (int targetIndex = 0;
+                                    targetIndex < targetPartitions;
+                                    targetIndex++) {
+                                queueNames[targetIndex] =
+                                        generateQueueName(pipelineId, key, targetIndex);
+                            }
+                            return queueNames;
+                        });
+        return inputQueueNames[selectPartition(record)];
+    }
+
+    @Override
+    public List<String> getShuffleNames(int pipelineId, int targetIndex) {
+        checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
+        List<String> queueNames = new ArrayList<>(getInputPartitions());
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            queueNames.add(generateQueueName(pipelineId, inputIndex, targetIndex));
+        }
+        return queueNames;
+    }
+
+    @Override
+    public boolean isBroadcast(Record<?> record) {
+        return record.getData() instanceof SchemaChangeEvent;
+    }
+
+    @Override
+    public void applySchemaChange(SchemaChangeEvent event) {
+        String tableId = resolveTableId(event.tablePath().toString());
+        if (event.getChangeAfter() == null || tableId == null) {
+            return;
+        }
+        // The key columns may have moved, resolve them again against the changed table.
+        catalogTables = new HashMap<>(catalogTables);
+        catalogTables.put(tableId, event.getChangeAfter());
+        if (keyFieldIndexes != null) {
+            keyFieldIndexes.remove(tableId);
+        }
+    }
+
+    public int selectPartition(Record<?> record) {
+        if (!(record.getData() instanceof SeaTunnelRow)) {
+            throw new UnsupportedOperationException("Unsupported record: " + record);
+        }
+        SeaTunnelRow row = (SeaTunnelRow) record.getData();
+        String tableId = resolveTableId(row.getTableId());
+        int[] keyIndexes = tableId == null ? new int[0] : getKeyFieldIndexes(tableId);
+
+        int hash;
+        if (keyIndexes.length == 0) {
+            hash = String.valueOf(row.getTableId()).hashCode();
+        } else {
+            Object[] keyValues = new Object[keyIndexes.length];
+            for (int i = 0; i < keyIndexes.length; i++) {
+                keyValues[i] = row.getField(keyIndexes[i]);
+            }
+            hash = 31 * tableId.hashCode() + Arrays.deepHashCode(keyValues);
+        }
+        return (hash & Integer.MAX_VALUE) % targetPartitions;
+    }
+
+    private String resolveTableId(String tableId) {
+        if (catalogTables == null || catalogTables.isEmpty()) {
+            return null;
+        }
+        if (catalogTables.size() == 1) {
+            // A single table sink receives rows under the id of the upstream table.
+            return catalogTables.keySet().iterator().next();
+        }
+        return catalogTables.containsKey(tableId) ? tableId : null;
+    }
+
+    private int[] getKeyFieldIndexes(String tableId) {
+        if (keyFieldIndexes == null) {
+            keyFieldIndexes = new HashMap<>();
+        }
+        return keyFieldIndexes.computeIfAbsent(
+                tableId,
+                id -> {
+                    CatalogTable catalogTable = catalogTables.get(id);
+                    List<String> columns = getKeyColumns(id, catalogTable);
+                    SeaTunnelRowType rowType = catalogTable.getSeaTunnelRowType();
+                    int[] indexes = new int[columns.size()];
+                    for (int i = 0; i < indexes.length; i++) {
+                        indexes[i] = rowType.indexOf(columns.get(i), false);
+                        if (indexes[i] < 0) {
+                            return new int[0];
+                        }
+                    }
+                    return indexes;
+                });
+    }
+
+    private List<String> getKeyColumns(String tableId, CatalogTable catalogTable) {
+        if (keyColumns != null
+                && keyColumns.get(tableId) != null
+                && !keyColumns.get(tableId).isEmpty()) {
+            return keyColumns.get(tableId);
+        }
+        PrimaryKey primaryKey = catalogTable.getTableSchema().getPrimaryKey();
+        if (primaryKey == null || primaryKey.getColumnNames() == null) {
+            return Collections.emptyList();
+        }
+        return primaryKey.getColumnNames();
+    }
+
+    private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
+        return String.format(
+                "ShuffleKeyHash-Queue_%s_%s_%s_%s_%s",
+                getJobId(), shuffleId, pipelineId, inputIndex, targetIndex);
+    }
+}
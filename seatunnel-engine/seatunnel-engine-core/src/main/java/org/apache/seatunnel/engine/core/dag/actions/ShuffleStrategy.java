@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 
 import com.hazelcast.collection.IQueue;
@@ -28,10 +29,14 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
@@ -51,13 +56,57 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex);
+    /** The names of the channels the given input writes to, keyed by {@link #createShuffleKey}. */
+    public abstract List<String> createShuffleNames(int pipelineId, int inputIndex);
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
-    public abstract IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex);
+    /** The names of the channels the given target reads from, one per input partition. */
+    public abstract List<String> getShuffleNames(int pipelineId, int targetIndex);
+
+    /** Whether the record must be replicated to every channel instead of a keyed one. */
+    public boolean isBroadcast(Record<?> record) {
+        return false;
+    }
+
+    /** Updates the routing state after a schema change passed through the shuffle. */
+    public void applySchemaChange(SchemaChangeEvent event) {}
+
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : createShuffleNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
+
+        return shuffleMap;
+    }
+
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        List<String> queueNames = getShuffleNames(pipelineId, targetIndex);
+        IQueue<Record<?>>[] shuffles = new IQueue[queueNames.size()];
+        for (int i = 0; i < shuffles.length; i++) {
+            shuffles[i] = getIQueue(hazelcast, queueNames.get(i));
+        }
+
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                queueNames);
+
+        return shuffles;
+    }
 
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ShuffleKeyHashStrategyTest {
+
+    private static final int TARGET_PARTITIONS = 4;
+
+    @Test
+    public void testRowsOfOneKeyGoToOnePartition() {
+        ShuffleKeyHashStrategy strategy =
+                createStrategy(Collections.singletonMap("db.user", createTable("db.user")), null);
+
+        Set<Integer> partitions = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            int partition = strategy.selectPartition(row("db.user", RowKind.INSERT, i, "a"));
+            Assertions.assertEquals(
+                    partition,
+                    strategy.selectPartition(row("db.user", RowKind.UPDATE_AFTER, i, "b")));
+            Assertions.assertEquals(
+                    partition, strategy.selectPartition(row("db.user", RowKind.DELETE, i, "c")));
+            Assertions.assertTrue(partition >= 0 && partition < TARGET_PARTITIONS);
+            partitions.add(partition);
+        }
+        // The keys are spread over all targets
+        Assertions.assertEquals(TARGET_PARTITIONS, partitions.size());
+    }
+
+    @Test
+    public void testConfiguredKeyColumns() {
+        ShuffleKeyHashStrategy strategy =
+                createStrategy(
+                        Collections.singletonMap("db.user", createTable("db.user")),
+                        Collections.singletonMap("db.user", Collections.singletonList("name")));
+
+        Set<Integer> partitions = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            partitions.add(strategy.selectPartition(row("db.user", RowKind.INSERT, i, "same")));
+        }
+        Assertions.assertEquals(1, partitions.size());
+    }
+
+    @Test
+    public void testSingleTableIgnoresUpstreamTableId() {
+        ShuffleKeyHashStrategy strategy =
+                createStrategy(
+                        Collections.singletonMap("sink.user", createTable("sink.user")), null);
+
+        Set<Integer> partitions = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            partitions.add(strategy.selectPartition(row("source.user", RowKind.INSERT, i, "a")));
+        }
+        Assertions.assertEquals(TARGET_PARTITIONS, partitions.size());
+    }
+
+    @Test
+    public void testTableWithoutKeyStaysOnOnePartition() {
+        Map<String, CatalogTable> tables = new HashMap<>();
+        tables.put("db.user", createTable("db.user"));
+        tables.put("db.log", createTable("db.log", null));
+        ShuffleKeyHashStrategy strategy = createStrategy(tables, null);
+
+        Set<Integer> partitions = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            partitions.add(strategy.selectPartition(row("db.log", RowKind.INSERT, i, "a")));
+        }
+        Assertions.assertEquals(1, partitions.size());
+    }
+
+    @Test
+    public void testSchemaChangeIsBroadcast() {
+        ShuffleKeyHashStrategy strategy =
+                createStrategy(Collections.singletonMap("db.user", createTable("db.user")), null);
+        AlterTableAddColumnEvent event =
+                AlterTableAddColumnEvent.addFirst(
+                        TableIdentifier.of("default", TablePath.of("db.user")),
+                        PhysicalColumn.of("age", BasicType.INT_TYPE, 0, true, null, null));
+        event.setChangeAfter(
+                CatalogTable.of(
+                        TableIdentifier.of("default", TablePath.of("db.user")),
+                        TableSchema.builder()
+                                .column(
+                                        PhysicalColumn.of(
+                                                "age", BasicType.INT_TYPE, 0, true, null, null))
+                                .columns(createSchema(PrimaryKey.of("pk", ids())).getColumns())
+                                .primaryKey(PrimaryKey.of("pk", ids()))
+                                .build(),
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        null));
+
+        Assertions.assertTrue(strategy.isBroadcast(new Record<>(event)));
+        Assertions.assertFalse(strategy.isBroadcast(row("db.user", RowKind.INSERT, 1, "a")));
+
+        int before = strategy.selectPartition(row("db.user", RowKind.INSERT, 7, "a"));
+        strategy.applySchemaChange(event);
+        SeaTunnelRow changed = new SeaTunnelRow(new Object[] {30, 7, "b"});
+        changed.setTableId("db.user");
+        // The key is resolved against the changed table, the partition stays the same
+        Assertions.assertEquals(before, strategy.selectPartition(new Record<>(changed)));
+    }
+
+    @Test
+    public void testShuffleNames() {
+        ShuffleKeyHashStrategy strategy =
+                createStrategy(Collections.singletonMap("db.user", createTable("db.user")), null);
+        List<String> inputNames = strategy.createShuffleNames(1, 0);
+        Assertions.assertEquals(TARGET_PARTITIONS, inputNames.size());
+        for (int target = 0; target < TARGET_PARTITIONS; target++) {
+            Assertions.assertEquals(
+                    inputNames.get(target), strategy.getShuffleNames(1, target).get(0));
+            Assertions.assertEquals(2, strategy.getShuffleNames(1, target).size());
+        }
+        Assertions.assertTrue(
+                inputNames.contains(
+                        strategy.createShuffleKey(row("db.user", RowKind.INSERT, 1, "a"), 1, 0)));
+    }
+
+    private static ShuffleKeyHashStrategy createStrategy(
+            Map<String, CatalogTable> tables, Map<String, List<String>> keyColumns) {
+        return ShuffleKeyHashStrategy.builder()
+                .jobId(1)
+                .inputPartitions(2)
+                .targetPartitions(TARGET_PARTITIONS)
+                .catalogTables(tables)
+                .keyColumns(keyColumns)
+                .build();
+    }
+
+    private static Record<SeaTunnelRow> row(String tableId, RowKind kind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setRowKind(kind);
+        row.setTableId(tableId);
+        return new Record<>(row);
+    }
+
+    private static List<String> ids() {
+        return Collections.singletonList("id");
+    }
+
+    private static CatalogTable createTable(String tablePath) {
+        return createTable(tablePath, PrimaryKey.of("pk", ids()));
+    }
+
+    private static CatalogTable createTable(String tablePath, PrimaryKey primaryKey) {
+        return CatalogTable.of(
+                TableIdentifier.of("default", TablePath.of(tablePath)),
+                createSchema(primaryKey),
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                null);
+    }
+
+    private static TableSchema createSchema(PrimaryKey primaryKey) {
+        return TableSchema.builder()
+                .columns(
+                        Arrays.asList(
+                                PhysicalColumn.of("id", BasicType.INT_TYPE, 0, false, null, null),
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 0, true, null, null)))
+                .primaryKey(primaryKey)
+                .build();
+    }
+}
@@ -63,6 +63,7 @@ import org.apache.seatunnel.engine.server.resourcemanager.ResourceManagerFactory
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.service.jar.ConnectorPackageService;
 import org.apache.seatunnel.engine.server.task.operation.GetMetricsOperation;
+import org.apache.seatunnel.engine.server.telemetry.metrics.entity.CheckpointStorageStatus;
 import org.apache.seatunnel.engine.server.telemetry.metrics.entity.JobCounter;
 import org.apache.seatunnel.engine.server.telemetry.metrics.entity.ThreadPoolStatus;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
@@ -169,7 +170,7 @@ public class CoordinatorService {
      */
     private IMap<PipelineLocation, Map<TaskGroupLocation, SlotProfile>> ownedSlotProfilesIMap;
 
-    private IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
+    private IMap<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
 
     /** If this node is a master node */
     private volatile boolean isActive = false;
@@ -1046,6 +1047,16 @@ public class CoordinatorService {
                 rejectionCount);
     }
 
+    public List<CheckpointStorageStatus> getCheckpointStorageStatusMetrics() {
+        return runningJobMasterMap.values().stream()
+                .map(JobMaster::getCheckpointManager)
+                .filter(Objects::nonNull)
+                .flatMap(
+                        checkpointManager ->
+                                checkpointManager.getCheckpointStorageStatus().stream())
+                .collect(Collectors.toList());
+    }
+
     public ConnectorPackageService getConnectorPackageService() {
         if (connectorPackageService == null) {
             throw new SeaTunnelEngineException(
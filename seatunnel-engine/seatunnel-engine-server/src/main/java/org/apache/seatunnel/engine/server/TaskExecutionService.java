@@ -28,6 +28,8 @@ import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.config.server.ShuffleServiceConfig;
+import org.apache.seatunnel.engine.common.config.server.ShuffleTransportType;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
@@ -50,13 +52,13 @@ import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
+import org.apache.seatunnel.engine.server.shuffle.TcpShuffleService;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
 
 import org.apache.commons.collections4.CollectionUtils;
 
-import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.instance.impl.NodeState;
 import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
@@ -83,6 +85,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
@@ -92,10 +95,12 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -143,10 +148,21 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final ScheduledExecutorService scheduledExecutorService;
 
+    /**
+     * The longest time a task waits for its availability future, so it still observes the state
+     * changes that don't complete the future, such as a prepare close barrier.
+     */
+    private static final long TASK_PARK_TIMEOUT_MS = 100;
+
+    private final ScheduledExecutorService taskParkScheduler =
+            Executors.newSingleThreadScheduledExecutor();
+
     private final ServerConnectorPackageClient serverConnectorPackageClient;
 
     private final EventService eventService;
 
+    private final TcpShuffleService tcpShuffleService;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -174,6 +190,13 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+
+        ShuffleServiceConfig shuffleServiceConfig =
+                seaTunnelConfig.getEngineConfig().getShuffleServiceConfig();
+        this.tcpShuffleService =
+                shuffleServiceConfig.getTransport() == ShuffleTransportType.TCP
+                        ? new TcpShuffleService(nodeEngine, shuffleServiceConfig)
+                        : null;
     }
 
     public void start() {
@@ -184,6 +207,15 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         isRunning = false;
         executorService.shutdownNow();
         scheduledExecutorService.shutdown();
+        taskParkScheduler.shutdownNow();
+        if (tcpShuffleService != null) {
+            tcpShuffleService.close();
+        }
+    }
+
+    /** Returns the TCP shuffle service, or null when shuffles go through Hazelcast IQueue. */
+    public TcpShuffleService getTcpShuffleService() {
+        return tcpShuffleService;
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -579,14 +611,19 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             nodeEngine.getNode().getState()));
             return;
         }
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        IMap<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
         Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
         contextMap.putAll(finishedExecutionContexts);
         contextMap.putAll(executionContexts);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
+        // the metrics are keyed by task group, and a task group only runs on this worker, so the
+        // entries are overwritten without locking and without reading them back
+        Map<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> localMap =
+                new HashMap<>();
         contextMap.forEach(
                 (taskGroupLocation, taskGroupContext) -> {
+                    HashMap<TaskLocation, SeaTunnelMetricsContext> taskGroupMetrics =
+                            new HashMap<>();
                     taskGroupContext
                             .getTaskGroup()
                             .getTasks()
@@ -596,44 +633,23 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                         if (task instanceof SeaTunnelTask) {
                                             SeaTunnelTask seaTunnelTask = (SeaTunnelTask) task;
                                             if (null != seaTunnelTask.getMetricsContext()) {
-                                                localMap.put(
+                                                taskGroupMetrics.put(
                                                         seaTunnelTask.getTaskLocation(),
                                                         seaTunnelTask.getMetricsContext());
                                             }
                                         }
                                     });
+                    if (!taskGroupMetrics.isEmpty()) {
+                        localMap.put(taskGroupLocation, taskGroupMetrics);
+                    }
                 });
         if (!localMap.isEmpty()) {
-            boolean lockedIMap = false;
             try {
-                lockedIMap =
-                        metricsImap.tryLock(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, 5, TimeUnit.SECONDS);
-                if (!lockedIMap) {
-                    logger.warning("try lock failed in update metrics");
-                    return;
-                }
-                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                        metricsImap.computeIfAbsent(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, k -> new HashMap<>());
-                centralMap.putAll(localMap);
-                metricsImap.put(Constant.IMAP_RUNNING_JOB_METRICS_KEY, centralMap);
+                metricsImap.setAll(localMap);
             } catch (Exception e) {
                 logger.warning(
                         "The Imap acquisition failed due to the hazelcast node being offline or restarted, and will be retried next time",
                         e);
-            } finally {
-                if (lockedIMap) {
-                    boolean unLockedIMap = false;
-                    while (!unLockedIMap) {
-                        try {
-                            metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                            unLockedIMap = true;
-                        } catch (OperationTimeoutException e) {
-                            logger.warning("unlock imap failed in update metrics", e);
-                        }
-                    }
-                }
             }
         }
         this.printTaskExecutionRuntimeInfo();
@@ -692,6 +708,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 t.init();
                 do {
                     result = t.call();
+                    if (!result.isDone()) {
+                        awaitAvailable(t);
+                    }
                 } while (!result.isDone()
                         && isRunning
                         && !taskGroupExecutionTracker.executionCompletedExceptionally());
@@ -830,9 +849,12 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             break;
                         }
                     } else {
-                        // Task is not completed. Put task to the end of the queue
-                        // If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
+                        // Task is not completed. Put task to the end of the queue, or park it until
+                        // it is available. If the current work has an exclusive tracker, it will
+                        // not be put back
+                        if (null != exclusiveTaskTracker.get()) {
+                            awaitAvailable(taskTracker.task);
+                        } else if (!parkUntilAvailable(taskTracker, taskQueue)) {
                             taskQueue.offer(taskTracker);
                         }
                     }
@@ -841,6 +863,51 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    /** Blocks the worker until the task is available, when the worker runs the task alone. */
+    private static void awaitAvailable(Task task) throws InterruptedException {
+        CompletionStage<Void> availableStage = task.getAvailableFuture();
+        if (availableStage == null) {
+            return;
+        }
+        Future<Void> availableFuture = availableStage.toCompletableFuture();
+        if (availableFuture.isDone()) {
+            return;
+        }
+        try {
+            availableFuture.get(TASK_PARK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException | CancellationException e) {
+            // the task is called again and observes its state by itself
+        }
+    }
+
+    /**
+     * Puts the task back to the shared queue once it is available, so the worker can run other
+     * tasks in the meantime.
+     *
+     * @return false if the task is available and must be put back right away.
+     */
+    private boolean parkUntilAvailable(
+            TaskTracker taskTracker, LinkedBlockingDeque<TaskTracker> taskQueue) {
+        CompletionStage<Void> availableFuture = taskTracker.task.getAvailableFuture();
+        if (availableFuture == null || availableFuture.toCompletableFuture().isDone()) {
+            return false;
+        }
+        AtomicBoolean unparked = new AtomicBoolean(false);
+        Runnable unpark =
+                () -> {
+                    if (unparked.compareAndSet(false, true)) {
+                        taskQueue.offer(taskTracker);
+                    }
+                };
+        try {
+            taskParkScheduler.schedule(unpark, TASK_PARK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        availableFuture.whenComplete((ignored, error) -> unpark.run());
+        return true;
+    }
+
     /** Used to create a new BusWork and run */
     public final class RunBusWorkSupplier {
 
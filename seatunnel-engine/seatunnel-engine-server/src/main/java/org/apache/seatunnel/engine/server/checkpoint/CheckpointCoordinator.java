@@ -45,6 +45,7 @@ import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusO
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
+import org.apache.seatunnel.engine.server.telemetry.metrics.entity.CheckpointStorageStatus;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,8 +68,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -118,6 +121,7 @@ public class CheckpointCoordinator {
     @Getter private final Set<TaskLocation> closedIdleTask;
     private final ConcurrentHashMap<Long, PendingCheckpoint> pendingCheckpoints;
 
+    /** The ids of the stored checkpoints in storage order, guarded by itself. */
     private final ArrayDeque<String> completedCheckpointIds;
 
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
@@ -141,6 +145,29 @@ public class CheckpointCoordinator {
 
     private final ExecutorService executorService;
 
+    /** Single thread executor which serializes, stores and finalizes completed checkpoints. */
+    private final ThreadPoolExecutor storageThreadPool;
+
+    private final ExecutorService storageExecutor;
+
+    /**
+     * Bumped every time the pending checkpoints are cleaned, so that a storage task queued before a
+     * cancel or reset is skipped instead of writing a stale checkpoint.
+     */
+    private final AtomicLong storageGeneration = new AtomicLong(0);
+
+    private final AtomicLong storedCheckpointCount = new AtomicLong(0);
+
+    private final AtomicLong totalSerializeDuration = new AtomicLong(0);
+
+    private final AtomicLong totalUploadDuration = new AtomicLong(0);
+
+    private volatile long lastStateSize;
+
+    private volatile long lastSerializeDuration;
+
+    private volatile long lastUploadDuration;
+
     private CompletableFuture<CheckpointCoordinatorState> checkpointCoordinatorFuture;
 
     private AtomicReference<String> errorByPhysicalVertex = new AtomicReference<>();
@@ -190,6 +217,21 @@ public class CheckpointCoordinator {
                         });
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
+        this.storageThreadPool =
+                new ThreadPoolExecutor(
+                        1,
+                        1,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setName(
+                                    String.format("checkpoint-storage-%s/%s", pipelineId, jobId));
+                            return thread;
+                        });
+        storageThreadPool.allowCoreThreadTimeOut(true);
+        this.storageExecutor = MDCTracer.tracing(storageThreadPool);
         this.serializer = new ProtoStuffSerializer();
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
@@ -604,14 +646,7 @@ public class CheckpointCoordinator {
                                             error,
                                             CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
                                 } else if (completedCheckpoint != null) {
-                                    try {
-                                        completePendingCheckpoint(completedCheckpoint);
-                                    } catch (Throwable e) {
-                                        handleCoordinatorError(
-                                                "complete checkpoint failed",
-                                                e,
-                                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
-                                    }
+                                    completePendingCheckpoint(completedCheckpoint);
                                 } else {
                                     LOG.info(
                                             "skip this checkpoint cause by completedCheckpoint is null");
@@ -807,6 +842,11 @@ public class CheckpointCoordinator {
                                                 "checkpoint-coordinator-%s/%s", pipelineId, jobId));
                                 return thread;
                             });
+            // Queued storage tasks see the new generation and are skipped. The running one (if
+            // any) is not interrupted, this method may be called from the storage thread itself.
+            // The storage executor is kept, so checkpoints completed after the clean are written
+            // once that upload is done and never overlap with it.
+            storageGeneration.incrementAndGet();
         }
     }
 
@@ -838,7 +878,20 @@ public class CheckpointCoordinator {
         }
     }
 
-    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+    /**
+     * Persist the completed checkpoint on the dedicated storage executor and finalize it once the
+     * write is durable. Serialization and upload run outside the coordinator monitor, so barrier
+     * acks, status reports and timeouts are not blocked by slow checkpoint storage. The storage
+     * executor is single threaded, which keeps writes, retention and finalization in checkpoint
+     * order. Tasks queued before {@link #cleanPendingCheckpoint} are skipped, and a failed write
+     * fails the coordinator with the storage error itself rather than its CompletionException.
+     *
+     * <p>The checkpoint stays pending until it is finalized, so the next checkpoint is triggered
+     * only after the previous one is durable. A slow upload delays the next trigger, it does not
+     * block the coordinator.
+     */
+    public CompletableFuture<Void> completePendingCheckpoint(
+            CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -848,11 +901,51 @@ public class CheckpointCoordinator {
                         - completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
+        synchronized (lock) {
+            final long generation = storageGeneration.get();
+            return CompletableFuture.runAsync(
+                            () -> {
+                                if (isStaleStorageTask(generation, completedCheckpoint)) {
+                                    return;
+                                }
+                                storeCompletedCheckpoint(completedCheckpoint);
+                                if (isStaleStorageTask(generation, completedCheckpoint)) {
+                                    return;
+                                }
+                                finalizeCompletedCheckpoint(completedCheckpoint);
+                            },
+                            storageExecutor)
+                    .whenComplete(
+                            (v, e) -> {
+                                if (e != null) {
+                                    handleCoordinatorError(
+                                            "complete checkpoint failed",
+                                            ExceptionUtil.peel(e),
+                                            CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                                }
+                            });
+        }
+    }
+
+    private boolean isStaleStorageTask(long generation, CompletedCheckpoint completedCheckpoint) {
+        if (generation == storageGeneration.get()) {
+            return false;
+        }
+        LOG.info(
+                "skip storing checkpoint({}/{}@{}) cause by the coordinator was cleaned",
+                completedCheckpoint.getCheckpointId(),
+                completedCheckpoint.getPipelineId(),
+                completedCheckpoint.getJobId());
+        return true;
+    }
+
+    private void storeCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
         final long checkpointId = completedCheckpoint.getCheckpointId();
-        completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
         try {
             if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
+                long serializeStartTime = System.currentTimeMillis();
                 byte[] states = serializer.serialize(completedCheckpoint);
+                long uploadStartTime = System.currentTimeMillis();
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
                                 .checkpointId(checkpointId)
@@ -860,19 +953,26 @@ public class CheckpointCoordinator {
                                 .pipelineId(pipelineId)
                                 .states(states)
                                 .build());
+                long serializeDuration = uploadStartTime - serializeStartTime;
+                long uploadDuration = System.currentTimeMillis() - uploadStartTime;
+                lastStateSize = states.length;
+                lastSerializeDuration = serializeDuration;
+                lastUploadDuration = uploadDuration;
+                totalSerializeDuration.addAndGet(serializeDuration);
+                totalUploadDuration.addAndGet(uploadDuration);
+                storedCheckpointCount.incrementAndGet();
+                LOG.info(
+                        "pending checkpoint({}/{}@{}) stored, size: {} bytes, serialize: {} ms, upload: {} ms",
+                        checkpointId,
+                        completedCheckpoint.getPipelineId(),
+                        completedCheckpoint.getJobId(),
+                        states.length,
+                        serializeDuration,
+                        uploadDuration);
             }
-            if (completedCheckpointIds.size()
-                                    % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            == 0
-                    && completedCheckpointIds.size()
-                                    / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            > 1) {
-                List<String> needDeleteCheckpointId = new ArrayList<>();
-                for (int i = 0;
-                        i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
-                        i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
-                }
+            List<String> needDeleteCheckpointId =
+                    retainCompletedCheckpoint(String.valueOf(checkpointId));
+            if (!needDeleteCheckpointId.isEmpty()) {
                 checkpointStorage.deleteCheckpoint(
                         String.valueOf(completedCheckpoint.getJobId()),
                         String.valueOf(completedCheckpoint.getPipelineId()),
@@ -882,6 +982,40 @@ public class CheckpointCoordinator {
             LOG.error("store checkpoint states failed.", e);
             sneakyThrow(e);
         }
+    }
+
+    /**
+     * Records a stored checkpoint and returns the ids which fall out of the retention. It does not
+     * take the coordinator lock, because a savepoint holds that lock while it waits for the storage
+     * thread to finalize the pending checkpoint.
+     */
+    private List<String> retainCompletedCheckpoint(String checkpointId) {
+        int maxRetainedCheckpoints = coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
+        List<String> needDeleteCheckpointId = new ArrayList<>();
+        synchronized (completedCheckpointIds) {
+            completedCheckpointIds.addLast(checkpointId);
+            if (completedCheckpointIds.size() % maxRetainedCheckpoints == 0
+                    && completedCheckpointIds.size() / maxRetainedCheckpoints > 1) {
+                for (int i = 0; i < maxRetainedCheckpoints; i++) {
+                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
+                }
+            }
+        }
+        return needDeleteCheckpointId;
+    }
+
+    private synchronized void finalizeCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        PendingCheckpoint pendingCheckpoint = pendingCheckpoints.remove(checkpointId);
+        if (pendingCheckpoint == null) {
+            // the coordinator was cleaned while the checkpoint was being stored
+            LOG.info(
+                    "skip finalize checkpoint({}/{}@{}) cause by it is no longer pending",
+                    checkpointId,
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            return;
+        }
         LOG.info(
                 "pending checkpoint({}/{}@{}) notify finished!",
                 completedCheckpoint.getCheckpointId(),
@@ -889,7 +1023,7 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
         notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
+        pendingCheckpoint.abortCheckpointTimeoutFutureWhenIsCompleted();
         pendingCounter.decrementAndGet();
         if (isCompleted()) {
             cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
@@ -905,6 +1039,19 @@ public class CheckpointCoordinator {
         }
     }
 
+    public CheckpointStorageStatus getCheckpointStorageStatus() {
+        return new CheckpointStorageStatus(
+                jobId,
+                pipelineId,
+                storedCheckpointCount.get(),
+                lastStateSize,
+                lastSerializeDuration,
+                lastUploadDuration,
+                totalSerializeDuration.get(),
+                totalUploadDuration.get(),
+                storageThreadPool.getQueue().size());
+    }
+
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
         if (checkpoint.getCheckpointType().isSchemaChangeAfterCheckpoint()) {
             completeSchemaChangeAfterCheckpoint(checkpoint);
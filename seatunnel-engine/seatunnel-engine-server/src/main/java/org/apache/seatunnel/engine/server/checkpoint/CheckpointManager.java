@@ -47,6 +47,7 @@ import org.apache.seatunnel.engine.server.master.JobMaster;
 import org.apache.seatunnel.engine.server.task.SourceSplitEnumeratorTask;
 import org.apache.seatunnel.engine.server.task.operation.TaskOperation;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
+import org.apache.seatunnel.engine.server.telemetry.metrics.entity.CheckpointStorageStatus;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.hazelcast.map.IMap;
@@ -55,6 +56,7 @@ import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
@@ -163,6 +165,12 @@ public class CheckpointManager {
                 .toArray(PassiveCompletableFuture[]::new);
     }
 
+    public List<CheckpointStorageStatus> getCheckpointStorageStatus() {
+        return coordinatorMap.values().stream()
+                .map(CheckpointCoordinator::getCheckpointStorageStatus)
+                .collect(Collectors.toList());
+    }
+
     public void reportedPipelineRunning(int pipelineId, boolean alreadyStarted) {
         log.debug(
                 "reported pipeline running stack: {}",
@@ -17,7 +17,11 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.sink.SeaTunnelSink;
+import org.apache.seatunnel.api.sink.SupportKeyedInput;
+import org.apache.seatunnel.api.sink.multitablesink.MultiTableSink;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.engine.common.config.EngineConfig;
@@ -25,6 +29,7 @@ import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
@@ -83,14 +88,17 @@ public class ExecutionPlanGenerator {
         executionEdges = generateShuffleEdges(executionEdges);
         log.debug("Phase 2: generate shuffle edge list {}", executionEdges);
 
+        executionEdges = generateKeyedShuffleEdges(executionEdges);
+        log.debug("Phase 3: generate keyed shuffle edge list {}", executionEdges);
+
         executionEdges = generateTransformChainEdges(executionEdges);
-        log.debug("Phase 3: generate transform chain edge list {}", executionEdges);
+        log.debug("Phase 4: generate transform chain edge list {}", executionEdges);
 
         List<Pipeline> pipelines = generatePipelines(executionEdges);
-        log.debug("Phase 4: generate pipeline list {}", pipelines);
+        log.debug("Phase 5: generate pipeline list {}", pipelines);
 
         ExecutionPlan executionPlan = new ExecutionPlan(pipelines, jobImmutableInformation);
-        log.debug("Phase 5: generate execution plan: {}", executionPlan);
+        log.debug("Phase 6: generate execution plan: {}", executionPlan);
 
         return executionPlan;
     }
@@ -281,6 +289,114 @@ public class ExecutionPlanGenerator {
         return newExecutionEdges;
     }
 
+    /**
+     * Inserts a key hash shuffle in front of every parallel sink which requires keyed input, so all
+     * changes of one key reach the same writer in order.
+     */
+    private Set<ExecutionEdge> generateKeyedShuffleEdges(Set<ExecutionEdge> executionEdges) {
+        Map<Long, Integer> inputCounts = new HashMap<>();
+        executionEdges.forEach(edge -> inputCounts.merge(edge.getRightVertexId(), 1, Integer::sum));
+
+        Set<ExecutionEdge> newExecutionEdges = new LinkedHashSet<>();
+        for (ExecutionEdge edge : executionEdges) {
+            ExecutionVertex leftVertex = edge.getLeftVertex();
+            ExecutionVertex rightVertex = edge.getRightVertex();
+            if (leftVertex.getAction() instanceof ShuffleAction
+                    || !requiresKeyedInput(rightVertex.getAction())
+                    || rightVertex.getParallelism() <= 1) {
+                newExecutionEdges.add(edge);
+                continue;
+            }
+            if (inputCounts.get(rightVertex.getVertexId()) > 1) {
+                // Every input partition owns one channel per target, a union input has no
+                // consistent partition index to write to.
+                log.warn(
+                        "Sink {} requires keyed input but has multiple inputs, skip the keyed shuffle",
+                        rightVertex.getAction().getName());
+                newExecutionEdges.add(edge);
+                continue;
+            }
+
+            ExecutionVertex shuffleVertex =
+                    createKeyedShuffleVertex(
+                            leftVertex, (SinkAction<?, ?, ?, ?>) rightVertex.getAction());
+            newExecutionEdges.add(new ExecutionEdge(leftVertex, shuffleVertex));
+            newExecutionEdges.add(new ExecutionEdge(shuffleVertex, rightVertex));
+        }
+        return newExecutionEdges;
+    }
+
+    private static boolean requiresKeyedInput(Action action) {
+        if (!(action instanceof SinkAction)) {
+            return false;
+        }
+        SeaTunnelSink<?, ?, ?, ?> sink = ((SinkAction<?, ?, ?, ?>) action).getSink();
+        return sink instanceof SupportKeyedInput && ((SupportKeyedInput) sink).requiresKeyedInput();
+    }
+
+    @SuppressWarnings("MagicNumber")
+    private ExecutionVertex createKeyedShuffleVertex(
+            ExecutionVertex inputVertex, SinkAction<?, ?, ?, ?> sinkAction) {
+        Map<String, CatalogTable> catalogTables = new LinkedHashMap<>();
+        Map<String, List<String>> keyColumns = new HashMap<>();
+        SeaTunnelSink<?, ?, ?, ?> sink = sinkAction.getSink();
+        if (sink instanceof MultiTableSink) {
+            for (Map.Entry<TablePath, SeaTunnelSink> entry :
+                    ((MultiTableSink) sink).getSinks().entrySet()) {
+                collectKeyedTable(
+                        entry.getKey().toString(), entry.getValue(), catalogTables, keyColumns);
+            }
+        } else {
+            sink.getWriteCatalogTable()
+                    .ifPresent(
+                            table ->
+                                    collectKeyedTable(
+                                            table.getTablePath().toString(),
+                                            sink,
+                                            catalogTables,
+                                            keyColumns));
+        }
+
+        int parallelism = sinkAction.getParallelism();
+        long shuffleVertexId = idGenerator.getNextId();
+        ShuffleStrategy shuffleStrategy =
+                ShuffleKeyHashStrategy.builder()
+                        .jobId(jobImmutableInformation.getJobId())
+                        .shuffleId(shuffleVertexId)
+                        .inputPartitions(inputVertex.getParallelism())
+                        .targetPartitions(parallelism)
+                        .catalogTables(catalogTables)
+                        .keyColumns(keyColumns)
+                        .queueEmptyQueueTtl(
+                                (int)
+                                        (engineConfig.getCheckpointConfig().getCheckpointInterval()
+                                                * 3))
+                        .build();
+        ShuffleConfig shuffleConfig =
+                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+
+        String shuffleActionName = String.format("KeyedShuffle [%s]", sinkAction.getName());
+        ShuffleAction shuffleAction =
+                new ShuffleAction(shuffleVertexId, shuffleActionName, shuffleConfig);
+        shuffleAction.setParallelism(parallelism);
+        return new ExecutionVertex(shuffleVertexId, shuffleAction, parallelism);
+    }
+
+    private static void collectKeyedTable(
+            String tableId,
+            SeaTunnelSink<?, ?, ?, ?> sink,
+            Map<String, CatalogTable> catalogTables,
+            Map<String, List<String>> keyColumns) {
+        Optional<CatalogTable> catalogTable = sink.getWriteCatalogTable();
+        if (!catalogTable.isPresent()) {
+            return;
+        }
+        catalogTables.put(tableId, catalogTable.get());
+        if (sink instanceof SupportKeyedInput) {
+            keyColumns.put(tableId, ((SupportKeyedInput) sink).getInputKeyColumns());
+        }
+    }
+
     private Set<ExecutionEdge> generateTransformChainEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> inputVerticesMap = new HashMap<>();
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new HashMap<>();
@@ -31,6 +31,7 @@ import lombok.NonNull;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 public interface Task
         extends DynamicMetricsProvider, InternalCheckpointListener, Stateful, Serializable {
@@ -41,6 +42,16 @@ public interface Task
 
     @NonNull Long getTaskID();
 
+    /**
+     * Returns a stage that completes when the task can make progress again after {@link #call()}
+     * made none, or null if the task should be called again right away. The workers park the task
+     * until the stage completes or for at most {@code TaskExecutionService#TASK_PARK_TIMEOUT_MS},
+     * so the task still observes the state changes that don't complete the stage.
+     */
+    default CompletionStage<Void> getAvailableFuture() {
+        return null;
+    }
+
     default boolean isThreadsShare() {
         return false;
     }
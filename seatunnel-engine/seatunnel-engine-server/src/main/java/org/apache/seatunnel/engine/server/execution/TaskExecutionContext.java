@@ -58,13 +58,13 @@ public class TaskExecutionContext {
     }
 
     public SeaTunnelMetricsContext getOrCreateMetricsContext(TaskLocation taskLocation) {
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> map =
+        IMap<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> map =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                map.get(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-        return centralMap == null || centralMap.get(taskLocation) == null
+        HashMap<TaskLocation, SeaTunnelMetricsContext> taskGroupMetrics =
+                map.get(taskLocation.getTaskGroupLocation());
+        return taskGroupMetrics == null || taskGroupMetrics.get(taskLocation) == null
                 ? new SeaTunnelMetricsContext()
-                : centralMap.get(taskLocation);
+                : taskGroupMetrics.get(taskLocation);
     }
 
     public <T> T getTask() {
@@ -25,6 +25,8 @@ import org.apache.seatunnel.common.constants.PluginType;
 
 import org.apache.commons.lang3.StringUtils;
 
+import lombok.AllArgsConstructor;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -61,6 +63,8 @@ public class TaskMetricsCalcContext {
 
     private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
 
+    private Map<String, TableMetrics> tableMetricsCache = new ConcurrentHashMap<>();
+
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
             PluginType type,
@@ -123,74 +127,77 @@ public class TaskMetricsCalcContext {
     }
 
     public void updateMetrics(Object data, String tableId) {
-        count.inc();
-        QPS.markEvent();
         if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
+            updateMetrics((SeaTunnelRow) data, tableId, ((SeaTunnelRow) data).getBytesSize());
+        } else {
+            count.inc();
+            QPS.markEvent();
+        }
+    }
 
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
+    /**
+     * Updates the metrics of a row whose size is already known, so the size of the row is not
+     * calculated again.
+     */
+    public void updateMetrics(SeaTunnelRow row, String tableId, long bytesSize) {
+        count.inc();
+        QPS.markEvent();
+        bytes.inc(bytesSize);
+        bytesPerSeconds.markEvent(bytesSize);
+
+        if (StringUtils.isNotBlank(tableId)) {
+            TableMetrics tableMetrics = tableMetricsCache.get(tableId);
+            if (tableMetrics == null) {
+                tableMetrics = createTableMetrics(TablePath.of(tableId).getFullName());
+                tableMetricsCache.put(tableId, tableMetrics);
+            }
+            tableMetrics.count.inc();
+            tableMetrics.bytes.inc(bytesSize);
+            tableMetrics.QPS.markEvent();
+            tableMetrics.bytesPerSeconds.markEvent(bytesSize);
+        }
+    }
 
-                // Processing count
-                processMetrics(
+    private TableMetrics createTableMetrics(String tableName) {
+        return new TableMetrics(
+                getOrCreateMetric(
                         countPerTable,
                         Counter.class,
                         tableName,
                         SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
+                        SOURCE_RECEIVED_COUNT),
+                getOrCreateMetric(
+                        QPSPerTable, Meter.class, tableName, SINK_WRITE_QPS, SOURCE_RECEIVED_QPS),
+                getOrCreateMetric(
                         bytesPerTable,
                         Counter.class,
                         tableName,
                         SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
+                        SOURCE_RECEIVED_BYTES),
+                getOrCreateMetric(
                         bytesPerSecondsPerTable,
                         Meter.class,
                         tableName,
                         SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
-            }
-        }
+                        SOURCE_RECEIVED_BYTES_PER_SECONDS));
     }
 
-    private <T> void processMetrics(
+    private <T> T getOrCreateMetric(
             Map<String, T> metricMap,
             Class<T> cls,
             String tableName,
             String sinkMetric,
-            String sourceMetric,
-            MetricProcessor<T> processor) {
+            String sourceMetric) {
         T metric = metricMap.get(tableName);
-        if (Objects.nonNull(metric)) {
-            processor.process(metric);
-        } else {
+        if (Objects.isNull(metric)) {
             String metricName =
                     PluginType.SINK.equals(type)
                             ? sinkMetric + "#" + tableName
                             : sourceMetric + "#" + tableName;
-            T newMetric = createMetric(metricsContext, metricName, cls);
-            processor.process(newMetric);
-            metricMap.put(tableName, newMetric);
+            metric = createMetric(metricsContext, metricName, cls);
+            metricMap.put(tableName, metric);
         }
+        return metric;
     }
 
     private <T> T createMetric(
@@ -203,8 +210,12 @@ public class TaskMetricsCalcContext {
         throw new IllegalArgumentException("Unsupported metric class: " + metricClass.getName());
     }
 
-    @FunctionalInterface
-    interface MetricProcessor<T> {
-        void process(T t);
+    /** The metrics of one table, cached by the table id of the rows. */
+    @AllArgsConstructor
+    private static class TableMetrics {
+        private final Counter count;
+        private final Meter QPS;
+        private final Counter bytes;
+        private final Meter bytesPerSeconds;
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schema aware counterpart of {@link RecordSerializer} for channels whose tables are known when
+ * they are opened, e.g. a shuffle between two pipelines of the same job.
+ *
+ * <p>Both ends build the codec from the same ordered table list, so the table id of a row is
+ * written as its index in that list instead of a string. Rows of unknown tables and records other
+ * than rows and barriers are still supported through the generic encoding.
+ */
+public final class RecordCodec {
+
+    private static final byte CHECKPOINT_BARRIER = 0;
+    private static final byte SEATUNNEL_ROW = 1;
+    private static final byte OBJECT = 2;
+
+    private static final int NULL_TABLE_ID = 0;
+    private static final int LITERAL_TABLE_ID = 1;
+    private static final int DICTIONARY_OFFSET = 2;
+
+    private final String[] tableIds;
+    private final SeaTunnelRowCodec[] rowCodecs;
+    private final Map<String, Integer> tableIndexes;
+
+    public RecordCodec(LinkedHashMap<String, SeaTunnelRowType> rowTypes) {
+        this.tableIds = new String[rowTypes.size()];
+        this.rowCodecs = new SeaTunnelRowCodec[rowTypes.size()];
+        this.tableIndexes = new HashMap<>(rowTypes.size() * 2);
+        int index = 0;
+        for (Map.Entry<String, SeaTunnelRowType> entry : rowTypes.entrySet()) {
+            tableIds[index] = entry.getKey();
+            rowCodecs[index] = SeaTunnelRowCodec.of(entry.getValue());
+            tableIndexes.put(entry.getKey(), index);
+            index++;
+        }
+    }
+
+    public static RecordCodec of(List<CatalogTable> catalogTables) {
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        for (CatalogTable catalogTable : catalogTables) {
+            rowTypes.put(
+                    catalogTable.getTableId().toTablePath().toString(),
+                    catalogTable.getSeaTunnelRowType());
+        }
+        return new RecordCodec(rowTypes);
+    }
+
+    public void write(ObjectDataOutput out, Record<?> record) throws IOException {
+        Object data = record.getData();
+        if (data instanceof SeaTunnelRow) {
+            out.writeByte(SEATUNNEL_ROW);
+            writeRow(out, (SeaTunnelRow) data);
+        } else if (data instanceof CheckpointBarrier) {
+            out.writeByte(CHECKPOINT_BARRIER);
+            RecordSerializer.writeCheckpointBarrier(out, (CheckpointBarrier) data);
+        } else {
+            out.writeByte(OBJECT);
+            out.writeObject(data);
+        }
+    }
+
+    public Record<?> read(ObjectDataInput in) throws IOException {
+        byte dataType = in.readByte();
+        switch (dataType) {
+            case SEATUNNEL_ROW:
+                return new Record<>(readRow(in));
+            case CHECKPOINT_BARRIER:
+                return new Record<>(RecordSerializer.readCheckpointBarrier(in));
+            case OBJECT:
+                return new Record<>(in.readObject());
+            default:
+                throw new IOException("Unsupported deserialize data type: " + dataType);
+        }
+    }
+
+    private void writeRow(ObjectDataOutput out, SeaTunnelRow row) throws IOException {
+        String tableId = row.getTableId();
+        Integer index = tableId == null ? null : tableIndexes.get(tableId);
+        if (index != null) {
+            SeaTunnelRowCodec.writeVarInt(out, index + DICTIONARY_OFFSET);
+            rowCodecs[index].write(out, row);
+            return;
+        }
+
+        if (tableId == null) {
+            SeaTunnelRowCodec.writeVarInt(out, NULL_TABLE_ID);
+        } else {
+            SeaTunnelRowCodec.writeVarInt(out, LITERAL_TABLE_ID);
+            out.writeString(tableId);
+        }
+        out.writeByte(row.getRowKind().toByteValue());
+        SeaTunnelRowCodec.writeGenericFields(out, row.getFields());
+    }
+
+    private SeaTunnelRow readRow(ObjectDataInput in) throws IOException {
+        int tableCode = SeaTunnelRowCodec.readVarInt(in);
+        if (tableCode >= DICTIONARY_OFFSET) {
+            int index = tableCode - DICTIONARY_OFFSET;
+            SeaTunnelRow row = rowCodecs[index].read(in);
+            row.setTableId(tableIds[index]);
+            return row;
+        }
+
+        String tableId = tableCode == LITERAL_TABLE_ID ? in.readString() : null;
+        byte rowKind = in.readByte();
+        SeaTunnelRow row = SeaTunnelRowCodec.readGenericFields(in);
+        row.setTableId(tableId);
+        row.setRowKind(RowKind.fromByteValue(rowKind));
+        return row;
+    }
+}
@@ -31,28 +31,31 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
 public class RecordSerializer implements StreamSerializer<Record> {
+    /**
+     * The tag written before every record. A new row layout gets a new tag instead of changing the
+     * layout of an existing one, so the records written by a member of the previous version can
+     * still be read.
+     */
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        /** A row with a one byte arity, only written by the previous versions. */
+        SEATUNNEL_ROW,
+        /** A row with an int arity, for rows wider than 127 fields. */
+        SEATUNNEL_ROW_V2;
     }
 
     @Override
     public void write(ObjectDataOutput out, Record record) throws IOException {
         Object data = record.getData();
         if (data instanceof CheckpointBarrier) {
-            CheckpointBarrier checkpointBarrier = (CheckpointBarrier) data;
             out.writeByte(RecordDataType.CHECKPOINT_BARRIER.ordinal());
-            out.writeLong(checkpointBarrier.getId());
-            out.writeLong(checkpointBarrier.getTimestamp());
-            out.writeString(checkpointBarrier.getCheckpointType().getName());
-            out.writeObject(checkpointBarrier.getPrepareCloseTasks());
-            out.writeObject(checkpointBarrier.getClosedTasks());
+            writeCheckpointBarrier(out, (CheckpointBarrier) data);
         } else if (data instanceof SeaTunnelRow) {
             SeaTunnelRow row = (SeaTunnelRow) data;
-            out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
+            out.writeByte(RecordDataType.SEATUNNEL_ROW_V2.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
+            out.writeInt(row.getArity());
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
@@ -67,17 +70,15 @@ public class RecordSerializer implements StreamSerializer<Record> {
         Object data;
         byte dataType = in.readByte();
         if (dataType == RecordDataType.CHECKPOINT_BARRIER.ordinal()) {
-            data =
-                    new CheckpointBarrier(
-                            in.readLong(),
-                            in.readLong(),
-                            CheckpointType.fromName(in.readString()),
-                            in.readObject(),
-                            in.readObject());
-        } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
+            data = readCheckpointBarrier(in);
+        } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()
+                || dataType == RecordDataType.SEATUNNEL_ROW_V2.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
-            byte arity = in.readByte();
+            int arity =
+                    dataType == RecordDataType.SEATUNNEL_ROW.ordinal()
+                            ? in.readUnsignedByte()
+                            : in.readInt();
             SeaTunnelRow row = new SeaTunnelRow(arity);
             row.setTableId(tableId);
             row.setRowKind(RowKind.fromByteValue(rowKind));
@@ -92,6 +93,24 @@ public class RecordSerializer implements StreamSerializer<Record> {
         return new Record(data);
     }
 
+    static void writeCheckpointBarrier(ObjectDataOutput out, CheckpointBarrier checkpointBarrier)
+            throws IOException {
+        out.writeLong(checkpointBarrier.getId());
+        out.writeLong(checkpointBarrier.getTimestamp());
+        out.writeString(checkpointBarrier.getCheckpointType().getName());
+        out.writeObject(checkpointBarrier.getPrepareCloseTasks());
+        out.writeObject(checkpointBarrier.getClosedTasks());
+    }
+
+    static CheckpointBarrier readCheckpointBarrier(ObjectDataInput in) throws IOException {
+        return new CheckpointBarrier(
+                in.readLong(),
+                in.readLong(),
+                CheckpointType.fromName(in.readString()),
+                in.readObject(),
+                in.readObject());
+    }
+
     @Override
     public int getTypeId() {
         return TypeId.RECORD;
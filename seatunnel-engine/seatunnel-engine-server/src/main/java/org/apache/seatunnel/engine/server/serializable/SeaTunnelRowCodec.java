@@ -0,0 +1,467 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary codec of {@link SeaTunnelRow} compiled once for a {@link SeaTunnelRowType}.
+ *
+ * <p>Unlike {@link RecordSerializer}, which writes every field with {@link
+ * ObjectDataOutput#writeObject(Object)}, the codec knows the type of each column up front. A row is
+ * encoded as:
+ *
+ * <pre>
+ *   rowKind(byte) | arity(varint) | null bitmap | non-null fields
+ * </pre>
+ *
+ * Primitives are written directly without a type tag, lengths are varints and only complex types
+ * (array, map, vector) fall back to {@link ObjectDataOutput#writeObject(Object)}. Rows whose arity
+ * differs from the compiled type, or that hold a value of another class than its column type (e.g.
+ * a Long in an INT column after a schema change), are written with the generic field encoding, so
+ * the codec never fails on a row it was not compiled for.
+ *
+ * <p>The codec is stateless and thread-safe.
+ */
+public final class SeaTunnelRowCodec {
+
+    private static final int GENERIC_ROW = -1;
+
+    private final FieldCodec[] fieldCodecs;
+    private final int bitmapBytes;
+
+    private SeaTunnelRowCodec(SeaTunnelRowType rowType) {
+        this.fieldCodecs = new FieldCodec[rowType.getTotalFields()];
+        for (int i = 0; i < fieldCodecs.length; i++) {
+            fieldCodecs[i] = createFieldCodec(rowType.getFieldType(i));
+        }
+        this.bitmapBytes = (fieldCodecs.length + 7) >>> 3;
+    }
+
+    /** Compiles the codec of the given row type, callers are expected to keep the instance. */
+    public static SeaTunnelRowCodec of(SeaTunnelRowType rowType) {
+        return new SeaTunnelRowCodec(rowType);
+    }
+
+    public int getArity() {
+        return fieldCodecs.length;
+    }
+
+    /** Writes the row kind and fields of the row, the table id is left to the caller. */
+    public void write(ObjectDataOutput out, SeaTunnelRow row) throws IOException {
+        out.writeByte(row.getRowKind().toByteValue());
+        Object[] fields = row.getFields();
+        if (!accepts(fields)) {
+            writeVarInt(out, GENERIC_ROW + 1);
+            writeGenericFields(out, fields);
+            return;
+        }
+        writeVarInt(out, fields.length + 1);
+
+        int bitmap = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                bitmap |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7) {
+                out.writeByte(bitmap);
+                bitmap = 0;
+            }
+        }
+        if ((fields.length & 7) != 0) {
+            out.writeByte(bitmap);
+        }
+
+        for (int i = 0; i < fields.length; i++) {
+            Object field = fields[i];
+            if (field != null) {
+                fieldCodecs[i].write(out, field);
+            }
+        }
+    }
+
+    private boolean accepts(Object[] fields) {
+        if (fields.length != fieldCodecs.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            Object field = fields[i];
+            if (field != null && !fieldCodecs[i].accepts(field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Reads a row written by {@link #write(ObjectDataOutput, SeaTunnelRow)}. */
+    public SeaTunnelRow read(ObjectDataInput in) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(in.readByte());
+        int arity = readVarInt(in) - 1;
+        if (arity == GENERIC_ROW) {
+            SeaTunnelRow row = readGenericFields(in);
+            row.setRowKind(rowKind);
+            return row;
+        }
+
+        byte[] bitmap = new byte[bitmapBytes];
+        in.readFully(bitmap);
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            if ((bitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                fields[i] = fieldCodecs[i].read(in);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    static void writeGenericFields(ObjectDataOutput out, Object[] fields) throws IOException {
+        writeVarInt(out, fields.length);
+        for (Object field : fields) {
+            out.writeObject(field);
+        }
+    }
+
+    static SeaTunnelRow readGenericFields(ObjectDataInput in) throws IOException {
+        int arity = readVarInt(in);
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            fields[i] = in.readObject();
+        }
+        return new SeaTunnelRow(fields);
+    }
+
+    static void writeVarInt(ObjectDataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(ObjectDataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeVarLong(ObjectDataOutput out, long value) throws IOException {
+        // zig-zag so that small negative values stay short
+        value = (value << 1) ^ (value >> 63);
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(ObjectDataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (value >>> 1) ^ -(value & 1);
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+
+    static void writeBytes(ObjectDataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] readBytes(ObjectDataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static FieldCodec createFieldCodec(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return STRING_CODEC;
+            case BOOLEAN:
+                return BOOLEAN_CODEC;
+            case TINYINT:
+                return TINYINT_CODEC;
+            case SMALLINT:
+                return SMALLINT_CODEC;
+            case INT:
+                return INT_CODEC;
+            case BIGINT:
+                return BIGINT_CODEC;
+            case FLOAT:
+                return FLOAT_CODEC;
+            case DOUBLE:
+                return DOUBLE_CODEC;
+            case DECIMAL:
+                return DECIMAL_CODEC;
+            case BYTES:
+                return BYTES_CODEC;
+            case DATE:
+                return DATE_CODEC;
+            case TIME:
+                return TIME_CODEC;
+            case TIMESTAMP:
+                return TIMESTAMP_CODEC;
+            case ROW:
+                SeaTunnelRowCodec nested = of((SeaTunnelRowType) dataType);
+                return new FieldCodec(SeaTunnelRow.class) {
+                    @Override
+                    void write(ObjectDataOutput out, Object value) throws IOException {
+                        nested.write(out, (SeaTunnelRow) value);
+                    }
+
+                    @Override
+                    Object read(ObjectDataInput in) throws IOException {
+                        return nested.read(in);
+                    }
+                };
+            default:
+                return GENERIC_CODEC;
+        }
+    }
+
+    private abstract static class FieldCodec {
+        private final Class<?> valueClass;
+
+        FieldCodec(Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        boolean accepts(Object value) {
+            return valueClass.isInstance(value);
+        }
+
+        abstract void write(ObjectDataOutput out, Object value) throws IOException;
+
+        abstract Object read(ObjectDataInput in) throws IOException;
+    }
+
+    private static final FieldCodec STRING_CODEC =
+            new FieldCodec(String.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return new String(readBytes(in), StandardCharsets.UTF_8);
+                }
+            };
+
+    private static final FieldCodec BOOLEAN_CODEC =
+            new FieldCodec(Boolean.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeBoolean((Boolean) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readBoolean();
+                }
+            };
+
+    private static final FieldCodec TINYINT_CODEC =
+            new FieldCodec(Byte.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeByte((Byte) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readByte();
+                }
+            };
+
+    private static final FieldCodec SMALLINT_CODEC =
+            new FieldCodec(Short.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeShort((Short) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readShort();
+                }
+            };
+
+    private static final FieldCodec INT_CODEC =
+            new FieldCodec(Integer.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeInt((Integer) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readInt();
+                }
+            };
+
+    private static final FieldCodec BIGINT_CODEC =
+            new FieldCodec(Long.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeLong((Long) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readLong();
+                }
+            };
+
+    private static final FieldCodec FLOAT_CODEC =
+            new FieldCodec(Float.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeFloat((Float) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readFloat();
+                }
+            };
+
+    private static final FieldCodec DOUBLE_CODEC =
+            new FieldCodec(Double.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeDouble((Double) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readDouble();
+                }
+            };
+
+    private static final FieldCodec DECIMAL_CODEC =
+            new FieldCodec(BigDecimal.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    BigDecimal decimal = (BigDecimal) value;
+                    writeVarInt(out, decimal.scale());
+                    writeBytes(out, decimal.unscaledValue().toByteArray());
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    int scale = readVarInt(in);
+                    return new BigDecimal(new BigInteger(readBytes(in)), scale);
+                }
+            };
+
+    private static final FieldCodec BYTES_CODEC =
+            new FieldCodec(byte[].class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    writeBytes(out, (byte[]) value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return readBytes(in);
+                }
+            };
+
+    private static final FieldCodec DATE_CODEC =
+            new FieldCodec(LocalDate.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    writeVarLong(out, ((LocalDate) value).toEpochDay());
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return LocalDate.ofEpochDay(readVarLong(in));
+                }
+            };
+
+    private static final FieldCodec TIME_CODEC =
+            new FieldCodec(LocalTime.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    writeVarLong(out, ((LocalTime) value).toNanoOfDay());
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return LocalTime.ofNanoOfDay(readVarLong(in));
+                }
+            };
+
+    private static final FieldCodec TIMESTAMP_CODEC =
+            new FieldCodec(LocalDateTime.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    LocalDateTime timestamp = (LocalDateTime) value;
+                    writeVarLong(out, timestamp.toEpochSecond(ZoneOffset.UTC));
+                    writeVarInt(out, timestamp.getNano());
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    long epochSecond = readVarLong(in);
+                    return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(in), ZoneOffset.UTC);
+                }
+            };
+
+    private static final FieldCodec GENERIC_CODEC =
+            new FieldCodec(Object.class) {
+                @Override
+                void write(ObjectDataOutput out, Object value) throws IOException {
+                    out.writeObject(value);
+                }
+
+                @Override
+                Object read(ObjectDataInput in) throws IOException {
+                    return in.readObject();
+                }
+            };
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import com.hazelcast.collection.IQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+
+@Slf4j
+public class IQueueShuffleChannelReader implements ShuffleChannelReader {
+    private final IQueue<Record<?>> shuffleQueue;
+
+    public IQueueShuffleChannelReader(IQueue<Record<?>> shuffleQueue) {
+        this.shuffleQueue = shuffleQueue;
+    }
+
+    @Override
+    public String getName() {
+        return shuffleQueue.getName();
+    }
+
+    @Override
+    public int size() {
+        return shuffleQueue.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        return shuffleQueue.take();
+    }
+
+    @Override
+    public int drainTo(Collection<? super Record<?>> collection, int maxElements) {
+        return shuffleQueue.drainTo(collection, maxElements);
+    }
+
+    @Override
+    public void close() {
+        log.info("destroy shuffle queue: {}", shuffleQueue.getName());
+        shuffleQueue.destroy();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import com.hazelcast.collection.IQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+
+@Slf4j
+public class IQueueShuffleChannelWriter implements ShuffleChannelWriter {
+    private final IQueue<Record<?>> shuffleQueue;
+
+    public IQueueShuffleChannelWriter(IQueue<Record<?>> shuffleQueue) {
+        this.shuffleQueue = shuffleQueue;
+    }
+
+    @Override
+    public String getName() {
+        return shuffleQueue.getName();
+    }
+
+    @Override
+    public void write(Record<?> record) {
+        try {
+            shuffleQueue.put(record);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void writeBatch(Queue<Record<?>> batch) {
+        if (shuffleQueue.remainingCapacity() <= 0 || !shuffleQueue.addAll(batch)) {
+            for (; ; ) {
+                Record<?> shuffleItem = batch.poll();
+                if (shuffleItem == null) {
+                    break;
+                }
+                write(shuffleItem);
+            }
+        }
+        batch.clear();
+    }
+
+    @Override
+    public void close() {
+        log.info("destroy shuffle queue: {}", shuffleQueue.getName());
+        shuffleQueue.destroy();
+    }
+}
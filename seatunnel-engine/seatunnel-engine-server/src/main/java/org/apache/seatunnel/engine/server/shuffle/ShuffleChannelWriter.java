@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.io.IOException;
+import java.util.Queue;
+
+/** The producer side of a shuffle channel between one input and one target task. */
+public interface ShuffleChannelWriter {
+
+    String getName();
+
+    /** Writes a single record and blocks until the channel accepted it. */
+    void write(Record<?> record) throws IOException;
+
+    /** Writes all records of the batch in order, the batch is empty when the method returns. */
+    void writeBatch(Queue<Record<?>> batch) throws IOException;
+
+    void close();
+}
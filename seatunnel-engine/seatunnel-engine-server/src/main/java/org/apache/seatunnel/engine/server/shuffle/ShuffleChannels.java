@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the channels of a shuffle, through the TCP shuffle service when the worker runs one and
+ * through Hazelcast IQueue otherwise.
+ */
+@Slf4j
+public final class ShuffleChannels {
+
+    private ShuffleChannels() {}
+
+    public static Map<String, ShuffleChannelWriter> createWriters(
+            ShuffleStrategy shuffleStrategy,
+            HazelcastInstance hazelcast,
+            TcpShuffleService tcpShuffleService,
+            int pipelineId,
+            int inputIndex) {
+        Map<String, ShuffleChannelWriter> writers = new LinkedHashMap<>();
+        if (tcpShuffleService == null) {
+            for (Map.Entry<String, IQueue<Record<?>>> shuffle :
+                    shuffleStrategy.createShuffles(hazelcast, pipelineId, inputIndex).entrySet()) {
+                writers.put(shuffle.getKey(), new IQueueShuffleChannelWriter(shuffle.getValue()));
+            }
+            return writers;
+        }
+
+        RecordCodec codec = createCodec(shuffleStrategy);
+        for (String name : shuffleStrategy.createShuffleNames(pipelineId, inputIndex)) {
+            writers.put(name, tcpShuffleService.createWriter(name, codec));
+        }
+        log.info(
+                "pipeline[{}] / reader[{}] assigned tcp shuffle channel list: {}",
+                pipelineId,
+                inputIndex,
+                writers.keySet());
+        return writers;
+    }
+
+    public static ShuffleChannelReader[] getReaders(
+            ShuffleStrategy shuffleStrategy,
+            HazelcastInstance hazelcast,
+            TcpShuffleService tcpShuffleService,
+            int pipelineId,
+            int targetIndex) {
+        if (tcpShuffleService == null) {
+            IQueue<Record<?>>[] queues =
+                    shuffleStrategy.getShuffles(hazelcast, pipelineId, targetIndex);
+            ShuffleChannelReader[] readers = new ShuffleChannelReader[queues.length];
+            for (int i = 0; i < queues.length; i++) {
+                readers[i] = new IQueueShuffleChannelReader(queues[i]);
+            }
+            return readers;
+        }
+
+        RecordCodec codec = createCodec(shuffleStrategy);
+        List<String> names = shuffleStrategy.getShuffleNames(pipelineId, targetIndex);
+        ShuffleChannelReader[] readers = new ShuffleChannelReader[names.size()];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = tcpShuffleService.createReader(names.get(i), codec);
+        }
+        log.info(
+                "pipeline[{}] / writer[{}] assigned tcp shuffle channel list: {}",
+                pipelineId,
+                targetIndex,
+                names);
+        return readers;
+    }
+
+    private static RecordCodec createCodec(ShuffleStrategy shuffleStrategy) {
+        if (shuffleStrategy instanceof ShuffleMultipleRowStrategy) {
+            return RecordCodec.of(
+                    ((ShuffleMultipleRowStrategy) shuffleStrategy).getCatalogTables());
+        }
+        return new RecordCodec(new LinkedHashMap<>());
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_CREDIT;
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_DATA;
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_END;
+
+/**
+ * Consumer side of a TCP shuffle channel. Records are decoded by a thread of the {@link
+ * TcpShuffleService} into a local buffer, which never holds more records than the credits granted
+ * to the producer.
+ *
+ * <p>The producer does not reconnect a broken channel, so the frames in flight on a broken
+ * connection are lost. The reader fails its task instead of waiting for the producer forever.
+ */
+@Slf4j
+public class TcpShuffleChannelReader implements ShuffleChannelReader {
+    private static final long TAKE_POLL_INTERVAL_MS = 100;
+
+    private final String name;
+    private final String token;
+    private final RecordCodec codec;
+    private final TcpShuffleService shuffleService;
+    private final int credits;
+    private final int creditReturnThreshold;
+    private final int maxFrameSize;
+    private final LinkedBlockingQueue<Record<?>> buffer = new LinkedBlockingQueue<>();
+    private int consumed;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private volatile Socket socket;
+    private volatile DataOutputStream out;
+
+    TcpShuffleChannelReader(
+            String name, String token, RecordCodec codec, TcpShuffleService shuffleService) {
+        this.name = name;
+        this.token = token;
+        this.codec = codec;
+        this.shuffleService = shuffleService;
+        this.credits = shuffleService.getConfig().getChannelCredits();
+        this.creditReturnThreshold = Math.max(1, credits / 4);
+        this.maxFrameSize = shuffleService.getConfig().getMaxFrameSize();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    boolean isToken(String producerToken) {
+        return MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.UTF_8),
+                producerToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int size() {
+        checkFailure();
+        return buffer.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record;
+        while ((record = buffer.poll(TAKE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) == null) {
+            checkFailure();
+        }
+        onConsumed(1);
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<? super Record<?>> collection, int maxElements) {
+        checkFailure();
+        int count = buffer.drainTo(collection, maxElements);
+        onConsumed(count);
+        return count;
+    }
+
+    private void onConsumed(int count) {
+        consumed += count;
+        if (consumed == 0 || (consumed < creditReturnThreshold && !buffer.isEmpty())) {
+            return;
+        }
+        if (sendCredit(consumed)) {
+            consumed = 0;
+        }
+    }
+
+    private synchronized boolean sendCredit(int credit) {
+        if (out == null) {
+            return false;
+        }
+        try {
+            out.writeByte(FRAME_CREDIT);
+            out.writeInt(credit);
+            out.flush();
+            return true;
+        } catch (IOException e) {
+            if (!closed) {
+                log.warn("shuffle channel {} failed to return credits to its producer", name, e);
+            }
+            return false;
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new SeaTunnelEngineException(
+                    String.format("Shuffle channel %s is broken", name), failure);
+        }
+    }
+
+    /**
+     * Attaches the authenticated connection of the producer and receives its frames until it is
+     * closed. Any error of the connection fails the reader.
+     */
+    void receive(Socket producerSocket, DataInputStream in) {
+        synchronized (this) {
+            if (closed || socket != null) {
+                // a channel has exactly one producer connection, which is never reconnected
+                if (!closed) {
+                    log.warn(
+                            "Rejected another connection from {} to shuffle channel {}",
+                            producerSocket.getRemoteSocketAddress(),
+                            name);
+                }
+                TcpShuffleService.closeQuietly(producerSocket);
+                return;
+            }
+            socket = producerSocket;
+            try {
+                out =
+                        new DataOutputStream(
+                                new BufferedOutputStream(producerSocket.getOutputStream()));
+            } catch (IOException e) {
+                fail(e);
+                TcpShuffleService.closeQuietly(producerSocket);
+                return;
+            }
+            sendCredit(credits);
+        }
+
+        try {
+            while (!closed) {
+                byte frameType = in.readByte();
+                if (frameType == FRAME_END) {
+                    log.info("shuffle channel {} was closed by its producer", name);
+                    break;
+                }
+                if (frameType != FRAME_DATA) {
+                    throw new IOException("Unexpected shuffle frame type: " + frameType);
+                }
+                int length = in.readInt();
+                if (length < 0 || length > maxFrameSize) {
+                    throw new IOException(
+                            String.format(
+                                    "Shuffle frame of %s bytes exceeds the maximum frame size %s",
+                                    length, maxFrameSize));
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                BufferObjectDataInput input = shuffleService.createInput(payload);
+                int count = input.readInt();
+                for (int i = 0; i < count; i++) {
+                    buffer.add(codec.read(input));
+                }
+            }
+        } catch (Throwable e) {
+            if (!closed) {
+                fail(e);
+            }
+        } finally {
+            TcpShuffleService.closeQuietly(producerSocket);
+        }
+    }
+
+    private void fail(Throwable e) {
+        log.error("shuffle channel {} lost the connection to its producer", name, e);
+        failure = e;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        shuffleService.unregister(this);
+        TcpShuffleService.closeQuietly(socket);
+        log.info("close shuffle channel: {}", name);
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_CREDIT;
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_DATA;
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_END;
+import static org.apache.seatunnel.engine.server.shuffle.TcpShuffleService.FRAME_HELLO;
+
+/**
+ * Producer side of a TCP shuffle channel. The connection is opened on the first write, since the
+ * consumer task may not be deployed yet when the producer is created.
+ */
+@Slf4j
+public class TcpShuffleChannelWriter implements ShuffleChannelWriter {
+    private static final long CONNECT_RETRY_INTERVAL = 100;
+
+    private final String name;
+    private final RecordCodec codec;
+    private final TcpShuffleService shuffleService;
+    private final Object creditLock = new Object();
+    private int credits;
+    private volatile IOException failure;
+    private volatile boolean closed;
+    private Socket socket;
+    private DataOutputStream out;
+
+    TcpShuffleChannelWriter(String name, RecordCodec codec, TcpShuffleService shuffleService) {
+        this.name = name;
+        this.codec = codec;
+        this.shuffleService = shuffleService;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void write(Record<?> record) throws IOException {
+        Queue<Record<?>> batch = new ArrayDeque<>(1);
+        batch.add(record);
+        writeBatch(batch);
+    }
+
+    @Override
+    public void writeBatch(Queue<Record<?>> batch) throws IOException {
+        ensureConnected();
+        while (!batch.isEmpty()) {
+            int count = acquireCredits(batch.size());
+            BufferObjectDataOutput output = shuffleService.createOutput();
+            try {
+                int written = writeFrame(output, batch, count);
+                if (written < count) {
+                    releaseCredits(count - written);
+                }
+                byte[] payload = output.toByteArray();
+                out.writeByte(FRAME_DATA);
+                out.writeInt(payload.length);
+                out.write(payload);
+                // the frame must reach the consumer before waiting for the credits it returns
+                out.flush();
+            } finally {
+                output.close();
+            }
+        }
+    }
+
+    /** Encodes up to {@code count} records of the batch, as many as fit into one frame. */
+    private int writeFrame(BufferObjectDataOutput output, Queue<Record<?>> batch, int count)
+            throws IOException {
+        int maxFrameSize = shuffleService.getConfig().getMaxFrameSize();
+        output.writeInt(count);
+        int written = 0;
+        while (written < count) {
+            int recordStart = output.position();
+            codec.write(output, batch.peek());
+            if (output.position() > maxFrameSize) {
+                if (written == 0) {
+                    throw new IOException(
+                            String.format(
+                                    "A record of shuffle channel %s needs %s bytes, which exceeds"
+                                            + " the maximum frame size %s",
+                                    name, output.position() - recordStart, maxFrameSize));
+                }
+                output.position(recordStart);
+                break;
+            }
+            batch.poll();
+            written++;
+        }
+        output.writeInt(0, written);
+        return written;
+    }
+
+    private void releaseCredits(int unused) {
+        synchronized (creditLock) {
+            credits += unused;
+        }
+    }
+
+    private int acquireCredits(int wanted) throws IOException {
+        synchronized (creditLock) {
+            while (credits == 0) {
+                if (failure != null) {
+                    throw new IOException("Shuffle channel " + name + " is broken", failure);
+                }
+                try {
+                    creditLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            int granted = Math.min(credits, wanted);
+            credits -= granted;
+            return granted;
+        }
+    }
+
+    private void ensureConnected() throws IOException {
+        if (socket != null) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + shuffleService.getConfig().getConnectTimeout();
+        IOException lastException = null;
+        while (System.currentTimeMillis() < deadline) {
+            String endpoint = shuffleService.lookupEndpoint(name);
+            if (endpoint != null) {
+                try {
+                    connect(endpoint);
+                    return;
+                } catch (IOException e) {
+                    lastException = e;
+                }
+            }
+            try {
+                Thread.sleep(CONNECT_RETRY_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+        throw new IOException(
+                String.format(
+                        "Could not connect shuffle channel %s in %s ms",
+                        name, shuffleService.getConfig().getConnectTimeout()),
+                lastException);
+    }
+
+    private void connect(String channelEndpoint) throws IOException {
+        // the endpoint of a channel is published as token@host:port
+        int tokenSeparator = channelEndpoint.indexOf('@');
+        String token = channelEndpoint.substring(0, tokenSeparator);
+        String endpoint = channelEndpoint.substring(tokenSeparator + 1);
+        int separator = endpoint.lastIndexOf(':');
+        Socket newSocket = new Socket();
+        try {
+            newSocket.setTcpNoDelay(true);
+            newSocket.connect(
+                    new InetSocketAddress(
+                            endpoint.substring(0, separator),
+                            Integer.parseInt(endpoint.substring(separator + 1))),
+                    (int) shuffleService.getConfig().getConnectTimeout());
+            DataOutputStream newOut =
+                    new DataOutputStream(new BufferedOutputStream(newSocket.getOutputStream()));
+            newOut.writeByte(FRAME_HELLO);
+            newOut.writeUTF(name);
+            newOut.writeUTF(token);
+            newOut.flush();
+
+            DataInputStream in =
+                    new DataInputStream(new BufferedInputStream(newSocket.getInputStream()));
+            // the consumer grants the initial credits once the channel is attached, a consumer
+            // which does not know the channel yet closes the connection instead
+            readCredit(in);
+            socket = newSocket;
+            out = newOut;
+            shuffleService.execute(() -> receiveCredits(in));
+            log.info("shuffle channel {} connected to {}", name, endpoint);
+        } catch (IOException e) {
+            TcpShuffleService.closeQuietly(newSocket);
+            throw e;
+        }
+    }
+
+    private void readCredit(DataInputStream in) throws IOException {
+        byte frameType = in.readByte();
+        if (frameType != FRAME_CREDIT) {
+            throw new IOException("Unexpected shuffle frame type: " + frameType);
+        }
+        int granted = in.readInt();
+        synchronized (creditLock) {
+            credits += granted;
+            creditLock.notifyAll();
+        }
+    }
+
+    private void receiveCredits(DataInputStream in) {
+        try {
+            while (!closed) {
+                readCredit(in);
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                log.warn("shuffle channel {} lost the connection to its consumer", name, e);
+                synchronized (creditLock) {
+                    failure = e;
+                    creditLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (socket == null) {
+            return;
+        }
+        try {
+            out.writeByte(FRAME_END);
+            out.flush();
+        } catch (IOException e) {
+            // the consumer may have closed the channel already
+        }
+        TcpShuffleService.closeQuietly(socket);
+    }
+}
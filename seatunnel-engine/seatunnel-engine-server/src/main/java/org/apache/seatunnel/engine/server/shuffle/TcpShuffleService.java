@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.common.config.server.ShuffleServiceConfig;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Point-to-point data plane for shuffles, used instead of Hazelcast IQueue when the shuffle
+ * transport is {@code TCP}.
+ *
+ * <p>Every shuffle channel (the same names as the IQueue of the queue transport) becomes one TCP
+ * connection from the producer to the worker of the consumer. The consumer publishes the endpoint
+ * of its channel in {@link Constant#IMAP_SHUFFLE_CHANNEL_ENDPOINTS}, so Hazelcast is only used for
+ * the discovery and not for the records themselves.
+ *
+ * <p>The service listens on the address of the cluster member only. Every channel has a random
+ * token which is published with its endpoint, so only the members of the cluster can attach to a
+ * channel.
+ *
+ * <p>The wire protocol is a sequence of frames, each starting with a frame type byte:
+ *
+ * <ul>
+ *   <li>{@link #FRAME_HELLO}: producer to consumer, followed by the channel name and its token.
+ *   <li>{@link #FRAME_DATA}: producer to consumer, followed by the length of the payload and the
+ *       payload, a record count and the records encoded by {@link RecordCodec}. Barriers travel
+ *       in-band between the rows. The payload is at most {@link
+ *       ShuffleServiceConfig#getMaxFrameSize()} bytes.
+ *   <li>{@link #FRAME_END}: producer to consumer, the producer closed the channel.
+ *   <li>{@link #FRAME_CREDIT}: consumer to producer, followed by the number of records the producer
+ *       may send additionally. The consumer grants {@link ShuffleServiceConfig#getChannelCredits()}
+ *       credits on connect and returns credits as its task consumes records, so a slow consumer
+ *       blocks its producers instead of buffering without bound.
+ * </ul>
+ */
+@Slf4j
+public class TcpShuffleService implements Closeable {
+    static final byte FRAME_HELLO = 1;
+    static final byte FRAME_DATA = 2;
+    static final byte FRAME_END = 3;
+    static final byte FRAME_CREDIT = 4;
+
+    private static final int TOKEN_LENGTH = 16;
+
+    @Getter private final ShuffleServiceConfig config;
+    private final InternalSerializationService serializationService;
+    private final ConcurrentMap<String, String> endpoints;
+    private final ConcurrentMap<String, TcpShuffleChannelReader> readers =
+            new ConcurrentHashMap<>();
+    private final ServerSocket serverSocket;
+    @Getter private final String endpoint;
+    private final ExecutorService executorService;
+    private final SecureRandom random = new SecureRandom();
+    private volatile boolean running = true;
+
+    public TcpShuffleService(NodeEngineImpl nodeEngine, ShuffleServiceConfig config) {
+        this(
+                config,
+                (InternalSerializationService) nodeEngine.getSerializationService(),
+                nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_SHUFFLE_CHANNEL_ENDPOINTS),
+                nodeEngine.getThisAddress().getHost());
+    }
+
+    public TcpShuffleService(
+            ShuffleServiceConfig config,
+            InternalSerializationService serializationService,
+            ConcurrentMap<String, String> endpoints,
+            String host) {
+        this.config = config;
+        this.serializationService = serializationService;
+        this.endpoints = endpoints;
+        this.serverSocket = bind(host, config.getPort(), config.getPortRange());
+        this.endpoint = host + ":" + serverSocket.getLocalPort();
+        this.executorService =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("seatunnel-shuffle-%d")
+                                .setDaemon(true)
+                                .build());
+        executorService.submit(this::accept);
+        log.info("TCP shuffle service is listening on {}", endpoint);
+    }
+
+    public ShuffleChannelReader createReader(String name, RecordCodec codec) {
+        byte[] token = new byte[TOKEN_LENGTH];
+        random.nextBytes(token);
+        String encodedToken = Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+        TcpShuffleChannelReader reader =
+                new TcpShuffleChannelReader(name, encodedToken, codec, this);
+        TcpShuffleChannelReader previous = readers.put(name, reader);
+        if (previous != null) {
+            // a reader of a previous attempt of the same task was not closed
+            previous.close();
+        }
+        endpoints.put(name, formatChannelEndpoint(encodedToken, endpoint));
+        return reader;
+    }
+
+    public ShuffleChannelWriter createWriter(String name, RecordCodec codec) {
+        return new TcpShuffleChannelWriter(name, codec, this);
+    }
+
+    String lookupEndpoint(String name) {
+        return endpoints.get(name);
+    }
+
+    void unregister(TcpShuffleChannelReader reader) {
+        if (readers.remove(reader.getName(), reader)) {
+            endpoints.remove(reader.getName(), formatChannelEndpoint(reader.getToken(), endpoint));
+        }
+    }
+
+    /** The endpoint of a channel published to its producer, formatted as token@host:port. */
+    static String formatChannelEndpoint(String token, String endpoint) {
+        return token + "@" + endpoint;
+    }
+
+    void execute(Runnable runnable) {
+        executorService.execute(runnable);
+    }
+
+    BufferObjectDataOutput createOutput() {
+        return serializationService.createObjectDataOutput();
+    }
+
+    BufferObjectDataInput createInput(byte[] bytes) {
+        return serializationService.createObjectDataInput(bytes);
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executorService.execute(() -> handleConnection(socket));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to accept shuffle connection", e);
+                }
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        TcpShuffleChannelReader reader;
+        DataInputStream in;
+        try {
+            // a peer which does not complete the handshake must not hold a thread forever
+            socket.setSoTimeout((int) config.getConnectTimeout());
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            byte frameType = in.readByte();
+            if (frameType != FRAME_HELLO) {
+                throw new IOException("Unexpected shuffle frame type: " + frameType);
+            }
+            String name = in.readUTF();
+            String token = in.readUTF();
+            reader = readers.get(name);
+            if (reader == null) {
+                // the producer retries until the consumer of the channel is registered
+                log.debug("Shuffle channel {} is not registered on this worker", name);
+                closeQuietly(socket);
+                return;
+            }
+            if (!reader.isToken(token)) {
+                log.warn(
+                        "Rejected the connection from {} to shuffle channel {} with a wrong token",
+                        socket.getRemoteSocketAddress(),
+                        name);
+                closeQuietly(socket);
+                return;
+            }
+            socket.setSoTimeout(0);
+        } catch (IOException e) {
+            log.warn("Failed to handle shuffle connection from {}", socket, e);
+            closeQuietly(socket);
+            return;
+        }
+        // the errors of an attached connection fail the consumer of the channel
+        reader.receive(socket, in);
+    }
+
+    private static ServerSocket bind(String host, int port, int portRange) {
+        for (int i = 0; i < portRange; i++) {
+            ServerSocket serverSocket = null;
+            try {
+                serverSocket = new ServerSocket();
+                serverSocket.setReuseAddress(true);
+                serverSocket.bind(new InetSocketAddress(host, port + i));
+                return serverSocket;
+            } catch (BindException e) {
+                closeQuietly(serverSocket);
+            } catch (IOException e) {
+                closeQuietly(serverSocket);
+                throw new SeaTunnelEngineException("Failed to start TCP shuffle service", e);
+            }
+        }
+        throw new SeaTunnelEngineException(
+                String.format(
+                        "Failed to start TCP shuffle service, no free port in [%s, %s) on %s",
+                        port, port + portRange, host));
+    }
+
+    static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        closeQuietly(serverSocket);
+        readers.values().forEach(TcpShuffleChannelReader::close);
+        executorService.shutdownNow();
+    }
+}
@@ -95,27 +95,60 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     @Override
     public void collect(T row) {
         try {
-            if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
-                if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
-                } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
-                } else {
-                    throw new SeaTunnelEngineException(
-                            "Unsupported row type: " + rowType.getClass().getName());
+            audit(row);
+            sendRecordToNext(new Record<>(row));
+            emptyThisPollNext = false;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Audits and measures all rows before the checkpoint lock is taken, then hands the batch over
+     * to the outputs under a single acquisition of the lock.
+     */
+    @Override
+    public void collectBatch(List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            for (T row : rows) {
+                audit(row);
+            }
+            synchronized (checkpointLock) {
+                for (T row : rows) {
+                    Record<?> record = new Record<>(row);
+                    for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+                        output.received(record);
+                    }
                 }
-                flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row, tableId);
             }
-            sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void audit(T row) {
+        if (row instanceof SeaTunnelRow) {
+            SeaTunnelRow seaTunnelRow = (SeaTunnelRow) row;
+            String tableId = seaTunnelRow.getTableId();
+            int size = seaTunnelRow.getBytesSize(getRowType(tableId));
+            flowControlGate.audit(seaTunnelRow);
+            taskMetricsCalcContext.updateMetrics(seaTunnelRow, tableId, size);
+        }
+    }
+
+    private SeaTunnelRowType getRowType(String tableId) {
+        if (rowType instanceof SeaTunnelRowType) {
+            return (SeaTunnelRowType) rowType;
+        } else if (rowType instanceof MultipleRowType) {
+            return rowTypeMap.get(tableId);
+        }
+        throw new SeaTunnelEngineException("Unsupported row type: " + rowType.getClass().getName());
+    }
+
     @Override
     public void collect(SchemaChangeEvent event) {
         try {
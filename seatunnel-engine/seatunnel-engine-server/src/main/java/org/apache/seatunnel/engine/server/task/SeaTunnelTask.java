@@ -167,6 +167,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 break;
             case RUNNING:
                 collect();
+                processTimers();
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 }
@@ -287,6 +288,13 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected abstract void collect() throws Exception;
 
+    protected void processTimers() throws Exception {
+        long currentTimeMillis = System.currentTimeMillis();
+        for (FlowLifeCycle cycle : allCycles) {
+            cycle.onProcessingTime(currentTimeMillis);
+        }
+    }
+
     @Override
     public Set<URL> getJarsUrl() {
         return getFlowInfo((action, set) -> set.addAll(action.getJarUrls()));
@@ -34,6 +34,7 @@ import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.task.flow.SourceFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
@@ -43,6 +44,7 @@ import lombok.NonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunnelTask {
@@ -127,12 +129,28 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
     }
 
+    @Override
+    protected void processTimers() throws Exception {
+        // the flows are fed under the checkpoint lock, so are their timers
+        synchronized (checkpointLock) {
+            super.processTimers();
+        }
+    }
+
     @NonNull @Override
     public ProgressState call() throws Exception {
         stateProcess();
         return progress.toState();
     }
 
+    @Override
+    public CompletionStage<Void> getAvailableFuture() {
+        if (currState != SeaTunnelTaskState.RUNNING) {
+            return null;
+        }
+        return ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).getAvailableFuture();
+    }
+
     public void receivedSourceSplit(List<SplitT> splits) {
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).receivedSplits(splits);
     }
@@ -28,4 +28,10 @@ public interface FlowLifeCycle {
     default void close() throws IOException {}
 
     default void prepareClose() throws IOException {}
+
+    /**
+     * Called by the task thread after every collect, also when no record arrived, so a flow can act
+     * on its own deadlines, e.g. emit a partial batch.
+     */
+    default void onProcessingTime(long currentTimeMillis) throws Exception {}
 }
@@ -23,10 +23,11 @@ import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleChannelWriter;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleChannels;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
-import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,7 +45,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final int pipelineId;
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final Map<String, ShuffleChannelWriter> shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
@@ -63,7 +64,16 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.taskIndex = taskIndex;
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffles =
+                ShuffleChannels.createWriters(
+                        shuffleStrategy,
+                        hazelcastInstance,
+                        runningTask
+                                .getExecutionContext()
+                                .getTaskExecutionService()
+                                .getTcpShuffleService(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
@@ -88,13 +98,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
-                try {
-                    shuffleQueue.put(record);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+            for (ShuffleChannelWriter shuffle : shuffles.values()) {
+                shuffle.write(record);
             }
 
             log.debug(
@@ -107,7 +112,16 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                 return;
             }
 
-            shuffleItem(record);
+            shuffleStrategy.applySchemaChange((SchemaChangeEvent) record.getData());
+            if (shuffleStrategy.isBroadcast(record)) {
+                // Rows buffered before the event must reach the targets ahead of it
+                shuffleFlush();
+                for (ShuffleChannelWriter shuffle : shuffles.values()) {
+                    shuffle.write(record);
+                }
+            } else {
+                shuffleItem(record);
+            }
         } else {
             if (prepareClose) {
                 return;
@@ -120,13 +134,12 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
-            log.info("destroy shuffle queue: {}", shuffleItem.getKey());
-            shuffleItem.getValue().destroy();
+        for (ShuffleChannelWriter shuffle : shuffles.values()) {
+            shuffle.close();
         }
     }
 
-    private synchronized void shuffleItem(Record<?> record) {
+    private synchronized void shuffleItem(Record<?> record) throws IOException {
         String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
         shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
         shuffleBufferSize++;
@@ -138,25 +151,9 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
-    private synchronized void shuffleFlush() {
+    private synchronized void shuffleFlush() throws IOException {
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
-            Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-            shuffleQueueBatch.clear();
+            shuffles.get(shuffleBatch.getKey()).writeBatch(shuffleBatch.getValue());
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
@@ -22,10 +22,11 @@ import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleChannelReader;
+import org.apache.seatunnel.engine.server.shuffle.ShuffleChannels;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
-import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,7 +43,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleChannelReader[] shuffles;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -58,10 +59,15 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+                ShuffleChannels.getReaders(
+                        shuffleAction.getConfig().getShuffleStrategy(),
+                        hazelcastInstance,
+                        runningTask
+                                .getExecutionContext()
+                                .getTaskExecutionService()
+                                .getTcpShuffleService(),
+                        pipelineId,
+                        taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
     }
 
@@ -70,7 +76,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
+            ShuffleChannelReader shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
             if (shuffleQueue.size() == 0) {
@@ -151,9 +157,8 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
-            log.info("destroy shuffle queue: {}", shuffleQueue.getName());
-            shuffleQueue.destroy();
+        for (ShuffleChannelReader shuffleQueue : shuffles) {
+            shuffleQueue.close();
         }
     }
 }
@@ -58,6 +58,7 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -89,6 +90,9 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
 
+    /** The availability of the reader after an empty poll, null if the task may poll again. */
+    @Getter private volatile CompletionStage<Void> availableFuture;
+
     public SourceFlowLifeCycle(
             SourceAction<T, SplitT, ?> sourceAction,
             int indexID,
@@ -148,6 +152,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     }
 
     public void collect() throws Exception {
+        availableFuture = null;
         if (!prepareClose) {
             if (schemaChanging()) {
                 log.debug("schema is changing, stop reader collect records");
@@ -158,7 +163,13 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
             reader.pollNext(collector);
             if (collector.isEmptyThisPollNext()) {
-                Thread.sleep(100);
+                CompletionStage<Void> readerAvailable = reader.isAvailable();
+                if (readerAvailable == null) {
+                    Thread.sleep(100);
+                } else if (!readerAvailable.toCompletableFuture().isDone()) {
+                    // the worker parks the task until the reader has data
+                    availableFuture = readerAvailable;
+                }
             } else {
                 collector.resetEmptyThisPollNext();
                 /**
@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server.task.flow;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelBatchMapTransform;
 import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
 import org.apache.seatunnel.api.transform.SeaTunnelMapTransform;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
@@ -50,6 +51,23 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    /**
+     * The max number of rows buffered for the batch map transforms of the chain, rows are not
+     * buffered when it is not greater than 1.
+     */
+    private final int batchSize;
+
+    private final long batchTimeoutMillis;
+
+    /**
+     * The rows waiting for their batch, also the monitor of the batching state: the pending rows
+     * are flushed on timeout by {@link #onProcessingTime} from the task thread, which is not the
+     * thread receiving the records with the disruptor intermediate queue.
+     */
+    private final List<T> pendingRows = new ArrayList<>();
+
+    private long pendingSince;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -59,6 +77,18 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        int batchSize = 1;
+        long batchTimeoutMillis = Long.MAX_VALUE;
+        for (SeaTunnelTransform<T> t : transform) {
+            if (t instanceof SeaTunnelBatchMapTransform) {
+                SeaTunnelBatchMapTransform<T> batchTransform = (SeaTunnelBatchMapTransform<T>) t;
+                batchSize = Math.max(batchSize, batchTransform.getBatchSize());
+                batchTimeoutMillis =
+                        Math.min(batchTimeoutMillis, batchTransform.getBatchTimeoutMillis());
+            }
+        }
+        this.batchSize = batchSize;
+        this.batchTimeoutMillis = batchTimeoutMillis;
     }
 
     @Override
@@ -79,8 +109,32 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     @Override
     public void received(Record<?> record) {
+        if (batchSize > 1) {
+            synchronized (pendingRows) {
+                receivedRecord(record);
+            }
+        } else {
+            receivedRecord(record);
+        }
+    }
+
+    @Override
+    public void onProcessingTime(long currentTimeMillis) {
+        if (batchSize <= 1) {
+            return;
+        }
+        synchronized (pendingRows) {
+            if (!pendingRows.isEmpty() && currentTimeMillis - pendingSince >= batchTimeoutMillis) {
+                flushPendingRows();
+            }
+        }
+    }
+
+    private void receivedRecord(Record<?> record) {
         if (record.getData() instanceof Barrier) {
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
+            // the buffered rows are emitted before the barrier, the transforms have no state
+            flushPendingRows();
             if (barrier.prepareClose(this.runningTask.getTaskLocation())) {
                 prepareClose = true;
             }
@@ -94,6 +148,7 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
+            flushPendingRows();
             SchemaChangeEvent event = (SchemaChangeEvent) record.getData();
             for (SeaTunnelTransform<T> t : transform) {
                 SchemaChangeEvent eventBefore = event;
@@ -119,12 +174,35 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
                 return;
             }
             T inputData = (T) record.getData();
-            List<T> outputDataList = transform(inputData);
-            if (!outputDataList.isEmpty()) {
-                // todo log metrics
-                for (T outputData : outputDataList) {
-                    collector.collect(new Record<>(outputData));
+            if (batchSize > 1) {
+                if (pendingRows.isEmpty()) {
+                    pendingSince = System.currentTimeMillis();
+                }
+                pendingRows.add(inputData);
+                if (pendingRows.size() >= batchSize
+                        || System.currentTimeMillis() - pendingSince >= batchTimeoutMillis) {
+                    flushPendingRows();
                 }
+                return;
+            }
+            collect(transform(inputData));
+        }
+    }
+
+    private void flushPendingRows() {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        List<T> outputDataList = transform(new ArrayList<>(pendingRows));
+        pendingRows.clear();
+        collect(outputDataList);
+    }
+
+    private void collect(List<T> outputDataList) {
+        if (!outputDataList.isEmpty()) {
+            // todo log metrics
+            for (T outputData : outputDataList) {
+                collector.collect(new Record<>(outputData));
             }
         }
     }
@@ -136,10 +214,30 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
         List<T> dataList = new ArrayList<>();
         dataList.add(inputData);
+        return transform(dataList);
+    }
+
+    public List<T> transform(List<T> dataList) {
+        if (transform.isEmpty()) {
+            return dataList;
+        }
 
         for (SeaTunnelTransform<T> transformer : transform) {
             List<T> nextInputDataList = new ArrayList<>();
-            if (transformer instanceof SeaTunnelFlatMapTransform) {
+            if (transformer instanceof SeaTunnelBatchMapTransform) {
+                List<T> outputDataArray =
+                        ((SeaTunnelBatchMapTransform<T>) transformer).mapBatch(dataList);
+                log.debug(
+                        "Transform[{}] input {} rows and output rows {}",
+                        transformer,
+                        dataList.size(),
+                        outputDataArray);
+                for (T outputData : outputDataArray) {
+                    if (outputData != null) {
+                        nextInputDataList.add(outputData);
+                    }
+                }
+            } else if (transformer instanceof SeaTunnelFlatMapTransform) {
                 SeaTunnelFlatMapTransform<T> transformDecorator =
                         (SeaTunnelFlatMapTransform<T>) transformer;
                 for (T data : dataList) {
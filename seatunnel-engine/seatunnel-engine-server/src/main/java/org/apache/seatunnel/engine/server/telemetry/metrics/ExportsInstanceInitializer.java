@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.telemetry.metrics;
 
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.CheckpointMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.ClusterMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobThreadPoolStatusExports;
@@ -43,6 +44,8 @@ public final class ExportsInstanceInitializer {
             new JobMetricExports(node).register(collectorRegistry);
             // Thread pool status
             new JobThreadPoolStatusExports(node).register(collectorRegistry);
+            // Checkpoint storage
+            new CheckpointMetricExports(node).register(collectorRegistry);
             // Node metrics
             new NodeMetricExports(node).register(collectorRegistry);
             // Cluster metrics
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+import org.apache.seatunnel.engine.server.telemetry.metrics.entity.CheckpointStorageStatus;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CheckpointMetricExports extends AbstractCollector {
+
+    private static final String JOB_ID = "job_id";
+    private static final String PIPELINE_ID = "pipeline_id";
+
+    public CheckpointMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        // Only the master runs the checkpoint coordinators
+        if (isMaster()) {
+            List<CheckpointStorageStatus> statusList =
+                    getCoordinatorService().getCheckpointStorageStatusMetrics();
+            List<String> labelNames = clusterLabelNames(JOB_ID, PIPELINE_ID);
+
+            CounterMetricFamily storedCount =
+                    new CounterMetricFamily(
+                            "checkpoint_stored",
+                            "The count of checkpoints stored by the checkpoint coordinator",
+                            labelNames);
+            GaugeMetricFamily lastStateSize =
+                    new GaugeMetricFamily(
+                            "checkpoint_last_state_size",
+                            "The serialized size in bytes of the last stored checkpoint",
+                            labelNames);
+            GaugeMetricFamily lastSerializeDuration =
+                    new GaugeMetricFamily(
+                            "checkpoint_last_serialize_duration",
+                            "The time in ms spent serializing the last stored checkpoint",
+                            labelNames);
+            GaugeMetricFamily lastUploadDuration =
+                    new GaugeMetricFamily(
+                            "checkpoint_last_upload_duration",
+                            "The time in ms spent uploading the last stored checkpoint",
+                            labelNames);
+            CounterMetricFamily serializeDuration =
+                    new CounterMetricFamily(
+                            "checkpoint_serialize_duration",
+                            "The total time in ms spent serializing checkpoints",
+                            labelNames);
+            CounterMetricFamily uploadDuration =
+                    new CounterMetricFamily(
+                            "checkpoint_upload_duration",
+                            "The total time in ms spent uploading checkpoints",
+                            labelNames);
+            GaugeMetricFamily queueTaskCount =
+                    new GaugeMetricFamily(
+                            "checkpoint_storage_queueTaskCount",
+                            "The count of completed checkpoints waiting to be stored",
+                            labelNames);
+
+            for (CheckpointStorageStatus status : statusList) {
+                List<String> labelValues =
+                        labelValues(
+                                String.valueOf(status.getJobId()),
+                                String.valueOf(status.getPipelineId()));
+                storedCount.addMetric(labelValues, status.getStoredCheckpointCount());
+                lastStateSize.addMetric(labelValues, status.getLastStateSize());
+                lastSerializeDuration.addMetric(labelValues, status.getLastSerializeDuration());
+                lastUploadDuration.addMetric(labelValues, status.getLastUploadDuration());
+                serializeDuration.addMetric(labelValues, status.getTotalSerializeDuration());
+                uploadDuration.addMetric(labelValues, status.getTotalUploadDuration());
+                queueTaskCount.addMetric(labelValues, status.getQueueTaskCount());
+            }
+
+            mfs.add(storedCount);
+            mfs.add(lastStateSize);
+            mfs.add(lastSerializeDuration);
+            mfs.add(lastUploadDuration);
+            mfs.add(serializeDuration);
+            mfs.add(uploadDuration);
+            mfs.add(queueTaskCount);
+        }
+        return mfs;
+    }
+}
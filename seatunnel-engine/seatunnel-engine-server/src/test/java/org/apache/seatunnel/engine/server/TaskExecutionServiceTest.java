@@ -21,6 +21,7 @@ import org.apache.seatunnel.shade.com.google.common.collect.Lists;
 
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.server.execution.AvailabilityTestTask;
 import org.apache.seatunnel.engine.server.execution.BlockTask;
 import org.apache.seatunnel.engine.server.execution.ExceptionTestTask;
 import org.apache.seatunnel.engine.server.execution.FixedCallTestTimeTask;
@@ -113,6 +114,44 @@ public class TaskExecutionServiceTest extends AbstractSeaTunnelServerTest {
                         () -> assertEquals(CANCELED, completableFuture.get().getExecutionState()));
     }
 
+    @Test
+    public void testParkUnavailableTask() {
+        TaskExecutionService taskExecutionService = server.getTaskExecutionService();
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AvailabilityTestTask testTask1 = new AvailabilityTestTask(stop, true);
+        AvailabilityTestTask testTask2 = new AvailabilityTestTask(stop, false);
+
+        CompletableFuture<TaskExecutionState> completableFuture =
+                deployLocalTask(
+                        taskExecutionService,
+                        new TaskGroupDefaultImpl(
+                                new TaskGroupLocation(
+                                        jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()),
+                                "ts",
+                                Lists.newArrayList(testTask1, testTask2)));
+
+        // the tasks without progress are parked for at most 100 ms instead of being busy called
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> testTask1.getCallCount() >= 3 && testTask2.getCallCount() >= 3);
+        int task1Calls = testTask1.getCallCount();
+        int task2Calls = testTask2.getCallCount();
+        await().during(500, TimeUnit.MILLISECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .until(
+                        () ->
+                                testTask1.getCallCount() - task1Calls <= 20
+                                        && testTask2.getCallCount() - task2Calls <= 20);
+
+        stop.set(true);
+        testTask1.makeAvailable();
+        testTask2.makeAvailable();
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> assertEquals(FINISHED, completableFuture.get().getExecutionState()));
+    }
+
     @Test
     public void testCancelBlockTask() throws InterruptedException {
         TaskExecutionService taskExecutionService = server.getTaskExecutionService();
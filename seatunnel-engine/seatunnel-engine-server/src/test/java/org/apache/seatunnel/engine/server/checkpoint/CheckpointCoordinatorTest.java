@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.checkpoint;
 
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
@@ -25,14 +27,26 @@ import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.telemetry.metrics.entity.CheckpointStorageStatus;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.seatunnel.engine.common.Constant.IMAP_RUNNING_JOB_STATE;
+import static org.awaitility.Awaitility.await;
 
 public class CheckpointCoordinatorTest
         extends AbstractSeaTunnelServerTest<CheckpointCoordinatorTest> {
@@ -60,4 +74,207 @@ public class CheckpointCoordinatorTest
                                 999, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE),
                         new ArrayList<>()));
     }
+
+    @Test
+    void testStoreCompletedCheckpointsInOrderWithSlowStorage() throws Exception {
+        TestingCheckpointStorage storage = new TestingCheckpointStorage();
+        CheckpointCoordinator coordinator = createCoordinator(2001L, storage);
+
+        CompletableFuture<Void> first =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2001L, 1));
+        CompletableFuture<Void> second =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2001L, 2));
+        Assertions.assertTrue(storage.uploadStarted.await(10, TimeUnit.SECONDS));
+        // the second checkpoint waits behind the slow upload of the first one
+        Assertions.assertEquals(1, coordinator.getCheckpointStorageStatus().getQueueTaskCount());
+        Assertions.assertFalse(second.isDone());
+
+        storage.releaseUpload.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(Arrays.asList(1L, 2L), storage.storedCheckpointIds);
+        CheckpointStorageStatus status = coordinator.getCheckpointStorageStatus();
+        Assertions.assertEquals(2, status.getStoredCheckpointCount());
+        Assertions.assertTrue(status.getLastStateSize() > 0);
+        Assertions.assertTrue(status.getTotalUploadDuration() >= status.getLastUploadDuration());
+        Assertions.assertEquals(0, status.getQueueTaskCount());
+    }
+
+    @Test
+    void testReportUnwrappedStorageError() throws Exception {
+        TestingCheckpointStorage storage = new TestingCheckpointStorage();
+        storage.failure = new CheckpointStorageException("storage is unavailable");
+        storage.releaseUpload.countDown();
+        CheckpointCoordinator coordinator = createCoordinator(2002L, storage);
+
+        CompletableFuture<Void> future =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2002L, 1));
+
+        CheckpointCoordinatorState state =
+                coordinator.waitCheckpointCoordinatorComplete().get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(
+                CheckpointCoordinatorStatus.FAILED, state.getCheckpointCoordinatorStatus());
+        Assertions.assertTrue(
+                state.getThrowableMsg().contains("CheckpointStorageException"),
+                state.getThrowableMsg());
+        Assertions.assertFalse(
+                state.getThrowableMsg().contains("CompletionException"), state.getThrowableMsg());
+        Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(
+                0, coordinator.getCheckpointStorageStatus().getStoredCheckpointCount());
+    }
+
+    @Test
+    void testSkipQueuedCheckpointAfterCleanDuringUpload() throws Exception {
+        TestingCheckpointStorage storage = new TestingCheckpointStorage();
+        CheckpointCoordinator coordinator = createCoordinator(2003L, storage);
+
+        CompletableFuture<Void> first =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2003L, 1));
+        CompletableFuture<Void> second =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2003L, 2));
+        Assertions.assertTrue(storage.uploadStarted.await(10, TimeUnit.SECONDS));
+
+        coordinator.cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET);
+        storage.releaseUpload.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        // the upload in flight finishes, the queued one must not be written after the reset
+        Assertions.assertEquals(Collections.singletonList(1L), storage.storedCheckpointIds);
+        Assertions.assertFalse(coordinator.waitCheckpointCoordinatorComplete().isDone());
+
+        // the coordinator keeps storing checkpoints after the reset
+        storage.uploadStarted = new CountDownLatch(0);
+        coordinator
+                .completePendingCheckpoint(completedCheckpoint(2003L, 3))
+                .get(10, TimeUnit.SECONDS);
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertEquals(
+                                        Arrays.asList(1L, 3L), storage.storedCheckpointIds));
+    }
+
+    @Test
+    void testNoOverlappingUploadAfterCleanDuringUpload() throws Exception {
+        TestingCheckpointStorage storage = new TestingCheckpointStorage();
+        CheckpointCoordinator coordinator = createCoordinator(2004L, storage);
+
+        CompletableFuture<Void> first =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2004L, 1));
+        Assertions.assertTrue(storage.uploadStarted.await(10, TimeUnit.SECONDS));
+        coordinator.cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET);
+        CompletableFuture<Void> second =
+                coordinator.completePendingCheckpoint(completedCheckpoint(2004L, 2));
+
+        storage.releaseUpload.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        // the checkpoint completed after the reset waits for the upload of the old one
+        Assertions.assertEquals(Arrays.asList(1L, 2L), storage.storedCheckpointIds);
+        Assertions.assertEquals(1, storage.maxConcurrentUploads.get());
+    }
+
+    private CheckpointCoordinator createCoordinator(long jobId, CheckpointStorage storage) {
+        CheckpointConfig checkpointConfig = new CheckpointConfig();
+        checkpointConfig.setStorage(new CheckpointStorageConfig());
+        return new CheckpointCoordinator(
+                null,
+                storage,
+                checkpointConfig,
+                jobId,
+                CheckpointPlan.builder().pipelineId(1).build(),
+                null,
+                null,
+                instance.getExecutorService("test"),
+                nodeEngine.getHazelcastInstance().getMap(IMAP_RUNNING_JOB_STATE),
+                false);
+    }
+
+    private static CompletedCheckpoint completedCheckpoint(long jobId, long checkpointId) {
+        return new CompletedCheckpoint(
+                jobId,
+                1,
+                checkpointId,
+                System.currentTimeMillis(),
+                CheckpointType.CHECKPOINT_TYPE,
+                System.currentTimeMillis(),
+                new HashMap<>(),
+                new HashMap<>());
+    }
+
+    /** Blocks the first upload until released, and optionally fails every upload. */
+    private static class TestingCheckpointStorage implements CheckpointStorage {
+
+        private final List<Long> storedCheckpointIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch releaseUpload = new CountDownLatch(1);
+        private volatile CountDownLatch uploadStarted = new CountDownLatch(1);
+        private volatile CheckpointStorageException failure;
+        private final AtomicInteger concurrentUploads = new AtomicInteger();
+        private final AtomicInteger maxConcurrentUploads = new AtomicInteger();
+
+        @Override
+        public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
+            maxConcurrentUploads.accumulateAndGet(concurrentUploads.incrementAndGet(), Math::max);
+            try {
+                uploadStarted.countDown();
+                releaseUpload.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CheckpointStorageException("interrupted", e);
+            } finally {
+                concurrentUploads.decrementAndGet();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            storedCheckpointIds.add(state.getCheckpointId());
+            return String.valueOf(state.getCheckpointId());
+        }
+
+        @Override
+        public void asyncStoreCheckPoint(PipelineState state) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<PipelineState> getAllCheckpoints(String jobId) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<PipelineState> getLatestCheckpoint(String jobId) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public PipelineState getLatestCheckpointByJobIdAndPipelineId(
+                String jobId, String pipelineId) {
+            return null;
+        }
+
+        @Override
+        public List<PipelineState> getCheckpointsByJobIdAndPipelineId(
+                String jobId, String pipelineId) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void deleteCheckpoint(String jobId) {}
+
+        @Override
+        public PipelineState getCheckpoint(String jobId, String pipelineId, String checkpointId) {
+            return null;
+        }
+
+        @Override
+        public void deleteCheckpoint(String jobId, String pipelineId, String checkpointId) {}
+
+        @Override
+        public void deleteCheckpoint(
+                String jobId, String pipelineId, List<String> checkpointIdList) {}
+    }
 }
@@ -24,9 +24,11 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.common.JobContext;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.sink.SupportKeyedInput;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
 import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
@@ -41,6 +43,8 @@ import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleKeyHashStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
 import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
 import org.apache.seatunnel.engine.core.dag.logical.LogicalDag;
@@ -49,6 +53,10 @@ import org.apache.seatunnel.engine.core.dag.logical.LogicalVertex;
 import org.apache.seatunnel.engine.core.job.JobImmutableInformation;
 import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.TestUtils;
+import org.apache.seatunnel.engine.server.dag.execution.ExecutionPlan;
+import org.apache.seatunnel.engine.server.dag.execution.ExecutionPlanGenerator;
+import org.apache.seatunnel.engine.server.dag.execution.ExecutionVertex;
+import org.apache.seatunnel.engine.server.dag.execution.Pipeline;
 import org.apache.seatunnel.engine.server.dag.physical.PhysicalPlan;
 import org.apache.seatunnel.engine.server.dag.physical.PlanUtils;
 
@@ -62,7 +70,9 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executors;
 
 public class TaskTest extends AbstractSeaTunnelServerTest {
@@ -216,6 +226,99 @@ public class TaskTest extends AbstractSeaTunnelServerTest {
                 Sets.newHashSet(new URL("file:///console.jar")));
     }
 
+    @Test
+    public void testKeyedSinksOnOneSourceUseSeparateShuffles() throws MalformedURLException {
+        IdGenerator idGenerator = new IdGenerator();
+
+        Action fake =
+                new SourceAction<>(
+                        idGenerator.getNextId(),
+                        "fake",
+                        createFakeSource(),
+                        Sets.newHashSet(new URL("file:///fake.jar")),
+                        Collections.emptySet());
+        LogicalVertex fakeVertex = new LogicalVertex(fake.getId(), fake, 2);
+
+        List<Column> columns = new ArrayList<>();
+        columns.add(PhysicalColumn.of("id", BasicType.INT_TYPE, 11L, 0, false, 111, ""));
+        CatalogTable catalogTable =
+                CatalogTable.of(
+                        TableIdentifier.of("default", TablePath.DEFAULT),
+                        TableSchema.builder()
+                                .columns(columns)
+                                .primaryKey(PrimaryKey.of("pk", Collections.singletonList("id")))
+                                .build(),
+                        new HashMap<>(),
+                        Collections.emptyList(),
+                        "fake");
+
+        LogicalDag logicalDag = new LogicalDag();
+        logicalDag.addLogicalVertex(fakeVertex);
+        for (int i = 0; i < 2; i++) {
+            Action keyed =
+                    new SinkAction<>(
+                            idGenerator.getNextId(),
+                            "keyed-" + i,
+                            new KeyedConsoleSink(catalogTable),
+                            Sets.newHashSet(new URL("file:///console.jar")),
+                            Collections.emptySet());
+            LogicalVertex keyedVertex = new LogicalVertex(keyed.getId(), keyed, 2);
+            logicalDag.addLogicalVertex(keyedVertex);
+            logicalDag.addEdge(new LogicalEdge(fakeVertex, keyedVertex));
+        }
+
+        JobConfig config = new JobConfig();
+        config.setName("test");
+        JobImmutableInformation jobImmutableInformation =
+                new JobImmutableInformation(
+                        1,
+                        "Test",
+                        nodeEngine.getSerializationService().toData(logicalDag),
+                        config,
+                        Collections.emptyList(),
+                        Collections.emptyList());
+
+        ExecutionPlan executionPlan =
+                new ExecutionPlanGenerator(logicalDag, jobImmutableInformation, new EngineConfig())
+                        .generate();
+        Assertions.assertEquals(1, executionPlan.getPipelines().size());
+        Pipeline pipeline = executionPlan.getPipelines().get(0);
+
+        List<ShuffleKeyHashStrategy> strategies = new ArrayList<>();
+        for (ExecutionVertex vertex : pipeline.getVertexes().values()) {
+            if (vertex.getAction() instanceof ShuffleAction) {
+                strategies.add(
+                        (ShuffleKeyHashStrategy)
+                                ((ShuffleAction) vertex.getAction())
+                                        .getConfig()
+                                        .getShuffleStrategy());
+            }
+        }
+        Assertions.assertEquals(2, strategies.size());
+
+        Set<String> names = new HashSet<>();
+        for (ShuffleKeyHashStrategy strategy : strategies) {
+            for (int inputIndex = 0; inputIndex < 2; inputIndex++) {
+                for (String name : strategy.createShuffleNames(pipeline.getId(), inputIndex)) {
+                    Assertions.assertTrue(names.add(name), "Shared shuffle channel " + name);
+                }
+            }
+        }
+        Assertions.assertEquals(8, names.size());
+    }
+
+    private static class KeyedConsoleSink extends ConsoleSink implements SupportKeyedInput {
+
+        KeyedConsoleSink(CatalogTable catalogTable) {
+            super(catalogTable, ReadonlyConfig.fromMap(new HashMap<>()));
+        }
+
+        @Override
+        public boolean requiresKeyedInput() {
+            return true;
+        }
+    }
+
     private static FakeSource createFakeSource() {
         Config fakeSourceConfig =
                 ConfigFactory.parseMap(
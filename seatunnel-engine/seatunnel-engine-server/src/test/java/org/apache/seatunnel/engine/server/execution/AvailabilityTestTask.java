@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** For test use, never makes progress until it is stopped and made available */
+public class AvailabilityTestTask implements Task {
+
+    private final AtomicBoolean stop;
+    private final boolean isThreadsShare;
+    private final long taskId;
+    private final AtomicInteger callCount = new AtomicInteger();
+    private volatile CompletableFuture<Void> availableFuture = new CompletableFuture<>();
+
+    public AvailabilityTestTask(AtomicBoolean stop, boolean isThreadsShare) {
+        this.stop = stop;
+        this.isThreadsShare = isThreadsShare;
+        this.taskId = new Random().nextInt();
+    }
+
+    @NonNull @Override
+    public ProgressState call() {
+        callCount.incrementAndGet();
+        if (stop.get()) {
+            return ProgressState.DONE;
+        }
+        if (availableFuture.isDone()) {
+            availableFuture = new CompletableFuture<>();
+        }
+        return ProgressState.NO_PROGRESS;
+    }
+
+    @Override
+    public CompletableFuture<Void> getAvailableFuture() {
+        return availableFuture;
+    }
+
+    public void makeAvailable() {
+        availableFuture.complete(null);
+    }
+
+    public int getCallCount() {
+        return callCount.get();
+    }
+
+    @NonNull @Override
+    public Long getTaskID() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isThreadsShare() {
+        return isThreadsShare;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.master;
+
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.map.IMap;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class RunningMetricsImapTest extends AbstractSeaTunnelServerTest<RunningMetricsImapTest> {
+
+    @Test
+    public void testRemovePipelineMetrics() {
+        IMap<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+                instance.getMap(Constant.IMAP_RUNNING_JOB_METRICS);
+        Map<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> localMap =
+                new HashMap<>();
+        for (long jobId = 1; jobId <= 2; jobId++) {
+            for (int pipelineId = 1; pipelineId <= 2; pipelineId++) {
+                for (long taskGroupId = 1; taskGroupId <= 3; taskGroupId++) {
+                    TaskGroupLocation taskGroupLocation =
+                            new TaskGroupLocation(jobId, pipelineId, taskGroupId);
+                    HashMap<TaskLocation, SeaTunnelMetricsContext> taskGroupMetrics =
+                            new HashMap<>();
+                    for (int index = 0; index < 2; index++) {
+                        taskGroupMetrics.put(
+                                new TaskLocation(taskGroupLocation, 1000L, index),
+                                new SeaTunnelMetricsContext());
+                    }
+                    localMap.put(taskGroupLocation, taskGroupMetrics);
+                }
+            }
+        }
+        metricsImap.setAll(localMap);
+        Assertions.assertEquals(12, metricsImap.size());
+
+        TaskLocation taskLocation = new TaskLocation(new TaskGroupLocation(2L, 1, 3L), 1000L, 1);
+        Assertions.assertNotNull(
+                metricsImap.get(taskLocation.getTaskGroupLocation()).get(taskLocation));
+
+        metricsImap.removeAll(JobMaster.pipelineMetricsPredicate(new PipelineLocation(1L, 2)));
+
+        Assertions.assertEquals(9, metricsImap.size());
+        Assertions.assertEquals(
+                new HashSet<>(metricsImap.keySet()),
+                localMap.keySet().stream()
+                        .filter(
+                                location ->
+                                        location.getJobId() != 1L || location.getPipelineId() != 2)
+                        .collect(Collectors.toSet()));
+        metricsImap.clear();
+    }
+}
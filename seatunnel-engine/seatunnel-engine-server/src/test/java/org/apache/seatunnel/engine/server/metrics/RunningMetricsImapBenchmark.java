@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.engine.common.config.ConfigProvider;
+import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
+import org.apache.seatunnel.engine.common.runtime.ExecutionMode;
+import org.apache.seatunnel.engine.server.SeaTunnelServerStarter;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.map.IMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates N jobs with M task groups each reporting their metrics to the running metrics IMap.
+ * Compares the former single entry guarded by a lock, which is read and rewritten as a whole by
+ * every report, with the entries keyed by task group. One operation is a reporting round of all the
+ * jobs. Run it with {@link #main(String[])} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunningMetricsImapBenchmark {
+
+    private static final String METRICS_KEY = "metrics";
+
+    private static final int TASKS_PER_GROUP = 2;
+
+    @Param({"10", "100"})
+    public int jobs;
+
+    @Param({"4", "32"})
+    public int taskGroups;
+
+    private HazelcastInstanceImpl instance;
+    private IMap<String, HashMap<TaskLocation, SeaTunnelMetricsContext>> globalMetricsImap;
+    private IMap<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
+    private List<Map<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>>> jobReports;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SeaTunnelConfig seaTunnelConfig = ConfigProvider.locateAndGetSeaTunnelConfig();
+        seaTunnelConfig.getEngineConfig().setMode(ExecutionMode.LOCAL);
+        instance = SeaTunnelServerStarter.createHazelcastInstance(seaTunnelConfig);
+        globalMetricsImap = instance.getMap("benchmark_globalMetrics");
+        metricsImap = instance.getMap("benchmark_taskGroupMetrics");
+        jobReports = new ArrayList<>(jobs);
+        for (long jobId = 0; jobId < jobs; jobId++) {
+            Map<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> jobReport =
+                    new HashMap<>();
+            for (long taskGroupId = 0; taskGroupId < taskGroups; taskGroupId++) {
+                TaskGroupLocation taskGroupLocation = new TaskGroupLocation(jobId, 1, taskGroupId);
+                HashMap<TaskLocation, SeaTunnelMetricsContext> taskGroupMetrics = new HashMap<>();
+                for (int index = 0; index < TASKS_PER_GROUP; index++) {
+                    SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+                    metricsContext.counter(MetricNames.SOURCE_RECEIVED_COUNT).inc(jobId);
+                    metricsContext.meter(MetricNames.SOURCE_RECEIVED_QPS).markEvent(jobId);
+                    taskGroupMetrics.put(
+                            new TaskLocation(taskGroupLocation, taskGroupId, index),
+                            metricsContext);
+                }
+                jobReport.put(taskGroupLocation, taskGroupMetrics);
+            }
+            jobReports.add(jobReport);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public void globalEntryWithLock() throws InterruptedException {
+        for (Map<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> jobReport :
+                jobReports) {
+            if (!globalMetricsImap.tryLock(METRICS_KEY, 5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("lock imap failed in update metrics");
+            }
+            try {
+                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
+                        globalMetricsImap.get(METRICS_KEY);
+                if (centralMap == null) {
+                    centralMap = new HashMap<>();
+                }
+                for (HashMap<TaskLocation, SeaTunnelMetricsContext> taskGroupMetrics :
+                        jobReport.values()) {
+                    centralMap.putAll(taskGroupMetrics);
+                }
+                globalMetricsImap.put(METRICS_KEY, centralMap);
+            } finally {
+                globalMetricsImap.unlock(METRICS_KEY);
+            }
+        }
+    }
+
+    @Benchmark
+    public void entryPerTaskGroup() {
+        for (Map<TaskGroupLocation, HashMap<TaskLocation, SeaTunnelMetricsContext>> jobReport :
+                jobReports) {
+            metricsImap.setAll(jobReport);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(RunningMetricsImapBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
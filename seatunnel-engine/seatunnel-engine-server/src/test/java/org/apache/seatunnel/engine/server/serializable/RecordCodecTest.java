@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+public class RecordCodecTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_string", "c_boolean", "c_tinyint", "c_smallint", "c_int", "c_bigint",
+                        "c_float", "c_double", "c_decimal", "c_bytes", "c_date", "c_time",
+                        "c_timestamp", "c_array", "c_row"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(20, 4),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.INT_ARRAY_TYPE,
+                        NESTED_TYPE
+                    });
+
+    private static InternalSerializationService serializationService;
+
+    @BeforeAll
+    public static void setUp() {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig.addSerializerConfig(
+                new SerializerConfig()
+                        .setTypeClass(Record.class)
+                        .setImplementation(new RecordSerializer()));
+        serializationService =
+                new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+    }
+
+    @Test
+    public void testRowRoundTrip() throws IOException {
+        RecordCodec codec = createCodec();
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            "seatunnel",
+                            true,
+                            (byte) 1,
+                            (short) -2,
+                            Integer.MIN_VALUE,
+                            Long.MAX_VALUE,
+                            1.5f,
+                            -2.25d,
+                            new BigDecimal("-12345.6789"),
+                            new byte[] {1, 2, 3},
+                            LocalDate.of(1965, 3, 1),
+                            LocalTime.of(23, 59, 59, 999_999_999),
+                            LocalDateTime.of(2024, 2, 29, 12, 30, 1, 123_000),
+                            new Integer[] {1, null, 3},
+                            new SeaTunnelRow(new Object[] {7, null})
+                        });
+        row.setTableId("db.table1");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        SeaTunnelRow result = (SeaTunnelRow) roundTrip(codec, new Record<>(row)).getData();
+        Assertions.assertEquals("db.table1", result.getTableId());
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, result.getRowKind());
+        Assertions.assertEquals(row.getArity(), result.getArity());
+        for (int i = 0; i < row.getArity(); i++) {
+            Assertions.assertTrue(
+                    Objects.deepEquals(row.getField(i), result.getField(i)), "field " + i);
+        }
+    }
+
+    @Test
+    public void testNullFieldsAndWideRow() throws IOException {
+        int arity = 200;
+        String[] names = new String[arity];
+        SeaTunnelDataType<?>[] types = new SeaTunnelDataType[arity];
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            names[i] = "f" + i;
+            types[i] = BasicType.LONG_TYPE;
+            fields[i] = i % 3 == 0 ? null : (long) i;
+        }
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        rowTypes.put("wide", new SeaTunnelRowType(names, types));
+        RecordCodec codec = new RecordCodec(rowTypes);
+
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId("wide");
+        SeaTunnelRow result = (SeaTunnelRow) roundTrip(codec, new Record<>(row)).getData();
+        Assertions.assertEquals(row, result);
+
+        Record<?> serialized = roundTrip(new Record<>(row));
+        Assertions.assertEquals(row, serialized.getData());
+    }
+
+    @Test
+    public void testReadPreviousRowLayout() throws IOException {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, "a", null});
+        row.setTableId("db.table0");
+        row.setRowKind(RowKind.DELETE);
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        out.writeByte(RecordSerializer.RecordDataType.SEATUNNEL_ROW.ordinal());
+        out.writeString(row.getTableId());
+        out.writeByte(row.getRowKind().toByteValue());
+        out.writeByte(row.getArity());
+        for (Object field : row.getFields()) {
+            out.writeObject(field);
+        }
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+
+        SeaTunnelRow result = (SeaTunnelRow) new RecordSerializer().read(in).getData();
+        Assertions.assertEquals(row, result);
+        Assertions.assertEquals("db.table0", result.getTableId());
+        Assertions.assertEquals(RowKind.DELETE, result.getRowKind());
+    }
+
+    @Test
+    public void testUnknownTableAndMismatchedArity() throws IOException {
+        RecordCodec codec = createCodec();
+
+        SeaTunnelRow unknown = new SeaTunnelRow(new Object[] {1, "a"});
+        unknown.setTableId("db.unknown");
+        Assertions.assertEquals(unknown, roundTrip(codec, new Record<>(unknown)).getData());
+
+        SeaTunnelRow withoutTableId = new SeaTunnelRow(new Object[] {1L});
+        Assertions.assertEquals(
+                withoutTableId, roundTrip(codec, new Record<>(withoutTableId)).getData());
+
+        SeaTunnelRow mismatched = new SeaTunnelRow(new Object[] {"only one field"});
+        mismatched.setTableId("db.table1");
+        Assertions.assertEquals(mismatched, roundTrip(codec, new Record<>(mismatched)).getData());
+    }
+
+    @Test
+    public void testValueOfAnotherClassThanItsColumn() throws IOException {
+        RecordCodec codec = createCodec();
+
+        // a Long in the INT column, e.g. after a type change that keeps the arity
+        SeaTunnelRow widened = new SeaTunnelRow(new Object[] {7L, "a"});
+        widened.setTableId("db.table0");
+        SeaTunnelRow result = (SeaTunnelRow) roundTrip(codec, new Record<>(widened)).getData();
+        Assertions.assertEquals(widened, result);
+        Assertions.assertEquals(Long.class, result.getField(0).getClass());
+
+        // the check applies to nested rows too
+        Object[] fields = new Object[ROW_TYPE.getTotalFields()];
+        fields[4] = 1;
+        fields[14] = new SeaTunnelRow(new Object[] {2, 3});
+        SeaTunnelRow nested = new SeaTunnelRow(fields);
+        nested.setTableId("db.table1");
+        Assertions.assertEquals(nested, roundTrip(codec, new Record<>(nested)).getData());
+    }
+
+    @Test
+    public void testBarrierRoundTrip() throws IOException {
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        3L,
+                        System.currentTimeMillis(),
+                        CheckpointType.CHECKPOINT_TYPE,
+                        Collections.emptySet(),
+                        Collections.emptySet());
+        CheckpointBarrier result =
+                (CheckpointBarrier) roundTrip(createCodec(), new Record<>(barrier)).getData();
+        Assertions.assertEquals(barrier.getId(), result.getId());
+        Assertions.assertEquals(barrier.getTimestamp(), result.getTimestamp());
+        Assertions.assertEquals(barrier.getCheckpointType(), result.getCheckpointType());
+    }
+
+    private static RecordCodec createCodec() {
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        rowTypes.put("db.table0", NESTED_TYPE);
+        rowTypes.put("db.table1", ROW_TYPE);
+        return new RecordCodec(rowTypes);
+    }
+
+    private static Record<?> roundTrip(RecordCodec codec, Record<?> record) throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        codec.write(out, record);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        return codec.read(in);
+    }
+
+    private static Record<?> roundTrip(Record<?> record) throws IOException {
+        RecordSerializer serializer = new RecordSerializer();
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        serializer.write(out, record);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        return serializer.read(in);
+    }
+}
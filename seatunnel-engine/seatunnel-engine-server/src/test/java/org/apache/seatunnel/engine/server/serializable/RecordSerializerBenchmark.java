@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RecordSerializer} with the schema aware {@link RecordCodec} on narrow and wide
+ * rows. Run it with {@link #main(String[])} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializerBenchmark {
+
+    private static final String TABLE_ID = "db.benchmark_table";
+
+    @Param({"5", "200"})
+    private int columns;
+
+    private InternalSerializationService serializationService;
+    private RecordSerializer serializer;
+    private RecordCodec codec;
+    private Record<?> record;
+    private byte[] serializerBytes;
+    private byte[] codecBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig.addSerializerConfig(
+                new SerializerConfig()
+                        .setTypeClass(Record.class)
+                        .setImplementation(new RecordSerializer()));
+        serializationService =
+                new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+        serializer = new RecordSerializer();
+
+        String[] names = new String[columns];
+        SeaTunnelDataType<?>[] types = new SeaTunnelDataType[columns];
+        Object[] fields = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            names[i] = "c" + i;
+            switch (i % 5) {
+                case 0:
+                    types[i] = BasicType.LONG_TYPE;
+                    fields[i] = 1_000_000L + i;
+                    break;
+                case 1:
+                    types[i] = BasicType.STRING_TYPE;
+                    fields[i] = "value_of_column_" + i;
+                    break;
+                case 2:
+                    types[i] = BasicType.DOUBLE_TYPE;
+                    fields[i] = i * 1.25d;
+                    break;
+                case 3:
+                    types[i] = new DecimalType(18, 2);
+                    fields[i] = new BigDecimal("12345.67");
+                    break;
+                default:
+                    types[i] =
+                            i % 2 == 0
+                                    ? LocalTimeType.LOCAL_DATE_TYPE
+                                    : LocalTimeType.LOCAL_DATE_TIME_TYPE;
+                    fields[i] =
+                            i % 2 == 0
+                                    ? LocalDate.of(2024, 1, 1)
+                                    : LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+            }
+        }
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        rowTypes.put(TABLE_ID, new SeaTunnelRowType(names, types));
+        codec = new RecordCodec(rowTypes);
+
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(TABLE_ID);
+        record = new Record<>(row);
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        serializer.write(out, record);
+        serializerBytes = out.toByteArray();
+        out = serializationService.createObjectDataOutput();
+        codec.write(out, record);
+        codecBytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] serializerWrite() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        serializer.write(out, record);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] codecWrite() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        codec.write(out, record);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Record<?> serializerRead() throws IOException {
+        return serializer.read(serializationService.createObjectDataInput(serializerBytes));
+    }
+
+    @Benchmark
+    public Record<?> codecRead() throws IOException {
+        return codec.read(serializationService.createObjectDataInput(codecBytes));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(RecordSerializerBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.shuffle;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.common.config.server.ShuffleServiceConfig;
+import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.serializable.RecordCodec;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.nCopies;
+
+public class TcpShuffleServiceTest {
+
+    private static final String TABLE_ID = "db.table";
+    private static final String CHANNEL = "ShufflePartition-Queue_1_1_0_0";
+    private static final int MAX_FRAME_SIZE = 256;
+
+    private final ConcurrentMap<String, String> endpoints = new ConcurrentHashMap<>();
+    private TcpShuffleService producerService;
+    private TcpShuffleService consumerService;
+    private RecordCodec codec;
+
+    @BeforeEach
+    public void setUp() {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig.addSerializerConfig(
+                new SerializerConfig()
+                        .setTypeClass(Record.class)
+                        .setImplementation(new RecordSerializer()));
+        InternalSerializationService serializationService =
+                new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+
+        ShuffleServiceConfig config = new ShuffleServiceConfig();
+        config.setPort(15901);
+        config.setChannelCredits(8);
+        config.setConnectTimeout(10000);
+        // small frames, so that batches are split into several frames
+        config.setMaxFrameSize(MAX_FRAME_SIZE);
+        producerService =
+                new TcpShuffleService(config, serializationService, endpoints, "127.0.0.1");
+        consumerService =
+                new TcpShuffleService(config, serializationService, endpoints, "127.0.0.1");
+
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        rowTypes.put(
+                TABLE_ID,
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE}));
+        codec = new RecordCodec(rowTypes);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        producerService.close();
+        consumerService.close();
+    }
+
+    @Test
+    public void testRecordsAndBarriersKeepOrder() throws Exception {
+        ShuffleChannelWriter writer = producerService.createWriter(CHANNEL, codec);
+        ShuffleChannelReader reader = consumerService.createReader(CHANNEL, codec);
+        Assertions.assertTrue(endpoints.get(CHANNEL).endsWith("@" + consumerService.getEndpoint()));
+
+        int rowCount = 1000;
+        AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                Queue<Record<?>> batch = new LinkedList<>();
+                                for (long i = 0; i < rowCount; i++) {
+                                    batch.add(new Record<>(row(i)));
+                                    if (batch.size() == 50) {
+                                        writer.writeBatch(batch);
+                                    }
+                                }
+                                writer.writeBatch(batch);
+                                writer.write(
+                                        new Record<>(
+                                                new CheckpointBarrier(
+                                                        1L,
+                                                        System.currentTimeMillis(),
+                                                        CheckpointType.CHECKPOINT_TYPE)));
+                            } catch (Throwable e) {
+                                writerFailure.set(e);
+                            }
+                        });
+        producer.start();
+
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < rowCount + 1) {
+            if (reader.size() == 0) {
+                Thread.sleep(1);
+                continue;
+            }
+            reader.drainTo(received, 16);
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertNull(writerFailure.get());
+
+        for (int i = 0; i < rowCount; i++) {
+            SeaTunnelRow row = (SeaTunnelRow) received.get(i).getData();
+            Assertions.assertEquals(TABLE_ID, row.getTableId());
+            Assertions.assertEquals((long) i, row.getField(0));
+        }
+        Assertions.assertTrue(received.get(rowCount).getData() instanceof CheckpointBarrier);
+
+        writer.close();
+        reader.close();
+        Assertions.assertFalse(endpoints.containsKey(CHANNEL));
+    }
+
+    @Test
+    public void testProducerIsBlockedWithoutCredits() throws Exception {
+        ShuffleChannelWriter writer = producerService.createWriter(CHANNEL, codec);
+        ShuffleChannelReader reader = consumerService.createReader(CHANNEL, codec);
+
+        AtomicInteger written = new AtomicInteger();
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                for (long i = 0; i < 20; i++) {
+                                    writer.write(new Record<>(row(i)));
+                                    written.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                // the channel is closed at the end of the test
+                            }
+                        });
+        producer.setDaemon(true);
+        producer.start();
+
+        // only the initial credits may be sent before the consumer takes anything
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> reader.size() == 8);
+        Thread.sleep(200);
+        Assertions.assertEquals(8, written.get());
+        Assertions.assertEquals(8, reader.size());
+
+        for (int i = 0; i < 20; i++) {
+            Record<?> record = reader.take();
+            Assertions.assertEquals((long) i, ((SeaTunnelRow) record.getData()).getField(0));
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        Assertions.assertEquals(20, written.get());
+
+        writer.close();
+        reader.close();
+    }
+
+    @Test
+    public void testRejectWrongToken() throws Exception {
+        ShuffleChannelReader reader = consumerService.createReader(CHANNEL, codec);
+        try (Socket socket = connect()) {
+            DataOutputStream out = hello(socket, "wrong-token");
+            out.flush();
+            // the consumer closes the connection instead of granting credits
+            Assertions.assertEquals(-1, socket.getInputStream().read());
+        }
+        Assertions.assertEquals(0, reader.size());
+        reader.close();
+    }
+
+    @Test
+    public void testFailReaderOnOversizedFrame() throws Exception {
+        ShuffleChannelReader reader = consumerService.createReader(CHANNEL, codec);
+        try (Socket socket = connect()) {
+            DataOutputStream out = hello(socket, token());
+            out.flush();
+            Assertions.assertEquals(TcpShuffleService.FRAME_CREDIT, socket.getInputStream().read());
+            out.writeByte(TcpShuffleService.FRAME_DATA);
+            out.writeInt(Integer.MAX_VALUE);
+            out.flush();
+            assertReaderFails(reader);
+        }
+        reader.close();
+    }
+
+    @Test
+    public void testFailReaderOnBrokenConnection() throws Exception {
+        ShuffleChannelReader reader = consumerService.createReader(CHANNEL, codec);
+        try (Socket socket = connect()) {
+            DataOutputStream out = hello(socket, token());
+            out.flush();
+            Assertions.assertEquals(TcpShuffleService.FRAME_CREDIT, socket.getInputStream().read());
+        }
+        // the producer is gone without closing the channel
+        assertReaderFails(reader);
+        reader.close();
+    }
+
+    @Test
+    public void testRejectRecordLargerThanFrame() throws Exception {
+        ShuffleChannelWriter writer = producerService.createWriter(CHANNEL, codec);
+        ShuffleChannelReader reader = consumerService.createReader(CHANNEL, codec);
+        SeaTunnelRow row =
+                new SeaTunnelRow(new Object[] {1L, String.join("", nCopies(MAX_FRAME_SIZE, "x"))});
+        row.setTableId(TABLE_ID);
+        IOException exception =
+                Assertions.assertThrows(IOException.class, () -> writer.write(new Record<>(row)));
+        Assertions.assertTrue(exception.getMessage().contains("maximum frame size"));
+        writer.close();
+        reader.close();
+    }
+
+    private Socket connect() throws IOException {
+        String endpoint = consumerService.getEndpoint();
+        int separator = endpoint.lastIndexOf(':');
+        return new Socket(
+                endpoint.substring(0, separator),
+                Integer.parseInt(endpoint.substring(separator + 1)));
+    }
+
+    private String token() {
+        String endpoint = endpoints.get(CHANNEL);
+        return endpoint.substring(0, endpoint.indexOf('@'));
+    }
+
+    private static DataOutputStream hello(Socket socket, String token) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeByte(TcpShuffleService.FRAME_HELLO);
+        out.writeUTF(CHANNEL);
+        out.writeUTF(token);
+        return out;
+    }
+
+    private static void assertReaderFails(ShuffleChannelReader reader) {
+        Awaitility.await()
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () ->
+                                Assertions.assertThrows(
+                                        SeaTunnelEngineException.class, reader::take));
+    }
+
+    private static SeaTunnelRow row(long id) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, "name_" + id});
+        row.setTableId(TABLE_ID);
+        return row;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link SeaTunnelSourceCollector} for a single table and a multi table
+ * source, collecting the rows one by one and as a batch. Run it with {@link #main(String[])} from
+ * the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeaTunnelSourceCollectorBenchmark {
+
+    private static final int BATCH_SIZE = 1024;
+
+    @Param({"1", "10"})
+    private int tables;
+
+    private SeaTunnelSourceCollector<SeaTunnelRow> collector;
+    private Object[][] fields;
+    private String[] tableIds;
+    private long received;
+
+    @Setup
+    public void setUp() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "score"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE, BasicType.STRING_TYPE, BasicType.DOUBLE_TYPE
+                        });
+        Map<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        List<TablePath> tablePaths = new ArrayList<>();
+        for (int i = 0; i < tables; i++) {
+            TablePath tablePath = TablePath.of("db", "table_" + i);
+            rowTypes.put(tablePath.toString(), rowType);
+            tablePaths.add(tablePath);
+        }
+
+        OneInputFlowLifeCycle<Record<?>> output = record -> received++;
+        collector =
+                new SeaTunnelSourceCollector<>(
+                        new Object(),
+                        Collections.singletonList(output),
+                        new SeaTunnelMetricsContext(),
+                        FlowControlStrategy.fromMap(null),
+                        tables == 1 ? rowType : new MultipleRowType(rowTypes),
+                        tablePaths);
+
+        fields = new Object[BATCH_SIZE][];
+        tableIds = new String[BATCH_SIZE];
+        List<String> ids = new ArrayList<>(rowTypes.keySet());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            fields[i] = new Object[] {(long) i, "name_" + i, i * 1.5d};
+            tableIds[i] = ids.get(i % ids.size());
+        }
+    }
+
+    /** The size of a row is cached in the row, so every invocation collects new rows. */
+    private List<SeaTunnelRow> newRows() {
+        List<SeaTunnelRow> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(fields[i]);
+            row.setTableId(tableIds[i]);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long collectRowByRow() {
+        for (SeaTunnelRow row : newRows()) {
+            collector.collect(row);
+        }
+        return received;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long collectBatch() {
+        collector.collectBatch(newRows());
+        return received;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(SeaTunnelSourceCollectorBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.MultipleRowType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+
+public class SeaTunnelSourceCollectorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testCollectBatchKeepsOrderAndUpdatesMetrics() {
+        TablePath table1 = TablePath.of("db", "table1");
+        TablePath table2 = TablePath.of("db", "table2");
+        Map<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        rowTypes.put(table1.toString(), ROW_TYPE);
+        rowTypes.put(table2.toString(), ROW_TYPE);
+
+        List<Record<?>> received = new ArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> output = received::add;
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        new Object(),
+                        Collections.singletonList(output),
+                        metricsContext,
+                        FlowControlStrategy.fromMap(null),
+                        new MultipleRowType(rowTypes),
+                        Arrays.asList(table1, table2));
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, "name"});
+            row.setTableId(i % 2 == 0 ? table1.toString() : table2.toString());
+            rows.add(row);
+        }
+        collector.resetEmptyThisPollNext();
+        collector.collectBatch(rows);
+        collector.collect(rows.get(0));
+
+        Assertions.assertFalse(collector.isEmptyThisPollNext());
+        Assertions.assertEquals(6, received.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertSame(rows.get(i), received.get(i).getData());
+        }
+
+        long rowSize = rows.get(0).getBytesSize(ROW_TYPE);
+        Assertions.assertEquals(6, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(
+                4,
+                metricsContext
+                        .counter(SOURCE_RECEIVED_COUNT + "#" + table1.getFullName())
+                        .getCount());
+        Assertions.assertEquals(
+                2,
+                metricsContext
+                        .counter(SOURCE_RECEIVED_COUNT + "#" + table2.getFullName())
+                        .getCount());
+        Assertions.assertEquals(
+                4 * rowSize,
+                metricsContext
+                        .counter(SOURCE_RECEIVED_BYTES + "#" + table1.getFullName())
+                        .getCount());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelBatchMapTransform;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TransformFlowLifeCycleTest {
+
+    @Test
+    public void testBatchMapTransformBuffersRows() {
+        BatchTransform transform = new BatchTransform(3, Long.MAX_VALUE);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<SeaTunnelRow> flowLifeCycle = createFlowLifeCycle(transform, output);
+
+        for (int i = 0; i < 4; i++) {
+            flowLifeCycle.received(new Record<>(new SeaTunnelRow(new Object[] {i})));
+        }
+        // the rows of a full batch are emitted, the last one waits for its batch
+        Assertions.assertEquals(Collections.singletonList(3), transform.batchSizes);
+        Assertions.assertEquals(Arrays.asList(0, 2), rowValues(output));
+
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1L,
+                        System.currentTimeMillis(),
+                        CheckpointType.CHECKPOINT_TYPE,
+                        Collections.emptySet(),
+                        Collections.emptySet());
+        flowLifeCycle.received(new Record<>(barrier));
+
+        // the buffered rows are emitted before the barrier
+        Assertions.assertEquals(Arrays.asList(0, 2), rowValues(output.subList(0, 2)));
+        Assertions.assertEquals(barrier, output.get(2));
+    }
+
+    @Test
+    public void testBatchMapTransformTimeout() {
+        BatchTransform transform = new BatchTransform(100, 0);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<SeaTunnelRow> flowLifeCycle = createFlowLifeCycle(transform, output);
+
+        flowLifeCycle.received(new Record<>(new SeaTunnelRow(new Object[] {1})));
+        flowLifeCycle.received(new Record<>(new SeaTunnelRow(new Object[] {2})));
+
+        Assertions.assertEquals(Arrays.asList(1, 1), transform.batchSizes);
+        Assertions.assertEquals(Collections.singletonList(2), rowValues(output));
+    }
+
+    @Test
+    public void testBatchMapTransformFlushesWhenRowsStopArriving() throws Exception {
+        BatchTransform transform = new BatchTransform(100, 50);
+        List<Object> output = Collections.synchronizedList(new ArrayList<>());
+        TransformFlowLifeCycle<SeaTunnelRow> flowLifeCycle = createFlowLifeCycle(transform, output);
+
+        flowLifeCycle.received(new Record<>(new SeaTunnelRow(new Object[] {0})));
+        flowLifeCycle.received(new Record<>(new SeaTunnelRow(new Object[] {2})));
+        long receivedTime = System.currentTimeMillis();
+
+        // no more row arrives, only the task thread ticks
+        flowLifeCycle.onProcessingTime(receivedTime);
+        Assertions.assertTrue(output.isEmpty());
+
+        Thread taskThread =
+                new Thread(() -> flowLifeCycle.onProcessingTime(System.currentTimeMillis() + 50));
+        taskThread.start();
+        taskThread.join();
+
+        Assertions.assertEquals(Collections.singletonList(2), transform.batchSizes);
+        Assertions.assertEquals(Arrays.asList(0, 2), rowValues(output));
+
+        // nothing is pending anymore
+        flowLifeCycle.onProcessingTime(System.currentTimeMillis() + 100);
+        Assertions.assertEquals(Collections.singletonList(2), transform.batchSizes);
+    }
+
+    private static TransformFlowLifeCycle<SeaTunnelRow> createFlowLifeCycle(
+            SeaTunnelTransform<SeaTunnelRow> transform, List<Object> output) {
+        TransformChainAction<SeaTunnelRow> action =
+                new TransformChainAction<>(
+                        1L,
+                        "transform",
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        Collections.singletonList(transform));
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        output.add(record.getData());
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        return new TransformFlowLifeCycle<>(
+                action, Mockito.mock(SeaTunnelTask.class), collector, new CompletableFuture<>());
+    }
+
+    private static List<Object> rowValues(List<Object> output) {
+        return output.stream()
+                .map(data -> ((SeaTunnelRow) data).getField(0))
+                .collect(Collectors.toList());
+    }
+
+    /** Filters the odd rows and records the size of every batch. */
+    private static class BatchTransform implements SeaTunnelBatchMapTransform<SeaTunnelRow> {
+
+        private final int batchSize;
+        private final long batchTimeoutMillis;
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        BatchTransform(int batchSize, long batchTimeoutMillis) {
+            this.batchSize = batchSize;
+            this.batchTimeoutMillis = batchTimeoutMillis;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public long getBatchTimeoutMillis() {
+            return batchTimeoutMillis;
+        }
+
+        @Override
+        public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+            batchSizes.add(rows.size());
+            return rows.stream().map(this::map).collect(Collectors.toList());
+        }
+
+        @Override
+        public SeaTunnelRow map(SeaTunnelRow row) {
+            return ((Integer) row.getField(0)) % 2 == 0 ? row : null;
+        }
+
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            return null;
+        }
+
+        @Override
+        public List<CatalogTable> getProducedCatalogTables() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Batch";
+        }
+    }
+}
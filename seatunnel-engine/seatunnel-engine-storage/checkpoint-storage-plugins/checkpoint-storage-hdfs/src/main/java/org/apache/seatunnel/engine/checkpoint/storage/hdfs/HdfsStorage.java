@@ -104,6 +104,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + "/"
                                 + getCheckPointName(state)
                                 + STORAGE_TMP_SUFFIX);
+        long writeStartTime = System.currentTimeMillis();
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
             out.write(datas);
         } catch (IOException e) {
@@ -113,12 +114,18 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                             tmpFilePath, state),
                     e);
         }
+        long renameStartTime = System.currentTimeMillis();
         try {
             boolean success = fs.rename(tmpFilePath, filePath);
             if (!success) {
                 throw new CheckpointStorageException("Failed to rename tmp file to final file");
             }
-
+            log.debug(
+                    "Stored checkpoint file {}, size: {} bytes, write: {} ms, rename: {} ms",
+                    filePath,
+                    datas.length,
+                    renameStartTime - writeStartTime,
+                    System.currentTimeMillis() - renameStartTime);
         } catch (IOException e) {
             throw new CheckpointStorageException("Failed to rename tmp file to final file");
         } finally {
@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
@@ -40,6 +42,8 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
@@ -63,6 +67,13 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /**
+     * Runtime decoder that reads the rows from the tokens of the messages, without building their
+     * {@link JsonNode}s. The messages it fails on are converted again by the runtime converter,
+     * which reports the errors.
+     */
+    private final JsonToRowDecoders.JsonToObjectDecoder rowDecoder;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -86,6 +97,13 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+        this.rowDecoder =
+                new JsonToRowDecoders(
+                                failOnMissingField,
+                                ignoreParseErrors,
+                                hasDecimalType(rowType),
+                                objectMapper)
+                        .createRowDecoder(rowType);
     }
 
     public JsonDeserializationSchema(
@@ -107,6 +125,13 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+        this.rowDecoder =
+                new JsonToRowDecoders(
+                                failOnMissingField,
+                                ignoreParseErrors,
+                                hasDecimalType(rowType),
+                                objectMapper)
+                        .createRowDecoder(rowType);
     }
 
     private static boolean hasDecimalType(SeaTunnelDataType<?> dataType) {
@@ -129,17 +154,47 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convertBytes(message));
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            parser.nextToken();
+            return (SeaTunnelRow) rowDecoder.decode(parser);
+        } catch (IOException | RuntimeException e) {
+            return convertJsonNode(convertBytes(message));
+        }
     }
 
     public SeaTunnelRow deserialize(String message) throws IOException {
         if (message == null) {
             return null;
         }
-        return convertJsonNode(convert(message));
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            parser.nextToken();
+            return (SeaTunnelRow) rowDecoder.decode(parser);
+        } catch (IOException | RuntimeException e) {
+            return convertJsonNode(convert(message));
+        }
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    rows.add((SeaTunnelRow) rowDecoder.decode(parser));
+                }
+            } else {
+                rows.add((SeaTunnelRow) rowDecoder.decode(parser));
+            }
+        } catch (IOException | RuntimeException e) {
+            collectJsonNode(message, out);
+            return;
+        }
+        for (SeaTunnelRow deserialize : rows) {
+            setCollectorTablePath(deserialize, catalogTable);
+            out.collect(deserialize);
+        }
+    }
+
+    private void collectJsonNode(byte[] message, Collector<SeaTunnelRow> out) {
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
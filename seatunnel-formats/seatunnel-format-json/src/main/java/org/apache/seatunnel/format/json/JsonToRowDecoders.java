@@ -0,0 +1,562 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonStreamContext;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.TextNode;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.DateTimeUtils;
+import org.apache.seatunnel.common.utils.DateUtils;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.seatunnel.format.json.JsonToRowConverters.FORMAT;
+import static org.apache.seatunnel.format.json.JsonToRowConverters.TIME_FORMAT;
+
+/**
+ * Tool class used to decode a {@link SeaTunnelRow} from the tokens of a {@link JsonParser}, without
+ * building the {@link JsonNode} tree that {@link JsonToRowConverters} converts. The decoders are
+ * created once for a {@link SeaTunnelRowType}, they look the fields of an object up by name and
+ * skip the fields that are not in the row type. The values are converted like {@link
+ * JsonToRowConverters} converts the nodes the {@link ObjectMapper} would have read.
+ *
+ * <p>A decoder is called with the parser on the first token of a value, and returns with the parser
+ * on the last token of the value. The decoders are not thread safe.
+ */
+public class JsonToRowDecoders implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final BigDecimal MIN_INTEGER = BigDecimal.valueOf(Integer.MIN_VALUE);
+    private static final BigDecimal MAX_INTEGER = BigDecimal.valueOf(Integer.MAX_VALUE);
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    /** Flag indicating whether to ignore invalid fields/rows (default: throw an exception). */
+    private final boolean ignoreParseErrors;
+
+    /**
+     * Flag indicating whether the floating point numbers are read as {@link BigDecimal}s, like the
+     * {@link ObjectMapper} does when the row type has a decimal field.
+     */
+    private final boolean useBigDecimalForFloats;
+
+    /** Object mapper reading the values of the string fields that are JSON objects or arrays. */
+    private final ObjectMapper objectMapper;
+
+    /** Converts the keys of the maps, which are text nodes of the field names. */
+    private final JsonToRowConverters keyConverters;
+
+    public JsonToRowDecoders(
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            boolean useBigDecimalForFloats,
+            ObjectMapper objectMapper) {
+        this.failOnMissingField = failOnMissingField;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+        this.objectMapper = objectMapper;
+        this.keyConverters = new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+    }
+
+    /** Creates the decoder of the rows of the given type, the decoded rows may be null. */
+    public JsonToObjectDecoder createRowDecoder(SeaTunnelRowType rowType) {
+        return new RowDecoder(rowType, null);
+    }
+
+    /** Creates a decoder which decodes null tokens to null and handles the parse errors. */
+    private JsonToObjectDecoder createDecoder(SeaTunnelDataType<?> type, String fieldName) {
+        return wrapIntoNullableDecoder(createNotNullDecoder(type, fieldName));
+    }
+
+    private JsonToObjectDecoder createNotNullDecoder(SeaTunnelDataType<?> type, String fieldName) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case NULL:
+                return parser -> {
+                    parser.skipChildren();
+                    return null;
+                };
+            case BOOLEAN:
+                return this::decodeBoolean;
+            case TINYINT:
+                return parser -> Byte.parseByte(asText(parser).trim());
+            case SMALLINT:
+                return parser -> Short.parseShort(asText(parser).trim());
+            case INT:
+                return this::decodeInt;
+            case BIGINT:
+                return this::decodeLong;
+            case DATE:
+                return new DateDecoder(fieldName);
+            case TIME:
+                return parser -> {
+                    TemporalAccessor parsedTime = TIME_FORMAT.parse(asText(parser));
+                    return parsedTime.query(TemporalQueries.localTime());
+                };
+            case TIMESTAMP:
+                return new TimestampDecoder(fieldName);
+            case FLOAT:
+                return this::decodeFloat;
+            case DOUBLE:
+                return this::decodeDouble;
+            case STRING:
+                return this::decodeString;
+            case BYTES:
+                return this::decodeBytes;
+            case DECIMAL:
+                return this::decodeBigDecimal;
+            case ARRAY:
+                return new ArrayDecoder((ArrayType<?, ?>) type, fieldName);
+            case MAP:
+                return new MapDecoder((MapType<?, ?>) type, fieldName);
+            case ROW:
+                return new RowDecoder((SeaTunnelRowType) type, fieldName);
+            default:
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unsupported type: " + type);
+        }
+    }
+
+    /** Returns the text of the current value like {@link JsonNode#asText()} does. */
+    private String asText(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return String.valueOf(parser.getIntValue());
+                    case LONG:
+                        return String.valueOf(parser.getLongValue());
+                    default:
+                        return parser.getBigIntegerValue().toString();
+                }
+            case VALUE_NUMBER_FLOAT:
+                if (useBigDecimalForFloats) {
+                    return getDecimalValue(parser).toString();
+                }
+                return String.valueOf(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            case START_OBJECT:
+            case START_ARRAY:
+                parser.skipChildren();
+                return "";
+            default:
+                return parser.getText();
+        }
+    }
+
+    /** Returns the decimal value normalized like the node factory of the object mapper does. */
+    private static BigDecimal getDecimalValue(JsonParser parser) throws IOException {
+        return JsonNodeFactory.instance.numberNode(parser.getDecimalValue()).decimalValue();
+    }
+
+    private boolean decodeBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        return Boolean.parseBoolean(asText(parser).trim());
+    }
+
+    private int decodeInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            if (useBigDecimalForFloats) {
+                BigDecimal value = getDecimalValue(parser);
+                if (value.compareTo(MIN_INTEGER) >= 0 && value.compareTo(MAX_INTEGER) <= 0) {
+                    return value.intValue();
+                }
+            } else {
+                double value = parser.getDoubleValue();
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+            }
+        }
+        return Integer.parseInt(asText(parser).trim());
+    }
+
+    private long decodeLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            if (useBigDecimalForFloats) {
+                BigDecimal value = getDecimalValue(parser);
+                if (value.compareTo(MIN_LONG) >= 0 && value.compareTo(MAX_LONG) <= 0) {
+                    return value.longValue();
+                }
+            } else {
+                double value = parser.getDoubleValue();
+                if (value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+                    return (long) value;
+                }
+            }
+        }
+        return Long.parseLong(asText(parser).trim());
+    }
+
+    private double decodeDouble(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats) {
+            return parser.getDoubleValue();
+        }
+        return Double.parseDouble(asText(parser).trim());
+    }
+
+    private float decodeFloat(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats) {
+            return (float) parser.getDoubleValue();
+        }
+        return Float.parseFloat(asText(parser).trim());
+    }
+
+    private String decodeString(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            // the nested objects and arrays are kept as their JSON text
+            return objectMapper.readTree(parser).toString();
+        }
+        return asText(parser);
+    }
+
+    private byte[] decodeBytes(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+        String text = parser.getText();
+        try {
+            return TextNode.valueOf(text).binaryValue();
+        } catch (IOException e) {
+            throw CommonError.jsonOperationError(FORMAT, text, e);
+        }
+    }
+
+    private BigDecimal decodeBigDecimal(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && useBigDecimalForFloats) {
+            return getDecimalValue(parser);
+        }
+        return new BigDecimal(asText(parser));
+    }
+
+    private JsonToObjectDecoder wrapIntoNullableDecoder(JsonToObjectDecoder decoder) {
+        return parser -> {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            JsonStreamContext context = token.isStructStart() ? parser.getParsingContext() : null;
+            try {
+                return decoder.decode(parser);
+            } catch (RuntimeException e) {
+                if (!ignoreParseErrors) {
+                    throw e;
+                }
+                if (context != null) {
+                    skipToEndOf(parser, context);
+                }
+                return null;
+            }
+        };
+    }
+
+    /** Moves the parser to the end of the object or array of the given context. */
+    private static void skipToEndOf(JsonParser parser, JsonStreamContext context)
+            throws IOException {
+        while (isWithin(parser.getParsingContext(), context)) {
+            if (parser.nextToken() == null) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isWithin(JsonStreamContext current, JsonStreamContext context) {
+        for (JsonStreamContext c = current; c != null; c = c.getParent()) {
+            if (c == context) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object decodeField(JsonToObjectDecoder decoder, String fieldName, JsonParser parser)
+            throws IOException {
+        try {
+            return decoder.decode(parser);
+        } catch (IOException e) {
+            // the JSON text is malformed, the row can't be read any further
+            throw e;
+        } catch (Throwable t) {
+            throw CommonError.jsonOperationError(FORMAT, String.format("Field $.%s", fieldName), t);
+        }
+    }
+
+    /**
+     * Runtime decoder that decodes a value from a {@link JsonParser} into objects of internal data
+     * structures.
+     */
+    @FunctionalInterface
+    public interface JsonToObjectDecoder extends Serializable {
+        Object decode(JsonParser parser) throws IOException;
+    }
+
+    private class RowDecoder implements JsonToObjectDecoder {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[] fieldPaths;
+        private final JsonToObjectDecoder[] fieldDecoders;
+        private final Map<String, Integer> fieldIndexes;
+
+        /** Whether the fields of the row being decoded are present in its JSON value. */
+        private final boolean[] present;
+
+        private RowDecoder(SeaTunnelRowType rowType, String rowFieldName) {
+            String[] fieldNames = rowType.getFieldNames();
+            int arity = fieldNames.length;
+            this.fieldPaths = new String[arity];
+            this.fieldDecoders = new JsonToObjectDecoder[arity];
+            this.fieldIndexes = new HashMap<>();
+            this.present = new boolean[arity];
+            for (int i = 0; i < arity; i++) {
+                fieldPaths[i] =
+                        StringUtils.isNotBlank(rowFieldName)
+                                ? rowFieldName + "." + fieldNames[i]
+                                : fieldNames[i];
+                fieldDecoders[i] = createDecoder(rowType.getFieldType(i), fieldPaths[i]);
+                fieldIndexes.put(fieldNames[i], i);
+            }
+        }
+
+        @Override
+        public SeaTunnelRow decode(JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            int arity = fieldDecoders.length;
+            Object[] fields = new Object[arity];
+            for (int i = 0; i < arity; i++) {
+                present[i] = false;
+            }
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Integer index = fieldIndexes.get(parser.getCurrentName());
+                    parser.nextToken();
+                    if (index == null) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    fields[index] = decodeField(fieldDecoders[index], fieldPaths[index], parser);
+                    present[index] = true;
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                // the fields of an array are matched by position
+                int i = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (i < arity) {
+                        fields[i] = decodeField(fieldDecoders[i], fieldPaths[i], parser);
+                        present[i] = true;
+                    } else {
+                        parser.skipChildren();
+                    }
+                    i++;
+                }
+            }
+            if (failOnMissingField) {
+                for (int i = 0; i < arity; i++) {
+                    if (!present[i]) {
+                        throw CommonError.jsonOperationError(
+                                FORMAT,
+                                String.format("Field $.%s", fieldPaths[i]),
+                                new IllegalArgumentException(
+                                        String.format(
+                                                "Could not find field with name %s .",
+                                                fieldPaths[i])));
+                    }
+                }
+            }
+            return new SeaTunnelRow(fields);
+        }
+    }
+
+    private class ArrayDecoder implements JsonToObjectDecoder {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> elementClass;
+        private final JsonToObjectDecoder elementDecoder;
+
+        private ArrayDecoder(ArrayType<?, ?> type, String fieldName) {
+            this.elementClass = type.getElementType().getTypeClass();
+            this.elementDecoder = createDecoder(type.getElementType(), fieldName);
+        }
+
+        @Override
+        public Object decode(JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.START_ARRAY) {
+                List<Object> elements = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elements.add(elementDecoder.decode(parser));
+                }
+                Object array = Array.newInstance(elementClass, elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, elements.get(i));
+                }
+                return array;
+            }
+            // the tree converter reads one missing element for each field of an object
+            int size = 0;
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                    size++;
+                }
+            }
+            return Array.newInstance(elementClass, size);
+        }
+    }
+
+    private class MapDecoder implements JsonToObjectDecoder {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String keyFieldName;
+        private final JsonToRowConverters.JsonToObjectConverter keyConverter;
+        private final JsonToObjectDecoder valueDecoder;
+
+        private MapDecoder(MapType<?, ?> type, String fieldName) {
+            this.keyFieldName = fieldName + ".key";
+            this.keyConverter = keyConverters.createConverter(type.getKeyType());
+            this.valueDecoder = createDecoder(type.getValueType(), fieldName + ".value");
+        }
+
+        @Override
+        public Object decode(JsonParser parser) throws IOException {
+            Map<Object, Object> value = new HashMap<>();
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return value;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Object key =
+                        keyConverter.convert(
+                                TextNode.valueOf(parser.getCurrentName()), keyFieldName);
+                parser.nextToken();
+                value.put(key, valueDecoder.decode(parser));
+            }
+            return value;
+        }
+    }
+
+    private class DateDecoder implements JsonToObjectDecoder {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String fieldName;
+        private transient DateTimeFormatter dateFormatter;
+
+        private DateDecoder(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        public LocalDate decode(JsonParser parser) throws IOException {
+            String dateStr = asText(parser);
+            if (dateFormatter == null) {
+                dateFormatter = DateUtils.matchDateFormatter(dateStr);
+            }
+            if (dateFormatter == null) {
+                throw CommonError.formatDateError(dateStr, fieldName);
+            }
+            return dateFormatter.parse(dateStr).query(TemporalQueries.localDate());
+        }
+    }
+
+    private class TimestampDecoder implements JsonToObjectDecoder {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String fieldName;
+        private transient DateTimeFormatter dateTimeFormatter;
+
+        private TimestampDecoder(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        public LocalDateTime decode(JsonParser parser) throws IOException {
+            String datetimeStr = asText(parser);
+            if (dateTimeFormatter == null) {
+                dateTimeFormatter = DateTimeUtils.matchDateTimeFormatter(datetimeStr);
+            }
+            if (dateTimeFormatter == null) {
+                throw CommonError.formatDateTimeError(datetimeStr, fieldName);
+            }
+            TemporalAccessor parsedTimestamp = dateTimeFormatter.parse(datetimeStr);
+            LocalTime localTime = parsedTimestamp.query(TemporalQueries.localTime());
+            LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
+            return LocalDateTime.of(localDate, localTime);
+        }
+    }
+}
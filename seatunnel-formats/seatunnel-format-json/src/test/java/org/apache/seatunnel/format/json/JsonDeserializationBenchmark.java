@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.api.table.type.ArrayType.DOUBLE_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.ArrayType.STRING_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BOOLEAN_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.DOUBLE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.INT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.LONG_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.STRING_TYPE;
+
+/**
+ * Compares reading the messages into a {@code JsonNode} tree and converting it, like {@link
+ * JsonDeserializationSchema} did, with decoding them from the parser tokens. The messages carry
+ * fields which are not in the row type, like the messages of a topic usually do. Run it with {@link
+ * #main(String[])} from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonDeserializationBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"flat", "nested", "array"})
+    private String payload;
+
+    private JsonDeserializationSchema schema;
+    private byte[][] messages;
+
+    @Setup
+    public void setUp() {
+        SeaTunnelRowType rowType;
+        switch (payload) {
+            case "flat":
+                rowType =
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name", "score", "active", "created"},
+                                new SeaTunnelDataType[] {
+                                    LONG_TYPE, STRING_TYPE, DOUBLE_TYPE, BOOLEAN_TYPE, STRING_TYPE
+                                });
+                break;
+            case "nested":
+                SeaTunnelRowType address =
+                        new SeaTunnelRowType(
+                                new String[] {"city", "zip"},
+                                new SeaTunnelDataType[] {STRING_TYPE, INT_TYPE});
+                rowType =
+                        new SeaTunnelRowType(
+                                new String[] {"id", "user", "attributes"},
+                                new SeaTunnelDataType[] {
+                                    LONG_TYPE,
+                                    new SeaTunnelRowType(
+                                            new String[] {"name", "address"},
+                                            new SeaTunnelDataType[] {STRING_TYPE, address}),
+                                    new MapType<>(STRING_TYPE, STRING_TYPE)
+                                });
+                break;
+            case "array":
+                rowType =
+                        new SeaTunnelRowType(
+                                new String[] {"id", "tags", "values"},
+                                new SeaTunnelDataType[] {
+                                    LONG_TYPE, STRING_ARRAY_TYPE, DOUBLE_ARRAY_TYPE
+                                });
+                break;
+            default:
+                throw new IllegalArgumentException(payload);
+        }
+        schema = new JsonDeserializationSchema(false, false, rowType);
+        messages = new byte[BATCH_SIZE][];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            messages[i] = message(i).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private String message(int i) {
+        String unknown =
+                ",\"trace\":{\"span\":\"" + i + "\",\"tags\":[\"a\",\"b\"]},\"source\":\"app-1\"";
+        switch (payload) {
+            case "flat":
+                return "{\"id\":"
+                        + i
+                        + ",\"name\":\"name_"
+                        + i
+                        + "\",\"score\":"
+                        + (i * 1.5)
+                        + ",\"active\":"
+                        + (i % 2 == 0)
+                        + ",\"created\":\"2024-01-01 00:00:00\""
+                        + unknown
+                        + "}";
+            case "nested":
+                return "{\"id\":"
+                        + i
+                        + ",\"user\":{\"name\":\"name_"
+                        + i
+                        + "\",\"age\":30,\"address\":{\"city\":\"city_"
+                        + i
+                        + "\",\"zip\":"
+                        + (10000 + i)
+                        + ",\"street\":\"main\"}},\"attributes\":{\"k1\":\"v1\",\"k2\":\"v2\"}"
+                        + unknown
+                        + "}";
+            default:
+                StringBuilder builder = new StringBuilder("{\"id\":").append(i);
+                builder.append(",\"tags\":[");
+                for (int j = 0; j < 20; j++) {
+                    builder.append(j == 0 ? "" : ",").append("\"tag_").append(j).append('"');
+                }
+                builder.append("],\"values\":[");
+                for (int j = 0; j < 50; j++) {
+                    builder.append(j == 0 ? "" : ",").append(i + j * 0.25);
+                }
+                return builder.append(']').append(unknown).append('}').toString();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void tree(Blackhole blackhole) throws IOException {
+        for (byte[] message : messages) {
+            SeaTunnelRow row = schema.convertToRowData(schema.deserializeToJsonNode(message));
+            blackhole.consume(row);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void streaming(Blackhole blackhole) throws IOException {
+        for (byte[] message : messages) {
+            blackhole.consume(schema.deserialize(message));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(JsonDeserializationBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
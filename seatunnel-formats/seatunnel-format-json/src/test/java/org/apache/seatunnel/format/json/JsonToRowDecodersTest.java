@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.seatunnel.api.table.type.ArrayType.DOUBLE_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.ArrayType.INT_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.ArrayType.STRING_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BOOLEAN_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BYTE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.DOUBLE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.FLOAT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.INT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.LONG_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.SHORT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.STRING_TYPE;
+
+/** Checks the rows decoded from the tokens are the rows converted from the {@code JsonNode}s. */
+public class JsonToRowDecodersTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"a", "b"}, new SeaTunnelDataType[] {INT_TYPE, STRING_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "id", "name", "score", "ratio", "big", "tiny", "small", "flag", "day", "ts",
+                        "time", "bytes", "tags", "nums", "doubles", "attrs", "nested", "json",
+                        "nothing"
+                    },
+                    new SeaTunnelDataType[] {
+                        INT_TYPE,
+                        STRING_TYPE,
+                        DOUBLE_TYPE,
+                        FLOAT_TYPE,
+                        LONG_TYPE,
+                        BYTE_TYPE,
+                        SHORT_TYPE,
+                        BOOLEAN_TYPE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        STRING_ARRAY_TYPE,
+                        INT_ARRAY_TYPE,
+                        DOUBLE_ARRAY_TYPE,
+                        new MapType<>(STRING_TYPE, INT_TYPE),
+                        NESTED_TYPE,
+                        STRING_TYPE,
+                        STRING_TYPE
+                    });
+
+    private static final SeaTunnelRowType DECIMAL_ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "amount", "score", "ratio", "name", "nested"},
+                    new SeaTunnelDataType[] {
+                        INT_TYPE,
+                        new DecimalType(10, 2),
+                        DOUBLE_TYPE,
+                        FLOAT_TYPE,
+                        STRING_TYPE,
+                        NESTED_TYPE
+                    });
+
+    private static final List<String> MESSAGES =
+            Arrays.asList(
+                    "{\"id\":1,\"name\":\"a\",\"score\":1.5,\"ratio\":0.1,\"big\":12345678901,"
+                            + "\"tiny\":7,\"small\":300,\"flag\":true,\"day\":\"2024-01-31\","
+                            + "\"ts\":\"2024-01-31 12:30:45.123\",\"time\":\"12:30:45\","
+                            + "\"bytes\":\"AQID\",\"tags\":[\"x\",null,\"z\"],\"nums\":[1,2,3],"
+                            + "\"doubles\":[1.5,2],\"attrs\":{\"k1\":1,\"k2\":null},"
+                            + "\"nested\":{\"a\":5,\"b\":\"c\"},\"json\":{\"x\":[1,{\"y\":2.50}]}}",
+                    "{\"unknown\":{\"deep\":[1,2,{\"a\":1}]},\"id\":\"12\",\"other\":[[]],"
+                            + "\"name\":12.50,\"score\":\"2.25\",\"ratio\":3,\"big\":9.9,"
+                            + "\"flag\":\"TRUE\",\"nested\":[7,\"positional\",\"extra\"],"
+                            + "\"json\":[1,\"two\"],\"nums\":{\"a\":1,\"b\":2},\"attrs\":[1]}",
+                    "{\"id\":1.9,\"name\":true,\"tags\":\"text\",\"nested\":null,\"json\":null,"
+                            + "\"nothing\":{\"a\":1},\"big\":-1.5e3,\"ratio\":1e-3}",
+                    "{\"name\":\"dup\",\"name\":\"last\",\"nested\":\"scalar\"}",
+                    "[3,\"positional\",0.5]",
+                    "{}",
+                    "null",
+                    "{\"id\":2147483647,\"big\":-9223372036854775808,\"score\":1e308,"
+                            + "\"name\":\"\\u00e9\\n\\\"quoted\\\"\"}");
+
+    private static final List<String> DECIMAL_MESSAGES =
+            Arrays.asList(
+                    "{\"id\":1.00,\"amount\":12.30,\"score\":0.10,\"ratio\":0.1,\"name\":1.50}",
+                    "{\"id\":1,\"amount\":\"12.345\",\"score\":1,\"ratio\":\"2.5\","
+                            + "\"name\":{\"v\":1.0,\"w\":[0.00]},\"nested\":{\"a\":2.0,\"b\":1e2}}",
+                    "{\"amount\":7,\"name\":100,\"unknown\":1.5}");
+
+    @Test
+    public void testDecodeLikeJsonNodeConverter() throws IOException {
+        for (String message : MESSAGES) {
+            assertSameRow(ROW_TYPE, false, message);
+        }
+    }
+
+    @Test
+    public void testDecodeDecimalLikeJsonNodeConverter() throws IOException {
+        for (String message : DECIMAL_MESSAGES) {
+            assertSameRow(DECIMAL_ROW_TYPE, false, message);
+        }
+    }
+
+    @Test
+    public void testIgnoreParseErrors() throws IOException {
+        String message =
+                "{\"id\":\"not a number\",\"tiny\":1000,\"nested\":{\"a\":[1,2],\"b\":\"ok\"},"
+                        + "\"nums\":[1,\"x\",{\"a\":1},3],\"day\":\"not a date\",\"name\":\"kept\"}";
+        SeaTunnelRow row = assertSameRow(ROW_TYPE, true, message);
+        Assertions.assertNull(row.getField(0));
+        Assertions.assertNull(row.getField(5));
+        Assertions.assertEquals("kept", row.getField(1));
+        Assertions.assertEquals(new SeaTunnelRow(new Object[] {null, "ok"}), row.getField(16));
+        Assertions.assertArrayEquals(new Integer[] {1, null, null, 3}, (Object[]) row.getField(13));
+    }
+
+    @Test
+    public void testFailOnMissingField() throws IOException {
+        JsonToRowDecoders.JsonToObjectDecoder decoder =
+                new JsonToRowDecoders(true, false, false, new ObjectMapper())
+                        .createRowDecoder(NESTED_TYPE);
+        Assertions.assertEquals(
+                new SeaTunnelRow(new Object[] {1, "b"}), decode(decoder, "{\"b\":\"b\",\"a\":1}"));
+        Assertions.assertThrows(
+                RuntimeException.class, () -> decode(decoder, "{\"a\":1,\"c\":\"b\"}"));
+    }
+
+    private static SeaTunnelRow assertSameRow(
+            SeaTunnelRowType rowType, boolean ignoreParseErrors, String message)
+            throws IOException {
+        boolean useBigDecimal = rowType == DECIMAL_ROW_TYPE;
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (useBigDecimal) {
+            objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        }
+        SeaTunnelRow expected =
+                (SeaTunnelRow)
+                        new JsonToRowConverters(false, ignoreParseErrors)
+                                .createRowConverter(rowType)
+                                .convert(objectMapper.readTree(message), null);
+        SeaTunnelRow actual =
+                decode(
+                        new JsonToRowDecoders(false, ignoreParseErrors, useBigDecimal, objectMapper)
+                                .createRowDecoder(rowType),
+                        message);
+        Assertions.assertEquals(expected, actual, message);
+        return actual;
+    }
+
+    private static SeaTunnelRow decode(
+            JsonToRowDecoders.JsonToObjectDecoder decoder, String message) throws IOException {
+        try (JsonParser parser =
+                new ObjectMapper()
+                        .getFactory()
+                        .createParser(message.getBytes(StandardCharsets.UTF_8))) {
+            parser.nextToken();
+            SeaTunnelRow row = (SeaTunnelRow) decoder.decode(parser);
+            // the decoder stops on the last token of the value
+            Assertions.assertNull(parser.nextToken(), message);
+            return row;
+        }
+    }
+}
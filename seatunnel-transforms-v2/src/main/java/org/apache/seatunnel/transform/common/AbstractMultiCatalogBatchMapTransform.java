@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.common;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.SeaTunnelBatchMapTransform;
+import org.apache.seatunnel.api.transform.SeaTunnelMapTransform;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abstract class for multi-table batch map transform. The rows of a batch are grouped by table, and
+ * the rows of every table are mapped in one batch by the transform of the table.
+ */
+public abstract class AbstractMultiCatalogBatchMapTransform extends AbstractMultiCatalogMapTransform
+        implements SeaTunnelBatchMapTransform<SeaTunnelRow> {
+
+    public AbstractMultiCatalogBatchMapTransform(
+            List<CatalogTable> inputCatalogTables, ReadonlyConfig config) {
+        super(inputCatalogTables, config);
+    }
+
+    @Override
+    public int getBatchSize() {
+        int batchSize = 1;
+        for (SeaTunnelTransform<SeaTunnelRow> transform : transformMap.values()) {
+            if (transform instanceof SeaTunnelBatchMapTransform) {
+                batchSize =
+                        Math.max(
+                                batchSize,
+                                ((SeaTunnelBatchMapTransform<SeaTunnelRow>) transform)
+                                        .getBatchSize());
+            }
+        }
+        return batchSize;
+    }
+
+    @Override
+    public long getBatchTimeoutMillis() {
+        long batchTimeoutMillis = Long.MAX_VALUE;
+        for (SeaTunnelTransform<SeaTunnelRow> transform : transformMap.values()) {
+            if (transform instanceof SeaTunnelBatchMapTransform) {
+                batchTimeoutMillis =
+                        Math.min(
+                                batchTimeoutMillis,
+                                ((SeaTunnelBatchMapTransform<SeaTunnelRow>) transform)
+                                        .getBatchTimeoutMillis());
+            }
+        }
+        return batchTimeoutMillis;
+    }
+
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+        if (transformMap.size() == 1) {
+            return mapBatch(transformMap.values().iterator().next(), rows);
+        }
+        Map<String, List<Integer>> rowIndexesByTable = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            rowIndexesByTable
+                    .computeIfAbsent(rows.get(i).getTableId(), tableId -> new ArrayList<>())
+                    .add(i);
+        }
+        SeaTunnelRow[] outputRows = new SeaTunnelRow[rows.size()];
+        for (Map.Entry<String, List<Integer>> entry : rowIndexesByTable.entrySet()) {
+            List<Integer> rowIndexes = entry.getValue();
+            List<SeaTunnelRow> tableRows = new ArrayList<>(rowIndexes.size());
+            for (int rowIndex : rowIndexes) {
+                tableRows.add(rows.get(rowIndex));
+            }
+            List<SeaTunnelRow> tableOutputRows =
+                    mapBatch(transformMap.get(entry.getKey()), tableRows);
+            for (int i = 0; i < rowIndexes.size(); i++) {
+                outputRows[rowIndexes.get(i)] = tableOutputRows.get(i);
+            }
+        }
+        return Arrays.asList(outputRows);
+    }
+
+    private static List<SeaTunnelRow> mapBatch(
+            SeaTunnelTransform<SeaTunnelRow> transform, List<SeaTunnelRow> rows) {
+        if (transform instanceof SeaTunnelBatchMapTransform) {
+            return ((SeaTunnelBatchMapTransform<SeaTunnelRow>) transform).mapBatch(rows);
+        }
+        List<SeaTunnelRow> outputRows = new ArrayList<>(rows.size());
+        for (SeaTunnelRow row : rows) {
+            outputRows.add(((SeaTunnelMapTransform<SeaTunnelRow>) transform).map(row));
+        }
+        return outputRows;
+    }
+
+    @Override
+    public void close() {
+        transformMap.values().forEach(SeaTunnelTransform::close);
+    }
+}
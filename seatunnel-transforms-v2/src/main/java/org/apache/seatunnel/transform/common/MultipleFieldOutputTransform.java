@@ -54,6 +54,16 @@ public abstract class MultipleFieldOutputTransform extends AbstractCatalogSuppor
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
         Object[] fieldValues = getOutputFieldValues(new SeaTunnelRowAccessor(inputRow));
+        return createOutputRow(inputRow, fieldValues);
+    }
+
+    /**
+     * Outputs the row of the given input row with the given new fields value
+     *
+     * @param inputRow The inputRow of upstream input.
+     * @param fieldValues The new fields value.
+     */
+    protected SeaTunnelRow createOutputRow(SeaTunnelRow inputRow, Object[] fieldValues) {
         SeaTunnelRow outputRow = rowContainerGenerator.apply(inputRow);
         for (int i = 0; i < outputFieldNames.length; i++) {
             outputRow.setField(fieldsIndex[i], fieldValues == null ? null : fieldValues[i]);
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.nlpmodel;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.RateLimiter;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sends the rows of a transform to a model provider. The rows are split into requests of at most
+ * {@link ModelTransformConfig#PROCESS_BATCH_SIZE} rows and {@link
+ * ModelTransformConfig#PROCESS_BATCH_TOKENS} estimated tokens, up to {@link
+ * ModelTransformConfig#MAX_CONCURRENT_REQUESTS} of them are in flight at once, and their results
+ * are returned in the order of the rows. Failed requests are retried with an exponential backoff,
+ * and all requests share the rate limit of the provider.
+ */
+@Slf4j
+public class ModelRequestExecutor implements Closeable {
+
+    /** The max connections per route of the http clients of the models. */
+    private static final int MAX_CONNECTIONS = 64;
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final String name;
+    @Getter private final int batchSize;
+    private final int batchTokens;
+    @Getter private final long batchTimeoutMillis;
+    private final int maxConcurrentRequests;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final RateLimiter rateLimiter;
+    private ExecutorService executorService;
+
+    public ModelRequestExecutor(String name, ReadonlyConfig config) {
+        this.name = name;
+        this.batchSize = Math.max(1, config.get(ModelTransformConfig.PROCESS_BATCH_SIZE));
+        this.batchTokens = config.get(ModelTransformConfig.PROCESS_BATCH_TOKENS);
+        this.batchTimeoutMillis = config.get(ModelTransformConfig.PROCESS_BATCH_TIMEOUT_MS);
+        this.maxConcurrentRequests =
+                Math.max(1, config.get(ModelTransformConfig.MAX_CONCURRENT_REQUESTS));
+        this.maxRetries = Math.max(0, config.get(ModelTransformConfig.MAX_RETRIES));
+        this.retryBackoffMs = config.get(ModelTransformConfig.RETRY_BACKOFF_MS);
+        double rateLimit = config.get(ModelTransformConfig.RATE_LIMIT);
+        this.rateLimiter = rateLimit > 0 ? RateLimiter.create(rateLimit) : null;
+    }
+
+    /** Creates the http client of a model, with enough connections for concurrent requests. */
+    public static CloseableHttpClient createHttpClient() {
+        return HttpClients.custom()
+                .setMaxConnPerRoute(MAX_CONNECTIONS)
+                .setMaxConnTotal(MAX_CONNECTIONS)
+                .build();
+    }
+
+    /** Estimates the tokens of the given field values, at about four characters per token. */
+    public static int estimateTokens(Object[] fields) {
+        long chars = 0;
+        for (Object field : fields) {
+            chars += field == null ? 4 : String.valueOf(field).length();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars / CHARS_PER_TOKEN + 1);
+    }
+
+    /**
+     * Sends the inputs in batches and returns one result per input in the order of the inputs.
+     *
+     * @param inputs the inputs of the transform.
+     * @param tokenEstimator estimates the tokens of an input for the token budget of a request.
+     * @param request sends one batch of inputs to the model and returns one result per input.
+     */
+    public <I, O> List<O> execute(
+            List<I> inputs, ToIntFunction<I> tokenEstimator, Request<I, O> request)
+            throws IOException {
+        List<List<I>> batches = split(inputs, tokenEstimator);
+        List<O> outputs = new ArrayList<>(inputs.size());
+        if (batches.size() == 1 || maxConcurrentRequests == 1) {
+            for (List<I> batch : batches) {
+                outputs.addAll(call(batch, request));
+            }
+            return outputs;
+        }
+
+        List<Future<List<O>>> futures = new ArrayList<>(batches.size());
+        for (List<I> batch : batches) {
+            futures.add(getExecutorService().submit(() -> call(batch, request)));
+        }
+        try {
+            for (Future<List<O>> future : futures) {
+                outputs.addAll(future.get());
+            }
+            return outputs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + name + " model");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /** Sends one batch of inputs, retrying on failure, and checks that every input has a result. */
+    public <I, O> List<O> call(List<I> batch, Request<I, O> request) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            try {
+                List<O> outputs = request.apply(batch);
+                if (outputs == null || outputs.size() != batch.size()) {
+                    throw new IOException(
+                            String.format(
+                                    "The %s model returned %d results for %d inputs",
+                                    name, outputs == null ? 0 : outputs.size(), batch.size()));
+                }
+                return outputs;
+            } catch (IOException e) {
+                if (attempt >= maxRetries || e instanceof InterruptedIOException) {
+                    throw e;
+                }
+                long backoffMs = retryBackoffMs << Math.min(attempt, 16);
+                log.warn(
+                        "Request of {} inputs to the {} model failed, retry {} of {} in {} ms",
+                        batch.size(),
+                        name,
+                        attempt + 1,
+                        maxRetries,
+                        backoffMs,
+                        e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(
+                            "Interrupted while retrying request to " + name + " model");
+                }
+            }
+        }
+    }
+
+    private <I> List<List<I>> split(List<I> inputs, ToIntFunction<I> tokenEstimator) {
+        List<List<I>> batches = new ArrayList<>();
+        List<I> batch = new ArrayList<>();
+        long tokens = 0;
+        for (I input : inputs) {
+            int inputTokens = batchTokens > 0 ? tokenEstimator.applyAsInt(input) : 0;
+            if (batch.size() >= batchSize
+                    || (batchTokens > 0
+                            && !batch.isEmpty()
+                            && tokens + inputTokens > batchTokens)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                tokens = 0;
+            }
+            batch.add(input);
+            tokens += inputTokens;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService =
+                    Executors.newFixedThreadPool(
+                            maxConcurrentRequests,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat(name + "-model-request-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        return executorService;
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /** Sends one batch of inputs to the model. */
+    @FunctionalInterface
+    public interface Request<I, O> {
+        List<O> apply(List<I> batch) throws IOException;
+    }
+}
@@ -79,6 +79,46 @@ public class ModelTransformConfig implements Serializable {
                     .withFallbackKeys("inference_batch_size")
                     .withDescription("The row batch size of each process");
 
+    public static final Option<Integer> PROCESS_BATCH_TOKENS =
+            Options.key("process_batch_tokens")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max estimated tokens of the rows sent in one request, 0 means no limit");
+
+    public static final Option<Long> PROCESS_BATCH_TIMEOUT_MS =
+            Options.key("process_batch_timeout_ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The max time in milliseconds a row waits for its batch to fill up");
+
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription("The max number of requests in flight to the model provider");
+
+    public static final Option<Integer> MAX_RETRIES =
+            Options.key("max_retries")
+                    .intType()
+                    .defaultValue(3)
+                    .withDescription("The max number of retries of a failed request");
+
+    public static final Option<Long> RETRY_BACKOFF_MS =
+            Options.key("retry_backoff_ms")
+                    .longType()
+                    .defaultValue(1000L)
+                    .withDescription(
+                            "The wait time in milliseconds before the first retry, doubled on every further retry");
+
+    public static final Option<Double> RATE_LIMIT =
+            Options.key("rate_limit")
+                    .doubleType()
+                    .defaultValue(0D)
+                    .withDescription(
+                            "The max number of requests per second to the model provider, 0 means no limit");
+
     public static class CustomRequestConfig {
 
         // Custom response parsing
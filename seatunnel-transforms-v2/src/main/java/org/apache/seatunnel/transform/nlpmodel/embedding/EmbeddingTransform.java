@@ -21,12 +21,15 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowAccessor;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.VectorType;
+import org.apache.seatunnel.api.transform.SeaTunnelBatchMapTransform;
 import org.apache.seatunnel.transform.common.MultipleFieldOutputTransform;
 import org.apache.seatunnel.transform.exception.TransformCommonError;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 import org.apache.seatunnel.transform.nlpmodel.ModelTransformConfig;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.Model;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.custom.CustomModel;
@@ -41,15 +44,18 @@ import lombok.SneakyThrows;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-public class EmbeddingTransform extends MultipleFieldOutputTransform {
+public class EmbeddingTransform extends MultipleFieldOutputTransform
+        implements SeaTunnelBatchMapTransform<SeaTunnelRow> {
 
     private final ReadonlyConfig config;
     private List<String> fieldNames;
     private List<Integer> fieldOriginalIndexes;
     private Model model;
+    private ModelRequestExecutor requestExecutor;
     private Integer dimension;
 
     public EmbeddingTransform(
@@ -69,6 +75,7 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
 
     @Override
     public void open() {
+        requestExecutor = new ModelRequestExecutor(getPluginName(), config);
         // Initialize model
         ModelProvider provider = config.get(ModelTransformConfig.MODEL_PROVIDER);
         try {
@@ -166,18 +173,77 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
     }
 
     @Override
-    protected Object[] getOutputFieldValues(SeaTunnelRowAccessor inputRow) {
+    public int getBatchSize() {
+        return config.get(EmbeddingTransformConfig.PROCESS_BATCH_SIZE);
+    }
+
+    @Override
+    public long getBatchTimeoutMillis() {
+        return config.get(EmbeddingTransformConfig.PROCESS_BATCH_TIMEOUT_MS);
+    }
+
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
         tryOpen();
+        List<Object[]> fieldArrays = new ArrayList<>(rows.size());
+        for (SeaTunnelRow row : rows) {
+            fieldArrays.add(getInputFieldValues(new SeaTunnelRowAccessor(row)));
+        }
+        List<SeaTunnelRow> outputRows = new ArrayList<>(rows.size());
         try {
-            Object[] fieldArray = new Object[fieldOriginalIndexes.size()];
-            for (int i = 0; i < fieldOriginalIndexes.size(); i++) {
-                fieldArray[i] = inputRow.getField(fieldOriginalIndexes.get(i));
+            List<Object[]> vectorizations =
+                    requestExecutor.execute(
+                            fieldArrays, ModelRequestExecutor::estimateTokens, this::vectorization);
+            for (int i = 0; i < rows.size(); i++) {
+                outputRows.add(createOutputRow(rows.get(i), vectorizations.get(i)));
             }
-            List<ByteBuffer> vectorization = model.vectorization(fieldArray);
-            return vectorization.toArray();
         } catch (Exception e) {
             throw new RuntimeException("Failed to data vectorization", e);
         }
+        return outputRows;
+    }
+
+    @Override
+    protected Object[] getOutputFieldValues(SeaTunnelRowAccessor inputRow) {
+        tryOpen();
+        try {
+            Object[] fieldArray = getInputFieldValues(inputRow);
+            return requestExecutor
+                    .call(Collections.singletonList(fieldArray), this::vectorization)
+                    .get(0);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to data vectorization", e);
+        }
+    }
+
+    private Object[] getInputFieldValues(SeaTunnelRowAccessor inputRow) {
+        Object[] fieldArray = new Object[fieldOriginalIndexes.size()];
+        for (int i = 0; i < fieldOriginalIndexes.size(); i++) {
+            fieldArray[i] = inputRow.getField(fieldOriginalIndexes.get(i));
+        }
+        return fieldArray;
+    }
+
+    /** Vectorizes the fields of several rows in one call of the model. */
+    private List<Object[]> vectorization(List<Object[]> fieldArrays) throws IOException {
+        int fieldCount = fieldOriginalIndexes.size();
+        Object[] fields = new Object[fieldArrays.size() * fieldCount];
+        for (int i = 0; i < fieldArrays.size(); i++) {
+            System.arraycopy(fieldArrays.get(i), 0, fields, i * fieldCount, fieldCount);
+        }
+        List<ByteBuffer> vectorization = model.vectorization(fields);
+        if (vectorization.size() != fields.length) {
+            throw new IOException(
+                    String.format(
+                            "The model returned %d vectors for %d fields",
+                            vectorization.size(), fields.length));
+        }
+        List<Object[]> vectorizations = new ArrayList<>(fieldArrays.size());
+        for (int i = 0; i < fieldArrays.size(); i++) {
+            vectorizations.add(
+                    vectorization.subList(i * fieldCount, (i + 1) * fieldCount).toArray());
+        }
+        return vectorizations;
     }
 
     @Override
@@ -205,6 +271,9 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
     @SneakyThrows
     @Override
     public void close() {
+        if (requestExecutor != null) {
+            requestExecutor.close();
+        }
         if (model != null) {
             model.close();
         }
@@ -47,7 +47,13 @@ public class EmbeddingTransformFactory implements TableTransformFactory {
                 .optional(
                         EmbeddingTransformConfig.API_PATH,
                         EmbeddingTransformConfig.SINGLE_VECTORIZED_INPUT_NUMBER,
-                        EmbeddingTransformConfig.PROCESS_BATCH_SIZE)
+                        EmbeddingTransformConfig.PROCESS_BATCH_SIZE,
+                        EmbeddingTransformConfig.PROCESS_BATCH_TOKENS,
+                        EmbeddingTransformConfig.PROCESS_BATCH_TIMEOUT_MS,
+                        EmbeddingTransformConfig.MAX_CONCURRENT_REQUESTS,
+                        EmbeddingTransformConfig.MAX_RETRIES,
+                        EmbeddingTransformConfig.RETRY_BACKOFF_MS,
+                        EmbeddingTransformConfig.RATE_LIMIT)
                 .conditional(
                         EmbeddingTransformConfig.MODEL_PROVIDER,
                         Lists.newArrayList(ModelProvider.OPENAI, ModelProvider.DOUBAO),
@@ -24,13 +24,13 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode
 import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
 
 import org.apache.seatunnel.transform.nlpmodel.CustomConfigPlaceholder;
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.AbstractModel;
 
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
 
 import com.jayway.jsonpath.JsonPath;
@@ -63,7 +63,7 @@ public class CustomModel extends AbstractModel {
         this.header = header;
         this.body = body;
         this.parse = parse;
-        this.client = HttpClients.createDefault();
+        this.client = ModelRequestExecutor.createHttpClient();
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
 
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 import org.apache.seatunnel.transform.nlpmodel.embedding.remote.AbstractModel;
 
 import org.apache.http.client.config.RequestConfig;
@@ -31,7 +32,6 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
@@ -65,7 +65,7 @@ public class QianfanModel extends AbstractModel {
         this.model = model;
         this.apiPath = apiPath;
         this.oauthPath = oauthPath;
-        this.client = HttpClients.createDefault();
+        this.client = ModelRequestExecutor.createHttpClient();
         this.accessToken = getAccessToken();
     }
 
@@ -84,7 +84,7 @@ public class QianfanModel extends AbstractModel {
         this.model = model;
         this.apiPath = apiPath;
         this.oauthPath = oauthPath;
-        this.client = HttpClients.createDefault();
+        this.client = ModelRequestExecutor.createHttpClient();
         this.accessToken = accessToken;
     }
 
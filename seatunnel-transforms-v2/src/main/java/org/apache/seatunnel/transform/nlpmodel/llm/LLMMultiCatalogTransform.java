@@ -21,11 +21,11 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
-import org.apache.seatunnel.transform.common.AbstractMultiCatalogMapTransform;
+import org.apache.seatunnel.transform.common.AbstractMultiCatalogBatchMapTransform;
 
 import java.util.List;
 
-public class LLMMultiCatalogTransform extends AbstractMultiCatalogMapTransform {
+public class LLMMultiCatalogTransform extends AbstractMultiCatalogBatchMapTransform {
     public LLMMultiCatalogTransform(List<CatalogTable> inputCatalogTables, ReadonlyConfig config) {
         super(inputCatalogTables, config);
     }
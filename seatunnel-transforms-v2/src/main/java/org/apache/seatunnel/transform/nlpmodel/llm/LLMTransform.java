@@ -25,8 +25,10 @@ import org.apache.seatunnel.api.table.catalog.SeaTunnelDataTypeConvertorUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowAccessor;
+import org.apache.seatunnel.api.transform.SeaTunnelBatchMapTransform;
 import org.apache.seatunnel.transform.common.SingleFieldOutputTransform;
 import org.apache.seatunnel.transform.nlpmodel.ModelProvider;
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 import org.apache.seatunnel.transform.nlpmodel.ModelTransformConfig;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.Model;
 import org.apache.seatunnel.transform.nlpmodel.llm.remote.custom.CustomModel;
@@ -37,14 +39,17 @@ import org.apache.seatunnel.transform.nlpmodel.llm.remote.openai.OpenAIModel;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-public class LLMTransform extends SingleFieldOutputTransform {
+public class LLMTransform extends SingleFieldOutputTransform
+        implements SeaTunnelBatchMapTransform<SeaTunnelRow> {
     private final ReadonlyConfig config;
     private final SeaTunnelDataType<?> outputDataType;
     private Model model;
+    private ModelRequestExecutor requestExecutor;
 
     public LLMTransform(@NonNull ReadonlyConfig config, @NonNull CatalogTable inputCatalogTable) {
         super(inputCatalogTable);
@@ -67,6 +72,7 @@ public class LLMTransform extends SingleFieldOutputTransform {
 
     @Override
     public void open() {
+        requestExecutor = new ModelRequestExecutor(getPluginName(), config);
         ModelProvider provider = config.get(ModelTransformConfig.MODEL_PROVIDER);
         switch (provider) {
             case CUSTOM:
@@ -135,33 +141,65 @@ public class LLMTransform extends SingleFieldOutputTransform {
         }
     }
 
+    @Override
+    public int getBatchSize() {
+        return Math.max(1, config.get(LLMTransformConfig.ENGINE_BATCH_SIZE));
+    }
+
+    @Override
+    public long getBatchTimeoutMillis() {
+        return config.get(LLMTransformConfig.PROCESS_BATCH_TIMEOUT_MS);
+    }
+
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+        tryOpen();
+        List<SeaTunnelRow> outputRows = new ArrayList<>(rows.size());
+        try {
+            List<String> values =
+                    requestExecutor.execute(rows, model::estimateTokens, model::inference);
+            for (int i = 0; i < rows.size(); i++) {
+                outputRows.add(createOutputRow(rows.get(i), convertOutputValue(values.get(i))));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    String.format("Failed to inference model with %d rows", rows.size()), e);
+        }
+        return outputRows;
+    }
+
     @Override
     protected Object getOutputFieldValue(SeaTunnelRowAccessor inputRow) {
         tryOpen();
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(inputRow.getFields());
         try {
-            List<String> values = model.inference(Collections.singletonList(seaTunnelRow));
-            switch (outputDataType.getSqlType()) {
-                case STRING:
-                    return String.valueOf(values.get(0));
-                case INT:
-                    return Integer.parseInt(values.get(0));
-                case BIGINT:
-                    return Long.parseLong(values.get(0));
-                case DOUBLE:
-                    return Double.parseDouble(values.get(0));
-                case BOOLEAN:
-                    return Boolean.parseBoolean(values.get(0));
-                default:
-                    throw new IllegalArgumentException(
-                            "Unsupported output data type: " + outputDataType);
-            }
+            List<String> values =
+                    requestExecutor.call(Collections.singletonList(seaTunnelRow), model::inference);
+            return convertOutputValue(values.get(0));
         } catch (Exception e) {
             throw new RuntimeException(
                     String.format("Failed to inference model with row %s", seaTunnelRow), e);
         }
     }
 
+    private Object convertOutputValue(String value) {
+        switch (outputDataType.getSqlType()) {
+            case STRING:
+                return String.valueOf(value);
+            case INT:
+                return Integer.parseInt(value);
+            case BIGINT:
+                return Long.parseLong(value);
+            case DOUBLE:
+                return Double.parseDouble(value);
+            case BOOLEAN:
+                return Boolean.parseBoolean(value);
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported output data type: " + outputDataType);
+        }
+    }
+
     @Override
     protected Column getOutputColumn() {
         String customFieldName = config.get(LLMTransformConfig.OUTPUT_COLUMN_NAME);
@@ -178,6 +216,9 @@ public class LLMTransform extends SingleFieldOutputTransform {
     @SneakyThrows
     @Override
     public void close() {
+        if (requestExecutor != null) {
+            requestExecutor.close();
+        }
         if (model != null) {
             model.close();
         }
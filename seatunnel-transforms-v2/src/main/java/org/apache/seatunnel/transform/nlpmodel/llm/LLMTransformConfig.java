@@ -49,6 +49,14 @@ public class LLMTransformConfig extends ModelTransformConfig {
                     .defaultValue(100)
                     .withDescription("The row batch size of each inference");
 
+    public static final Option<Integer> ENGINE_BATCH_SIZE =
+            Options.key("engine_batch_size")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of rows the Zeta engine buffers before sending them to the model, "
+                                    + "1 means the rows are sent one by one as on the Flink and Spark engines");
+
     // OPENAI specific options
     public static final Option<String> OPENAI_API_PATH =
             Options.key("openai.api_path")
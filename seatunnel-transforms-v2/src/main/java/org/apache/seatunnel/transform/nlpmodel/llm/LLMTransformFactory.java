@@ -46,7 +46,14 @@ public class LLMTransformFactory implements TableTransformFactory {
                 .optional(
                         LLMTransformConfig.API_PATH,
                         LLMTransformConfig.OUTPUT_DATA_TYPE,
-                        LLMTransformConfig.PROCESS_BATCH_SIZE)
+                        LLMTransformConfig.ENGINE_BATCH_SIZE,
+                        LLMTransformConfig.PROCESS_BATCH_SIZE,
+                        LLMTransformConfig.PROCESS_BATCH_TOKENS,
+                        LLMTransformConfig.PROCESS_BATCH_TIMEOUT_MS,
+                        LLMTransformConfig.MAX_CONCURRENT_REQUESTS,
+                        LLMTransformConfig.MAX_RETRIES,
+                        LLMTransformConfig.RETRY_BACKOFF_MS,
+                        LLMTransformConfig.RATE_LIMIT)
                 .conditional(
                         LLMTransformConfig.MODEL_PROVIDER,
                         Lists.newArrayList(
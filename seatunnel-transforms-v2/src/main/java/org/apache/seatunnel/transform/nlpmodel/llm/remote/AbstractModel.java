@@ -27,6 +27,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.format.json.RowToJsonConverters;
+import org.apache.seatunnel.transform.nlpmodel.ModelRequestExecutor;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -97,6 +98,11 @@ public abstract class AbstractModel implements Model {
         return chatWithModel(getPromptWithLimit(), OBJECT_MAPPER.writeValueAsString(rowsNode));
     }
 
+    @Override
+    public int estimateTokens(SeaTunnelRow row) {
+        return ModelRequestExecutor.estimateTokens(createProjectionSeaTunnelRow(row).getFields());
+    }
+
     @VisibleForTesting
     public SeaTunnelRow createProjectionSeaTunnelRow(SeaTunnelRow row) {
         if (row == null || projectionColumns == null || projectionColumns.isEmpty()) {
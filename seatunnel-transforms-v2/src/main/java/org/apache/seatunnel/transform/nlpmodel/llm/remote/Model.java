@@ -26,4 +26,7 @@ import java.util.List;
 public interface Model extends Closeable {
 
     List<String> inference(List<SeaTunnelRow> rows) throws IOException;
+
+    /** Estimates the tokens the row takes in an inference request. */
+    int estimateTokens(SeaTunnelRow row);
 }
@@ -23,10 +23,14 @@ import org.apache.seatunnel.transform.sql.zeta.ZetaSQLEngine;
 
 public class SQLEngineFactory {
     public static SQLEngine getSQLEngine(EngineType engineType) {
+        return getSQLEngine(engineType, ExecutionMode.INTERPRETED);
+    }
+
+    public static SQLEngine getSQLEngine(EngineType engineType, ExecutionMode executionMode) {
         switch (engineType) {
             case ZETA:
             case INTERNAL:
-                return new ZetaSQLEngine();
+                return new ZetaSQLEngine(executionMode);
         }
         throw new TransformException(
                 CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
@@ -37,4 +41,11 @@ public class SQLEngineFactory {
         ZETA,
         INTERNAL
     }
+
+    public enum ExecutionMode {
+        /** Evaluates the expressions of the query for each row. */
+        INTERPRETED,
+        /** Compiles the query into a class, the unsupported expressions are interpreted. */
+        COMPILED
+    }
 }
@@ -32,6 +32,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportFlatMapTransform;
 import org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory.ExecutionMode;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -56,10 +57,19 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
                     .defaultValue(ZETA.name())
                     .withDescription("The SQL engine type");
 
+    public static final Option<ExecutionMode> KEY_EXECUTION_MODE =
+            Options.key("execution_mode")
+                    .enumType(ExecutionMode.class)
+                    .defaultValue(ExecutionMode.INTERPRETED)
+                    .withDescription(
+                            "Interpret the query for each row, or compile the query into a class");
+
     private final String query;
 
     private final EngineType engineType;
 
+    private final ExecutionMode executionMode;
+
     private SeaTunnelRowType outRowType;
 
     private transient SQLEngine sqlEngine;
@@ -74,6 +84,7 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
         } else {
             this.engineType = ZETA;
         }
+        this.executionMode = config.get(KEY_EXECUTION_MODE);
 
         List<String> pluginInputIdentifiers = config.get(CommonOptions.PLUGIN_INPUT);
         if (pluginInputIdentifiers != null && !pluginInputIdentifiers.isEmpty()) {
@@ -90,7 +101,7 @@ public class SQLTransform extends AbstractCatalogSupportFlatMapTransform {
 
     @Override
     public void open() {
-        sqlEngine = SQLEngineFactory.getSQLEngine(engineType);
+        sqlEngine = SQLEngineFactory.getSQLEngine(engineType, executionMode);
         sqlEngine.init(
                 inputTableName,
                 inputCatalogTable.getTableId().getTableName(),
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import net.sf.jsqlparser.expression.Expression;
+
+/**
+ * The base class of the query classes generated by {@link ZetaSQLCompiler}. The expressions that
+ * can't be compiled are kept here and evaluated by the interpreter.
+ */
+public abstract class ZetaSQLCompiledQuery {
+    protected ZetaSQLFunction zetaSQLFunction;
+    protected ZetaSQLFilter zetaSQLFilter;
+    protected Expression[] interpretedExpressions;
+
+    void init(
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            Expression[] interpretedExpressions) {
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.interpretedExpressions = interpretedExpressions;
+    }
+
+    /** Returns whether the input row matches the where clause. */
+    public abstract boolean filter(Object[] inputFields);
+
+    /** Computes the select items of the input row. */
+    public abstract Object[] project(Object[] inputFields);
+
+    protected final Object evaluate(int index, Object[] inputFields) {
+        return zetaSQLFunction.computeForValue(interpretedExpressions[index], inputFields);
+    }
+
+    protected final boolean test(int index, Object[] inputFields) {
+        return zetaSQLFilter.executeFilter(interpretedExpressions[index], inputFields);
+    }
+}
@@ -0,0 +1,844 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.shade.org.codehaus.commons.compiler.CompileException;
+import org.apache.seatunnel.shade.org.codehaus.janino.ClassBodyEvaluator;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiles the where clause and the select items of a query into one class with Janino. Numeric
+ * expressions are computed with primitive locals, the values are only boxed when they are written
+ * to the output row.
+ *
+ * <p>The expressions that can't be compiled, like the functions other than CONCAT and the struct
+ * fields, are left to {@link ZetaSQLFunction} and {@link ZetaSQLFilter}, so the compiled query
+ * returns the same rows as the interpreted one.
+ */
+public class ZetaSQLCompiler {
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLType zetaSQLType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+
+    private final List<Expression> interpretedExpressions = new ArrayList<>();
+    private int localCount = 0;
+
+    public ZetaSQLCompiler(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLType zetaSQLType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLType = zetaSQLType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+    }
+
+    public ZetaSQLCompiledQuery compile(PlainSelect selectBody)
+            throws CompileException, ReflectiveOperationException {
+        String code = generateCode(selectBody);
+        ClassBodyEvaluator evaluator = new ClassBodyEvaluator();
+        evaluator.setParentClassLoader(ZetaSQLCompiledQuery.class.getClassLoader());
+        evaluator.setExtendedClass(ZetaSQLCompiledQuery.class);
+        evaluator.cook(code);
+        ZetaSQLCompiledQuery query =
+                (ZetaSQLCompiledQuery) evaluator.getClazz().getDeclaredConstructor().newInstance();
+        query.init(
+                zetaSQLFunction, zetaSQLFilter, interpretedExpressions.toArray(new Expression[0]));
+        return query;
+    }
+
+    String generateCode(PlainSelect selectBody) {
+        interpretedExpressions.clear();
+        localCount = 0;
+
+        StringBuilder code = new StringBuilder();
+        code.append("public boolean filter(Object[] in) {\n");
+        Expression where = selectBody.getWhere();
+        if (where == null) {
+            code.append("return true;\n");
+        } else {
+            GeneratedExpression filter = compilePredicate(where);
+            code.append(filter.code).append("return ").append(filter.value).append(";\n");
+        }
+        code.append("}\n\n");
+
+        int inputSize = inputRowType.getTotalFields();
+        StringBuilder project = new StringBuilder();
+        int idx = 0;
+        for (SelectItem<?> selectItem : selectBody.getSelectItems()) {
+            Expression expression = selectItem.getExpression();
+            if (expression instanceof AllColumns) {
+                project.append("System.arraycopy(in, 0, out, ")
+                        .append(idx)
+                        .append(", ")
+                        .append(inputSize)
+                        .append(");\n");
+                idx += inputSize;
+                continue;
+            }
+            int index = expression instanceof Column ? columnIndex((Column) expression) : -1;
+            if (index != -1) {
+                // plain columns are copied without unboxing
+                project.append("out[").append(idx).append("] = in[").append(index).append("];\n");
+            } else {
+                GeneratedExpression generated = compileOrInterpret(expression);
+                project.append(generated.code)
+                        .append("out[")
+                        .append(idx)
+                        .append("] = ")
+                        .append(generated.boxed())
+                        .append(";\n");
+            }
+            idx++;
+        }
+        code.append("public Object[] project(Object[] in) {\n")
+                .append("Object[] out = new Object[")
+                .append(idx)
+                .append("];\n")
+                .append(project)
+                .append("return out;\n")
+                .append("}\n");
+        return code.toString();
+    }
+
+    /** Compiles the expression, or returns null when it has to be interpreted. */
+    private GeneratedExpression compile(Expression expression) {
+        if (expression instanceof NullValue) {
+            return new GeneratedExpression("", "true", "null", JavaKind.OBJECT);
+        }
+        if (expression instanceof Parenthesis) {
+            return compile(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof LongValue) {
+            long value = ((LongValue) expression).getValue();
+            if (value <= Integer.MAX_VALUE && value >= Integer.MIN_VALUE) {
+                return constant(
+                        value == Integer.MIN_VALUE ? "Integer.MIN_VALUE" : "(" + value + ")",
+                        JavaKind.INT);
+            }
+            return constant(
+                    value == Long.MIN_VALUE ? "Long.MIN_VALUE" : "(" + value + "L)", JavaKind.LONG);
+        }
+        if (expression instanceof DoubleValue) {
+            return constant("(" + ((DoubleValue) expression).getValue() + "D)", JavaKind.DOUBLE);
+        }
+        if (expression instanceof StringValue) {
+            return constant(javaString(((StringValue) expression).getValue()), JavaKind.STRING);
+        }
+        if (expression instanceof SignedExpression) {
+            return compileSigned((SignedExpression) expression);
+        }
+        if (expression instanceof Column) {
+            return compileColumn((Column) expression);
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            if (!ZetaSQLFunction.CONCAT.equalsIgnoreCase(function.getName())) {
+                return null;
+            }
+            ExpressionList<?> parameters = function.getParameters();
+            return compileConcat(
+                    parameters == null ? Collections.emptyList() : parameters.getExpressions());
+        }
+        if (expression instanceof CaseExpression) {
+            return compileCase((CaseExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            return compileCast((CastExpression) expression);
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            return compileConcat(
+                    Arrays.asList(concat.getLeftExpression(), concat.getRightExpression()));
+        }
+        if (expression instanceof Addition) {
+            return compileArithmetic((BinaryExpression) expression, "+");
+        }
+        if (expression instanceof Subtraction) {
+            return compileArithmetic((BinaryExpression) expression, "-");
+        }
+        if (expression instanceof Multiplication) {
+            return compileArithmetic((BinaryExpression) expression, "*");
+        }
+        if (expression instanceof Division) {
+            return compileArithmetic((BinaryExpression) expression, "/");
+        }
+        if (expression instanceof Modulo) {
+            return compileArithmetic((BinaryExpression) expression, "%");
+        }
+        return null;
+    }
+
+    private GeneratedExpression compileOrInterpret(Expression expression) {
+        GeneratedExpression generated = compile(expression);
+        if (generated != null) {
+            return generated;
+        }
+        int index = interpret(expression);
+        int id = localCount++;
+        String code =
+                String.format(
+                        "Object value%d = evaluate(%d, in);\nboolean isNull%d = value%d == null;\n",
+                        id, index, id, id);
+        return new GeneratedExpression(code, "isNull" + id, "value" + id, JavaKind.OBJECT);
+    }
+
+    private GeneratedExpression compilePredicate(Expression expression) {
+        if (expression instanceof Parenthesis) {
+            return compilePredicate(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof AndExpression || expression instanceof OrExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            // both sides are evaluated like the interpreter does
+            GeneratedExpression left = compilePredicate(binaryExpression.getLeftExpression());
+            GeneratedExpression right = compilePredicate(binaryExpression.getRightExpression());
+            String operator = expression instanceof AndExpression ? " && " : " || ";
+            return predicate(left.code + right.code, left.value + operator + right.value);
+        }
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            GeneratedExpression value = compileOrInterpret(isNullExpression.getLeftExpression());
+            return predicate(
+                    value.code, isNullExpression.isNot() ? "!" + value.isNull : value.isNull);
+        }
+        if (expression instanceof ComparisonOperator) {
+            GeneratedExpression comparison = compileComparison((ComparisonOperator) expression);
+            if (comparison != null) {
+                return comparison;
+            }
+        }
+        return predicate("", "test(" + interpret(expression) + ", in)");
+    }
+
+    private GeneratedExpression compileComparison(ComparisonOperator comparisonOperator) {
+        GeneratedExpression left = compile(comparisonOperator.getLeftExpression());
+        GeneratedExpression right = compile(comparisonOperator.getRightExpression());
+        if (left == null || right == null) {
+            return null;
+        }
+        String leftValue;
+        String rightValue;
+        String equals;
+        boolean isString;
+        if (left.kind.isNumber() && right.kind.isNumber()) {
+            // numbers are compared as doubles like the interpreter does
+            leftValue = left.kind.toDouble(left.value);
+            rightValue = right.kind.toDouble(right.value);
+            equals = leftValue + " == " + rightValue;
+            isString = false;
+        } else if (left.kind == JavaKind.STRING && right.kind == JavaKind.STRING) {
+            leftValue = left.value;
+            rightValue = right.value;
+            equals = leftValue + ".equals(" + rightValue + ")";
+            isString = true;
+        } else {
+            return null;
+        }
+        String code = left.code + right.code;
+        if (comparisonOperator instanceof NotEqualsTo) {
+            return predicate(
+                    code,
+                    String.format(
+                            "%s ? !%s : (%s || !(%s))",
+                            left.isNull, right.isNull, right.isNull, equals));
+        }
+        String operator;
+        if (comparisonOperator instanceof EqualsTo) {
+            operator = null;
+        } else if (comparisonOperator instanceof GreaterThan) {
+            operator = " > ";
+        } else if (comparisonOperator instanceof GreaterThanEquals) {
+            operator = " >= ";
+        } else if (comparisonOperator instanceof MinorThan) {
+            operator = " < ";
+        } else if (comparisonOperator instanceof MinorThanEquals) {
+            operator = " <= ";
+        } else {
+            return null;
+        }
+        String condition;
+        if (operator == null) {
+            condition = equals;
+        } else if (isString) {
+            condition = leftValue + ".compareTo(" + rightValue + ")" + operator + "0";
+        } else {
+            condition = leftValue + operator + rightValue;
+        }
+        return predicate(
+                code, String.format("!%s && !%s && %s", left.isNull, right.isNull, condition));
+    }
+
+    private GeneratedExpression compileColumn(Column column) {
+        int index = columnIndex(column);
+        if (index == -1) {
+            return null;
+        }
+        JavaKind kind = JavaKind.of(inputRowType.getFieldType(index));
+        int id = localCount++;
+        String field = "in[" + index + "]";
+        String code =
+                String.format(
+                        "boolean isNull%d = %s == null;\n%s value%d = isNull%d ? %s : %s;\n",
+                        id, field, kind.javaType, id, id, kind.defaultValue, kind.unbox(field));
+        return new GeneratedExpression(code, "isNull" + id, "value" + id, kind);
+    }
+
+    private GeneratedExpression compileSigned(SignedExpression signedExpression) {
+        if (signedExpression.getSign() != '-') {
+            return null;
+        }
+        GeneratedExpression value = compile(signedExpression.getExpression());
+        if (value == null
+                || (value.kind != JavaKind.INT
+                        && value.kind != JavaKind.LONG
+                        && value.kind != JavaKind.DOUBLE)) {
+            return null;
+        }
+        return assign(value.code, value.isNull, "-" + value.value, value.kind);
+    }
+
+    private GeneratedExpression compileArithmetic(BinaryExpression expression, String operator) {
+        SeaTunnelDataType<?> resultType = typeOf(expression);
+        if (resultType == null) {
+            return null;
+        }
+        JavaKind kind = JavaKind.of(resultType);
+        if (kind != JavaKind.INT && kind != JavaKind.LONG && kind != JavaKind.DOUBLE) {
+            return null;
+        }
+        GeneratedExpression left = compile(expression.getLeftExpression());
+        GeneratedExpression right = compile(expression.getRightExpression());
+        if (left == null
+                || right == null
+                || !left.kind.isPrimitiveNumber()
+                || !right.kind.isPrimitiveNumber()) {
+            return null;
+        }
+        return assign(
+                left.code + right.code,
+                or(left.isNull, right.isNull),
+                kind.cast(left.value) + " " + operator + " " + kind.cast(right.value),
+                kind);
+    }
+
+    private GeneratedExpression compileConcat(List<? extends Expression> expressions) {
+        List<GeneratedExpression> values = new ArrayList<>(expressions.size());
+        StringBuilder code = new StringBuilder();
+        for (Expression expression : expressions) {
+            GeneratedExpression value = compileOrInterpret(expression);
+            code.append(value.code);
+            values.add(value);
+        }
+        int id = localCount++;
+        String builder = "builder" + id;
+        code.append("StringBuilder ").append(builder).append(" = new StringBuilder();\n");
+        for (GeneratedExpression value : values) {
+            if ("true".equals(value.isNull)) {
+                continue;
+            }
+            if (!"false".equals(value.isNull)) {
+                code.append("if (!").append(value.isNull).append(") ");
+            }
+            code.append(builder).append(".append(").append(value.value).append(");\n");
+        }
+        code.append(String.format("String value%d = %s.toString();\n", id, builder));
+        return new GeneratedExpression(code.toString(), "false", "value" + id, JavaKind.STRING);
+    }
+
+    private GeneratedExpression compileCast(CastExpression castExpression) {
+        String dataType = castExpression.getColDataType().getDataType().toUpperCase();
+        JavaKind kind = castKind(dataType);
+        if (kind == null) {
+            return null;
+        }
+        int scale = 0;
+        if (kind == JavaKind.DECIMAL) {
+            List<String> ps = castExpression.getColDataType().getArgumentsStringList();
+            if (ps == null || ps.size() < 2) {
+                return null;
+            }
+            try {
+                Integer.parseInt(ps.get(0));
+                scale = Integer.parseInt(ps.get(1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        GeneratedExpression value = compileOrInterpret(castExpression.getLeftExpression());
+        return castTo(value, dataType, kind, scale);
+    }
+
+    private GeneratedExpression compileCase(CaseExpression caseExpression) {
+        SeaTunnelDataType<?> caseType = typeOf(caseExpression);
+        if (caseType == null) {
+            return null;
+        }
+        // the interpreter casts the result of the branches to the type of the case expression
+        String typeName = caseType.getSqlType().toString();
+        JavaKind kind = castKind(typeName);
+        if (kind == null) {
+            return null;
+        }
+        int scale = caseType instanceof DecimalType ? ((DecimalType) caseType).getScale() : 0;
+
+        GeneratedExpression switchValue = null;
+        if (caseExpression.getSwitchExpression() != null) {
+            switchValue = compile(caseExpression.getSwitchExpression());
+            if (switchValue == null
+                    || !(switchValue.kind.isNumber() || switchValue.kind == JavaKind.STRING)) {
+                return null;
+            }
+        }
+
+        int id = localCount++;
+        String isNull = "isNull" + id;
+        String value = "value" + id;
+        String branches = "";
+        if (caseExpression.getElseExpression() != null) {
+            branches =
+                    caseBranch(
+                            caseExpression.getElseExpression(),
+                            typeName,
+                            kind,
+                            scale,
+                            isNull,
+                            value);
+        }
+        List<WhenClause> whenClauses = caseExpression.getWhenClauses();
+        for (int i = whenClauses.size() - 1; i >= 0; i--) {
+            WhenClause whenClause = whenClauses.get(i);
+            GeneratedExpression condition =
+                    caseCondition(switchValue, whenClause.getWhenExpression());
+            if (condition == null) {
+                return null;
+            }
+            String then =
+                    caseBranch(
+                            whenClause.getThenExpression(), typeName, kind, scale, isNull, value);
+            branches =
+                    condition.code
+                            + "if ("
+                            + condition.value
+                            + ") {\n"
+                            + then
+                            + (branches.isEmpty() ? "}\n" : "} else {\n" + branches + "}\n");
+        }
+
+        StringBuilder code = new StringBuilder();
+        code.append("boolean ").append(isNull).append(" = true;\n");
+        code.append(kind.javaType)
+                .append(' ')
+                .append(value)
+                .append(" = ")
+                .append(kind.defaultValue)
+                .append(";\n");
+        if (switchValue != null) {
+            code.append(switchValue.code);
+        }
+        code.append(branches);
+        return new GeneratedExpression(code.toString(), isNull, value, kind);
+    }
+
+    private GeneratedExpression caseCondition(
+            GeneratedExpression switchValue, Expression whenExpression) {
+        SeaTunnelDataType<?> whenType = typeOf(whenExpression);
+        if (whenType == null) {
+            return null;
+        }
+        boolean isCondition = BasicType.BOOLEAN_TYPE.equals(whenType);
+        if (switchValue == null) {
+            return isCondition ? compilePredicate(whenExpression) : null;
+        }
+        if (isCondition) {
+            return null;
+        }
+        GeneratedExpression when = compile(whenExpression);
+        if (when == null) {
+            return null;
+        }
+        GeneratedExpression comparison;
+        if (switchValue.kind.isNumber() && when.kind.isNumber()) {
+            comparison =
+                    predicate(
+                            when.code,
+                            String.format(
+                                    "!%s && !%s && %s == %s",
+                                    switchValue.isNull,
+                                    when.isNull,
+                                    switchValue.kind.toDouble(switchValue.value),
+                                    when.kind.toDouble(when.value)));
+        } else if (switchValue.kind == JavaKind.STRING && when.kind == JavaKind.STRING) {
+            comparison =
+                    predicate(
+                            when.code,
+                            String.format(
+                                    "!%s && !%s && %s.equals(%s)",
+                                    switchValue.isNull,
+                                    when.isNull,
+                                    switchValue.value,
+                                    when.value));
+        } else {
+            comparison = null;
+        }
+        return comparison;
+    }
+
+    private String caseBranch(
+            Expression expression,
+            String typeName,
+            JavaKind kind,
+            int scale,
+            String isNull,
+            String value) {
+        GeneratedExpression branch = castTo(compileOrInterpret(expression), typeName, kind, scale);
+        return branch.code
+                + isNull
+                + " = "
+                + branch.isNull
+                + ";\n"
+                + value
+                + " = "
+                + branch.value
+                + ";\n";
+    }
+
+    /** Generates the conversions of {@code SystemFunction#castAs} that the compiler supports. */
+    private GeneratedExpression castTo(
+            GeneratedExpression value, String typeName, JavaKind kind, int scale) {
+        if ("true".equals(value.isNull)) {
+            return new GeneratedExpression(value.code, "true", kind.defaultValue, kind);
+        }
+        String isNull = value.isNull;
+        if (value.kind == JavaKind.STRING || value.kind == JavaKind.OBJECT) {
+            // the interpreter returns null when the value is the name of the target type
+            isNull = or(isNull, value.value + ".equals(\"" + typeName + "\")");
+        }
+        String string =
+                value.kind.isPrimitive()
+                        ? "String.valueOf(" + value.value + ")"
+                        : value.value + ".toString()";
+        String converted;
+        switch (kind) {
+            case STRING:
+                converted = string;
+                break;
+            case INT:
+                converted =
+                        value.kind.isIntegerAtMost(JavaKind.INT)
+                                ? kind.cast(value.value)
+                                : "Integer.parseInt(" + string + ")";
+                break;
+            case LONG:
+                converted =
+                        value.kind.isIntegerAtMost(JavaKind.LONG)
+                                ? kind.cast(value.value)
+                                : "Long.parseLong(" + string + ")";
+                break;
+            case BYTE:
+                converted =
+                        value.kind == JavaKind.BYTE
+                                ? value.value
+                                : "Byte.parseByte(" + string + ")";
+                break;
+            case DOUBLE:
+                // a float is widened through its string like the interpreter does
+                converted =
+                        value.kind.isIntegerAtMost(JavaKind.LONG) || value.kind == JavaKind.DOUBLE
+                                ? kind.cast(value.value)
+                                : "Double.parseDouble(" + string + ")";
+                break;
+            case FLOAT:
+                converted =
+                        value.kind.isIntegerAtMost(JavaKind.LONG) || value.kind == JavaKind.FLOAT
+                                ? kind.cast(value.value)
+                                : "Float.parseFloat(" + string + ")";
+                break;
+            case DECIMAL:
+                converted =
+                        "new java.math.BigDecimal("
+                                + string
+                                + ").setScale("
+                                + scale
+                                + ", java.math.RoundingMode.CEILING)";
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported cast kind: " + kind);
+        }
+        return assign(value.code, isNull, converted, kind);
+    }
+
+    private GeneratedExpression assign(String code, String isNull, String value, JavaKind kind) {
+        int id = localCount++;
+        String assignment =
+                String.format(
+                        "boolean isNull%d = %s;\n%s value%d = isNull%d ? %s : (%s);\n",
+                        id, isNull, kind.javaType, id, id, kind.defaultValue, value);
+        return new GeneratedExpression(code + assignment, "isNull" + id, "value" + id, kind);
+    }
+
+    private GeneratedExpression predicate(String code, String condition) {
+        int id = localCount++;
+        return new GeneratedExpression(
+                code + String.format("boolean value%d = %s;\n", id, condition),
+                "false",
+                "value" + id,
+                JavaKind.BOOLEAN);
+    }
+
+    private static GeneratedExpression constant(String value, JavaKind kind) {
+        return new GeneratedExpression("", "false", value, kind);
+    }
+
+    private int interpret(Expression expression) {
+        interpretedExpressions.add(expression);
+        return interpretedExpressions.size() - 1;
+    }
+
+    private SeaTunnelDataType<?> typeOf(Expression expression) {
+        try {
+            return zetaSQLType.getExpressionType(expression);
+        } catch (RuntimeException e) {
+            // the interpreter raises the same error when the row is processed
+            return null;
+        }
+    }
+
+    private int columnIndex(Column column) {
+        String columnName = column.getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            index = inputRowType.indexOf(columnName.substring(1, columnName.length() - 1), false);
+        }
+        return index;
+    }
+
+    private static JavaKind castKind(String typeName) {
+        switch (typeName) {
+            case ZetaSQLType.VARCHAR:
+            case ZetaSQLType.STRING:
+                return JavaKind.STRING;
+            case ZetaSQLType.INT:
+            case ZetaSQLType.INTEGER:
+                return JavaKind.INT;
+            case ZetaSQLType.BIGINT:
+            case ZetaSQLType.LONG:
+                return JavaKind.LONG;
+            case ZetaSQLType.BYTE:
+                return JavaKind.BYTE;
+            case ZetaSQLType.DOUBLE:
+                return JavaKind.DOUBLE;
+            case ZetaSQLType.FLOAT:
+                return JavaKind.FLOAT;
+            case ZetaSQLType.DECIMAL:
+                return JavaKind.DECIMAL;
+            default:
+                return null;
+        }
+    }
+
+    private static String or(String left, String right) {
+        if ("false".equals(left)) {
+            return right;
+        }
+        if ("false".equals(right)) {
+            return left;
+        }
+        return left + " || " + right;
+    }
+
+    private static String javaString(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                // octal escapes, unicode escapes of line terminators break the literal
+                builder.append(String.format("\\%03o", (int) c));
+            } else if (c < 0x7f) {
+                builder.append(c);
+            } else {
+                builder.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * The generated code of an expression. {@code code} declares the locals, {@code isNull} and
+     * {@code value} are either a local or a constant.
+     */
+    private static class GeneratedExpression {
+        private final String code;
+        private final String isNull;
+        private final String value;
+        private final JavaKind kind;
+
+        private GeneratedExpression(String code, String isNull, String value, JavaKind kind) {
+            this.code = code;
+            this.isNull = isNull;
+            this.value = value;
+            this.kind = kind;
+        }
+
+        private String boxed() {
+            if ("true".equals(isNull)) {
+                return "null";
+            }
+            if ("false".equals(isNull)) {
+                return kind.box(value);
+            }
+            return isNull + " ? null : " + kind.box(value);
+        }
+    }
+
+    private enum JavaKind {
+        BOOLEAN("boolean", "Boolean", "false"),
+        BYTE("byte", "Byte", "(byte) 0"),
+        SHORT("short", "Short", "(short) 0"),
+        INT("int", "Integer", "0"),
+        LONG("long", "Long", "0L"),
+        FLOAT("float", "Float", "0F"),
+        DOUBLE("double", "Double", "0D"),
+        STRING("String", null, "null"),
+        DECIMAL("java.math.BigDecimal", null, "null"),
+        OBJECT("Object", null, "null");
+
+        private final String javaType;
+        private final String boxedType;
+        private final String defaultValue;
+
+        JavaKind(String javaType, String boxedType, String defaultValue) {
+            this.javaType = javaType;
+            this.boxedType = boxedType;
+            this.defaultValue = defaultValue;
+        }
+
+        private static JavaKind of(SeaTunnelDataType<?> dataType) {
+            switch (dataType.getSqlType()) {
+                case BOOLEAN:
+                    return BOOLEAN;
+                case TINYINT:
+                    return BYTE;
+                case SMALLINT:
+                    return SHORT;
+                case INT:
+                    return INT;
+                case BIGINT:
+                    return LONG;
+                case FLOAT:
+                    return FLOAT;
+                case DOUBLE:
+                    return DOUBLE;
+                case STRING:
+                    return STRING;
+                case DECIMAL:
+                    return DECIMAL;
+                default:
+                    return OBJECT;
+            }
+        }
+
+        private boolean isPrimitive() {
+            return boxedType != null;
+        }
+
+        private boolean isPrimitiveNumber() {
+            return isPrimitive() && this != BOOLEAN;
+        }
+
+        private boolean isNumber() {
+            return isPrimitiveNumber() || this == DECIMAL;
+        }
+
+        private boolean isIntegerAtMost(JavaKind kind) {
+            return ordinal() >= BYTE.ordinal() && ordinal() <= kind.ordinal();
+        }
+
+        private String cast(String value) {
+            return "((" + javaType + ") " + value + ")";
+        }
+
+        private String toDouble(String value) {
+            return this == DECIMAL ? value + ".doubleValue()" : DOUBLE.cast(value);
+        }
+
+        private String box(String value) {
+            return isPrimitive() ? boxedType + ".valueOf(" + value + ")" : value;
+        }
+
+        private String unbox(String object) {
+            if (this == BOOLEAN) {
+                return "((Boolean) " + object + ").booleanValue()";
+            }
+            if (isPrimitive()) {
+                return "((Number) " + object + ")." + javaType + "Value()";
+            }
+            if (this == OBJECT) {
+                return object;
+            }
+            return cast(object);
+        }
+    }
+}
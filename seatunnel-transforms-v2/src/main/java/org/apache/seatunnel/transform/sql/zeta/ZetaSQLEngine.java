@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.transform.exception.TransformException;
 import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory.ExecutionMode;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -68,9 +69,18 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
 
+    private final ExecutionMode executionMode;
+    @Nullable private ZetaSQLCompiledQuery compiledQuery;
+
     private Integer allColumnsCount = null;
 
-    public ZetaSQLEngine() {}
+    public ZetaSQLEngine() {
+        this(ExecutionMode.INTERPRETED);
+    }
+
+    public ZetaSQLEngine(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
 
     @Override
     public void init(
@@ -92,6 +102,7 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        this.compiledQuery = executionMode == ExecutionMode.COMPILED ? compileSQL() : null;
     }
 
     private void parseSQL() {
@@ -107,6 +118,16 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private ZetaSQLCompiledQuery compileSQL() {
+        try {
+            return new ZetaSQLCompiler(inputRowType, zetaSQLType, zetaSQLFunction, zetaSQLFilter)
+                    .compile(selectBody);
+        } catch (Exception e) {
+            log.warn("SQL compile failed, fallback to interpret the SQL: {}", sql, e);
+            return null;
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -240,13 +261,17 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain =
+                compiledQuery != null
+                        ? compiledQuery.filter(inputFields)
+                        : zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
         if (!retain) {
             return null;
         }
 
         // Project
-        Object[] outputFields = project(inputFields);
+        Object[] outputFields =
+                compiledQuery != null ? compiledQuery.project(inputFields) : project(inputFields);
 
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(outputFields);
         seaTunnelRow.setRowKind(inputRow.getRowKind());
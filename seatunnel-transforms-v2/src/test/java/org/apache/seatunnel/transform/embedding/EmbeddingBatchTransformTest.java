@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.embedding;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.BufferUtils;
+import org.apache.seatunnel.transform.llm.MockModelServer;
+import org.apache.seatunnel.transform.nlpmodel.embedding.EmbeddingMultiCatalogTransform;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EmbeddingBatchTransformTest {
+
+    @Test
+    void testBatchVectorization() throws Exception {
+        try (MockModelServer server = new MockModelServer(20)) {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("title_vector", "title");
+            Map<String, Object> options = new HashMap<>();
+            options.put("model_provider", "OPENAI");
+            options.put("model", "text-embedding-3-small");
+            options.put("api_key", "sk-xxx");
+            options.put("api_path", server.getUrl("/v1/embeddings"));
+            options.put("vectorization_fields", fields);
+            options.put("process_batch_size", 2);
+            options.put("max_concurrent_requests", 3);
+            options.put("max_retries", 1);
+            options.put("retry_backoff_ms", 10L);
+            EmbeddingMultiCatalogTransform transform =
+                    new EmbeddingMultiCatalogTransform(
+                            Collections.singletonList(table()), ReadonlyConfig.fromMap(options));
+            transform.getProducedCatalogTables();
+
+            List<SeaTunnelRow> rows = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, repeat(i + 1)});
+                row.setTableId("db.t1");
+                rows.add(row);
+            }
+            // the model asks the dimension of its vectors when it is opened by the first row
+            transform.map(rows.get(0));
+            server.failNextRequests(1);
+            List<SeaTunnelRow> outputRows = transform.mapBatch(rows);
+
+            Assertions.assertEquals(7, outputRows.size());
+            for (int i = 0; i < 7; i++) {
+                Float[] vector =
+                        BufferUtils.toFloatArray((ByteBuffer) outputRows.get(i).getField(2));
+                Assertions.assertArrayEquals(new Float[] {i + 1F, 1F}, vector);
+            }
+            Assertions.assertTrue(server.getMaxInFlight() > 1);
+            transform.close();
+        }
+    }
+
+    private static String repeat(int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append('x');
+        }
+        return builder.toString();
+    }
+
+    private static CatalogTable table() {
+        return CatalogTable.of(
+                TableIdentifier.of("test", "db", null, "t1"),
+                TableSchema.builder()
+                        .column(
+                                PhysicalColumn.of(
+                                        "id", BasicType.INT_TYPE, null, null, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "title",
+                                        BasicType.STRING_TYPE,
+                                        null,
+                                        null,
+                                        true,
+                                        null,
+                                        null))
+                        .build(),
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                null);
+    }
+}
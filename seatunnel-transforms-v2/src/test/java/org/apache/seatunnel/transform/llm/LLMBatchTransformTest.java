@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.llm;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.transform.nlpmodel.llm.LLMMultiCatalogTransform;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LLMBatchTransformTest {
+
+    private MockModelServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MockModelServer(50);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testEngineBatchingIsOptIn() {
+        Map<String, Object> options = options();
+        options.put("process_batch_size", 3);
+        LLMMultiCatalogTransform transform = transform(options, table("t1"));
+        Assertions.assertEquals(1, transform.getBatchSize());
+        transform.close();
+
+        options.put("engine_batch_size", 50);
+        transform = transform(options, table("t1"));
+        Assertions.assertEquals(50, transform.getBatchSize());
+        transform.close();
+    }
+
+    @Test
+    void testBatchRequestsInFlight() {
+        Map<String, Object> options = options();
+        options.put("engine_batch_size", 10);
+        options.put("process_batch_size", 3);
+        options.put("max_concurrent_requests", 4);
+        LLMMultiCatalogTransform transform = transform(options, table("t1"));
+        Assertions.assertEquals(10, transform.getBatchSize());
+
+        List<SeaTunnelRow> outputRows = transform.mapBatch(rows(10, "t1"));
+
+        assertOutputRows(outputRows, 10);
+        Assertions.assertEquals(Arrays.asList(1, 3, 3, 3), sorted(server.getBatchSizes()));
+        Assertions.assertTrue(server.getMaxInFlight() > 1);
+        transform.close();
+    }
+
+    @Test
+    void testBatchTokenBudget() {
+        Map<String, Object> options = options();
+        options.put("process_batch_size", 100);
+        // every row takes about 2 tokens
+        options.put("process_batch_tokens", 5);
+        LLMMultiCatalogTransform transform = transform(options, table("t1"));
+
+        assertOutputRows(transform.mapBatch(rows(6, "t1")), 6);
+        Assertions.assertEquals(Arrays.asList(2, 2, 2), server.getBatchSizes());
+        transform.close();
+    }
+
+    @Test
+    void testRetryFailedRequests() {
+        Map<String, Object> options = options();
+        options.put("max_retries", 2);
+        options.put("retry_backoff_ms", 10L);
+        LLMMultiCatalogTransform transform = transform(options, table("t1"));
+
+        server.failNextRequests(2);
+        assertOutputRows(transform.mapBatch(rows(4, "t1")), 4);
+        Assertions.assertEquals(3, server.getRequests());
+
+        server.failNextRequests(3);
+        Assertions.assertThrows(RuntimeException.class, () -> transform.mapBatch(rows(4, "t1")));
+
+        // the rows of the map path are retried too
+        server.failNextRequests(1);
+        SeaTunnelRow outputRow = transform.map(rows(1, "t1").get(0));
+        Assertions.assertEquals("hello name-0", outputRow.getField(2));
+        transform.close();
+    }
+
+    @Test
+    void testBatchOfSeveralTables() {
+        Map<String, Object> options = options();
+        options.put("max_concurrent_requests", 2);
+        LLMMultiCatalogTransform transform = transform(options, table("t1"), table("t2"));
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        List<SeaTunnelRow> t1Rows = rows(4, "t1");
+        List<SeaTunnelRow> t2Rows = rows(4, "t2");
+        for (int i = 0; i < 4; i++) {
+            rows.add(t1Rows.get(i));
+            rows.add(t2Rows.get(i));
+        }
+        List<SeaTunnelRow> outputRows = transform.mapBatch(rows);
+
+        Assertions.assertEquals(8, outputRows.size());
+        for (int i = 0; i < 8; i++) {
+            Assertions.assertEquals(rows.get(i).getTableId(), outputRows.get(i).getTableId());
+            Assertions.assertEquals("hello name-" + i / 2, outputRows.get(i).getField(2));
+        }
+        Assertions.assertEquals(Arrays.asList(4, 4), server.getBatchSizes());
+        transform.close();
+    }
+
+    private Map<String, Object> options() {
+        Map<String, Object> options = new HashMap<>();
+        options.put("model_provider", "OPENAI");
+        options.put("model", "gpt-4o-mini");
+        options.put("api_key", "sk-xxx");
+        options.put("api_path", server.getUrl("/v1/chat/completions"));
+        options.put("prompt", "Say hello to the name");
+        options.put("inference_columns", Collections.singletonList("name"));
+        return options;
+    }
+
+    private static LLMMultiCatalogTransform transform(
+            Map<String, Object> options, CatalogTable... tables) {
+        LLMMultiCatalogTransform transform =
+                new LLMMultiCatalogTransform(
+                        Arrays.asList(tables), ReadonlyConfig.fromMap(options));
+        transform.getProducedCatalogTables();
+        return transform;
+    }
+
+    private static CatalogTable table(String name) {
+        return CatalogTable.of(
+                TableIdentifier.of("test", "db", null, name),
+                TableSchema.builder()
+                        .column(
+                                PhysicalColumn.of(
+                                        "id", BasicType.INT_TYPE, null, null, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name",
+                                        BasicType.STRING_TYPE,
+                                        null,
+                                        null,
+                                        true,
+                                        null,
+                                        null))
+                        .build(),
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                null);
+    }
+
+    private static List<SeaTunnelRow> rows(int count, String table) {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, "name-" + i});
+            row.setTableId("db." + table);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static void assertOutputRows(List<SeaTunnelRow> outputRows, int count) {
+        Assertions.assertEquals(count, outputRows.size());
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(i, outputRows.get(i).getField(0));
+            Assertions.assertEquals("hello name-" + i, outputRows.get(i).getField(2));
+        }
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        Collections.sort(values);
+        return values;
+    }
+}
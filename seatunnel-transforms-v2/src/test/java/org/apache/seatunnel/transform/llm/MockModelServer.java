@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.llm;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local HTTP endpoint answering chat completions and embeddings like an OpenAI compatible model
+ * provider. A chat completion answers "hello {name}" for every row of the request, and an embedding
+ * answers the vector [length of the input, 1].
+ */
+public class MockModelServer implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public MockModelServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext("/v1/chat/completions", this::handleChat);
+        server.createContext("/v1/embeddings", this::handleEmbedding);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String getUrl(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    /** Answers the next requests with an internal server error. */
+    public void failNextRequests(int count) {
+        failures.set(count);
+    }
+
+    /** The number of rows of every answered chat completion. */
+    public List<Integer> getBatchSizes() {
+        synchronized (batchSizes) {
+            return new ArrayList<>(batchSizes);
+        }
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handleChat(HttpExchange exchange) throws IOException {
+        JsonNode request = receive(exchange);
+        if (request == null) {
+            return;
+        }
+        JsonNode rows =
+                OBJECT_MAPPER.readTree(request.get("messages").get(1).get("content").asText());
+        ArrayNode values = OBJECT_MAPPER.createArrayNode();
+        for (JsonNode row : rows) {
+            values.add("hello " + row.get("name").asText());
+        }
+        batchSizes.add(rows.size());
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.putArray("choices")
+                .addObject()
+                .putObject("message")
+                .put("role", "assistant")
+                .put("content", OBJECT_MAPPER.writeValueAsString(values));
+        respond(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(response));
+    }
+
+    private void handleEmbedding(HttpExchange exchange) throws IOException {
+        JsonNode request = receive(exchange);
+        if (request == null) {
+            return;
+        }
+        ObjectNode response = OBJECT_MAPPER.createObjectNode();
+        response.putArray("data")
+                .addObject()
+                .putArray("embedding")
+                .add((float) request.get("input").asText().length())
+                .add(1F);
+        respond(exchange, 200, OBJECT_MAPPER.writeValueAsBytes(response));
+    }
+
+    /** Reads the request, or answers it with an error and returns null if it should fail. */
+    private JsonNode receive(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (InputStream input = exchange.getRequestBody()) {
+            JsonNode request = OBJECT_MAPPER.readTree(input);
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            if (failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                respond(exchange, 500, "{\"error\":\"overloaded\"}".getBytes());
+                return null;
+            }
+            return request;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
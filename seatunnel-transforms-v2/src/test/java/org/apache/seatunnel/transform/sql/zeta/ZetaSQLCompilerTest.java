@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory.ExecutionMode;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ZetaSQLCompilerTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "amount", "small", "big"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        BasicType.SHORT_TYPE,
+                        BasicType.LONG_TYPE
+                    });
+
+    private static final List<SeaTunnelRow> ROWS =
+            Arrays.asList(
+                    row(1, "Joy Ding", 20, 1.5d, new BigDecimal("10.25"), (short) 3, 100L),
+                    row(2, "May Ding", 21, -2.25d, new BigDecimal("-1.50"), (short) -4, 5L),
+                    row(3, "INT", 24, 0d, BigDecimal.ZERO, (short) 0, 3_000_000_000L),
+                    row(4, null, null, null, null, null, null),
+                    row(
+                            -5,
+                            "Kin \"Dom\"\n",
+                            0,
+                            Double.NaN,
+                            new BigDecimal("0.01"),
+                            (short) 7,
+                            -1L));
+
+    @Test
+    public void testCompiledQueryMatchesInterpreter() {
+        assertSameResult("select * from test");
+        assertSameResult("select id, name, age + 1 as age from test where id > 0");
+        assertSameResult(
+                "select id * 2 + age - 1, big * id, score / 2, age % 7, small + id, -id, -score,"
+                        + " (age + 1) * (id - 3) from test where age is not null");
+        assertSameResult(
+                "select cast(id as string), cast(age as bigint), cast(score as string),"
+                        + " cast(age as double), cast(big as double), cast(small as float),"
+                        + " cast(amount as decimal(10, 1)), cast(score as decimal(10, 3)),"
+                        + " cast(id as varchar), cast(null as int) from test where id in (1, 3)");
+        assertSameResult(
+                "select concat(name, '_', id, score), name || '-' || age, concat(),"
+                        + " concat(null, amount, '中文', '_\"\\\\_') from test");
+        assertSameResult(
+                "select case when age > 21 then 'old' when age > 20 then 'mid' else 'young' end,"
+                        + " case when id = 1 then 1 when id = 2 then 2.5 end,"
+                        + " case id when 1 then 'one' when 2 then 'two' end,"
+                        + " case name when 'INT' then 1 else 0 end,"
+                        + " case when score > 0 then amount else 0 end,"
+                        + " case when id > 2 then 'STRING' else name end from test");
+        assertSameResult(
+                "select id from test where (age >= 21 and score < 0) or name = 'Joy Ding'"
+                        + " or big <> 5 or small <= -4");
+        assertSameResult("select id from test where name <> 'May Ding' and amount > 0");
+        assertSameResult("select id from test where score = score or name is null");
+    }
+
+    @Test
+    public void testInterpretedFallback() {
+        // functions other than CONCAT, LIKE, IN and DECIMAL arithmetic are left to the interpreter
+        assertSameResult(
+                "select upper(name), concat(lower(name), id), cast(upper(name) as string),"
+                        + " amount + 1, case when name like 'J%' then id end"
+                        + " from test where name like '%Ding' or id in (3, 5)");
+        PlainSelect selectBody = parse("select upper(name), id + 1 from test where id > 1");
+        String code = newCompiler().generateCode(selectBody);
+        Assertions.assertTrue(code.contains("evaluate(0, in)"), code);
+        Assertions.assertFalse(code.contains("evaluate(1, in)"), code);
+        Assertions.assertFalse(code.contains("test("), code);
+    }
+
+    @Test
+    public void testNumericExpressionsAreNotBoxed() {
+        PlainSelect selectBody =
+                parse("select (age + 1) * id - 3 from test where age * 2 > id + 1");
+        String code = newCompiler().generateCode(selectBody);
+        Assertions.assertFalse(code.contains("evaluate("), code);
+        Assertions.assertFalse(code.contains("test("), code);
+        // the values are only boxed once, when they are written to the output row
+        Assertions.assertEquals(1, code.split("Integer\\.valueOf").length - 1, code);
+    }
+
+    @Test
+    public void testDivisionByZero() {
+        ZetaSQLEngine engine = new ZetaSQLEngine(ExecutionMode.COMPILED);
+        engine.init("test", null, ROW_TYPE, "select id, age / 0 as a from test");
+        Assertions.assertThrows(
+                ArithmeticException.class, () -> engine.transformBySQL(ROWS.get(0), null));
+        Assertions.assertEquals(
+                Arrays.asList(4, null),
+                Arrays.asList(engine.transformBySQL(ROWS.get(3), null).get(0).getFields()));
+    }
+
+    private static void assertSameResult(String sql) {
+        // the engine falls back to the interpreter silently, so the query must compile here
+        Assertions.assertDoesNotThrow(() -> newCompiler().compile(parse(sql)), sql);
+        ZetaSQLEngine interpreted = new ZetaSQLEngine(ExecutionMode.INTERPRETED);
+        interpreted.init("test", null, ROW_TYPE, sql);
+        SeaTunnelRowType outRowType = interpreted.typeMapping(new ArrayList<>());
+        ZetaSQLEngine compiled = new ZetaSQLEngine(ExecutionMode.COMPILED);
+        compiled.init("test", null, ROW_TYPE, sql);
+        compiled.typeMapping(new ArrayList<>());
+        for (SeaTunnelRow row : ROWS) {
+            List<SeaTunnelRow> expected = transform(interpreted, row, outRowType);
+            List<SeaTunnelRow> actual = transform(compiled, row, outRowType);
+            Assertions.assertEquals(expected, actual, sql + " with " + row);
+            for (int i = 0; i < expected.size(); i++) {
+                Object[] expectedFields = expected.get(i).getFields();
+                Object[] actualFields = actual.get(i).getFields();
+                for (int j = 0; j < expectedFields.length; j++) {
+                    if (expectedFields[j] != null) {
+                        Assertions.assertEquals(
+                                expectedFields[j].getClass(),
+                                actualFields[j].getClass(),
+                                sql + " field " + j);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<SeaTunnelRow> transform(
+            ZetaSQLEngine engine, SeaTunnelRow row, SeaTunnelRowType outRowType) {
+        List<SeaTunnelRow> rows = engine.transformBySQL(row.copy(), outRowType);
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    private static ZetaSQLCompiler newCompiler() {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, Collections.emptyList());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, Collections.emptyList());
+        return new ZetaSQLCompiler(
+                ROW_TYPE,
+                zetaSQLType,
+                zetaSQLFunction,
+                new ZetaSQLFilter(zetaSQLFunction, zetaSQLType));
+    }
+
+    private static PlainSelect parse(String sql) {
+        try {
+            return (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+        } catch (JSQLParserException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static SeaTunnelRow row(Object... fields) {
+        return new SeaTunnelRow(fields);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory.ExecutionMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the interpreted and the compiled {@link ZetaSQLEngine} with typical CAST, CONCAT, CASE
+ * WHEN and arithmetic queries. Run it with {@link #main(String[])} from the IDE or the test
+ * classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZetaSQLEngineBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"INTERPRETED", "COMPILED"})
+    public ExecutionMode executionMode;
+
+    @Param({"CAST", "CONCAT", "CASE_WHEN", "ARITHMETIC"})
+    public String query;
+
+    private ZetaSQLEngine engine;
+    private SeaTunnelRowType outRowType;
+    private SeaTunnelRow[] rows;
+
+    @Setup
+    public void setUp() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "age", "price", "quantity"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.INT_TYPE,
+                            BasicType.DOUBLE_TYPE,
+                            BasicType.INT_TYPE
+                        });
+        engine = new ZetaSQLEngine(executionMode);
+        engine.init("test", null, rowType, sql(query));
+        outRowType = engine.typeMapping(new ArrayList<>());
+        rows = new SeaTunnelRow[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows[i] =
+                    new SeaTunnelRow(
+                            new Object[] {(long) i, "name_" + i, i % 80, i * 0.75d, i % 13});
+        }
+    }
+
+    private static String sql(String query) {
+        switch (query) {
+            case "CAST":
+                return "select cast(id as string) as id, cast(age as bigint) as age,"
+                        + " cast(price as decimal(10, 2)) as price from test where age > 10";
+            case "CONCAT":
+                return "select concat(name, '_', id) as name, name || '-' || age as tag"
+                        + " from test where name <> 'name_1'";
+            case "CASE_WHEN":
+                return "select id, case when age < 18 then 'child' when age < 60 then 'adult'"
+                        + " else 'senior' end as grade, case quantity when 0 then 0"
+                        + " else price end as price from test";
+            case "ARITHMETIC":
+                return "select id, price * quantity + 1.5 as total, (age + 1) * 2 - quantity"
+                        + " as score, id % 7 as bucket from test where price * quantity > 100";
+            default:
+                throw new IllegalArgumentException("Unknown query: " + query);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void transform(Blackhole blackhole) {
+        for (SeaTunnelRow row : rows) {
+            blackhole.consume(engine.transformBySQL(row, outRowType));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ZetaSQLEngineBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
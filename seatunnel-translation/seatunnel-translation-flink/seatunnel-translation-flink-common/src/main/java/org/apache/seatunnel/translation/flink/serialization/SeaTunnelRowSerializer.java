@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.common.typeutils.base.BigDecSerializer;
+import org.apache.flink.api.common.typeutils.base.BooleanSerializer;
+import org.apache.flink.api.common.typeutils.base.ByteSerializer;
+import org.apache.flink.api.common.typeutils.base.DoubleSerializer;
+import org.apache.flink.api.common.typeutils.base.FloatSerializer;
+import org.apache.flink.api.common.typeutils.base.GenericArraySerializer;
+import org.apache.flink.api.common.typeutils.base.IntSerializer;
+import org.apache.flink.api.common.typeutils.base.LocalDateSerializer;
+import org.apache.flink.api.common.typeutils.base.LocalDateTimeSerializer;
+import org.apache.flink.api.common.typeutils.base.LocalTimeSerializer;
+import org.apache.flink.api.common.typeutils.base.LongSerializer;
+import org.apache.flink.api.common.typeutils.base.MapSerializer;
+import org.apache.flink.api.common.typeutils.base.ShortSerializer;
+import org.apache.flink.api.common.typeutils.base.StringSerializer;
+import org.apache.flink.api.common.typeutils.base.array.BytePrimitiveArraySerializer;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link TypeSerializer} of {@link SeaTunnelRow}, compiled from the row types of the tables a
+ * stream carries. A row is encoded as:
+ *
+ * <pre>
+ *   rowKind(byte) | tableCode(int) | null mask | non-null fields
+ * </pre>
+ *
+ * The table code is the index of the table of the row, its fields are written with the typed
+ * serializer of each column. Rows of unknown tables, or whose arity differs from the compiled type,
+ * are written with the table id and the Kryo serializer for every field, so the serializer never
+ * fails on a row it was not compiled for. The same applies to a row holding a value whose class
+ * differs from the class of its column type, e.g. a {@code Long} in an {@code INT} column or in the
+ * values of a {@code MAP<STRING, INT>} column. Types without a dedicated Flink serializer (nested
+ * rows, vectors, timestamps with time zone, ...) fall back to Kryo as well.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class SeaTunnelRowSerializer extends TypeSerializer<SeaTunnelRow> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int NULL_TABLE_ID = -1;
+    private static final int LITERAL_TABLE_ID = -2;
+
+    private final LinkedHashMap<String, SeaTunnelRowType> rowTypes;
+
+    private final String[] tableIds;
+    private final Map<String, Integer> tableIndexes;
+    private final TypeSerializer<Object>[][] fieldSerializers;
+    /** The classes of every typed field, null for the fields written with Kryo. */
+    private final FieldClasses[][] fieldClasses;
+
+    private final TypeSerializer<Object> genericSerializer;
+
+    public SeaTunnelRowSerializer(
+            LinkedHashMap<String, SeaTunnelRowType> rowTypes, ExecutionConfig executionConfig) {
+        this(rowTypes, new KryoSerializer<>(Object.class, executionConfig));
+    }
+
+    /**
+     * Creates the serializer with the Kryo serializer of its untyped fields, e.g. a restored one.
+     */
+    SeaTunnelRowSerializer(
+            LinkedHashMap<String, SeaTunnelRowType> rowTypes,
+            TypeSerializer<Object> genericSerializer) {
+        this.rowTypes = rowTypes;
+        this.genericSerializer = genericSerializer;
+        this.tableIds = new String[rowTypes.size()];
+        this.tableIndexes = new HashMap<>(rowTypes.size() * 2);
+        this.fieldSerializers = new TypeSerializer[rowTypes.size()][];
+        this.fieldClasses = new FieldClasses[rowTypes.size()][];
+        int index = 0;
+        for (Map.Entry<String, SeaTunnelRowType> entry : rowTypes.entrySet()) {
+            SeaTunnelRowType rowType = entry.getValue();
+            TypeSerializer<Object>[] serializers = new TypeSerializer[rowType.getTotalFields()];
+            FieldClasses[] classes = new FieldClasses[serializers.length];
+            for (int i = 0; i < serializers.length; i++) {
+                serializers[i] = createFieldSerializer(rowType.getFieldType(i));
+                if (serializers[i] != genericSerializer) {
+                    classes[i] = new FieldClasses(rowType.getFieldType(i));
+                }
+            }
+            tableIds[index] = entry.getKey();
+            tableIndexes.put(entry.getKey(), index);
+            fieldSerializers[index] = serializers;
+            fieldClasses[index] = classes;
+            index++;
+        }
+    }
+
+    public LinkedHashMap<String, SeaTunnelRowType> getRowTypes() {
+        return rowTypes;
+    }
+
+    TypeSerializer<Object> getGenericSerializer() {
+        return genericSerializer;
+    }
+
+    @Override
+    public boolean isImmutableType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> duplicate() {
+        // The Kryo serializer is stateful, every thread needs its own instance
+        return new SeaTunnelRowSerializer(rowTypes, genericSerializer.duplicate());
+    }
+
+    @Override
+    public SeaTunnelRow createInstance() {
+        return new SeaTunnelRow(0);
+    }
+
+    @Override
+    public SeaTunnelRow copy(SeaTunnelRow from) {
+        Object[] fields = from.getFields();
+        TypeSerializer<Object>[] serializers = getFieldSerializers(from);
+        Object[] copied = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                copied[i] =
+                        serializers == null
+                                ? genericSerializer.copy(fields[i])
+                                : serializers[i].copy(fields[i]);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(copied);
+        row.setRowKind(from.getRowKind());
+        row.setTableId(from.getTableId());
+        return row;
+    }
+
+    @Override
+    public SeaTunnelRow copy(SeaTunnelRow from, SeaTunnelRow reuse) {
+        return copy(from);
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow row, DataOutputView target) throws IOException {
+        target.writeByte(row.getRowKind().toByteValue());
+        Object[] fields = row.getFields();
+        TypeSerializer<Object>[] serializers = getFieldSerializers(row);
+        if (serializers != null) {
+            target.writeInt(tableIndexes.get(row.getTableId()));
+            writeFields(serializers, fields, target);
+            return;
+        }
+
+        if (row.getTableId() == null) {
+            target.writeInt(NULL_TABLE_ID);
+        } else {
+            target.writeInt(LITERAL_TABLE_ID);
+            StringSerializer.INSTANCE.serialize(row.getTableId(), target);
+        }
+        target.writeInt(fields.length);
+        writeFields(null, fields, target);
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(DataInputView source) throws IOException {
+        RowKind rowKind = RowKind.fromByteValue(source.readByte());
+        int tableCode = source.readInt();
+        SeaTunnelRow row;
+        if (tableCode >= 0) {
+            TypeSerializer<Object>[] serializers = fieldSerializers[tableCode];
+            row = new SeaTunnelRow(readFields(serializers, serializers.length, source));
+            row.setTableId(tableIds[tableCode]);
+        } else {
+            String tableId =
+                    tableCode == LITERAL_TABLE_ID
+                            ? StringSerializer.INSTANCE.deserialize(source)
+                            : null;
+            int arity = source.readInt();
+            row = new SeaTunnelRow(readFields(null, arity, source));
+            row.setTableId(tableId);
+        }
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    @Override
+    public SeaTunnelRow deserialize(SeaTunnelRow reuse, DataInputView source) throws IOException {
+        return deserialize(source);
+    }
+
+    @Override
+    public void copy(DataInputView source, DataOutputView target) throws IOException {
+        serialize(deserialize(source), target);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeaTunnelRowSerializer)) {
+            return false;
+        }
+        return rowTypes.equals(((SeaTunnelRowSerializer) obj).rowTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return rowTypes.hashCode();
+    }
+
+    @Override
+    public TypeSerializerSnapshot<SeaTunnelRow> snapshotConfiguration() {
+        return new SeaTunnelRowSerializerSnapshot(
+                rowTypes, genericSerializer.snapshotConfiguration());
+    }
+
+    /** The typed serializers of the row, or null when the row has to be written generically. */
+    private TypeSerializer<Object>[] getFieldSerializers(SeaTunnelRow row) {
+        Integer tableIndex = row.getTableId() == null ? null : tableIndexes.get(row.getTableId());
+        Object[] fields = row.getFields();
+        if (tableIndex == null || fieldSerializers[tableIndex].length != fields.length) {
+            return null;
+        }
+        FieldClasses[] classes = fieldClasses[tableIndex];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null && classes[i] != null && !classes[i].accepts(fields[i])) {
+                return null;
+            }
+        }
+        return fieldSerializers[tableIndex];
+    }
+
+    private void writeFields(
+            TypeSerializer<Object>[] serializers, Object[] fields, DataOutputView target)
+            throws IOException {
+        int mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                mask |= 1 << (i & 7);
+            }
+            if ((i & 7) == 7) {
+                target.writeByte(mask);
+                mask = 0;
+            }
+        }
+        if ((fields.length & 7) != 0) {
+            target.writeByte(mask);
+        }
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                TypeSerializer<Object> serializer =
+                        serializers == null ? genericSerializer : serializers[i];
+                serializer.serialize(fields[i], target);
+            }
+        }
+    }
+
+    private Object[] readFields(
+            TypeSerializer<Object>[] serializers, int arity, DataInputView source)
+            throws IOException {
+        byte[] mask = new byte[(arity + 7) >>> 3];
+        source.readFully(mask);
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            if ((mask[i >>> 3] & (1 << (i & 7))) == 0) {
+                TypeSerializer<Object> serializer =
+                        serializers == null ? genericSerializer : serializers[i];
+                fields[i] = serializer.deserialize(source);
+            }
+        }
+        return fields;
+    }
+
+    private TypeSerializer<Object> createFieldSerializer(SeaTunnelDataType<?> dataType) {
+        TypeSerializer<?> serializer = createBasicSerializer(dataType);
+        if (serializer != null) {
+            return (TypeSerializer<Object>) serializer;
+        }
+        switch (dataType.getSqlType()) {
+            case DECIMAL:
+                return (TypeSerializer) BigDecSerializer.INSTANCE;
+            case BYTES:
+                return (TypeSerializer) BytePrimitiveArraySerializer.INSTANCE;
+            case DATE:
+                return (TypeSerializer) LocalDateSerializer.INSTANCE;
+            case TIME:
+                return (TypeSerializer) LocalTimeSerializer.INSTANCE;
+            case TIMESTAMP:
+                return (TypeSerializer) LocalDateTimeSerializer.INSTANCE;
+            case ARRAY:
+                ArrayType<?, ?> arrayType = (ArrayType<?, ?>) dataType;
+                TypeSerializer<?> elementSerializer =
+                        createBasicSerializer(arrayType.getElementType());
+                if (elementSerializer != null) {
+                    return (TypeSerializer)
+                            new GenericArraySerializer(
+                                    arrayType.getTypeClass().getComponentType(), elementSerializer);
+                }
+                return genericSerializer;
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                TypeSerializer<?> keySerializer = createBasicSerializer(mapType.getKeyType());
+                TypeSerializer<?> valueSerializer = createBasicSerializer(mapType.getValueType());
+                if (keySerializer != null && valueSerializer != null) {
+                    return (TypeSerializer) new MapSerializer(keySerializer, valueSerializer);
+                }
+                return genericSerializer;
+            default:
+                return genericSerializer;
+        }
+    }
+
+    private static TypeSerializer<?> createBasicSerializer(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return StringSerializer.INSTANCE;
+            case BOOLEAN:
+                return BooleanSerializer.INSTANCE;
+            case TINYINT:
+                return ByteSerializer.INSTANCE;
+            case SMALLINT:
+                return ShortSerializer.INSTANCE;
+            case INT:
+                return IntSerializer.INSTANCE;
+            case BIGINT:
+                return LongSerializer.INSTANCE;
+            case FLOAT:
+                return FloatSerializer.INSTANCE;
+            case DOUBLE:
+                return DoubleSerializer.INSTANCE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The classes a typed field accepts. The typed serializers of maps write their keys and values
+     * without checking them, so those are checked entry by entry.
+     */
+    private static class FieldClasses implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> typeClass;
+        private final Class<?> keyClass;
+        private final Class<?> valueClass;
+
+        private FieldClasses(SeaTunnelDataType<?> dataType) {
+            this.typeClass = dataType.getTypeClass();
+            if (dataType instanceof MapType) {
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                this.keyClass = mapType.getKeyType().getTypeClass();
+                this.valueClass = mapType.getValueType().getTypeClass();
+            } else {
+                this.keyClass = null;
+                this.valueClass = null;
+            }
+        }
+
+        private boolean accepts(Object value) {
+            if (!typeClass.isInstance(value)) {
+                return false;
+            }
+            if (keyClass == null) {
+                return true;
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object entryValue = entry.getValue();
+                if (!keyClass.isInstance(entry.getKey())
+                        || (entryValue != null && !valueClass.isInstance(entryValue))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.catalog.SeaTunnelDataTypeConvertorUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The snapshot of {@link SeaTunnelRowSerializer}, which stores the row types the serializer was
+ * compiled from and the snapshot of its Kryo serializer. A serializer restored from an older
+ * snapshot can still read the rows written before the row types changed, so state of a changed
+ * table is migrated instead of rejected, and it keeps the Kryo registrations of the job that wrote
+ * the Kryo encoded fields.
+ *
+ * <p>The row types are written field by field with the names of their {@link SqlType}s, so the
+ * snapshot does not depend on the Java serialization of the type classes.
+ *
+ * <p>The rows of older versions were a generic type serialized with Kryo. Flink resolves the
+ * compatibility of such data with the restored {@code KryoSerializerSnapshot}, which rejects this
+ * serializer, so in-flight rows of a retained unaligned checkpoint of an older version cannot be
+ * restored. See the upgrade notes of the Flink engine documentation.
+ */
+public class SeaTunnelRowSerializerSnapshot implements TypeSerializerSnapshot<SeaTunnelRow> {
+
+    private static final int CURRENT_VERSION = 2;
+
+    private LinkedHashMap<String, SeaTunnelRowType> rowTypes;
+    private TypeSerializerSnapshot<Object> genericSerializerSnapshot;
+
+    /** Used by Flink to instantiate the snapshot through reflection when it is read. */
+    public SeaTunnelRowSerializerSnapshot() {}
+
+    public SeaTunnelRowSerializerSnapshot(
+            LinkedHashMap<String, SeaTunnelRowType> rowTypes,
+            TypeSerializerSnapshot<Object> genericSerializerSnapshot) {
+        this.rowTypes = rowTypes;
+        this.genericSerializerSnapshot = genericSerializerSnapshot;
+    }
+
+    @Override
+    public int getCurrentVersion() {
+        return CURRENT_VERSION;
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputView out) throws IOException {
+        out.writeInt(rowTypes.size());
+        for (Map.Entry<String, SeaTunnelRowType> entry : rowTypes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeType(out, entry.getValue());
+        }
+        TypeSerializerSnapshot.writeVersionedSnapshot(out, genericSerializerSnapshot);
+    }
+
+    @Override
+    public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+            throws IOException {
+        if (readVersion != CURRENT_VERSION) {
+            throw new IOException(
+                    "Unsupported version " + readVersion + " of the SeaTunnelRow serializer");
+        }
+        int tableCount = in.readInt();
+        rowTypes = new LinkedHashMap<>(tableCount * 2);
+        for (int i = 0; i < tableCount; i++) {
+            rowTypes.put(in.readUTF(), (SeaTunnelRowType) readType(in));
+        }
+        genericSerializerSnapshot =
+                TypeSerializerSnapshot.readVersionedSnapshot(in, userCodeClassLoader);
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> restoreSerializer() {
+        return new SeaTunnelRowSerializer(rowTypes, genericSerializerSnapshot.restoreSerializer());
+    }
+
+    @Override
+    public TypeSerializerSchemaCompatibility<SeaTunnelRow> resolveSchemaCompatibility(
+            TypeSerializer<SeaTunnelRow> newSerializer) {
+        if (!(newSerializer instanceof SeaTunnelRowSerializer)) {
+            return TypeSerializerSchemaCompatibility.incompatible();
+        }
+        SeaTunnelRowSerializer rowSerializer = (SeaTunnelRowSerializer) newSerializer;
+        TypeSerializerSchemaCompatibility<Object> genericCompatibility =
+                genericSerializerSnapshot.resolveSchemaCompatibility(
+                        rowSerializer.getGenericSerializer());
+        if (genericCompatibility.isIncompatible()) {
+            return TypeSerializerSchemaCompatibility.incompatible();
+        }
+        if (genericCompatibility.isCompatibleAsIs()
+                && rowTypes.equals(rowSerializer.getRowTypes())) {
+            return TypeSerializerSchemaCompatibility.compatibleAsIs();
+        }
+        // The rows are read with the restored row types and Kryo registrations and written again
+        // with the new ones, rows no longer matching a compiled type are kept through Kryo.
+        return TypeSerializerSchemaCompatibility.compatibleAfterMigration();
+    }
+
+    private static void writeType(DataOutputView out, SeaTunnelDataType<?> dataType)
+            throws IOException {
+        SqlType sqlType = dataType.getSqlType();
+        out.writeUTF(sqlType.name());
+        switch (sqlType) {
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) dataType;
+                out.writeInt(decimalType.getPrecision());
+                out.writeInt(decimalType.getScale());
+                break;
+            case ARRAY:
+                writeType(out, ((ArrayType<?, ?>) dataType).getElementType());
+                break;
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) dataType;
+                writeType(out, mapType.getKeyType());
+                writeType(out, mapType.getValueType());
+                break;
+            case ROW:
+                SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
+                out.writeInt(rowType.getTotalFields());
+                for (int i = 0; i < rowType.getTotalFields(); i++) {
+                    out.writeUTF(rowType.getFieldName(i));
+                    writeType(out, rowType.getFieldType(i));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static SeaTunnelDataType<?> readType(DataInputView in) throws IOException {
+        String typeName = in.readUTF();
+        switch (SqlType.valueOf(typeName)) {
+            case DECIMAL:
+                return new DecimalType(in.readInt(), in.readInt());
+            case ARRAY:
+                return toArrayType(readType(in));
+            case MAP:
+                return new MapType<>(readType(in), readType(in));
+            case ROW:
+                int arity = in.readInt();
+                String[] fieldNames = new String[arity];
+                SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType[arity];
+                for (int i = 0; i < arity; i++) {
+                    fieldNames[i] = in.readUTF();
+                    fieldTypes[i] = readType(in);
+                }
+                return new SeaTunnelRowType(fieldNames, fieldTypes);
+            default:
+                return SeaTunnelDataTypeConvertorUtil.deserializeSeaTunnelDataType(
+                        typeName, typeName);
+        }
+    }
+
+    private static ArrayType<?, ?> toArrayType(SeaTunnelDataType<?> elementType)
+            throws IOException {
+        switch (elementType.getSqlType()) {
+            case STRING:
+                return ArrayType.STRING_ARRAY_TYPE;
+            case BOOLEAN:
+                return ArrayType.BOOLEAN_ARRAY_TYPE;
+            case TINYINT:
+                return ArrayType.BYTE_ARRAY_TYPE;
+            case SMALLINT:
+                return ArrayType.SHORT_ARRAY_TYPE;
+            case INT:
+                return ArrayType.INT_ARRAY_TYPE;
+            case BIGINT:
+                return ArrayType.LONG_ARRAY_TYPE;
+            case FLOAT:
+                return ArrayType.FLOAT_ARRAY_TYPE;
+            case DOUBLE:
+                return ArrayType.DOUBLE_ARRAY_TYPE;
+            case DATE:
+                return ArrayType.LOCAL_DATE_ARRAY_TYPE;
+            case TIME:
+                return ArrayType.LOCAL_TIME_ARRAY_TYPE;
+            case TIMESTAMP:
+                return ArrayType.LOCAL_DATE_TIME_ARRAY_TYPE;
+            case TIMESTAMP_TZ:
+                return ArrayType.OFFSET_DATE_TIME_ARRAY_TYPE;
+            case DECIMAL:
+                return new DecimalArrayType((DecimalType) elementType);
+            default:
+                throw new IOException("Unsupported element type of an array: " + elementType);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * The {@link TypeInformation} of {@link SeaTunnelRow}, built from the row types of the tables a
+ * stream carries, so Flink exchanges the rows with {@link SeaTunnelRowSerializer} instead of
+ * falling back to Kryo for the whole row.
+ */
+public class SeaTunnelRowTypeInfo extends TypeInformation<SeaTunnelRow> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LinkedHashMap<String, SeaTunnelRowType> rowTypes;
+
+    public SeaTunnelRowTypeInfo(LinkedHashMap<String, SeaTunnelRowType> rowTypes) {
+        this.rowTypes = rowTypes;
+    }
+
+    public static SeaTunnelRowTypeInfo of(List<CatalogTable> catalogTables) {
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        for (CatalogTable catalogTable : catalogTables) {
+            rowTypes.put(
+                    catalogTable.getTableId().toTablePath().toString(),
+                    catalogTable.getSeaTunnelRowType());
+        }
+        return new SeaTunnelRowTypeInfo(rowTypes);
+    }
+
+    @Override
+    public boolean isBasicType() {
+        return false;
+    }
+
+    @Override
+    public boolean isTupleType() {
+        return false;
+    }
+
+    @Override
+    public int getArity() {
+        return 1;
+    }
+
+    @Override
+    public int getTotalFields() {
+        return 1;
+    }
+
+    @Override
+    public Class<SeaTunnelRow> getTypeClass() {
+        return SeaTunnelRow.class;
+    }
+
+    @Override
+    public boolean isKeyType() {
+        return false;
+    }
+
+    @Override
+    public TypeSerializer<SeaTunnelRow> createSerializer(ExecutionConfig config) {
+        return new SeaTunnelRowSerializer(rowTypes, config);
+    }
+
+    @Override
+    public String toString() {
+        return "SeaTunnelRowTypeInfo" + rowTypes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeaTunnelRowTypeInfo)) {
+            return false;
+        }
+        SeaTunnelRowTypeInfo that = (SeaTunnelRowTypeInfo) obj;
+        return that.canEqual(this) && rowTypes.equals(that.rowTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return rowTypes.hashCode();
+    }
+
+    @Override
+    public boolean canEqual(Object obj) {
+        return obj instanceof SeaTunnelRowTypeInfo;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.flink.serialization.FlinkSimpleVersionedSerializer;
+import org.apache.seatunnel.translation.flink.serialization.SeaTunnelRowTypeInfo;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.connector.source.Boundedness;
@@ -37,6 +38,7 @@ import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
 import org.apache.flink.core.io.SimpleVersionedSerializer;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
 
 /**
  * The source implementation of {@link Source}, used for proxy all {@link SeaTunnelSource} in flink.
@@ -108,6 +110,11 @@ public class FlinkSource<SplitT extends SourceSplit, EnumStateT extends Serializ
 
     @Override
     public TypeInformation<SeaTunnelRow> getProducedType() {
-        return TypeInformation.of(SeaTunnelRow.class);
+        try {
+            return SeaTunnelRowTypeInfo.of(source.getProducedCatalogTables());
+        } catch (UnsupportedOperationException e) {
+            // The rows are still exchanged through the generic encoding of the serializer
+            return new SeaTunnelRowTypeInfo(new LinkedHashMap<>());
+        }
     }
 }
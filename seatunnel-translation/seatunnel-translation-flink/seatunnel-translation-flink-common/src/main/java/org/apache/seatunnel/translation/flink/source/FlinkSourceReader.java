@@ -100,8 +100,14 @@ public class FlinkSourceReader<SplitT extends SourceSplit>
             if (flinkRowCollector.isEmptyThisPollNext()) {
                 synchronized (this) {
                     if (availabilityFuture == null || availabilityFuture.isDone()) {
-                        availabilityFuture = new CompletableFuture<>();
-                        scheduleComplete(availabilityFuture);
+                        CompletableFuture<Void> future = new CompletableFuture<>();
+                        availabilityFuture = future;
+                        scheduleComplete(future);
+                        // complete it earlier when the reader reports that data has arrived
+                        CompletableFuture<Void> readerAvailable = sourceReader.isAvailable();
+                        if (readerAvailable != null) {
+                            readerAvailable.whenComplete((ignored, error) -> future.complete(null));
+                        }
                         LOGGER.debug("No data available, wait for next poll.");
                     }
                 }
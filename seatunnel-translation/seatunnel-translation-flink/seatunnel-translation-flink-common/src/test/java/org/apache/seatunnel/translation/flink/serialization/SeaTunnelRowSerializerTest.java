@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.flink.serialization;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.java.typeutils.runtime.kryo.KryoSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.util.InstantiationUtil;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SeaTunnelRowSerializerTest {
+
+    private static final String TABLE_ID = "db.table";
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_string",
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_bytes",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp",
+                        "c_array",
+                        "c_map",
+                        "c_row"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                        NESTED_TYPE
+                    });
+
+    private final SeaTunnelRowSerializer serializer =
+            new SeaTunnelRowSerializer(rowTypes(ROW_TYPE), new ExecutionConfig());
+
+    @Test
+    public void testRoundTripAllTypes() throws IOException {
+        SeaTunnelRow row = fullRow();
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        SeaTunnelRow copy = roundTrip(serializer, row);
+        Assertions.assertEquals(row, copy);
+        Assertions.assertEquals(RowKind.UPDATE_AFTER, copy.getRowKind());
+        Assertions.assertEquals(TABLE_ID, copy.getTableId());
+    }
+
+    @Test
+    public void testNullMask() throws IOException {
+        // nulls on both sides of the byte boundaries of the mask
+        SeaTunnelRow row = fullRow();
+        for (int i : new int[] {0, 7, 8, 15}) {
+            row.setField(i, null);
+        }
+        Assertions.assertEquals(row, roundTrip(serializer, row));
+
+        SeaTunnelRow empty = row(new Object[ROW_TYPE.getTotalFields()]);
+        Assertions.assertEquals(empty, roundTrip(serializer, empty));
+    }
+
+    @Test
+    public void testRowOfUnknownTable() throws IOException {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1L, "unknown", null});
+        row.setTableId("db.unknown");
+        Assertions.assertEquals(row, roundTrip(serializer, row));
+
+        SeaTunnelRow withoutTable = new SeaTunnelRow(new Object[] {1L, null});
+        withoutTable.setTableId(null);
+        Assertions.assertEquals(withoutTable, roundTrip(serializer, withoutTable));
+        Assertions.assertNull(roundTrip(serializer, withoutTable).getTableId());
+    }
+
+    @Test
+    public void testRowWithUnexpectedArity() throws IOException {
+        SeaTunnelRow row = row(new Object[] {"a", true});
+        Assertions.assertEquals(row, roundTrip(serializer, row));
+    }
+
+    @Test
+    public void testValueOfUnexpectedClass() throws IOException {
+        // a connector emitting a Long for an INT column must not break the job
+        SeaTunnelRow row = fullRow();
+        row.setField(4, 42L);
+        SeaTunnelRow copy = roundTrip(serializer, row);
+        Assertions.assertEquals(row, copy);
+        Assertions.assertEquals(42L, copy.getField(4));
+
+        Assertions.assertEquals(row, serializer.copy(row));
+    }
+
+    @Test
+    public void testMapValueOfUnexpectedClass() throws IOException {
+        SeaTunnelRow row = fullRow();
+        row.setField(14, Collections.singletonMap("key", 10L));
+        SeaTunnelRow copy = roundTrip(serializer, row);
+        Assertions.assertEquals(row, copy);
+        Assertions.assertEquals(10L, ((Map<?, ?>) copy.getField(14)).get("key"));
+
+        row.setField(14, Collections.singletonMap(null, 10));
+        Assertions.assertEquals(row, roundTrip(serializer, row));
+    }
+
+    @Test
+    public void testCopy() throws IOException {
+        SeaTunnelRow row = fullRow();
+        SeaTunnelRow copy = serializer.copy(row);
+        Assertions.assertEquals(row, copy);
+        Assertions.assertNotSame(row.getField(9), copy.getField(9));
+
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        serializer.serialize(row, out);
+        DataOutputSerializer copied = new DataOutputSerializer(64);
+        serializer.copy(new DataInputDeserializer(out.getCopyOfBuffer()), copied);
+        Assertions.assertArrayEquals(out.getCopyOfBuffer(), copied.getCopyOfBuffer());
+    }
+
+    @Test
+    public void testDuplicateAndJavaSerialization() throws Exception {
+        TypeSerializer<SeaTunnelRow> duplicate = serializer.duplicate();
+        Assertions.assertNotSame(serializer, duplicate);
+        Assertions.assertEquals(serializer, duplicate);
+        Assertions.assertEquals(serializer.hashCode(), duplicate.hashCode());
+
+        SeaTunnelRowSerializer cloned = InstantiationUtil.clone(serializer);
+        Assertions.assertEquals(serializer, cloned);
+        Assertions.assertEquals(fullRow(), roundTrip(cloned, fullRow()));
+    }
+
+    @Test
+    public void testSnapshotCompatibility() throws IOException {
+        SeaTunnelRowSerializerSnapshot snapshot = restoreSnapshot(serializer);
+        Assertions.assertTrue(snapshot.resolveSchemaCompatibility(serializer).isCompatibleAsIs());
+
+        SeaTunnelRowType changedType =
+                new SeaTunnelRowType(
+                        new String[] {"c_string"}, new SeaTunnelDataType[] {BasicType.STRING_TYPE});
+        SeaTunnelRowSerializer changed =
+                new SeaTunnelRowSerializer(rowTypes(changedType), new ExecutionConfig());
+        Assertions.assertTrue(
+                snapshot.resolveSchemaCompatibility(changed).isCompatibleAfterMigration());
+        Assertions.assertTrue(
+                snapshot.resolveSchemaCompatibility(
+                                new KryoSerializer<>(SeaTunnelRow.class, new ExecutionConfig()))
+                        .isIncompatible());
+
+        // the restored serializer reads what the serializer of the snapshot wrote
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        serializer.serialize(fullRow(), out);
+        TypeSerializer<SeaTunnelRow> restored = snapshot.restoreSerializer();
+        Assertions.assertEquals(serializer, restored);
+        Assertions.assertEquals(
+                fullRow(), restored.deserialize(new DataInputDeserializer(out.getCopyOfBuffer())));
+    }
+
+    @Test
+    public void testSnapshotKeepsKryoRegistrations() throws IOException {
+        ExecutionConfig executionConfig = new ExecutionConfig();
+        executionConfig.registerKryoType(SeaTunnelRow.class);
+        SeaTunnelRowSerializer registered =
+                new SeaTunnelRowSerializer(rowTypes(ROW_TYPE), executionConfig);
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        registered.serialize(fullRow(), out);
+
+        SeaTunnelRowSerializerSnapshot snapshot = restoreSnapshot(registered);
+        SeaTunnelRowSerializer restored = (SeaTunnelRowSerializer) snapshot.restoreSerializer();
+        Assertions.assertEquals(
+                new KryoSerializer<>(Object.class, executionConfig),
+                restored.getGenericSerializer());
+        Assertions.assertEquals(
+                fullRow(), restored.deserialize(new DataInputDeserializer(out.getCopyOfBuffer())));
+        Assertions.assertTrue(snapshot.resolveSchemaCompatibility(registered).isCompatibleAsIs());
+        // the rows are migrated to a serializer with other registrations
+        Assertions.assertFalse(snapshot.resolveSchemaCompatibility(serializer).isCompatibleAsIs());
+    }
+
+    @Test
+    public void testSnapshotOfNestedTypes() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c_decimals", "c_dates", "c_map", "c_row", "c_tz", "c_null"},
+                        new SeaTunnelDataType[] {
+                            new DecimalArrayType(new DecimalType(20, 4)),
+                            ArrayType.LOCAL_DATE_ARRAY_TYPE,
+                            new MapType<>(new DecimalType(5, 1), ArrayType.LONG_ARRAY_TYPE),
+                            new SeaTunnelRowType(
+                                    new String[] {"nested"}, new SeaTunnelDataType[] {ROW_TYPE}),
+                            LocalTimeType.OFFSET_DATE_TIME_TYPE,
+                            BasicType.VOID_TYPE
+                        });
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = rowTypes(rowType);
+        rowTypes.put("db.other", NESTED_TYPE);
+        SeaTunnelRowSerializer nested = new SeaTunnelRowSerializer(rowTypes, new ExecutionConfig());
+
+        SeaTunnelRowSerializerSnapshot snapshot = restoreSnapshot(nested);
+        Assertions.assertEquals(
+                rowTypes, ((SeaTunnelRowSerializer) snapshot.restoreSerializer()).getRowTypes());
+        Assertions.assertTrue(snapshot.resolveSchemaCompatibility(nested).isCompatibleAsIs());
+    }
+
+    @Test
+    public void testKryoSnapshotRejectsRowSerializer() {
+        // rows of older versions were a generic type, Flink resolves them with the Kryo snapshot
+        TypeSerializerSchemaCompatibility<SeaTunnelRow> compatibility =
+                new KryoSerializer<>(SeaTunnelRow.class, new ExecutionConfig())
+                        .snapshotConfiguration()
+                        .resolveSchemaCompatibility(serializer);
+        Assertions.assertTrue(compatibility.isIncompatible());
+    }
+
+    @Test
+    public void testTypeInfo() throws Exception {
+        SeaTunnelRowTypeInfo typeInfo = new SeaTunnelRowTypeInfo(rowTypes(ROW_TYPE));
+        Assertions.assertEquals(new SeaTunnelRowTypeInfo(rowTypes(ROW_TYPE)), typeInfo);
+        Assertions.assertEquals(
+                new SeaTunnelRowTypeInfo(rowTypes(ROW_TYPE)).hashCode(), typeInfo.hashCode());
+        Assertions.assertNotEquals(new SeaTunnelRowTypeInfo(rowTypes(NESTED_TYPE)), typeInfo);
+        Assertions.assertEquals(SeaTunnelRow.class, typeInfo.getTypeClass());
+        Assertions.assertEquals(serializer, typeInfo.createSerializer(new ExecutionConfig()));
+        Assertions.assertEquals(typeInfo, InstantiationUtil.clone(typeInfo));
+    }
+
+    private static SeaTunnelRowSerializerSnapshot restoreSnapshot(SeaTunnelRowSerializer serializer)
+            throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        TypeSerializerSnapshot.writeVersionedSnapshot(out, serializer.snapshotConfiguration());
+        TypeSerializerSnapshot<SeaTunnelRow> snapshot =
+                TypeSerializerSnapshot.readVersionedSnapshot(
+                        new DataInputDeserializer(out.getCopyOfBuffer()),
+                        SeaTunnelRowSerializerTest.class.getClassLoader());
+        return (SeaTunnelRowSerializerSnapshot) snapshot;
+    }
+
+    private static SeaTunnelRow roundTrip(TypeSerializer<SeaTunnelRow> serializer, SeaTunnelRow row)
+            throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        serializer.serialize(row, out);
+        DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+        SeaTunnelRow result = serializer.deserialize(in);
+        Assertions.assertEquals(0, in.available());
+        return result;
+    }
+
+    private static LinkedHashMap<String, SeaTunnelRowType> rowTypes(SeaTunnelRowType rowType) {
+        LinkedHashMap<String, SeaTunnelRowType> rowTypes = new LinkedHashMap<>();
+        rowTypes.put(TABLE_ID, rowType);
+        return rowTypes;
+    }
+
+    private static SeaTunnelRow fullRow() {
+        return row(
+                new Object[] {
+                    "name",
+                    true,
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    5.5f,
+                    6.5d,
+                    new BigDecimal("7.25"),
+                    new byte[] {8, 9},
+                    LocalDate.of(2024, 1, 2),
+                    LocalTime.of(3, 4, 5),
+                    LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000),
+                    new String[] {"a", null, "b"},
+                    Collections.singletonMap("key", 10),
+                    new SeaTunnelRow(new Object[] {11})
+                });
+    }
+
+    private static SeaTunnelRow row(Object[] fields) {
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(TABLE_ID);
+        return row;
+    }
+}
@@ -25,7 +25,6 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.translation.source.BaseSourceFunction;
 import org.apache.seatunnel.translation.source.CoordinatedSource;
 import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
-import org.apache.seatunnel.translation.spark.serialization.InternalRowCollector;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -35,7 +34,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 public class CoordinatedBatchPartitionReader extends ParallelBatchPartitionReader {
 
-    protected final Map<Integer, InternalRowCollector> collectorMap;
+    protected final Map<Integer, Collector<SeaTunnelRow>> collectorMap;
 
     public CoordinatedBatchPartitionReader(
             SeaTunnelSource<SeaTunnelRow, ?, ?> source,
@@ -44,12 +43,27 @@ public class CoordinatedBatchPartitionReader extends ParallelBatchPartitionReade
             Integer subtaskId,
             Map<String, String> envOptions,
             MultiTableManager multiTableManager) {
-        super(source, parallelism, jobId, subtaskId, envOptions, multiTableManager);
+        this(source, parallelism, jobId, subtaskId, envOptions, multiTableManager, false);
+    }
+
+    public CoordinatedBatchPartitionReader(
+            SeaTunnelSource<SeaTunnelRow, ?, ?> source,
+            Integer parallelism,
+            String jobId,
+            Integer subtaskId,
+            Map<String, String> envOptions,
+            MultiTableManager multiTableManager,
+            boolean columnar) {
+        super(source, parallelism, jobId, subtaskId, envOptions, multiTableManager, columnar);
         this.collectorMap = new HashMap<>(parallelism);
         for (int i = 0; i < parallelism; i++) {
             collectorMap.put(
                     i,
-                    multiTableManager.getInternalRowCollector(handover, new Object(), envOptions));
+                    columnar
+                            ? multiTableManager.getSeaTunnelRowCollector(
+                                    rowHandover, new Object(), envOptions)
+                            : multiTableManager.getInternalRowCollector(
+                                    handover, new Object(), envOptions));
         }
     }
 
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.translation.spark.source.partition.batch;
 
+import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -49,6 +50,8 @@ public class ParallelBatchPartitionReader {
 
     protected final ExecutorService executorService;
     protected final Handover<InternalRow> handover;
+    protected final Handover<SeaTunnelRow> rowHandover;
+    protected final boolean columnar;
 
     protected final Object checkpointLock = new Object();
 
@@ -68,6 +71,17 @@ public class ParallelBatchPartitionReader {
             Integer subtaskId,
             Map<String, String> envOptions,
             MultiTableManager multiTableManager) {
+        this(source, parallelism, jobId, subtaskId, envOptions, multiTableManager, false);
+    }
+
+    public ParallelBatchPartitionReader(
+            SeaTunnelSource<SeaTunnelRow, ?, ?> source,
+            Integer parallelism,
+            String jobId,
+            Integer subtaskId,
+            Map<String, String> envOptions,
+            MultiTableManager multiTableManager,
+            boolean columnar) {
         this.source = source;
         this.parallelism = parallelism;
         this.jobId = jobId;
@@ -76,6 +90,8 @@ public class ParallelBatchPartitionReader {
                 ThreadPoolExecutorFactory.createScheduledThreadPoolExecutor(
                         1, getEnumeratorThreadName());
         this.handover = new Handover<>();
+        this.rowHandover = new Handover<>();
+        this.columnar = columnar;
         this.envOptions = envOptions;
         this.multiTableManager = multiTableManager;
     }
@@ -86,14 +102,18 @@ public class ParallelBatchPartitionReader {
 
     public boolean next() throws Exception {
         prepare();
-        while (running && handover.isEmpty()) {
+        while (running && isHandoverEmpty()) {
             try {
                 Thread.sleep(INTERVAL);
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             }
         }
-        return running || !handover.isEmpty();
+        return running || !isHandoverEmpty();
+    }
+
+    protected boolean isHandoverEmpty() throws Exception {
+        return columnar ? rowHandover.isEmpty() : handover.isEmpty();
     }
 
     protected void prepare() {
@@ -109,14 +129,23 @@ public class ParallelBatchPartitionReader {
             throw new RuntimeException("Failed to open internal source.", e);
         }
 
-        this.internalRowCollector =
-                multiTableManager.getInternalRowCollector(handover, checkpointLock, envOptions);
+        final Collector<SeaTunnelRow> collector;
+        if (columnar) {
+            collector =
+                    multiTableManager.getSeaTunnelRowCollector(
+                            rowHandover, checkpointLock, envOptions);
+        } else {
+            this.internalRowCollector =
+                    multiTableManager.getInternalRowCollector(handover, checkpointLock, envOptions);
+            collector = internalRowCollector;
+        }
         executorService.execute(
                 () -> {
                     try {
-                        internalSource.run(internalRowCollector);
+                        internalSource.run(collector);
                     } catch (Exception e) {
                         handover.reportError(e);
+                        rowHandover.reportError(e);
                         log.error("BatchPartitionReader execute failed.", e);
                         running = false;
                     }
@@ -136,6 +165,14 @@ public class ParallelBatchPartitionReader {
         }
     }
 
+    public SeaTunnelRow getRow() {
+        try {
+            return rowHandover.pollNext().get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public void close() throws IOException {
         running = false;
         try {
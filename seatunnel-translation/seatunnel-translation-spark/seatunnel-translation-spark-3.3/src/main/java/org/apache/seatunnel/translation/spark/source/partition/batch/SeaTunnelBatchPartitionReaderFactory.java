@@ -26,11 +26,20 @@ import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.connector.read.InputPartition;
 import org.apache.spark.sql.connector.read.PartitionReader;
 import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 import java.util.Map;
 
 public class SeaTunnelBatchPartitionReaderFactory implements PartitionReaderFactory {
 
+    /**
+     * Rows per {@link ColumnarBatch}, a non-positive value disables the columnar reads. They are
+     * off by default, since the rows are still read one by one on the task thread.
+     */
+    public static final String COLUMNAR_BATCH_SIZE = "columnar.batch_size";
+
+    public static final Integer COLUMNAR_BATCH_SIZE_DEFAULT = 0;
+
     private final SeaTunnelSource<SeaTunnelRow, ?, ?> source;
 
     private final int parallelism;
@@ -54,18 +63,45 @@ public class SeaTunnelBatchPartitionReaderFactory implements PartitionReaderFact
 
     @Override
     public PartitionReader<InternalRow> createReader(InputPartition partition) {
+        return new SeaTunnelBatchPartitionReader(createPartitionReader(partition, false));
+    }
+
+    @Override
+    public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
+        return new SeaTunnelColumnarBatchPartitionReader(
+                createPartitionReader(partition, true),
+                multiTableManager.getColumnarBatchConverter(getColumnarBatchSize()));
+    }
+
+    /**
+     * Columnar reads are used when every column of the produced schema can be written into a column
+     * vector, otherwise Spark falls back to the row based {@link #createReader}.
+     */
+    @Override
+    public boolean supportColumnarReads(InputPartition partition) {
+        return getColumnarBatchSize() > 0 && multiTableManager.supportColumnarReads();
+    }
+
+    private int getColumnarBatchSize() {
+        String batchSize = envOptions.get(COLUMNAR_BATCH_SIZE);
+        return batchSize == null ? COLUMNAR_BATCH_SIZE_DEFAULT : Integer.parseInt(batchSize);
+    }
+
+    private ParallelBatchPartitionReader createPartitionReader(
+            InputPartition partition, boolean columnar) {
         SeaTunnelBatchInputPartition inputPartition = (SeaTunnelBatchInputPartition) partition;
         int partitionId = inputPartition.getPartitionId();
-        ParallelBatchPartitionReader partitionReader;
         if (source instanceof SupportCoordinate) {
-            partitionReader =
-                    new CoordinatedBatchPartitionReader(
-                            source, parallelism, jobId, partitionId, envOptions, multiTableManager);
-        } else {
-            partitionReader =
-                    new ParallelBatchPartitionReader(
-                            source, parallelism, jobId, partitionId, envOptions, multiTableManager);
+            return new CoordinatedBatchPartitionReader(
+                    source,
+                    parallelism,
+                    jobId,
+                    partitionId,
+                    envOptions,
+                    multiTableManager,
+                    columnar);
         }
-        return new SeaTunnelBatchPartitionReader(partitionReader);
+        return new ParallelBatchPartitionReader(
+                source, parallelism, jobId, partitionId, envOptions, multiTableManager, columnar);
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.source.partition.batch;
+
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchConverter;
+
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import java.io.IOException;
+
+public class SeaTunnelColumnarBatchPartitionReader implements PartitionReader<ColumnarBatch> {
+
+    private final ParallelBatchPartitionReader partitionReader;
+
+    private final ColumnarBatchConverter batchConverter;
+
+    public SeaTunnelColumnarBatchPartitionReader(
+            ParallelBatchPartitionReader partitionReader, ColumnarBatchConverter batchConverter) {
+        this.partitionReader = partitionReader;
+        this.batchConverter = batchConverter;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        try {
+            batchConverter.reset();
+            while (!batchConverter.isFull() && partitionReader.next()) {
+                batchConverter.append(partitionReader.getRow());
+                // hand out what is buffered instead of waiting for the batch to fill up
+                if (partitionReader.isHandoverEmpty()) {
+                    break;
+                }
+            }
+            return batchConverter.numRows() > 0;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public ColumnarBatch get() {
+        return batchConverter.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            partitionReader.close();
+        } finally {
+            batchConverter.close();
+        }
+    }
+}
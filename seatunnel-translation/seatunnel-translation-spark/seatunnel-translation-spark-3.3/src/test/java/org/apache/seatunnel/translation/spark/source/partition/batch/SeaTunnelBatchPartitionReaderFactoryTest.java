@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.source.partition.batch;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class SeaTunnelBatchPartitionReaderFactoryTest {
+
+    private static final SeaTunnelBatchInputPartition PARTITION =
+            new SeaTunnelBatchInputPartition(0);
+
+    @Test
+    public void testSupportColumnarReads() {
+        SeaTunnelRowType basicType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        // the columnar reads are opt-in
+        Assertions.assertFalse(
+                createFactory(basicType, new HashMap<>()).supportColumnarReads(PARTITION));
+        Assertions.assertTrue(
+                createFactory(basicType, batchSize("16")).supportColumnarReads(PARTITION));
+        // a non-positive batch size disables the columnar reads
+        Assertions.assertFalse(
+                createFactory(basicType, batchSize("0")).supportColumnarReads(PARTITION));
+
+        SeaTunnelRowType arrayType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "tags"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, ArrayType.STRING_ARRAY_TYPE});
+        Assertions.assertFalse(
+                createFactory(arrayType, batchSize("16")).supportColumnarReads(PARTITION));
+    }
+
+    private static Map<String, String> batchSize(String batchSize) {
+        return Collections.singletonMap(
+                SeaTunnelBatchPartitionReaderFactory.COLUMNAR_BATCH_SIZE, batchSize);
+    }
+
+    private static SeaTunnelBatchPartitionReaderFactory createFactory(
+            SeaTunnelRowType rowType, Map<String, String> envOptions) {
+        MultiTableManager multiTableManager =
+                new MultiTableManager(
+                        new CatalogTable[] {CatalogTableUtil.getCatalogTable("test", rowType)});
+        return new SeaTunnelBatchPartitionReaderFactory(
+                null, 1, "job", envOptions, multiTableManager);
+    }
+}
@@ -22,9 +22,11 @@ import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.Handover;
+import org.apache.seatunnel.translation.spark.serialization.ColumnarBatchConverter;
 import org.apache.seatunnel.translation.spark.serialization.InternalMultiRowCollector;
 import org.apache.seatunnel.translation.spark.serialization.InternalRowCollector;
 import org.apache.seatunnel.translation.spark.serialization.InternalRowConverter;
+import org.apache.seatunnel.translation.spark.serialization.SeaTunnelRowCollector;
 import org.apache.seatunnel.translation.spark.serialization.SeaTunnelRowConverter;
 import org.apache.seatunnel.translation.spark.utils.TypeConverterUtils;
 
@@ -48,6 +50,7 @@ public class MultiTableManager implements Serializable {
 
     private Map<String, InternalRowConverter> rowSerializationMap;
     private Map<String, SeaTunnelRowConverter> genericRowSerializationMap;
+    private Map<String, int[]> fieldIndexesMap;
 
     private InternalRowConverter rowSerialization;
 
@@ -85,6 +88,16 @@ public class MultiTableManager implements Serializable {
                                                     new SeaTunnelRowConverter(
                                                             mergeCatalogTable.getSeaTunnelRowType(),
                                                             columnWithIndex.getIndex())));
+            fieldIndexesMap =
+                    columnWithIndexes.stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            columnWithIndex ->
+                                                    columnWithIndex
+                                                            .getCatalogTable()
+                                                            .getTablePath()
+                                                            .toString(),
+                                            ColumnWithIndex::getIndex));
         } else {
             rowSerialization = new InternalRowConverter(catalogTables[0].getSeaTunnelRowType());
             genericRowSerialization =
@@ -193,4 +206,25 @@ public class MultiTableManager implements Serializable {
                     handover, checkpointLock, rowSerialization, envOptionsInfo);
         }
     }
+
+    public SeaTunnelRowCollector getSeaTunnelRowCollector(
+            Handover<SeaTunnelRow> handover,
+            Object checkpointLock,
+            Map<String, String> envOptionsInfo) {
+        return new SeaTunnelRowCollector(handover, checkpointLock, envOptionsInfo);
+    }
+
+    public boolean supportColumnarReads() {
+        return ColumnarBatchConverter.isSupported(mergeCatalogTable.getSeaTunnelRowType());
+    }
+
+    public ColumnarBatchConverter getColumnarBatchConverter(int capacity) {
+        SeaTunnelRowType rowType = mergeCatalogTable.getSeaTunnelRowType();
+        return new ColumnarBatchConverter(
+                getTableSchema(),
+                rowType,
+                IntStream.range(0, rowType.getTotalFields()).toArray(),
+                fieldIndexesMap,
+                capacity);
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.translation.spark.utils.InstantConverterUtils;
+
+import org.apache.spark.sql.execution.vectorized.OnHeapColumnVector;
+import org.apache.spark.sql.execution.vectorized.WritableColumnVector;
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes {@link SeaTunnelRow}s straight into Spark column vectors laid out like {@link
+ * org.apache.seatunnel.translation.spark.utils.TypeConverterUtils#parcel}: 0 -> row kind, 1 ->
+ * table id, followed by the fields of the (merged) row type.
+ *
+ * <p>The vectors are reused, call {@link #reset()} before filling the next batch.
+ */
+public class ColumnarBatchConverter implements AutoCloseable {
+
+    private static final Set<SqlType> SUPPORTED_TYPES =
+            EnumSet.of(
+                    SqlType.BOOLEAN,
+                    SqlType.TINYINT,
+                    SqlType.SMALLINT,
+                    SqlType.INT,
+                    SqlType.BIGINT,
+                    SqlType.FLOAT,
+                    SqlType.DOUBLE,
+                    SqlType.STRING,
+                    SqlType.BYTES,
+                    SqlType.DECIMAL,
+                    SqlType.DATE,
+                    SqlType.TIME,
+                    SqlType.TIMESTAMP);
+
+    private final SeaTunnelRowType rowType;
+    private final int[] defaultIndexes;
+    private final Map<String, int[]> fieldIndexes;
+    private final int capacity;
+    private final WritableColumnVector[] vectors;
+    private final ColumnarBatch batch;
+    private final boolean[] written;
+    private int numRows;
+
+    public ColumnarBatchConverter(
+            StructType schema,
+            SeaTunnelRowType rowType,
+            int[] defaultIndexes,
+            Map<String, int[]> fieldIndexes,
+            int capacity) {
+        this.rowType = rowType;
+        this.defaultIndexes = defaultIndexes;
+        this.fieldIndexes = fieldIndexes;
+        this.capacity = capacity;
+        this.vectors = OnHeapColumnVector.allocateColumns(capacity, schema);
+        this.batch = new ColumnarBatch(vectors);
+        this.written = new boolean[rowType.getTotalFields()];
+    }
+
+    /** Whether every field of the row type can be written into a column vector. */
+    public static boolean isSupported(SeaTunnelRowType rowType) {
+        return Arrays.stream(rowType.getFieldTypes())
+                .allMatch(type -> SUPPORTED_TYPES.contains(type.getSqlType()));
+    }
+
+    public void append(SeaTunnelRow row) {
+        int rowId = numRows++;
+        vectors[0].putByte(rowId, row.getRowKind().toByteValue());
+        String tableId = row.getTableId();
+        if (tableId == null) {
+            vectors[1].putNull(rowId);
+        } else {
+            vectors[1].putByteArray(rowId, tableId.getBytes(StandardCharsets.UTF_8));
+        }
+        int[] indexes = fieldIndexes == null ? defaultIndexes : fieldIndexes.get(tableId);
+        Arrays.fill(written, false);
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            write(vectors[index + 2], rowId, row.getField(i), rowType.getFieldType(index));
+            written[index] = true;
+        }
+        for (int i = 0; i < written.length; i++) {
+            if (!written[i]) {
+                vectors[i + 2].putNull(rowId);
+            }
+        }
+    }
+
+    public boolean isFull() {
+        return numRows >= capacity;
+    }
+
+    public int numRows() {
+        return numRows;
+    }
+
+    public ColumnarBatch build() {
+        batch.setNumRows(numRows);
+        return batch;
+    }
+
+    public void reset() {
+        for (WritableColumnVector vector : vectors) {
+            vector.reset();
+        }
+        numRows = 0;
+    }
+
+    @Override
+    public void close() {
+        batch.close();
+    }
+
+    private static void write(
+            WritableColumnVector vector, int rowId, Object field, SeaTunnelDataType<?> dataType) {
+        if (field == null) {
+            vector.putNull(rowId);
+            return;
+        }
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                vector.putBoolean(rowId, (Boolean) field);
+                break;
+            case TINYINT:
+                vector.putByte(rowId, (Byte) field);
+                break;
+            case SMALLINT:
+                vector.putShort(rowId, (Short) field);
+                break;
+            case INT:
+                vector.putInt(rowId, (Integer) field);
+                break;
+            case BIGINT:
+                vector.putLong(rowId, (Long) field);
+                break;
+            case FLOAT:
+                vector.putFloat(rowId, (Float) field);
+                break;
+            case DOUBLE:
+                vector.putDouble(rowId, (Double) field);
+                break;
+            case STRING:
+                vector.putByteArray(rowId, ((String) field).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                vector.putByteArray(rowId, (byte[]) field);
+                break;
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) dataType;
+                vector.putDecimal(
+                        rowId,
+                        Decimal.apply(
+                                (BigDecimal) field,
+                                decimalType.getPrecision(),
+                                decimalType.getScale()),
+                        decimalType.getPrecision());
+                break;
+            case DATE:
+                vector.putInt(rowId, (int) ((LocalDate) field).toEpochDay());
+                break;
+            case TIME:
+                vector.putLong(rowId, ((LocalTime) field).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                vector.putLong(
+                        rowId,
+                        InstantConverterUtils.toEpochMicro(
+                                Timestamp.valueOf((LocalDateTime) field).toInstant()));
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                        "Unsupported columnar data type: " + dataType.getSqlType());
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.seatunnel.common.Handover;
 
 import org.apache.spark.sql.catalyst.InternalRow;
 
+import java.io.IOException;
 import java.util.Map;
 
 public class InternalMultiRowCollector extends InternalRowCollector {
@@ -37,19 +38,8 @@ public class InternalMultiRowCollector extends InternalRowCollector {
     }
 
     @Override
-    public void collect(SeaTunnelRow record) {
-        try {
-            synchronized (checkpointLock) {
-                InternalRowConverter rowSerialization =
-                        rowSerializationMap.get(record.getTableId());
-                flowControlGate.audit(record);
-                handover.produce(rowSerialization.convert(record));
-            }
-            collectTotalCount.incrementAndGet();
-            emptyThisPollNext = false;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    protected InternalRow convert(SeaTunnelRow record) throws IOException {
+        return rowSerializationMap.get(record.getTableId()).convert(record);
     }
 
     public Map<String, InternalRowConverter> getRowSerializationMap() {
@@ -17,70 +17,29 @@
 
 package org.apache.seatunnel.translation.spark.serialization;
 
-import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.Handover;
-import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
-import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
 
 import org.apache.spark.sql.catalyst.InternalRow;
 
+import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 
-public class InternalRowCollector implements Collector<SeaTunnelRow> {
-    protected final Handover<InternalRow> handover;
-    protected final Object checkpointLock;
+public class InternalRowCollector extends HandoverCollector<InternalRow> {
     private final InternalRowConverter rowSerialization;
-    protected final AtomicLong collectTotalCount;
-    private Map<String, Object> envOptions;
-    protected FlowControlGate flowControlGate;
-    protected volatile boolean emptyThisPollNext;
 
     public InternalRowCollector(
             Handover<InternalRow> handover,
             Object checkpointLock,
             InternalRowConverter rowSerialization,
             Map<String, String> envOptionsInfo) {
-        this.handover = handover;
-        this.checkpointLock = checkpointLock;
+        super(handover, checkpointLock, envOptionsInfo);
         this.rowSerialization = rowSerialization;
-        this.collectTotalCount = new AtomicLong(0);
-        this.envOptions = (Map) envOptionsInfo;
-        this.flowControlGate = FlowControlGate.create(FlowControlStrategy.fromMap(envOptions));
     }
 
     @Override
-    public void collect(SeaTunnelRow record) {
-        try {
-            synchronized (checkpointLock) {
-                flowControlGate.audit(record);
-                handover.produce(rowSerialization.convert(record));
-            }
-            collectTotalCount.incrementAndGet();
-            emptyThisPollNext = false;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public long collectTotalCount() {
-        return collectTotalCount.get();
-    }
-
-    @Override
-    public Object getCheckpointLock() {
-        return this.checkpointLock;
-    }
-
-    @Override
-    public boolean isEmptyThisPollNext() {
-        return emptyThisPollNext;
-    }
-
-    @Override
-    public void resetEmptyThisPollNext() {
-        this.emptyThisPollNext = true;
+    protected InternalRow convert(SeaTunnelRow record) throws IOException {
+        return rowSerialization.convert(record);
     }
 
     public InternalRowConverter getRowSerialization() {
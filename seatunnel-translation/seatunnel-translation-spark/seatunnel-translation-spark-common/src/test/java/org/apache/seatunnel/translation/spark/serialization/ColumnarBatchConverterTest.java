@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.translation.spark.serialization;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.translation.spark.execution.MultiTableManager;
+
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public class ColumnarBatchConverterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_string",
+                        "c_bytes",
+                        "c_decimal",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.STRING_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    @Test
+    public void testAllSupportedTypes() throws IOException {
+        MultiTableManager manager =
+                new MultiTableManager(new CatalogTable[] {table("t", ROW_TYPE)});
+        Assertions.assertTrue(manager.supportColumnarReads());
+        InternalRowConverter rowConverter = new InternalRowConverter(ROW_TYPE);
+
+        SeaTunnelRow full = fullRow("t", 1);
+        full.setRowKind(RowKind.UPDATE_BEFORE);
+        SeaTunnelRow nulls = row("t", new Object[ROW_TYPE.getTotalFields()]);
+
+        try (ColumnarBatchConverter converter = manager.getColumnarBatchConverter(4)) {
+            converter.append(full);
+            converter.append(nulls);
+            ColumnarBatch batch = converter.build();
+
+            Assertions.assertEquals(2, batch.numRows());
+            StructType schema = manager.getTableSchema();
+            assertRow(schema, rowConverter.convert(full), batch.getRow(0));
+            assertRow(schema, rowConverter.convert(nulls), batch.getRow(1));
+            for (int i = 2; i < schema.size(); i++) {
+                Assertions.assertTrue(batch.getRow(1).isNullAt(i));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiTable() throws IOException {
+        SeaTunnelRowType otherType =
+                new SeaTunnelRowType(
+                        new String[] {"name", "id"},
+                        new SeaTunnelDataType[] {BasicType.STRING_TYPE, BasicType.INT_TYPE});
+        MultiTableManager manager =
+                new MultiTableManager(
+                        new CatalogTable[] {table("t1", ROW_TYPE), table("t2", otherType)});
+        Assertions.assertTrue(manager.supportColumnarReads());
+        InternalMultiRowCollector rowCollector =
+                (InternalMultiRowCollector) manager.getInternalRowCollector(null, null, null);
+
+        SeaTunnelRow first = fullRow("test.test.t1", 1);
+        SeaTunnelRow second = row("test.test.t2", new Object[] {"name", 7});
+        try (ColumnarBatchConverter converter = manager.getColumnarBatchConverter(4)) {
+            converter.append(first);
+            converter.append(second);
+            ColumnarBatch batch = converter.build();
+
+            StructType schema = manager.getTableSchema();
+            assertRow(
+                    schema,
+                    rowCollector.getRowSerializationMap().get(first.getTableId()).convert(first),
+                    batch.getRow(0));
+            assertRow(
+                    schema,
+                    rowCollector.getRowSerializationMap().get(second.getTableId()).convert(second),
+                    batch.getRow(1));
+        }
+    }
+
+    @Test
+    public void testReuseBatchAcrossNext() throws IOException {
+        MultiTableManager manager =
+                new MultiTableManager(new CatalogTable[] {table("t", ROW_TYPE)});
+        InternalRowConverter rowConverter = new InternalRowConverter(ROW_TYPE);
+        StructType schema = manager.getTableSchema();
+
+        try (ColumnarBatchConverter converter = manager.getColumnarBatchConverter(2)) {
+            converter.append(fullRow("t", 1));
+            converter.append(row("t", new Object[ROW_TYPE.getTotalFields()]));
+            Assertions.assertTrue(converter.isFull());
+            ColumnarBatch first = converter.build();
+
+            // the next batch overwrites the vectors, including the null flags of the last batch
+            converter.reset();
+            Assertions.assertEquals(0, converter.numRows());
+            Assertions.assertFalse(converter.isFull());
+            SeaTunnelRow nulls = row("t", new Object[ROW_TYPE.getTotalFields()]);
+            SeaTunnelRow full = fullRow("t", 2);
+            converter.append(nulls);
+            converter.append(full);
+            ColumnarBatch second = converter.build();
+
+            Assertions.assertSame(first, second);
+            Assertions.assertEquals(2, second.numRows());
+            assertRow(schema, rowConverter.convert(nulls), second.getRow(0));
+            assertRow(schema, rowConverter.convert(full), second.getRow(1));
+
+            converter.reset();
+            converter.append(fullRow("t", 3));
+            Assertions.assertEquals(1, converter.build().numRows());
+        }
+    }
+
+    @Test
+    public void testFallbackForUnsupportedTypes() {
+        SeaTunnelRowType arrayType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "tags"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, ArrayType.STRING_ARRAY_TYPE});
+        Assertions.assertFalse(ColumnarBatchConverter.isSupported(arrayType));
+        Assertions.assertFalse(
+                new MultiTableManager(new CatalogTable[] {table("t", arrayType)})
+                        .supportColumnarReads());
+        // one unsupported table disables the columnar reads of the merged schema
+        Assertions.assertFalse(
+                new MultiTableManager(
+                                new CatalogTable[] {table("t1", ROW_TYPE), table("t2", arrayType)})
+                        .supportColumnarReads());
+        Assertions.assertTrue(ColumnarBatchConverter.isSupported(ROW_TYPE));
+    }
+
+    private static void assertRow(StructType schema, InternalRow expected, InternalRow actual) {
+        for (int i = 0; i < schema.size(); i++) {
+            DataType dataType = schema.fields()[i].dataType();
+            Assertions.assertEquals(expected.isNullAt(i), actual.isNullAt(i), "null of " + i);
+            if (expected.isNullAt(i)) {
+                continue;
+            }
+            Object expectedValue = expected.get(i, dataType);
+            Object actualValue = actual.get(i, dataType);
+            if (expectedValue instanceof byte[]) {
+                Assertions.assertArrayEquals((byte[]) expectedValue, (byte[]) actualValue);
+            } else {
+                Assertions.assertEquals(expectedValue, actualValue, "value of " + i);
+            }
+        }
+    }
+
+    private static CatalogTable table(String name, SeaTunnelRowType rowType) {
+        return CatalogTableUtil.getCatalogTable("test", "test", "test", name, rowType);
+    }
+
+    private static SeaTunnelRow fullRow(String tableId, int seed) {
+        return row(
+                tableId,
+                new Object[] {
+                    seed % 2 == 0,
+                    (byte) seed,
+                    (short) (seed + 1),
+                    seed + 2,
+                    seed + 3L,
+                    seed + 0.5f,
+                    seed + 0.25d,
+                    "name_" + seed,
+                    new byte[] {(byte) seed, 1},
+                    new BigDecimal(seed + ".25"),
+                    LocalDate.of(2024, 1, seed),
+                    LocalTime.of(seed, 4, 5, 6000),
+                    LocalDateTime.of(2024, 1, seed, 3, 4, 5, 6000)
+                });
+    }
+
+    private static SeaTunnelRow row(String tableId, Object[] fields) {
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        return row;
+    }
+}